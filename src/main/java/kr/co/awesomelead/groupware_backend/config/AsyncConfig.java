@@ -1,21 +1,66 @@
 package kr.co.awesomelead.groupware_backend.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class AsyncConfig {
 
+    @Value("${fcm.executor.core-pool-size:10}")
+    private int fcmCorePoolSize;
+
+    @Value("${fcm.executor.max-pool-size:20}")
+    private int fcmMaxPoolSize;
+
+    @Value("${fcm.executor.queue-capacity:500}")
+    private int fcmQueueCapacity;
+
+    /**
+     * 활성 스레드 수, 큐 길이 등은 actuator 가 executor.* 메트릭으로 노출한다 (name=fcmTaskExecutor). 큐가 가득 차면 작업을
+     * 버리지 않고 호출한 스레드에서 실행해 발송 요청 속도를 늦추며, 그 횟수와 큐 대기 시간을 따로 기록한다.
+     */
     @Bean(name = "fcmTaskExecutor")
-    public Executor fcmTaskExecutor() {
+    public Executor fcmTaskExecutor(MeterRegistry meterRegistry) {
+        Counter rejected =
+                Counter.builder("executor.rejected.caller_runs")
+                        .tag("name", "fcmTaskExecutor")
+                        .description("큐가 가득 차 호출한 스레드에서 실행한 작업 수")
+                        .register(meterRegistry);
+        Timer queueWait =
+                Timer.builder("executor.queue.wait")
+                        .tag("name", "fcmTaskExecutor")
+                        .description("작업이 큐에서 기다린 시간")
+                        .register(meterRegistry);
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(500);
+        executor.setCorePoolSize(fcmCorePoolSize);
+        executor.setMaxPoolSize(fcmMaxPoolSize);
+        executor.setQueueCapacity(fcmQueueCapacity);
         executor.setThreadNamePrefix("fcm-task-");
+        executor.setTaskDecorator(
+                task -> {
+                    long submittedAt = System.nanoTime();
+                    return () -> {
+                        queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                        task.run();
+                    };
+                });
+        ThreadPoolExecutor.CallerRunsPolicy callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+        executor.setRejectedExecutionHandler(
+                (task, pool) -> {
+                    rejected.increment();
+                    callerRuns.rejectedExecution(task, pool);
+                });
         executor.initialize();
         return executor;
     }
@@ -120,6 +120,8 @@ public class SecurityConfig {
                                         "/api/visits/check-out",
                                         "/api/approval-configs/**") // 결재선 설정 (권한 체크는 Service에서)
                                 .authenticated()
+                                .requestMatchers("/actuator/**") // 메트릭 (metrics, prometheus)
+                                .hasAnyRole("ADMIN", "MASTER_ADMIN")
                                 .anyRequest()
                                 .authenticated());
 
@@ -10,8 +10,11 @@ import kr.co.awesomelead.groupware_backend.domain.admin.dto.response.PendingUser
 import kr.co.awesomelead.groupware_backend.domain.admin.enums.AuthorityAction;
 import kr.co.awesomelead.groupware_backend.domain.admin.mapper.AdminMapper;
 import kr.co.awesomelead.groupware_backend.domain.aligo.service.PhoneAuthService;
+import kr.co.awesomelead.groupware_backend.domain.approval.event.SavedApprovalLineChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalInboxIndexService;
 import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
 import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmTopicSyncEvent;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
 import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
@@ -30,6 +33,7 @@ import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -49,6 +53,8 @@ public class AdminService {
     private final MyInfoUpdateRequestRepository myInfoUpdateRequestRepository;
     private final PhoneAuthService phoneAuthService;
     private final NotificationService notificationService;
+    private final ApprovalInboxIndexService approvalInboxIndexService;
+    private final ApplicationEventPublisher eventPublisher;
     private final AdminMapper adminMapper;
 
     @Transactional
@@ -155,6 +161,8 @@ public class AdminService {
             }
         }
         userRepository.save(user);
+        approvalInboxIndexService.rebuildUser(user.getId(), department.getId());
+        eventPublisher.publishEvent(new FcmTopicSyncEvent(user.getId()));
 
         // 회원가입 승인 처리 완료 시 관리자 승인대기 알림 해제
         notificationService.resolveRequiresApproval(NotificationDomainType.AUTH, user.getId());
@@ -285,7 +293,9 @@ public class AdminService {
             }
         }
 
+        boolean topicsChanged = false;
         if (requestDto.getWorkLocation() != null) {
+            topicsChanged = requestDto.getWorkLocation() != user.getWorkLocation();
             user.setWorkLocation(requestDto.getWorkLocation());
         }
         if (requestDto.getDepartmentId() != null) {
@@ -293,7 +303,15 @@ public class AdminService {
                     departmentRepository
                             .findById(requestDto.getDepartmentId())
                             .orElseThrow(() -> new CustomException(ErrorCode.DEPARTMENT_NOT_FOUND));
+            boolean departmentChanged =
+                    user.getDepartment() == null
+                            || !department.getId().equals(user.getDepartment().getId());
             user.setDepartment(department);
+            if (departmentChanged) {
+                approvalInboxIndexService.rebuildUser(user.getId(), department.getId());
+                eventPublisher.publishEvent(SavedApprovalLineChangedEvent.member(user.getId()));
+                topicsChanged = true;
+            }
         }
         if (requestDto.getPosition() != null) {
             user.setPosition(requestDto.getPosition());
@@ -318,6 +336,10 @@ public class AdminService {
         }
 
         userRepository.save(user);
+        if (topicsChanged) {
+            // 회사/부서 토픽 구독을 새 소속에 맞춘다.
+            eventPublisher.publishEvent(new FcmTopicSyncEvent(user.getId()));
+        }
     }
 
     @Transactional
@@ -0,0 +1,54 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결재 문서 검색용 FULLTEXT 인덱스가 없으면 생성한다.
+ *
+ * <p>ddl-auto 로는 ngram 파서 FULLTEXT 인덱스를 만들 수 없으므로 MySQL 에서만 기동 시 한 번 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalDocumentSearchIndexInitializer implements ApplicationRunner {
+
+    private static final String INDEX_NAME = "ft_approval_documents_title_content";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String databaseProduct =
+                jdbcTemplate.execute(
+                        (ConnectionCallback<String>)
+                                connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(databaseProduct)) {
+            return;
+        }
+
+        Integer existing =
+                jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM information_schema.statistics "
+                                + "WHERE table_schema = database() "
+                                + "AND table_name = 'approval_documents' "
+                                + "AND index_name = ?",
+                        Integer.class,
+                        INDEX_NAME);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        jdbcTemplate.execute(
+                "ALTER TABLE approval_documents ADD FULLTEXT INDEX "
+                        + INDEX_NAME
+                        + " (title, content_html) WITH PARSER ngram");
+        log.info("[ApprovalSearch] 결재 문서 FULLTEXT 인덱스 생성 완료 - {}", INDEX_NAME);
+    }
+}
@@ -0,0 +1,91 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.config;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxBackfillRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxBackfillRepository.PendingUser;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalInboxIndexService;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Status;
+import kr.co.awesomelead.groupware_backend.global.lock.DistributedLockExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 결재함 인덱스를 아직 적재하지 않은 재직 사용자의 인덱스를 기존 문서 기준으로 적재한다.
+ *
+ * <p>적재 여부는 사용자별 approval_inbox_backfills 행으로 판단하므로, 중간에 기동이 중단되어도 다음 기동 시 남은 사용자부터
+ * 이어서 적재한다. 기동을 늦추지 않도록 준비 완료 후 비동기로 실행하고, 사용자마다 별도 트랜잭션으로 처리한다. 여러 인스턴스 중 분산
+ * 락을 잡은 한 곳에서만 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "approval.inbox.backfill-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class ApprovalInboxIndexInitializer {
+
+    private static final String LOCK_NAME = "approval:inbox-backfill";
+
+    private final ApprovalInboxBackfillRepository approvalInboxBackfillRepository;
+    private final ApprovalInboxIndexService approvalInboxIndexService;
+    private final DistributedLockExecutor distributedLockExecutor;
+
+    @Value("${approval.inbox.backfill-page-size:200}")
+    private int pageSize;
+
+    @Value("${approval.inbox.backfill-lock-lease:PT30M}")
+    private Duration lockLease;
+
+    @Async("fcmTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        boolean executed =
+                distributedLockExecutor.executeWithLock(LOCK_NAME, lockLease, this::backfill);
+        if (!executed) {
+            log.info("[ApprovalInbox] 다른 인스턴스에서 적재 중이거나 락을 잡지 못해 건너뜀");
+        }
+    }
+
+    void backfill() {
+        int rebuilt = 0;
+        int failed = 0;
+        long afterUserId = 0L;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<PendingUser> users =
+                    approvalInboxBackfillRepository.findPendingUsers(
+                            Status.AVAILABLE, afterUserId, PageRequest.of(0, pageSize));
+            if (users.isEmpty()) {
+                break;
+            }
+            for (PendingUser user : users) {
+                try {
+                    approvalInboxIndexService.rebuildUser(
+                            user.getUserId(), user.getDepartmentId());
+                    rebuilt++;
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.warn(
+                            "[ApprovalInbox] 결재함 인덱스 적재 실패 - userId: {}",
+                            user.getUserId(),
+                            e);
+                }
+            }
+            afterUserId = users.get(users.size() - 1).getUserId();
+        }
+        if (rebuilt > 0 || failed > 0) {
+            log.info("[ApprovalInbox] 결재함 인덱스 적재 완료 - users={}, failed={}", rebuilt, failed);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.config;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalTemplateCatalogCache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/** 다른 노드에서 발행한 양식 목록 캐시 무효화 메시지를 구독한다. */
+@Configuration
+@ConditionalOnProperty(
+        name = "approval.template-catalog.broadcast-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class ApprovalTemplateCatalogCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer approvalTemplateCatalogListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            ApprovalTemplateCatalogCache approvalTemplateCatalogCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> approvalTemplateCatalogCache.evictLocal(),
+                new ChannelTopic(ApprovalTemplateCatalogCache.EVICT_CHANNEL));
+        return container;
+    }
+}
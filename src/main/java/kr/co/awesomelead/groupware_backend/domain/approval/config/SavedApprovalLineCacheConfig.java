@@ -0,0 +1,35 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.config;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.service.SavedApprovalLineCache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/** 다른 노드에서 발행한 저장 결재선 캐시 무효화 메시지를 구독한다. */
+@Configuration
+@ConditionalOnProperty(
+        name = "approval.saved-line.broadcast-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class SavedApprovalLineCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer savedApprovalLineListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SavedApprovalLineCache savedApprovalLineCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) ->
+                        savedApprovalLineCache.handleEvictMessage(
+                                new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(SavedApprovalLineCache.EVICT_CHANNEL));
+        return container;
+    }
+}
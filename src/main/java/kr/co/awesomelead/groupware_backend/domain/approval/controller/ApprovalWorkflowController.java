@@ -10,17 +10,25 @@ import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalD
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalDraftCreateRequestDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalDraftUpdateRequestDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalDraftUpsertRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalInboxPageRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalLineBulkActionRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalSearchRequestDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalSubmitRequestDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalDraftResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalInboxAllResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalInboxCountResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalLineBulkActionResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalSubmitResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalTemplateListResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalLineActionService;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalTemplateCatalogCache;
 import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalWorkflowService;
 import kr.co.awesomelead.groupware_backend.domain.user.dto.CustomUserDetails;
 import kr.co.awesomelead.groupware_backend.global.common.response.ApiResponse;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -51,6 +59,8 @@ import org.springframework.web.bind.annotation.RestController;
         - 참조문서 열람획득문서 탭: GET /api/approvals/references/viewer-acquired
         - 참조문서 열람부여문서 탭: GET /api/approvals/references/viewer-granted
         - 부서결재함(내 부서) 탭: GET /api/approvals/department-box
+        - 결재함 배지 카운트: GET /api/approvals/inbox/counts
+        - 결재 문서 검색(제목/본문): GET /api/approvals/search
         - 결재진행 전체 탭: GET /api/approvals/inbox/all
         - 결재진행 결재하기 탭: GET /api/approvals/inbox/to-approve
         - 결재진행 결재 전단계 탭: GET /api/approvals/inbox/before-my-turn
@@ -61,6 +71,14 @@ import org.springframework.web.bind.annotation.RestController;
         - 임시저장 수정: PUT /api/approvals/drafts/{documentId}
         - 임시저장 문서 상신: POST /api/approvals/drafts/{documentId}/submit
         - 바로 상신(임시저장 없이 1회 요청): POST /api/approvals/submit-direct
+        - 결재 라인 일괄 승인/반려: POST /api/approvals/lines/actions
+        - 문서 열람 기록: POST /api/approvals/{documentId}/read
+
+        ### 목록 페이지네이션(공통)
+        - 결재함/전체/참조문서/부서결재함 목록은 커서 기반으로 조회합니다.
+        - size: 페이지 크기(기본 20, 최대 100)
+        - cursor: 이전 응답의 nextCursor 값(첫 페이지는 생략)
+        - hasNext=false 이면 마지막 페이지입니다.
 
         ### 권한 정보
         - 로그인 필요
@@ -113,6 +131,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ApprovalWorkflowController {
 
     private final ApprovalWorkflowService approvalWorkflowService;
+    private final ApprovalLineActionService approvalLineActionService;
 
     @Operation(
             summary = "전자결재 양식 목록 조회",
@@ -134,10 +153,39 @@ public class ApprovalWorkflowController {
             ### 프론트 사용 포인트
             - templateId를 임시저장/상신 API로 전달합니다.
             - defaultContentDelta는 양식 선택 시 에디터 초기값으로 사용합니다.
+            - 응답 ETag 를 If-None-Match 헤더로 보내면 변경이 없을 때 304(본문 없음)를 반환합니다.
             """)
     @GetMapping("/approval/templates")
     public ResponseEntity<ApiResponse<ApprovalTemplateListResponseDto>> getTemplates() {
-        return ResponseEntity.ok(ApiResponse.onSuccess(approvalWorkflowService.getTemplateList()));
+        ApprovalTemplateCatalogCache.Snapshot catalog =
+                approvalWorkflowService.getTemplateCatalog();
+        // ETag 를 붙인 200 응답이면 Spring 이 If-None-Match(목록, *, 약한 비교)를 확인해 304 로 바꿔 준다.
+        return ResponseEntity.ok()
+                .eTag(catalog.eTag())
+                .body(ApiResponse.onSuccess(catalog.catalog()));
+    }
+
+    @Operation(
+            summary = "결재함 탭별 배지 카운트 조회",
+            description =
+                    """
+            홈 화면 배지에 표시할 결재함 탭별 문서 수를 한 번에 조회합니다.
+
+            ### 응답 필드
+            - toApprove: 결재진행 > 결재하기
+            - beforeMyTurn: 결재진행 > 결재 전단계
+            - rejectedOrRecalled: 결재진행 > 반려/회수
+            - reference: 참조문서 > 참조문서
+            - departmentBox: 부서결재함(소속 부서가 없으면 0)
+
+            ### 참고
+            - 각 탭 목록 API 와 동일한 조건으로 집계합니다.
+            """)
+    @GetMapping("/approvals/inbox/counts")
+    public ResponseEntity<ApiResponse<ApprovalInboxCountResponseDto>> getInboxCounts(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(
+                ApiResponse.onSuccess(approvalWorkflowService.getInboxCounts(userDetails.getId())));
     }
 
     @Operation(
@@ -168,9 +216,11 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/inbox/all")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getInboxAll(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
-                ApiResponse.onSuccess(approvalWorkflowService.getInboxAll(userDetails.getId())));
+                ApiResponse.onSuccess(
+                        approvalWorkflowService.getInboxAll(userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -192,10 +242,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/inbox/to-approve")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getInboxToApprove(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getInboxToApprove(userDetails.getId())));
+                        approvalWorkflowService.getInboxToApprove(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -217,10 +269,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/inbox/before-my-turn")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getInboxBeforeMyTurn(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getInboxBeforeMyTurn(userDetails.getId())));
+                        approvalWorkflowService.getInboxBeforeMyTurn(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -242,10 +296,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/inbox/processed-by-me")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getInboxProcessedByMe(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getInboxProcessedByMe(userDetails.getId())));
+                        approvalWorkflowService.getInboxProcessedByMe(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -268,10 +324,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/inbox/rejected-or-recalled")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getInboxRejectedOrRecalled(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getInboxRejectedOrRecalled(userDetails.getId())));
+                        approvalWorkflowService.getInboxRejectedOrRecalled(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -293,10 +351,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/inbox/draft-box")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getInboxDraftBox(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getInboxDraftBox(userDetails.getId())));
+                        approvalWorkflowService.getInboxDraftBox(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -320,9 +380,11 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/all")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getAllAll(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
-                ApiResponse.onSuccess(approvalWorkflowService.getAllAll(userDetails.getId())));
+                ApiResponse.onSuccess(
+                        approvalWorkflowService.getAllAll(userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -344,10 +406,11 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/all/my-drafted")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getAllMyDrafted(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getAllMyDrafted(userDetails.getId())));
+                        approvalWorkflowService.getAllMyDrafted(userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -370,10 +433,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/all/my-approvals")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getAllMyApprovals(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getAllMyApprovals(userDetails.getId())));
+                        approvalWorkflowService.getAllMyApprovals(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -396,10 +461,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/references")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getReferenceDocuments(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getReferenceDocuments(userDetails.getId())));
+                        approvalWorkflowService.getReferenceDocuments(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -426,10 +493,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/references/viewer-acquired")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getViewerAcquiredDocuments(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getViewerAcquiredDocuments(userDetails.getId())));
+                        approvalWorkflowService.getViewerAcquiredDocuments(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -455,10 +524,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/references/viewer-granted")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getViewerGrantedDocuments(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getViewerGrantedDocuments(userDetails.getId())));
+                        approvalWorkflowService.getViewerGrantedDocuments(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -492,10 +563,12 @@ public class ApprovalWorkflowController {
             """)
     @GetMapping("/approvals/department-box")
     public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> getDepartmentBox(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ParameterObject @Valid ApprovalInboxPageRequestDto pageRequest) {
         return ResponseEntity.ok(
                 ApiResponse.onSuccess(
-                        approvalWorkflowService.getDepartmentBox(userDetails.getId())));
+                        approvalWorkflowService.getDepartmentBox(
+                                userDetails.getId(), pageRequest)));
     }
 
     @Operation(
@@ -598,6 +671,77 @@ public class ApprovalWorkflowController {
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 
+    @Operation(
+            summary = "결재 라인 일괄 승인/반려",
+            description =
+                    """
+            결재하기 탭의 여러 결재 라인을 한 번에 승인 또는 반려합니다.
+
+            - lineIds: 결재하기 탭 응답의 approvalLines[].lineId (최대 100건)
+            - action: APPROVE(승인) / REJECT(반려)
+            - comment: 결재 의견(반려 시 반려 사유로 기안자에게 전달)
+
+            ### 처리 규칙
+            - 요청한 라인 전체를 하나의 트랜잭션으로 처리합니다. 한 건이라도 처리할 수 없으면 전체가 취소됩니다.
+            - 본인 또는 소속 부서가 대상인 결재선(APPROVAL_LINE)이면서 현재 차례(PENDING)인 라인만 처리할 수 있습니다.
+            - 승인 시 다음 순서 결재자가 결재 대기 상태가 되며, 마지막 결재자면 문서가 APPROVED 됩니다.
+            - 반려 시 문서가 REJECTED 됩니다.
+            - 다른 사용자가 같은 라인을 먼저 처리한 경우 409 를 반환합니다.
+
+            ### 알림
+            - 다음 결재자: 결재 요청 알림
+            - 최종 승인: 기안자/열람권자 알림
+            - 반려: 기안자 알림
+            """)
+    @PostMapping("/approvals/lines/actions")
+    public ResponseEntity<ApiResponse<ApprovalLineBulkActionResponseDto>> processLines(
+            @Valid @RequestBody ApprovalLineBulkActionRequestDto request,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        ApprovalLineBulkActionResponseDto result =
+                approvalLineActionService.processLines(userDetails.getId(), request);
+        return ResponseEntity.ok(ApiResponse.onSuccess(result));
+    }
+
+    @Operation(
+            summary = "결재 문서 검색",
+            description =
+                    """
+            제목/본문에 검색어가 포함된 문서를 관련도 순으로 조회합니다.
+
+            - keyword: 검색어(최대 100자). 공백으로 구분한 단어를 모두 포함하는 문서만 조회합니다.
+            - 한글 부분 단어 검색을 지원합니다(2글자 이상 단어 기준).
+            - 내가 기안했거나, 결재선/참조자/열람권자/부서결재함으로 볼 수 있는 문서만 조회됩니다.
+            - 응답 구조는 결재함 목록과 같으며, 관련도가 같으면 최신 문서가 먼저 조회됩니다.
+            - cursor/size 는 목록 페이지네이션과 동일하게 사용합니다.
+            """)
+    @GetMapping("/approvals/search")
+    public ResponseEntity<ApiResponse<ApprovalInboxAllResponseDto>> searchDocuments(
+            @ParameterObject @Valid ApprovalSearchRequestDto request,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        ApprovalInboxAllResponseDto result =
+                approvalWorkflowService.searchDocuments(userDetails.getId(), request);
+        return ResponseEntity.ok(ApiResponse.onSuccess(result));
+    }
+
+    @Operation(
+            summary = "결재 문서 열람 기록",
+            description =
+                    """
+            문서 상세를 연 시점에 호출해 참조자/열람권자 열람 여부를 기록합니다.
+
+            - 본인 결재함에 있는 문서만 기록할 수 있습니다. 그 외 문서는 404 를 반환합니다.
+            - 본인 또는 소속 부서가 대상인 열람 기록만 읽음 처리됩니다.
+            - 열람 기록은 수 초 간격으로 모아서 반영되므로 응답 직후 조회에는 반영되지 않을 수 있습니다.
+            - 같은 문서를 여러 번 열어도 최초 열람 시각만 기록됩니다.
+            """)
+    @PostMapping("/approvals/{documentId}/read")
+    public ResponseEntity<ApiResponse<Void>> markDocumentRead(
+            @PathVariable Long documentId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        approvalWorkflowService.markDocumentRead(userDetails.getId(), documentId);
+        return ResponseEntity.ok(ApiResponse.onSuccess(null));
+    }
+
     private ApprovalDraftUpsertRequestDto toUpsertRequest(ApprovalDraftCreateRequestDto request) {
         ApprovalDraftUpsertRequestDto upsert = new ApprovalDraftUpsertRequestDto();
         upsert.setTemplateId(request.getTemplateId());
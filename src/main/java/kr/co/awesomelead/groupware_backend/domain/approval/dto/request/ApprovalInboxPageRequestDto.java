@@ -0,0 +1,23 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "결재함 커서 페이지 요청")
+public class ApprovalInboxPageRequestDto {
+
+    @Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "MTAx")
+    private String cursor;
+
+    @Min(1)
+    @Max(100)
+    @Schema(description = "페이지 크기 (생략 시 서버 기본값)", example = "20")
+    private Integer size;
+}
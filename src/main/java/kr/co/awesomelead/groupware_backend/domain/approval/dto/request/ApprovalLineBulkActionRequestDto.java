@@ -0,0 +1,36 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalActionType;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Schema(description = "결재 라인 일괄 승인/반려 요청")
+public class ApprovalLineBulkActionRequestDto {
+
+    @NotNull
+    @Schema(
+            description = "처리 유형",
+            example = "APPROVE",
+            allowableValues = {"APPROVE", "REJECT"})
+    private ApprovalActionType action;
+
+    @NotEmpty
+    @Size(max = 100)
+    @Schema(description = "처리할 결재 라인 ID 목록 (최대 100건)", example = "[1001, 1002]")
+    private List<Long> lineIds;
+
+    @Size(max = 1000)
+    @Schema(description = "결재 의견(반려 시 반려 사유)", example = "확인했습니다.")
+    private String comment;
+}
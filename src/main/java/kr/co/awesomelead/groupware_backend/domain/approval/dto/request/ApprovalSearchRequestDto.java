@@ -0,0 +1,30 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "결재 문서 검색 요청")
+public class ApprovalSearchRequestDto {
+
+    @NotBlank
+    @Size(max = 100)
+    @Schema(description = "검색어 (제목/본문, 공백으로 구분한 단어를 모두 포함하는 문서)", example = "출장비 정산")
+    private String keyword;
+
+    @Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "MjA=")
+    private String cursor;
+
+    @Min(1)
+    @Max(100)
+    @Schema(description = "페이지 크기 (생략 시 서버 기본값)", example = "20")
+    private Integer size;
+}
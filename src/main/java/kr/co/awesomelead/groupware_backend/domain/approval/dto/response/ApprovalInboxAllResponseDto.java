@@ -30,6 +30,12 @@ public class ApprovalInboxAllResponseDto {
     @Schema(description = "전체 탭 문서 목록")
     private List<DocumentDto> documents;
 
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MTAx")
+    private String nextCursor;
+
     @Getter
     @Builder
     @AllArgsConstructor
@@ -0,0 +1,29 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "결재함 탭별 배지 카운트 응답")
+public class ApprovalInboxCountResponseDto {
+
+    @Schema(description = "결재진행 > 결재하기 문서 수", example = "3")
+    private Long toApprove;
+
+    @Schema(description = "결재진행 > 결재 전단계 문서 수", example = "5")
+    private Long beforeMyTurn;
+
+    @Schema(description = "결재진행 > 반려/회수 문서 수", example = "1")
+    private Long rejectedOrRecalled;
+
+    @Schema(description = "참조문서 > 참조문서 문서 수", example = "12")
+    private Long reference;
+
+    @Schema(description = "부서결재함 문서 수(소속 부서가 없으면 0)", example = "40")
+    private Long departmentBox;
+}
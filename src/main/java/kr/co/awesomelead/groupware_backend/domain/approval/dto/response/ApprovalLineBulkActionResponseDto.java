@@ -0,0 +1,43 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "결재 라인 일괄 승인/반려 응답")
+public class ApprovalLineBulkActionResponseDto {
+
+    @Schema(description = "처리된 결재 라인 수", example = "2")
+    private Integer processedCount;
+
+    @Schema(description = "처리 후 문서 상태 목록")
+    private List<DocumentResultDto> documents;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "문서별 처리 결과")
+    public static class DocumentResultDto {
+
+        @Schema(description = "문서 ID", example = "101")
+        private Long documentId;
+
+        @Schema(description = "처리된 결재 라인 ID", example = "1001")
+        private Long lineId;
+
+        @Schema(
+                description = "처리 후 문서 상태",
+                example = "IN_PROGRESS",
+                allowableValues = {"IN_PROGRESS", "APPROVED", "REJECTED"})
+        private ApprovalStatus status;
+    }
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
@@ -82,4 +83,9 @@ public class ApprovalDocumentLine extends BaseTimeEntity {
     private String processedComment;
 
     private LocalDateTime processedAt;
+
+    @Version
+    @Column(nullable = false)
+    @Builder.Default
+    private Long version = 0L;
 }
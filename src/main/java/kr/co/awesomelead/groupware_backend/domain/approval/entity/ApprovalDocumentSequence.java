@@ -0,0 +1,47 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/** 양식/기안일자별 문서번호 채번 카운터. 상신 시 행 잠금 후 last_value 를 1 증가시켜 사용한다. */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "approval_document_sequences",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_approval_document_sequence_template_date",
+                    columnNames = {"template_id", "sequence_date"})
+        })
+public class ApprovalDocumentSequence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "template_id", nullable = false)
+    private Long templateId;
+
+    @Column(name = "sequence_date", nullable = false)
+    private LocalDate sequenceDate;
+
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue;
+}
@@ -0,0 +1,47 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재함 인덱스를 기존 문서 기준으로 한 번 이상 재구성한 사용자 기록. 행이 없는 사용자는 기동 시 적재 대상이며, 부서 계층 변경에 따른
+ * 부분 재구성은 행이 있는 사용자에게만 적용한다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "approval_inbox_backfills",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_approval_inbox_backfill_user",
+                    columnNames = {"user_id"})
+        })
+public class ApprovalInboxBackfill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,63 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalInboxTab;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자별 결재함 탭 인덱스. 문서 상태 전이 시점에 갱신되며 조회는 (user_id, tab, sort_key) 범위 스캔으로
+ * 처리한다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "approval_inbox_entries",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_approval_inbox_entry_user_tab_document",
+                    columnNames = {"user_id", "tab", "document_id"})
+        },
+        indexes = {
+            @Index(
+                    name = "idx_approval_inbox_entry_user_tab_sort",
+                    columnList = "user_id, tab, sort_key"),
+            @Index(name = "idx_approval_inbox_entry_document", columnList = "document_id")
+        })
+public class ApprovalInboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ApprovalInboxTab tab;
+
+    @Column(name = "sort_key", nullable = false)
+    private Long sortKey;
+}
@@ -0,0 +1,24 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ApprovalInboxTab {
+    IN_PROGRESS_ALL("결재진행 전체"),
+    TO_APPROVE("결재하기"),
+    BEFORE_MY_TURN("결재 전단계"),
+    PROCESSED_BY_ME("기결"),
+    REJECTED_OR_RECALLED("반려/회수"),
+    DRAFT_BOX("임시저장함"),
+    ALL("전체"),
+    MY_DRAFTED("본인기안"),
+    MY_APPROVALS("본인결재"),
+    REFERENCE("참조문서"),
+    VIEWER_ACQUIRED("열람획득문서"),
+    VIEWER_GRANTED("열람부여문서"),
+    DEPARTMENT_BOX("부서결재함");
+
+    private final String description;
+}
@@ -0,0 +1,4 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.event;
+
+/** 결재 양식/분류 변경 이벤트. 커밋 이후 양식 목록 캐시를 무효화하는 데 사용한다. */
+public record ApprovalTemplateCatalogChangedEvent() {}
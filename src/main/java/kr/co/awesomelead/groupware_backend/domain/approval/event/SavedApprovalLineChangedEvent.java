@@ -0,0 +1,33 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.event;
+
+/**
+ * 저장된 결재선 변경 이벤트. 커밋 이후 해당 범위의 결재선 캐시를 무효화하는 데 사용한다.
+ *
+ * @param scope 무효화 범위
+ * @param id 개인 결재선/소속 변경이면 사용자 ID, 부서 결재선/부서 계층이면 부서 ID
+ */
+public record SavedApprovalLineChangedEvent(Scope scope, Long id) {
+
+    public static SavedApprovalLineChangedEvent personal(Long userId) {
+        return new SavedApprovalLineChangedEvent(Scope.PERSONAL, userId);
+    }
+
+    public static SavedApprovalLineChangedEvent department(Long departmentId) {
+        return new SavedApprovalLineChangedEvent(Scope.DEPARTMENT, departmentId);
+    }
+
+    public static SavedApprovalLineChangedEvent member(Long userId) {
+        return new SavedApprovalLineChangedEvent(Scope.MEMBER, userId);
+    }
+
+    public enum Scope {
+        /** 사용자의 개인 결재선 */
+        PERSONAL,
+        /** 부서 결재선 */
+        DEPARTMENT,
+        /** 사용자의 소속 부서 매핑 */
+        MEMBER,
+        /** 부서의 상위 부서 목록 */
+        HIERARCHY
+    }
+}
@@ -0,0 +1,154 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.repository;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalActionHistory;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalInboxEntry;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 결재 데이터 대량 저장.
+ *
+ * <p>결재 엔티티는 IDENTITY 채번이라 Hibernate 가 INSERT 를 batch 로 묶지 못한다. 한 번에 여러 행이 생기는 저장은 JDBC
+ * batch 로 직접 INSERT 한다. 생성된 ID 는 돌려받지 않으며, 영속성 컨텍스트에도 올라가지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApprovalBulkWriter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_INBOX_ENTRY_SQL =
+            """
+            INSERT INTO approval_inbox_entries (user_id, document_id, tab, sort_key)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_DOCUMENT_LINE_SQL =
+            """
+            INSERT INTO approval_document_lines
+                (document_id, role, target_type, target_user_id, target_department_id,
+                 target_name_snapshot, sequence_no, is_required, line_status, version,
+                 created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final String INSERT_ACTION_HISTORY_SQL =
+            """
+            INSERT INTO approval_action_histories
+                (document_id, document_line_id, action_type, from_status, to_status,
+                 actor_user_id, action_comment, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 결재함 인덱스 항목을 batch 로 저장한다.
+     *
+     * @return 저장한 항목 수
+     */
+    public int insertInboxEntries(Collection<ApprovalInboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(
+                INSERT_INBOX_ENTRY_SQL,
+                entries,
+                BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getUserId());
+                    ps.setLong(2, entry.getDocumentId());
+                    ps.setString(3, entry.getTab().name());
+                    ps.setLong(4, entry.getSortKey());
+                });
+        return entries.size();
+    }
+
+    /**
+     * 새 결재선을 batch 로 저장한다. 처리 이력이 없는 라인만 넘겨야 한다.
+     *
+     * @return 저장한 라인 수
+     */
+    public int insertDocumentLines(Collection<ApprovalDocumentLine> lines) {
+        if (lines.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                INSERT_DOCUMENT_LINE_SQL,
+                lines,
+                BATCH_SIZE,
+                (ps, line) -> {
+                    ps.setLong(1, line.getDocument().getId());
+                    ps.setString(2, line.getRole().name());
+                    ps.setString(3, line.getTargetType().name());
+                    ps.setObject(
+                            4,
+                            line.getTargetUser() != null ? line.getTargetUser().getId() : null,
+                            Types.BIGINT);
+                    ps.setObject(
+                            5,
+                            line.getTargetDepartment() != null
+                                    ? line.getTargetDepartment().getId()
+                                    : null,
+                            Types.BIGINT);
+                    ps.setString(6, line.getTargetNameSnapshot());
+                    ps.setObject(7, line.getSequenceNo(), Types.INTEGER);
+                    ps.setBoolean(8, line.getIsRequired());
+                    ps.setString(9, line.getLineStatus().name());
+                    ps.setTimestamp(10, now);
+                    ps.setTimestamp(11, now);
+                });
+        return lines.size();
+    }
+
+    /**
+     * 결재 처리 이력을 batch 로 저장한다.
+     *
+     * @return 저장한 이력 수
+     */
+    public int insertActionHistories(Collection<ApprovalActionHistory> histories) {
+        if (histories.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                INSERT_ACTION_HISTORY_SQL,
+                histories,
+                BATCH_SIZE,
+                (ps, history) -> {
+                    ps.setLong(1, history.getDocument().getId());
+                    ps.setObject(
+                            2,
+                            history.getDocumentLine() != null
+                                    ? history.getDocumentLine().getId()
+                                    : null,
+                            Types.BIGINT);
+                    ps.setString(3, history.getActionType().name());
+                    ps.setString(
+                            4,
+                            history.getFromStatus() != null
+                                    ? history.getFromStatus().name()
+                                    : null);
+                    ps.setString(
+                            5, history.getToStatus() != null ? history.getToStatus().name() : null);
+                    ps.setObject(
+                            6,
+                            history.getActorUser() != null ? history.getActorUser().getId() : null,
+                            Types.BIGINT);
+                    ps.setString(7, history.getActionComment());
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                });
+        return histories.size();
+    }
+}
@@ -1,9 +1,14 @@
 package kr.co.awesomelead.groupware_backend.domain.approval.repository;
 
 import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ApprovalDocumentLineRepository extends JpaRepository<ApprovalDocumentLine, Long> {
@@ -11,4 +16,22 @@ public interface ApprovalDocumentLineRepository extends JpaRepository<ApprovalDo
     List<ApprovalDocumentLine> findByDocumentIdOrderBySequenceNoAscIdAsc(Long documentId);
 
     void deleteByDocumentId(Long documentId);
+
+    @Query(
+            "select distinct l from ApprovalDocumentLine l "
+                    + "join fetch l.document d "
+                    + "left join fetch d.lines "
+                    + "where l.id in :ids")
+    List<ApprovalDocumentLine> findAllWithDocumentByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 다음 결재 단계 활성화. 벌크 갱신이므로 버전도 함께 올려 동시 처리 중인 트랜잭션과 충돌을 감지한다. */
+    @Modifying(clearAutomatically = true)
+    @Query(
+            "update ApprovalDocumentLine l "
+                    + "set l.lineStatus = :pending, l.version = l.version + 1 "
+                    + "where l.id in :ids and l.lineStatus = :waiting")
+    int activateLines(
+            @Param("ids") Collection<Long> ids,
+            @Param("waiting") ApprovalLineStatus waiting,
+            @Param("pending") ApprovalLineStatus pending);
 }
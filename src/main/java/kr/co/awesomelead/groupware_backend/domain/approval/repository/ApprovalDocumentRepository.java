@@ -1,12 +1,12 @@
 package kr.co.awesomelead.groupware_backend.domain.approval.repository;
 
 import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocument;
-import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +18,14 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
 
     Optional<ApprovalDocument> findByIdAndDrafterUserId(Long id, Long drafterUserId);
 
-    long countByTemplateIdAndStatusNot(Long templateId, ApprovalStatus status);
+    @Query(
+            "select d.documentNo from ApprovalDocument d "
+                    + "where d.template.id = :templateId and d.documentNo is not null "
+                    + "and d.submittedAt >= :from and d.submittedAt < :to")
+    List<String> findDocumentNosByTemplateIdAndSubmittedAtBetween(
+            @Param("templateId") Long templateId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 
     @Query(
             "select distinct d from ApprovalDocument d "
@@ -35,6 +42,7 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
                     + "left join fetch d.lines l "
                     + "left join fetch l.targetUser "
                     + "left join fetch l.targetDepartment "
+                    + "where d.id in :ids "
                     + "order by d.id desc")
-    List<ApprovalDocument> findAllWithLinesOrderByIdDesc();
+    List<ApprovalDocument> findAllWithLinesByIdInOrderByIdDesc(@Param("ids") List<Long> ids);
 }
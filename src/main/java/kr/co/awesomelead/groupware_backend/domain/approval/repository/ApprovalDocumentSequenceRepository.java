@@ -0,0 +1,26 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.repository;
+
+import jakarta.persistence.LockModeType;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentSequence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface ApprovalDocumentSequenceRepository
+        extends JpaRepository<ApprovalDocumentSequence, Long> {
+
+    boolean existsByTemplateIdAndSequenceDate(Long templateId, LocalDate sequenceDate);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            "select s from ApprovalDocumentSequence s "
+                    + "where s.templateId = :templateId and s.sequenceDate = :sequenceDate")
+    Optional<ApprovalDocumentSequence> findForUpdate(
+            @Param("templateId") Long templateId, @Param("sequenceDate") LocalDate sequenceDate);
+}
@@ -0,0 +1,42 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.repository;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalInboxBackfill;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Status;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ApprovalInboxBackfillRepository
+        extends JpaRepository<ApprovalInboxBackfill, Long> {
+
+    boolean existsByUserId(Long userId);
+
+    /** 아직 적재하지 않은 사용자를 ID 오름차순으로 조회한다. */
+    @Query(
+            "select u.id as userId, d.id as departmentId from User u left join u.department d "
+                    + "where u.status = :status and u.id > :afterUserId "
+                    + "and not exists "
+                    + "(select 1 from ApprovalInboxBackfill b where b.userId = u.id) "
+                    + "order by u.id")
+    List<PendingUser> findPendingUsers(
+            @Param("status") Status status,
+            @Param("afterUserId") Long afterUserId,
+            Pageable pageable);
+
+    /** 해당 부서 소속 사용자 중 적재를 마친 사용자 ID */
+    @Query(
+            "select u.id from User u, ApprovalInboxBackfill b "
+                    + "where b.userId = u.id and u.department.id = :departmentId")
+    List<Long> findBackfilledUserIdsByDepartmentId(@Param("departmentId") Long departmentId);
+
+    interface PendingUser {
+
+        Long getUserId();
+
+        Long getDepartmentId();
+    }
+}
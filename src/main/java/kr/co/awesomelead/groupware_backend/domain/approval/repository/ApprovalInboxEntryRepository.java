@@ -0,0 +1,52 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.repository;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalInboxEntry;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalInboxTab;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ApprovalInboxEntryRepository extends JpaRepository<ApprovalInboxEntry, Long> {
+
+    @Query(
+            "select e.documentId from ApprovalInboxEntry e "
+                    + "where e.userId = :userId and e.tab = :tab "
+                    + "and (:cursorSortKey is null or e.sortKey < :cursorSortKey) "
+                    + "order by e.sortKey desc")
+    List<Long> findDocumentIdsByUserIdAndTab(
+            @Param("userId") Long userId,
+            @Param("tab") ApprovalInboxTab tab,
+            @Param("cursorSortKey") Long cursorSortKey,
+            Pageable pageable);
+
+    @Query(
+            "select e.tab as tab, count(e) as count from ApprovalInboxEntry e "
+                    + "where e.userId = :userId group by e.tab")
+    List<TabCount> countByUserIdGroupByTab(@Param("userId") Long userId);
+
+    List<ApprovalInboxEntry> findByDocumentId(Long documentId);
+
+    boolean existsByUserIdAndDocumentId(Long userId, Long documentId);
+
+    @Modifying
+    @Query("delete from ApprovalInboxEntry e where e.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from ApprovalInboxEntry e where e.userId = :userId and e.tab in :tabs")
+    void deleteAllByUserIdAndTabIn(
+            @Param("userId") Long userId, @Param("tabs") Collection<ApprovalInboxTab> tabs);
+
+    interface TabCount {
+
+        ApprovalInboxTab getTab();
+
+        long getCount();
+    }
+}
@@ -0,0 +1,400 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.repository;
+
+import static kr.co.awesomelead.groupware_backend.domain.approval.entity.QApprovalDocument.approvalDocument;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.QApprovalDocumentLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalInboxTab;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalType;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.QDepartment;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.QDepartmentClosure;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.QUser;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+@Repository
+@RequiredArgsConstructor
+public class ApprovalInboxQueryRepository {
+
+    private static final List<ApprovalRouteRole> DEPARTMENT_BOX_ROLES =
+            List.of(
+                    ApprovalRouteRole.APPROVAL_LINE,
+                    ApprovalRouteRole.AGREEMENT_REQUIRED,
+                    ApprovalRouteRole.AGREEMENT_OPTIONAL,
+                    ApprovalRouteRole.RECEIVER_DEPARTMENT);
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 결재함 탭 조건에 해당하는 문서 ID 목록 조회 (id 내림차순)
+     *
+     * <p>탭별 결재선 조건은 approval_document_lines 에 대한 EXISTS 서브쿼리로 변환되어 DB 에서
+     * 필터링된다. 부서 대상 결재/합의선은 그 부서원만 처리할 수 있지만, 부서 대상 참조/열람은 하위 부서원도 볼 수 있고 부서결재함은
+     * 하위 부서의 문서까지 포함한다. 부서 계층은 department_closure 조인으로 판단한다.
+     *
+     * @param tab 조회할 결재함 탭
+     * @param userId 현재 사용자 ID
+     * @param departmentId 현재 사용자 소속 부서 ID (소속이 없으면 null)
+     */
+    public List<Long> findDocumentIds(ApprovalInboxTab tab, Long userId, Long departmentId) {
+        return queryFactory
+                .select(approvalDocument.id)
+                .from(approvalDocument)
+                .where(tabCondition(tab, userId, departmentId))
+                .orderBy(approvalDocument.id.desc())
+                .fetch();
+    }
+
+    /**
+     * 결재함 목록 행 조회
+     *
+     * <p>목록 표시에 필요한 컬럼만 생성자 프로젝션으로 읽는다. 기안자는 이름 컬럼만 조인하므로 User 엔티티 생성과 암호화 컬럼
+     * 복호화가 일어나지 않는다.
+     */
+    public List<DocumentRow> findDocumentRows(Collection<Long> documentIds) {
+        QUser drafter = new QUser("drafter");
+        QDepartment drafterDepartment = new QDepartment("drafterDepartment");
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                DocumentRow.class,
+                                approvalDocument.id,
+                                approvalDocument.documentNo,
+                                approvalDocument.template.id,
+                                approvalDocument.templateCodeSnapshot,
+                                approvalDocument.templateNameSnapshot,
+                                approvalDocument.title,
+                                approvalDocument.approvalType,
+                                approvalDocument.status,
+                                drafter.id,
+                                drafter.nameKor,
+                                drafter.nameEng,
+                                drafterDepartment.id,
+                                drafterDepartment.name,
+                                approvalDocument.submittedAt,
+                                approvalDocument.completedAt,
+                                approvalDocument.createdAt,
+                                approvalDocument.modifiedAt))
+                .from(approvalDocument)
+                .leftJoin(approvalDocument.drafterUser, drafter)
+                .leftJoin(approvalDocument.drafterDepartment, drafterDepartment)
+                .where(approvalDocument.id.in(documentIds))
+                .fetch();
+    }
+
+    /** 결재함 목록 행의 결재선 조회 (대상자명은 스냅샷 컬럼 사용, 대상 사용자/부서는 FK 값만 읽음) */
+    public List<LineRow> findLineRows(Collection<Long> documentIds) {
+        QApprovalDocumentLine line = QApprovalDocumentLine.approvalDocumentLine;
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                LineRow.class,
+                                line.document.id,
+                                line.id,
+                                line.role,
+                                line.targetType,
+                                line.targetUser.id,
+                                line.targetDepartment.id,
+                                line.targetNameSnapshot,
+                                line.sequenceNo,
+                                line.isRequired,
+                                line.lineStatus))
+                .from(line)
+                .where(line.document.id.in(documentIds))
+                .fetch();
+    }
+
+    /**
+     * 제목/본문 전문 검색 결과 문서 ID 목록 조회 (관련도 내림차순, 동점이면 id 내림차순)
+     *
+     * <p>approval_documents(title, content_html) ngram FULLTEXT 인덱스로 후보를 찾고, 사용자가 결재함/참조문서/부서결재함
+     * 중 어느 한 곳에서라도 볼 수 있는 문서만 남긴다.
+     *
+     * @param booleanQuery MATCH ... AGAINST 불리언 모드 검색식
+     */
+    public List<Long> searchDocumentIds(
+            Long userId, Long departmentId, String booleanQuery, long offset, int limit) {
+        NumberExpression<Double> score =
+                Expressions.numberTemplate(
+                        Double.class,
+                        "function('match_against_2', {0}, {1}, {2})",
+                        approvalDocument.title,
+                        approvalDocument.contentHtml,
+                        Expressions.constant(booleanQuery));
+        return queryFactory
+                .select(approvalDocument.id)
+                .from(approvalDocument)
+                .where(score.gt(0), visibleTo(userId, departmentId))
+                .orderBy(score.desc(), approvalDocument.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression visibleTo(Long userId, Long departmentId) {
+        BooleanExpression visible =
+                draftedByMe(userId)
+                        .or(myApprovals(userId, departmentId))
+                        .or(reference(userId, departmentId))
+                        .or(viewerAcquired(userId, departmentId));
+        return departmentId != null ? visible.or(departmentBox(departmentId)) : visible;
+    }
+
+    private BooleanExpression tabCondition(ApprovalInboxTab tab, Long userId, Long departmentId) {
+        return switch (tab) {
+            case IN_PROGRESS_ALL ->
+                    draftBox(userId)
+                            .or(toApprove(userId, departmentId))
+                            .or(beforeMyTurn(userId, departmentId))
+                            .or(processedByMe(userId, departmentId))
+                            .or(rejectedOrRecalled(userId, departmentId));
+            case TO_APPROVE -> toApprove(userId, departmentId);
+            case BEFORE_MY_TURN -> beforeMyTurn(userId, departmentId);
+            case PROCESSED_BY_ME -> processedByMe(userId, departmentId);
+            case REJECTED_OR_RECALLED -> rejectedOrRecalled(userId, departmentId);
+            case DRAFT_BOX -> draftBox(userId);
+            case ALL -> draftedByMe(userId).or(myApprovals(userId, departmentId));
+            case MY_DRAFTED -> draftedByMe(userId);
+            case MY_APPROVALS -> myApprovals(userId, departmentId);
+            case REFERENCE -> reference(userId, departmentId);
+            case VIEWER_ACQUIRED -> viewerAcquired(userId, departmentId);
+            case VIEWER_GRANTED -> viewerGranted(userId);
+            case DEPARTMENT_BOX -> departmentBox(departmentId);
+        };
+    }
+
+    private BooleanExpression draftBox(Long userId) {
+        return approvalDocument.status.eq(ApprovalStatus.DRAFT).and(draftedByMe(userId));
+    }
+
+    private BooleanExpression draftedByMe(Long userId) {
+        return approvalDocument.drafterUser.id.eq(userId);
+    }
+
+    private BooleanExpression myApprovals(Long userId, Long departmentId) {
+        return approvalDocument
+                .status
+                .ne(ApprovalStatus.DRAFT)
+                .and(existsLine(line -> myProcessingLine(line, userId, departmentId)));
+    }
+
+    private BooleanExpression toApprove(Long userId, Long departmentId) {
+        return approvalDocument
+                .status
+                .eq(ApprovalStatus.IN_PROGRESS)
+                .and(
+                        existsLine(
+                                line ->
+                                        myProcessingLine(line, userId, departmentId)
+                                                .and(
+                                                        line.lineStatus.eq(
+                                                                ApprovalLineStatus.PENDING))));
+    }
+
+    private BooleanExpression beforeMyTurn(Long userId, Long departmentId) {
+        return approvalDocument
+                .status
+                .eq(ApprovalStatus.IN_PROGRESS)
+                .and(
+                        existsLine(
+                                line ->
+                                        myProcessingLine(line, userId, departmentId)
+                                                .and(
+                                                        line.lineStatus.eq(
+                                                                ApprovalLineStatus.WAITING))));
+    }
+
+    private BooleanExpression processedByMe(Long userId, Long departmentId) {
+        return existsLine(
+                line ->
+                        myProcessingLine(line, userId, departmentId)
+                                .and(line.lineStatus.eq(ApprovalLineStatus.APPROVED))
+                                .and(line.processedByUser.id.eq(userId)));
+    }
+
+    private BooleanExpression rejectedOrRecalled(Long userId, Long departmentId) {
+        BooleanExpression rejected =
+                approvalDocument
+                        .status
+                        .eq(ApprovalStatus.REJECTED)
+                        .and(
+                                existsLine(
+                                        line ->
+                                                myProcessingLine(line, userId, departmentId)
+                                                        .and(
+                                                                line.lineStatus.eq(
+                                                                        ApprovalLineStatus
+                                                                                .REJECTED))
+                                                        .and(line.processedByUser.isNotNull())));
+        BooleanExpression recalled =
+                approvalDocument.status.eq(ApprovalStatus.RECALLED).and(draftedByMe(userId));
+        return rejected.or(recalled);
+    }
+
+    private BooleanExpression reference(Long userId, Long departmentId) {
+        return approvalDocument
+                .status
+                .ne(ApprovalStatus.DRAFT)
+                .and(
+                        existsLine(
+                                line ->
+                                        line.role
+                                                .eq(ApprovalRouteRole.REFERENCE)
+                                                .and(
+                                                        lineTargetsMeOrUpperDepartment(
+                                                                line, userId, departmentId))));
+    }
+
+    private BooleanExpression viewerAcquired(Long userId, Long departmentId) {
+        // 참조자로도 지정된 문서는 참조문서 탭으로 분리한다.
+        return approvalDocument
+                .status
+                .eq(ApprovalStatus.APPROVED)
+                .and(reference(userId, departmentId).not())
+                .and(
+                        existsLine(
+                                line ->
+                                        line.role
+                                                .eq(ApprovalRouteRole.VIEWER)
+                                                .and(
+                                                        lineTargetsMeOrUpperDepartment(
+                                                                line, userId, departmentId))));
+    }
+
+    private BooleanExpression viewerGranted(Long userId) {
+        return approvalDocument
+                .status
+                .ne(ApprovalStatus.DRAFT)
+                .and(draftedByMe(userId))
+                .and(existsLine(line -> line.role.eq(ApprovalRouteRole.VIEWER)));
+    }
+
+    /** 내 부서 또는 하위 부서가 기안했거나 결재/합의/수신 대상인 문서 */
+    private BooleanExpression departmentBox(Long departmentId) {
+        BooleanExpression myDepartmentLine =
+                existsLine(
+                        line ->
+                                line.targetType
+                                        .eq(ApprovalTargetType.DEPARTMENT)
+                                        .and(line.targetDepartment.id.in(subtreeOf(departmentId)))
+                                        .and(line.role.in(DEPARTMENT_BOX_ROLES)));
+        return approvalDocument
+                .status
+                .ne(ApprovalStatus.DRAFT)
+                .and(
+                        approvalDocument
+                                .drafterDepartment
+                                .id
+                                .in(subtreeOf(departmentId))
+                                .or(myDepartmentLine));
+    }
+
+    private BooleanExpression myProcessingLine(
+            QApprovalDocumentLine line, Long userId, Long departmentId) {
+        return line.role
+                .notIn(ApprovalRouteRole.REFERENCE, ApprovalRouteRole.VIEWER)
+                .and(lineTargetsMe(line, userId, departmentId));
+    }
+
+    private BooleanExpression lineTargetsMe(
+            QApprovalDocumentLine line, Long userId, Long departmentId) {
+        BooleanExpression userTarget =
+                line.targetType.eq(ApprovalTargetType.USER).and(line.targetUser.id.eq(userId));
+        if (departmentId == null) {
+            return userTarget;
+        }
+        return userTarget.or(
+                line.targetType
+                        .ne(ApprovalTargetType.USER)
+                        .and(line.targetDepartment.id.eq(departmentId)));
+    }
+
+    /** 나를 지정했거나, 내 부서 또는 그 상위 부서를 지정한 결재선 (참조/열람용) */
+    private BooleanExpression lineTargetsMeOrUpperDepartment(
+            QApprovalDocumentLine line, Long userId, Long departmentId) {
+        BooleanExpression userTarget =
+                line.targetType.eq(ApprovalTargetType.USER).and(line.targetUser.id.eq(userId));
+        if (departmentId == null) {
+            return userTarget;
+        }
+        return userTarget.or(
+                line.targetType
+                        .ne(ApprovalTargetType.USER)
+                        .and(line.targetDepartment.id.in(ancestorsOf(departmentId))));
+    }
+
+    /** 기준 부서와 모든 하위 부서 ID 서브쿼리 */
+    private JPQLQuery<Long> subtreeOf(Long departmentId) {
+        QDepartmentClosure closure = new QDepartmentClosure("subtree");
+        return JPAExpressions.select(closure.descendantId)
+                .from(closure)
+                .where(closure.ancestorId.eq(departmentId));
+    }
+
+    /** 기준 부서와 모든 상위 부서 ID 서브쿼리 */
+    private JPQLQuery<Long> ancestorsOf(Long departmentId) {
+        QDepartmentClosure closure = new QDepartmentClosure("ancestors");
+        return JPAExpressions.select(closure.ancestorId)
+                .from(closure)
+                .where(closure.descendantId.eq(departmentId));
+    }
+
+    private BooleanExpression existsLine(
+            Function<QApprovalDocumentLine, BooleanExpression> condition) {
+        QApprovalDocumentLine line = new QApprovalDocumentLine("inboxLine");
+        return JPAExpressions.selectOne()
+                .from(line)
+                .where(line.document.id.eq(approvalDocument.id), condition.apply(line))
+                .exists();
+    }
+
+    public record DocumentRow(
+            Long documentId,
+            String documentNo,
+            Long templateId,
+            String templateCode,
+            String templateName,
+            String title,
+            ApprovalType approvalType,
+            ApprovalStatus status,
+            Long drafterUserId,
+            String drafterNameKor,
+            String drafterNameEng,
+            Long drafterDepartmentId,
+            DepartmentName drafterDepartmentName,
+            LocalDateTime submittedAt,
+            LocalDateTime completedAt,
+            LocalDateTime createdAt,
+            LocalDateTime modifiedAt) {}
+
+    public record LineRow(
+            Long documentId,
+            Long lineId,
+            ApprovalRouteRole role,
+            ApprovalTargetType targetType,
+            Long targetUserId,
+            Long targetDepartmentId,
+            String targetName,
+            Integer sequenceNo,
+            Boolean required,
+            ApprovalLineStatus lineStatus) {}
+}
@@ -3,6 +3,7 @@ package kr.co.awesomelead.groupware_backend.domain.approval.repository;
 import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplate;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,4 +19,12 @@ public interface ApprovalTemplateRepository extends JpaRepository<ApprovalTempla
     List<ApprovalTemplate> findByCategoryIdAndIsActiveTrueOrderByIdAsc(Long categoryId);
 
     List<ApprovalTemplate> findByIsActiveTrueOrderByIdAsc();
+
+    @Query(
+            "select distinct t from ApprovalTemplate t "
+                    + "join fetch t.category c "
+                    + "left join fetch t.templateLines l "
+                    + "where t.isActive = true and c.isActive = true "
+                    + "order by t.id asc")
+    List<ApprovalTemplate> findAllActiveWithLines();
 }
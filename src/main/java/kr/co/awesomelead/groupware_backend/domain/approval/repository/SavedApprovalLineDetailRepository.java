@@ -4,8 +4,12 @@ import kr.co.awesomelead.groupware_backend.domain.approval.entity.SavedApprovalL
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface SavedApprovalLineDetailRepository
         extends JpaRepository<SavedApprovalLineDetail, Long> {
 
+    List<SavedApprovalLineDetail> findAllBySavedLineId(Long savedLineId);
+
     void deleteBySavedLineId(Long savedLineId);
 }
@@ -0,0 +1,111 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.service;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentSequence;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentSequenceRepository;
+import kr.co.awesomelead.groupware_backend.global.error.CustomException;
+import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 결재 문서번호 일련번호 채번.
+ *
+ * <p>approval_document_sequences 의 (양식, 일자) 행을 잠근 뒤 1 증가시키며, 같은 양식의 동시 상신은 행 잠금으로 직렬화된다.
+ * 행이 없으면 잠금 조회 전에 별도 트랜잭션으로 먼저 만들어 둔다. 없는 행을 FOR UPDATE 로 읽으면 MySQL 에서 갭 락이 걸려 행 생성과
+ * 서로 기다리게 되기 때문이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalDocumentSequenceService {
+
+    private final ApprovalDocumentSequenceRepository approvalDocumentSequenceRepository;
+    private final ApprovalDocumentRepository approvalDocumentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 양식/일자 기준 다음 일련번호를 발급한다. 상신 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param templateId 양식 ID
+     * @param sequenceDate 기안(상신) 일자
+     * @return 1 부터 시작하는 일련번호
+     */
+    @Transactional
+    public long next(Long templateId, LocalDate sequenceDate) {
+        createIfAbsent(templateId, sequenceDate);
+        ApprovalDocumentSequence sequence =
+                approvalDocumentSequenceRepository
+                        .findForUpdate(templateId, sequenceDate)
+                        .orElseThrow(() -> new CustomException(ErrorCode.INTERNAL_SERVER_ERROR));
+
+        sequence.setLastValue(sequence.getLastValue() + 1);
+        return sequence.getLastValue();
+    }
+
+    /**
+     * 카운터 행이 없으면 별도 트랜잭션으로 만들어 커밋해 둔다. 잠금 없는 조회로 확인하므로 상신 트랜잭션이 갭 락을 잡지 않는다. 동시 생성으로
+     * 유니크 제약에 걸리면 이미 만들어진 행을 사용한다.
+     */
+    private void createIfAbsent(Long templateId, LocalDate sequenceDate) {
+        if (approvalDocumentSequenceRepository.existsByTemplateIdAndSequenceDate(
+                templateId, sequenceDate)) {
+            return;
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status ->
+                            approvalDocumentSequenceRepository.saveAndFlush(
+                                    ApprovalDocumentSequence.builder()
+                                            .templateId(templateId)
+                                            .sequenceDate(sequenceDate)
+                                            .lastValue(maxIssuedSequence(templateId, sequenceDate))
+                                            .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug(
+                    "[ApprovalDocumentSequence] 동시 생성된 카운터 사용 - templateId: {}, date: {}",
+                    templateId,
+                    sequenceDate);
+        }
+    }
+
+    /** 그날 이미 발급된 문서번호의 최대 일련번호. 롤백으로 빈 번호가 있어도 다시 발급하지 않도록 건수가 아닌 최댓값을 쓴다. */
+    private long maxIssuedSequence(Long templateId, LocalDate sequenceDate) {
+        List<String> documentNos =
+                approvalDocumentRepository.findDocumentNosByTemplateIdAndSubmittedAtBetween(
+                        templateId,
+                        sequenceDate.atStartOfDay(),
+                        sequenceDate.plusDays(1).atStartOfDay());
+        long max = 0;
+        for (String documentNo : documentNos) {
+            max = Math.max(max, parseSequence(documentNo));
+        }
+        return max;
+    }
+
+    /** "... yyyyMMdd-NN" 형식의 문서번호에서 일련번호를 꺼낸다. 형식이 다르면 0. */
+    private static long parseSequence(String documentNo) {
+        int separator = documentNo.lastIndexOf('-');
+        if (separator < 0 || separator == documentNo.length() - 1) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(documentNo.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.service;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocument;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalInboxBackfill;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalInboxEntry;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalInboxTab;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalBulkWriter;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxBackfillRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxEntryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxQueryRepository;
+import kr.co.awesomelead.groupware_backend.domain.department.event.DepartmentClosureChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalInboxIndexService {
+
+    private static final Set<ApprovalRouteRole> DEPARTMENT_BOX_ROLES =
+            Set.of(
+                    ApprovalRouteRole.APPROVAL_LINE,
+                    ApprovalRouteRole.AGREEMENT_REQUIRED,
+                    ApprovalRouteRole.AGREEMENT_OPTIONAL,
+                    ApprovalRouteRole.RECEIVER_DEPARTMENT);
+
+    /** 사용자 부서의 상위 부서 목록에 따라 달라지는 탭 */
+    private static final Set<ApprovalInboxTab> ANCESTOR_DEPENDENT_TABS =
+            EnumSet.of(ApprovalInboxTab.REFERENCE, ApprovalInboxTab.VIEWER_ACQUIRED);
+
+    /** 사용자 부서의 하위 부서 목록에 따라 달라지는 탭 */
+    private static final Set<ApprovalInboxTab> DESCENDANT_DEPENDENT_TABS =
+            EnumSet.of(ApprovalInboxTab.DEPARTMENT_BOX);
+
+    private final ApprovalInboxEntryRepository approvalInboxEntryRepository;
+    private final ApprovalInboxQueryRepository approvalInboxQueryRepository;
+    private final ApprovalInboxBackfillRepository approvalInboxBackfillRepository;
+    private final ApprovalBulkWriter approvalBulkWriter;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 인덱스에서 탭별 문서 ID 를 정렬 키 내림차순으로 조회한다.
+     *
+     * @param cursorSortKey 이 값보다 작은 정렬 키만 조회 (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDocumentIds(
+            Long userId, ApprovalInboxTab tab, Long cursorSortKey, int limit) {
+        return approvalInboxEntryRepository.findDocumentIdsByUserIdAndTab(
+                userId, tab, cursorSortKey, PageRequest.of(0, limit));
+    }
+
+    /** 사용자의 탭별 문서 수를 한 번의 집계 쿼리로 조회한다. 항목이 없는 탭은 0 으로 채운다. */
+    @Transactional(readOnly = true)
+    public Map<ApprovalInboxTab, Long> countByTab(Long userId) {
+        Map<ApprovalInboxTab, Long> counts = new EnumMap<>(ApprovalInboxTab.class);
+        for (ApprovalInboxTab tab : ApprovalInboxTab.values()) {
+            counts.put(tab, 0L);
+        }
+        approvalInboxEntryRepository
+                .countByUserIdGroupByTab(userId)
+                .forEach(tabCount -> counts.put(tabCount.getTab(), tabCount.getCount()));
+        return counts;
+    }
+
+    /**
+     * 문서 상태/결재선 변경 후 해당 문서의 인덱스 항목을 갱신한다.
+     *
+     * <p>기존 항목과 비교하여 빠진 항목만 삭제하고 새로 필요한 항목만 추가한다. 부서 대상 결재선은 갱신 시점의
+     * 부서원 기준으로 펼쳐지며, 사용자 부서 이동 시에는 {@link #rebuildUser(Long, Long)} 로 재구성한다. 부서 대상
+     * 결재/합의선은 그 부서원, 참조/열람선은 하위 부서원까지, 부서결재함은 문서 부서와 그 상위 부서원에게 펼친다.
+     *
+     * @param document 대상 문서 (상태 반영 완료)
+     * @param lines 문서의 현재 결재선 전체
+     */
+    @Transactional
+    public void refreshDocument(ApprovalDocument document, Collection<ApprovalDocumentLine> lines) {
+        Map<ApprovalInboxTab, Set<Long>> recipients = resolveRecipients(document, lines);
+
+        Set<EntryKey> desired = new HashSet<>();
+        recipients.forEach(
+                (tab, userIds) -> userIds.forEach(id -> desired.add(new EntryKey(id, tab))));
+
+        List<ApprovalInboxEntry> existing =
+                approvalInboxEntryRepository.findByDocumentId(document.getId());
+        List<ApprovalInboxEntry> removed = new ArrayList<>();
+        for (ApprovalInboxEntry entry : existing) {
+            if (!desired.remove(new EntryKey(entry.getUserId(), entry.getTab()))) {
+                removed.add(entry);
+            }
+        }
+
+        approvalInboxEntryRepository.deleteAllInBatch(removed);
+        approvalBulkWriter.insertInboxEntries(
+                desired.stream()
+                        .map(key -> entry(key.userId(), document.getId(), key.tab()))
+                        .toList());
+    }
+
+    /**
+     * 사용자 한 명의 인덱스를 DB 조건 조회 결과로 다시 구성하고 적재 완료로 기록한다. (부서 이동, 최초 적재 시 사용)
+     *
+     * <p>진행중 전체와 전체 탭은 다른 탭의 합집합이므로 따로 조회하지 않는다.
+     *
+     * @param userId 대상 사용자 ID
+     * @param departmentId 대상 사용자의 현재 부서 ID (소속이 없으면 null)
+     */
+    @Transactional
+    public void rebuildUser(Long userId, Long departmentId) {
+        approvalInboxEntryRepository.deleteAllByUserId(userId);
+
+        Map<ApprovalInboxTab, List<Long>> documentIds = new EnumMap<>(ApprovalInboxTab.class);
+        for (ApprovalInboxTab tab : ApprovalInboxTab.values()) {
+            if (tab == ApprovalInboxTab.IN_PROGRESS_ALL || tab == ApprovalInboxTab.ALL) {
+                continue;
+            }
+            documentIds.put(tab, queryDocumentIds(tab, userId, departmentId));
+        }
+        documentIds.put(
+                ApprovalInboxTab.IN_PROGRESS_ALL,
+                union(
+                        documentIds,
+                        ApprovalInboxTab.DRAFT_BOX,
+                        ApprovalInboxTab.TO_APPROVE,
+                        ApprovalInboxTab.BEFORE_MY_TURN,
+                        ApprovalInboxTab.PROCESSED_BY_ME,
+                        ApprovalInboxTab.REJECTED_OR_RECALLED));
+        documentIds.put(
+                ApprovalInboxTab.ALL,
+                union(documentIds, ApprovalInboxTab.MY_DRAFTED, ApprovalInboxTab.MY_APPROVALS));
+
+        List<ApprovalInboxEntry> entries = new ArrayList<>();
+        documentIds.forEach(
+                (tab, ids) -> ids.forEach(id -> entries.add(entry(userId, id, tab))));
+        approvalBulkWriter.insertInboxEntries(entries);
+
+        if (!approvalInboxBackfillRepository.existsByUserId(userId)) {
+            approvalInboxBackfillRepository.save(
+                    ApprovalInboxBackfill.builder()
+                            .userId(userId)
+                            .completedAt(LocalDateTime.now())
+                            .build());
+        }
+    }
+
+    /**
+     * 부서 계층이 바뀌면 계층 기준으로 펼쳐진 항목만 다시 구성한다.
+     *
+     * <p>상위 부서 목록이 바뀐 부서의 부서원은 참조/열람 탭을, 하위 부서 목록이 바뀐 부서의 부서원은 부서결재함 탭을 다시
+     * 구성한다. 사용자마다 별도 트랜잭션으로 처리해 긴 트랜잭션을 만들지 않는다. 아직 최초 적재하지 않은 사용자는 기동 시 적재에서
+     * 전체를 구성하므로 건너뛴다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDepartmentClosureChanged(DepartmentClosureChangedEvent event) {
+        Map<Long, Set<ApprovalInboxTab>> tabsByDepartment = new HashMap<>();
+        for (Long departmentId : event.ancestorsChangedIds()) {
+            tabsByDepartment
+                    .computeIfAbsent(departmentId, id -> EnumSet.noneOf(ApprovalInboxTab.class))
+                    .addAll(ANCESTOR_DEPENDENT_TABS);
+        }
+        for (Long departmentId : event.descendantsChangedIds()) {
+            tabsByDepartment
+                    .computeIfAbsent(departmentId, id -> EnumSet.noneOf(ApprovalInboxTab.class))
+                    .addAll(DESCENDANT_DEPENDENT_TABS);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int rebuilt = 0;
+        for (Map.Entry<Long, Set<ApprovalInboxTab>> target : tabsByDepartment.entrySet()) {
+            Long departmentId = target.getKey();
+            for (Long userId :
+                    approvalInboxBackfillRepository.findBackfilledUserIdsByDepartmentId(
+                            departmentId)) {
+                transactionTemplate.executeWithoutResult(
+                        status -> rebuildTabs(userId, departmentId, target.getValue()));
+                rebuilt++;
+            }
+        }
+        log.info(
+                "[ApprovalInbox] 부서 계층 변경으로 결재함 인덱스 재구성 - departments={}, users={}",
+                tabsByDepartment.size(),
+                rebuilt);
+    }
+
+    private void rebuildTabs(Long userId, Long departmentId, Set<ApprovalInboxTab> tabs) {
+        approvalInboxEntryRepository.deleteAllByUserIdAndTabIn(userId, tabs);
+        List<ApprovalInboxEntry> entries = new ArrayList<>();
+        for (ApprovalInboxTab tab : tabs) {
+            for (Long documentId : queryDocumentIds(tab, userId, departmentId)) {
+                entries.add(entry(userId, documentId, tab));
+            }
+        }
+        approvalBulkWriter.insertInboxEntries(entries);
+    }
+
+    private List<Long> queryDocumentIds(ApprovalInboxTab tab, Long userId, Long departmentId) {
+        if (tab == ApprovalInboxTab.DEPARTMENT_BOX && departmentId == null) {
+            return List.of();
+        }
+        return approvalInboxQueryRepository.findDocumentIds(tab, userId, departmentId);
+    }
+
+    private List<Long> union(
+            Map<ApprovalInboxTab, List<Long>> documentIds, ApprovalInboxTab... tabs) {
+        Set<Long> union = new LinkedHashSet<>();
+        for (ApprovalInboxTab tab : tabs) {
+            union.addAll(documentIds.get(tab));
+        }
+        return new ArrayList<>(union);
+    }
+
+    private ApprovalInboxEntry entry(Long userId, Long documentId, ApprovalInboxTab tab) {
+        return ApprovalInboxEntry.builder()
+                .userId(userId)
+                .documentId(documentId)
+                .tab(tab)
+                .sortKey(documentId)
+                .build();
+    }
+
+    private Map<ApprovalInboxTab, Set<Long>> resolveRecipients(
+            ApprovalDocument document, Collection<ApprovalDocumentLine> lines) {
+        DepartmentMembers members = new DepartmentMembers();
+        ApprovalStatus status = document.getStatus();
+        Long drafterId =
+                document.getDrafterUser() != null ? document.getDrafterUser().getId() : null;
+        Set<Long> drafter = drafterId != null ? Set.of(drafterId) : Set.of();
+
+        Map<ApprovalInboxTab, Set<Long>> recipients = new EnumMap<>(ApprovalInboxTab.class);
+        for (ApprovalInboxTab tab : ApprovalInboxTab.values()) {
+            recipients.put(tab, new HashSet<>());
+        }
+
+        recipients.get(ApprovalInboxTab.MY_DRAFTED).addAll(drafter);
+        if (status == ApprovalStatus.DRAFT) {
+            recipients.get(ApprovalInboxTab.DRAFT_BOX).addAll(drafter);
+        }
+        if (status == ApprovalStatus.IN_PROGRESS) {
+            recipients
+                    .get(ApprovalInboxTab.TO_APPROVE)
+                    .addAll(
+                            targetedUsers(
+                                    lines,
+                                    line ->
+                                            isProcessingRole(line.getRole())
+                                                    && line.getLineStatus()
+                                                            == ApprovalLineStatus.PENDING,
+                                    members::of));
+            recipients
+                    .get(ApprovalInboxTab.BEFORE_MY_TURN)
+                    .addAll(
+                            targetedUsers(
+                                    lines,
+                                    line ->
+                                            isProcessingRole(line.getRole())
+                                                    && line.getLineStatus()
+                                                            == ApprovalLineStatus.WAITING,
+                                    members::of));
+        }
+        recipients.get(ApprovalInboxTab.PROCESSED_BY_ME).addAll(approvedProcessors(lines, members));
+        if (status == ApprovalStatus.REJECTED) {
+            recipients
+                    .get(ApprovalInboxTab.REJECTED_OR_RECALLED)
+                    .addAll(
+                            targetedUsers(
+                                    lines,
+                                    line ->
+                                            isProcessingRole(line.getRole())
+                                                    && line.getLineStatus()
+                                                            == ApprovalLineStatus.REJECTED
+                                                    && line.getProcessedByUser() != null,
+                                    members::of));
+        } else if (status == ApprovalStatus.RECALLED) {
+            recipients.get(ApprovalInboxTab.REJECTED_OR_RECALLED).addAll(drafter);
+        }
+
+        Set<Long> inProgressAll = recipients.get(ApprovalInboxTab.IN_PROGRESS_ALL);
+        inProgressAll.addAll(recipients.get(ApprovalInboxTab.DRAFT_BOX));
+        inProgressAll.addAll(recipients.get(ApprovalInboxTab.TO_APPROVE));
+        inProgressAll.addAll(recipients.get(ApprovalInboxTab.BEFORE_MY_TURN));
+        inProgressAll.addAll(recipients.get(ApprovalInboxTab.PROCESSED_BY_ME));
+        inProgressAll.addAll(recipients.get(ApprovalInboxTab.REJECTED_OR_RECALLED));
+
+        if (status != ApprovalStatus.DRAFT) {
+            recipients
+                    .get(ApprovalInboxTab.MY_APPROVALS)
+                    .addAll(
+                            targetedUsers(
+                                    lines, line -> isProcessingRole(line.getRole()), members::of));
+            recipients
+                    .get(ApprovalInboxTab.REFERENCE)
+                    .addAll(
+                            targetedUsers(
+                                    lines,
+                                    line -> line.getRole() == ApprovalRouteRole.REFERENCE,
+                                    members::subtreeOf));
+            if (lines.stream().anyMatch(line -> line.getRole() == ApprovalRouteRole.VIEWER)) {
+                recipients.get(ApprovalInboxTab.VIEWER_GRANTED).addAll(drafter);
+            }
+
+            Set<Long> departmentBox = recipients.get(ApprovalInboxTab.DEPARTMENT_BOX);
+            if (document.getDrafterDepartment() != null) {
+                departmentBox.addAll(
+                        members.ancestorsOf(document.getDrafterDepartment().getId()));
+            }
+            departmentBox.addAll(
+                    targetedUsers(
+                            lines,
+                            line ->
+                                    line.getTargetType() == ApprovalTargetType.DEPARTMENT
+                                            && DEPARTMENT_BOX_ROLES.contains(line.getRole()),
+                            members::ancestorsOf));
+        }
+        if (status == ApprovalStatus.APPROVED) {
+            Set<Long> viewers =
+                    targetedUsers(
+                            lines,
+                            line -> line.getRole() == ApprovalRouteRole.VIEWER,
+                            members::subtreeOf);
+            // 참조자로도 지정된 사용자는 참조문서 탭으로 분리한다.
+            viewers.removeAll(recipients.get(ApprovalInboxTab.REFERENCE));
+            recipients.get(ApprovalInboxTab.VIEWER_ACQUIRED).addAll(viewers);
+        }
+
+        Set<Long> all = recipients.get(ApprovalInboxTab.ALL);
+        all.addAll(recipients.get(ApprovalInboxTab.MY_DRAFTED));
+        all.addAll(recipients.get(ApprovalInboxTab.MY_APPROVALS));
+
+        return recipients;
+    }
+
+    private Set<Long> targetedUsers(
+            Collection<ApprovalDocumentLine> lines,
+            Predicate<ApprovalDocumentLine> condition,
+            Function<Long, Set<Long>> departmentMembers) {
+        Set<Long> userIds = new HashSet<>();
+        for (ApprovalDocumentLine line : lines) {
+            if (!condition.test(line)) {
+                continue;
+            }
+            if (line.getTargetType() == ApprovalTargetType.USER) {
+                if (line.getTargetUser() != null) {
+                    userIds.add(line.getTargetUser().getId());
+                }
+            } else if (line.getTargetDepartment() != null) {
+                userIds.addAll(departmentMembers.apply(line.getTargetDepartment().getId()));
+            }
+        }
+        return userIds;
+    }
+
+    private Set<Long> approvedProcessors(
+            Collection<ApprovalDocumentLine> lines, DepartmentMembers members) {
+        Set<Long> userIds = new HashSet<>();
+        for (ApprovalDocumentLine line : lines) {
+            if (!isProcessingRole(line.getRole())
+                    || line.getLineStatus() != ApprovalLineStatus.APPROVED
+                    || line.getProcessedByUser() == null) {
+                continue;
+            }
+            Long processorId = line.getProcessedByUser().getId();
+            boolean targeted =
+                    line.getTargetType() == ApprovalTargetType.USER
+                            ? line.getTargetUser() != null
+                                    && processorId.equals(line.getTargetUser().getId())
+                            : line.getTargetDepartment() != null
+                                    && members.of(line.getTargetDepartment().getId())
+                                            .contains(processorId);
+            if (targeted) {
+                userIds.add(processorId);
+            }
+        }
+        return userIds;
+    }
+
+    private boolean isProcessingRole(ApprovalRouteRole role) {
+        return role != ApprovalRouteRole.REFERENCE && role != ApprovalRouteRole.VIEWER;
+    }
+
+    private record EntryKey(Long userId, ApprovalInboxTab tab) {}
+
+    /** 한 번의 갱신 안에서 같은 부서의 부서원 조회를 한 번만 수행하기 위한 캐시 */
+    private class DepartmentMembers {
+
+        private final Map<Long, Set<Long>> members = new HashMap<>();
+        private final Map<Long, Set<Long>> subtreeMembers = new HashMap<>();
+        private final Map<Long, Set<Long>> ancestorMembers = new HashMap<>();
+
+        /** 해당 부서 소속 사용자 */
+        Set<Long> of(Long departmentId) {
+            return members.computeIfAbsent(
+                    departmentId,
+                    id -> new HashSet<>(userRepository.findAllIdsByDepartmentId(id)));
+        }
+
+        /** 해당 부서와 하위 부서 소속 사용자 */
+        Set<Long> subtreeOf(Long departmentId) {
+            return subtreeMembers.computeIfAbsent(
+                    departmentId,
+                    id -> new HashSet<>(userRepository.findAllIdsInDepartmentSubtree(id)));
+        }
+
+        /** 해당 부서와 상위 부서 소속 사용자 */
+        Set<Long> ancestorsOf(Long departmentId) {
+            return ancestorMembers.computeIfAbsent(
+                    departmentId,
+                    id -> new HashSet<>(userRepository.findAllIdsInDepartmentAncestors(id)));
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.service;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalLineBulkActionRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalLineBulkActionResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalActionHistory;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocument;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalActionType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalBulkWriter;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentLineRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentRepository;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
+import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+import kr.co.awesomelead.groupware_backend.global.error.CustomException;
+import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalLineActionService {
+
+    private final ApprovalDocumentLineRepository approvalDocumentLineRepository;
+    private final ApprovalDocumentRepository approvalDocumentRepository;
+    private final ApprovalBulkWriter approvalBulkWriter;
+    private final ApprovalInboxIndexService approvalInboxIndexService;
+    private final NotificationService notificationService;
+    private final UserRepository userRepository;
+
+    /**
+     * 결재 라인 일괄 승인/반려
+     *
+     * <p>모든 라인을 한 트랜잭션에서 처리하며, 라인 버전(@Version)으로 동시 처리를 감지한다. 하나라도 처리할 수 없으면
+     * 전체가 롤백된다. 다음 결재 단계 활성화와 알림 저장은 문서 단위가 아니라 요청 단위로 한 번에 수행한다.
+     */
+    @Transactional
+    public ApprovalLineBulkActionResponseDto processLines(
+            Long userId, ApprovalLineBulkActionRequestDto request) {
+        boolean approve = request.getAction() == ApprovalActionType.APPROVE;
+        if (!approve && request.getAction() != ApprovalActionType.REJECT) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT);
+        }
+
+        User actor =
+                userRepository
+                        .findById(userId)
+                        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        Long actorDepartmentId =
+                actor.getDepartment() != null ? actor.getDepartment().getId() : null;
+
+        List<Long> lineIds = request.getLineIds().stream().distinct().toList();
+        List<ApprovalDocumentLine> lines =
+                approvalDocumentLineRepository.findAllWithDocumentByIdIn(lineIds);
+        if (lines.size() != lineIds.size()) {
+            throw new CustomException(ErrorCode.APPROVAL_LINE_NOT_FOUND);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ApprovalActionHistory> histories = new ArrayList<>();
+        List<Long> nextLineIds = new ArrayList<>();
+        Map<Long, Long> documentIdByLineId = new HashMap<>();
+
+        for (ApprovalDocumentLine line : lines) {
+            validateActionable(line, userId, actorDepartmentId);
+
+            ApprovalDocument document = line.getDocument();
+            ApprovalStatus fromStatus = document.getStatus();
+
+            line.setLineStatus(approve ? ApprovalLineStatus.APPROVED : ApprovalLineStatus.REJECTED);
+            line.setProcessedByUser(actor);
+            line.setProcessedComment(request.getComment());
+            line.setProcessedAt(now);
+
+            if (approve) {
+                Optional<ApprovalDocumentLine> nextLine = findNextApprovalLine(document, line);
+                if (nextLine.isPresent()) {
+                    nextLineIds.add(nextLine.get().getId());
+                } else {
+                    document.setStatus(ApprovalStatus.APPROVED);
+                    document.setCompletedAt(now);
+                }
+            } else {
+                document.setStatus(ApprovalStatus.REJECTED);
+                document.setCompletedAt(now);
+            }
+
+            histories.add(
+                    ApprovalActionHistory.builder()
+                            .document(document)
+                            .documentLine(line)
+                            .actionType(request.getAction())
+                            .fromStatus(fromStatus)
+                            .toStatus(document.getStatus())
+                            .actorUser(actor)
+                            .actionComment(request.getComment())
+                            .build());
+            documentIdByLineId.put(line.getId(), document.getId());
+        }
+
+        try {
+            approvalDocumentLineRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new CustomException(ErrorCode.APPROVAL_LINE_CONCURRENTLY_PROCESSED);
+        }
+        approvalBulkWriter.insertActionHistories(histories);
+
+        if (!nextLineIds.isEmpty()) {
+            int activated =
+                    approvalDocumentLineRepository.activateLines(
+                            nextLineIds, ApprovalLineStatus.WAITING, ApprovalLineStatus.PENDING);
+            if (activated != nextLineIds.size()) {
+                throw new CustomException(ErrorCode.APPROVAL_LINE_CONCURRENTLY_PROCESSED);
+            }
+        }
+
+        // 벌크 갱신으로 영속성 컨텍스트가 비워졌으므로 처리 결과를 결재선과 함께 다시 읽는다.
+        List<Long> documentIds = new ArrayList<>(new LinkedHashSet<>(documentIdByLineId.values()));
+        List<ApprovalDocument> documents =
+                approvalDocumentRepository.findAllWithLinesByIdInOrderByIdDesc(documentIds);
+        for (ApprovalDocument document : documents) {
+            approvalInboxIndexService.refreshDocument(document, document.getLines());
+        }
+
+        notificationService.resolveRequiresApproval(NotificationDomainType.APPROVAL, documentIds);
+        notificationService.sendAlerts(buildAlerts(documents, request.getComment()));
+
+        log.info(
+                "[ApprovalLineAction] 일괄 {} 처리 - userId: {}, 라인 수: {}",
+                request.getAction(),
+                userId,
+                lines.size());
+
+        Map<Long, ApprovalStatus> statusByDocumentId = new HashMap<>();
+        for (ApprovalDocument document : documents) {
+            statusByDocumentId.put(document.getId(), document.getStatus());
+        }
+
+        List<ApprovalLineBulkActionResponseDto.DocumentResultDto> results = new ArrayList<>();
+        for (Long lineId : lineIds) {
+            Long documentId = documentIdByLineId.get(lineId);
+            results.add(
+                    ApprovalLineBulkActionResponseDto.DocumentResultDto.builder()
+                            .documentId(documentId)
+                            .lineId(lineId)
+                            .status(statusByDocumentId.get(documentId))
+                            .build());
+        }
+
+        return ApprovalLineBulkActionResponseDto.builder()
+                .processedCount(lines.size())
+                .documents(results)
+                .build();
+    }
+
+    private void validateActionable(
+            ApprovalDocumentLine line, Long userId, Long actorDepartmentId) {
+        if (line.getRole() != ApprovalRouteRole.APPROVAL_LINE
+                || !targetsActor(line, userId, actorDepartmentId)) {
+            throw new CustomException(ErrorCode.NOT_APPROVER);
+        }
+        if (line.getDocument().getStatus() != ApprovalStatus.IN_PROGRESS) {
+            throw new CustomException(ErrorCode.ALREADY_PROCESSED_STEP);
+        }
+        if (line.getLineStatus() == ApprovalLineStatus.WAITING) {
+            throw new CustomException(ErrorCode.NOT_YOUR_TURN);
+        }
+        if (line.getLineStatus() != ApprovalLineStatus.PENDING) {
+            throw new CustomException(ErrorCode.ALREADY_PROCESSED_STEP);
+        }
+    }
+
+    private boolean targetsActor(ApprovalDocumentLine line, Long userId, Long actorDepartmentId) {
+        if (line.getTargetType() == ApprovalTargetType.USER) {
+            return line.getTargetUser() != null && line.getTargetUser().getId().equals(userId);
+        }
+        return actorDepartmentId != null
+                && line.getTargetDepartment() != null
+                && line.getTargetDepartment().getId().equals(actorDepartmentId);
+    }
+
+    private Optional<ApprovalDocumentLine> findNextApprovalLine(
+            ApprovalDocument document, ApprovalDocumentLine currentLine) {
+        return document.getLines().stream()
+                .filter(line -> line.getRole() == ApprovalRouteRole.APPROVAL_LINE)
+                .filter(line -> line.getSequenceNo() != null)
+                .filter(line -> line.getSequenceNo() > currentLine.getSequenceNo())
+                .min(Comparator.comparing(ApprovalDocumentLine::getSequenceNo));
+    }
+
+    private List<NotificationService.AlertRequest> buildAlerts(
+            List<ApprovalDocument> documents, String comment) {
+        Map<Long, List<Long>> departmentMemberIds = new HashMap<>();
+        List<NotificationService.AlertRequest> alerts = new ArrayList<>();
+
+        for (ApprovalDocument document : documents) {
+            Long drafterId = document.getDrafterUser().getId();
+            Set<Long> recipientIds = new LinkedHashSet<>();
+
+            if (document.getStatus() == ApprovalStatus.IN_PROGRESS) {
+                // 다음 결재자에게 결재 요청 알림
+                for (ApprovalDocumentLine line : document.getLines()) {
+                    if (line.getRole() == ApprovalRouteRole.APPROVAL_LINE
+                            && line.getLineStatus() == ApprovalLineStatus.PENDING) {
+                        recipientIds.addAll(resolveRecipients(line, departmentMemberIds));
+                    }
+                }
+                for (Long recipientId : recipientIds) {
+                    alerts.add(
+                            alert(
+                                    recipientId,
+                                    NotificationMessage.APPROVAL_CREATED_APPROVER,
+                                    document,
+                                    true,
+                                    document.getTitle()));
+                }
+            } else if (document.getStatus() == ApprovalStatus.APPROVED) {
+                // 최종 승인 시 기안자와 열람권자에게 알림
+                recipientIds.add(drafterId);
+                for (ApprovalDocumentLine line : document.getLines()) {
+                    if (line.getRole() == ApprovalRouteRole.VIEWER) {
+                        recipientIds.addAll(resolveRecipients(line, departmentMemberIds));
+                    }
+                }
+                for (Long recipientId : recipientIds) {
+                    alerts.add(
+                            alert(
+                                    recipientId,
+                                    NotificationMessage.APPROVAL_FINALLY_APPROVED,
+                                    document,
+                                    false,
+                                    document.getTitle()));
+                }
+            } else if (document.getStatus() == ApprovalStatus.REJECTED) {
+                alerts.add(
+                        alert(
+                                drafterId,
+                                NotificationMessage.APPROVAL_REJECTED,
+                                document,
+                                false,
+                                document.getTitle(),
+                                Objects.toString(comment, "")));
+            }
+        }
+        return alerts;
+    }
+
+    private List<Long> resolveRecipients(
+            ApprovalDocumentLine line, Map<Long, List<Long>> departmentMemberIds) {
+        if (line.getTargetType() == ApprovalTargetType.USER) {
+            return line.getTargetUser() != null ? List.of(line.getTargetUser().getId()) : List.of();
+        }
+        if (line.getTargetDepartment() == null) {
+            return List.of();
+        }
+        return departmentMemberIds.computeIfAbsent(
+                line.getTargetDepartment().getId(), userRepository::findAllIdsByDepartmentId);
+    }
+
+    private NotificationService.AlertRequest alert(
+            Long userId,
+            NotificationMessage template,
+            ApprovalDocument document,
+            boolean requiresApproval,
+            Object... args) {
+        return new NotificationService.AlertRequest(
+                userId,
+                template,
+                NotificationDomainType.APPROVAL,
+                document.getId(),
+                requiresApproval,
+                args);
+    }
+}
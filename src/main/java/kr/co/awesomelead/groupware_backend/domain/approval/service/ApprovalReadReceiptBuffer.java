@@ -0,0 +1,109 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.service;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결재 문서 열람 기록 지연 반영 버퍼.
+ *
+ * <p>문서 열람 시점에는 (문서, 사용자) 단위로 메모리에만 기록하고, 주기적으로 approval_document_reads 에 batch
+ * UPDATE 로 반영한다. 같은 문서를 여러 번 열어도 최초 열람 시각 한 건으로 합쳐진다. 사용자 대상 행과 사용자 소속 부서 대상 행을
+ * 함께 읽음 처리하며, 이미 읽음 처리된 행은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalReadReceiptBuffer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String MARK_READ_SQL =
+            """
+            UPDATE approval_document_reads
+               SET is_read = true, read_at = ?, modified_at = ?
+             WHERE document_id = ?
+               AND is_read = false
+               AND ((target_type = 'USER' AND target_user_id = ?)
+                    OR (target_type = 'DEPARTMENT' AND target_department_id =
+                        (SELECT u.department_id FROM users u WHERE u.id = ?)))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<ReadKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /** 열람 이벤트를 버퍼에 기록한다. DB 접근 없이 즉시 반환한다. */
+    public void record(Long documentId, Long userId) {
+        pending.putIfAbsent(new ReadKey(documentId, userId), LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${approval.read-receipt.flush-interval-ms:3000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 버퍼에 쌓인 열람 기록을 즉시 반영한다.
+     *
+     * @return 반영을 시도한 (문서, 사용자) 건수
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<ReadKey, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (ReadKey key : pending.keySet()) {
+            LocalDateTime readAt = pending.remove(key);
+            if (readAt != null) {
+                batch.add(Map.entry(key, readAt));
+            }
+        }
+
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(
+                    MARK_READ_SQL,
+                    batch,
+                    BATCH_SIZE,
+                    (ps, entry) -> {
+                        ps.setTimestamp(1, Timestamp.valueOf(entry.getValue()));
+                        ps.setTimestamp(2, now);
+                        ps.setLong(3, entry.getKey().documentId());
+                        ps.setLong(4, entry.getKey().userId());
+                        ps.setLong(5, entry.getKey().userId());
+                    });
+        } catch (DataAccessException e) {
+            // 반영 실패 시 다음 주기에 다시 시도한다. 그 사이 새로 들어온 기록이 있으면 먼저 열람한 시각을 유지한다.
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), this::earlier));
+            log.warn("[ApprovalReadReceipt] 열람 기록 반영 실패 - count: {}", batch.size(), e);
+            return 0;
+        }
+        log.debug("[ApprovalReadReceipt] 열람 기록 반영 - count: {}", batch.size());
+        return batch.size();
+    }
+
+    private LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private record ReadKey(Long documentId, Long userId) {}
+}
@@ -13,6 +13,7 @@ import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTempla
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLinePolicy;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.event.ApprovalTemplateCatalogChangedEvent;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentRepository;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateCategoryRepository;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateLineRepository;
@@ -27,6 +28,7 @@ import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,6 +47,7 @@ public class ApprovalTemplateAdminService {
     private final ApprovalDocumentRepository approvalDocumentRepository;
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long createCategory(Long userId, ApprovalTemplateCategoryCreateRequestDto request) {
@@ -60,7 +63,9 @@ public class ApprovalTemplateAdminService {
                         .sortOrder(request.getSortOrder())
                         .isActive(request.getIsActive())
                         .build();
-        return approvalTemplateCategoryRepository.save(category).getId();
+        Long categoryId = approvalTemplateCategoryRepository.save(category).getId();
+        publishCatalogChanged();
+        return categoryId;
     }
 
     @Transactional(readOnly = true)
@@ -94,6 +99,7 @@ public class ApprovalTemplateAdminService {
         category.setName(request.getName().trim());
         category.setSortOrder(request.getSortOrder());
         category.setIsActive(request.getIsActive());
+        publishCatalogChanged();
     }
 
     @Transactional
@@ -104,6 +110,7 @@ public class ApprovalTemplateAdminService {
             throw new CustomException(ErrorCode.APPROVAL_TEMPLATE_CATEGORY_IN_USE);
         }
         approvalTemplateCategoryRepository.delete(category);
+        publishCatalogChanged();
     }
 
     @Transactional
@@ -130,6 +137,7 @@ public class ApprovalTemplateAdminService {
 
         ApprovalTemplate savedTemplate = approvalTemplateRepository.save(template);
         replaceTemplateLines(savedTemplate, request.getLines());
+        publishCatalogChanged();
         return savedTemplate.getId();
     }
 
@@ -173,6 +181,7 @@ public class ApprovalTemplateAdminService {
         template.setIsActive(request.getIsActive());
 
         replaceTemplateLines(template, request.getLines());
+        publishCatalogChanged();
     }
 
     @Transactional
@@ -184,6 +193,12 @@ public class ApprovalTemplateAdminService {
         }
         approvalTemplateLineRepository.deleteByTemplateId(templateId);
         approvalTemplateRepository.delete(template);
+        publishCatalogChanged();
+    }
+
+    /** 검증을 모두 통과해 변경이 반영된 뒤에 호출한다. 양식 목록 캐시는 커밋 이후에 비워진다. */
+    private void publishCatalogChanged() {
+        eventPublisher.publishEvent(new ApprovalTemplateCatalogChangedEvent());
     }
 
     private void replaceTemplateLines(
@@ -0,0 +1,101 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalTemplateListResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.event.ApprovalTemplateCatalogChangedEvent;
+import kr.co.awesomelead.groupware_backend.global.error.CustomException;
+import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 전자결재 양식 목록 인메모리 캐시.
+ *
+ * <p>양식/분류 변경 커밋 후 로컬 캐시를 비우고 Redis 채널로 다른 노드에도 무효화를 전파한다. 응답 본문 해시를 ETag 로
+ * 함께 보관하여 변경이 없으면 클라이언트가 다운로드를 생략할 수 있다.
+ *
+ * <p>양식 변경 없이도 바뀌는 라인 타겟의 표시 이름은 담지 않는다. 조회하는 쪽에서 요청마다 채우고 {@link #eTagWith} 로 ETag 에
+ * 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalTemplateCatalogCache {
+
+    public static final String EVICT_CHANNEL = "approval:template-catalog:evict";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public Snapshot get(Supplier<ApprovalTemplateListResponseDto> loader) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot != null) {
+                return snapshot;
+            }
+            long loadingGeneration = generation.get();
+            ApprovalTemplateListResponseDto catalog = loader.get();
+            Snapshot loaded = new Snapshot(catalog, toETag(catalog));
+            // 로딩 중 무효화가 들어왔다면 이번 결과는 캐시하지 않는다.
+            if (generation.get() == loadingGeneration) {
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    public void evictLocal() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCatalogChanged(ApprovalTemplateCatalogChangedEvent event) {
+        evictLocal();
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, "evict");
+        } catch (DataAccessException e) {
+            log.warn("[ApprovalTemplateCatalog] 캐시 무효화 브로드캐스트 실패", e);
+        }
+    }
+
+    /** 캐시된 목록의 ETag 에 요청마다 채운 타겟 이름을 더한 ETag */
+    public static String eTagWith(String eTag, List<String> targetNames) {
+        StringBuilder source = new StringBuilder(eTag);
+        targetNames.forEach(name -> source.append('\n').append(name));
+        byte[] bytes = source.toString().getBytes(StandardCharsets.UTF_8);
+        return "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+    }
+
+    private String toETag(ApprovalTemplateListResponseDto catalog) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(catalog);
+            return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    public record Snapshot(ApprovalTemplateListResponseDto catalog, String eTag) {}
+}
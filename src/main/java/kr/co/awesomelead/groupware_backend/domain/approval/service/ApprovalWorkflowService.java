@@ -2,10 +2,13 @@ package kr.co.awesomelead.groupware_backend.domain.approval.service;
 
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalDirectSubmitRequestDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalDraftUpsertRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalInboxPageRequestDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalLineRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalSearchRequestDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalSubmitRequestDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalDraftResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalInboxAllResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalInboxCountResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalSubmitResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalTemplateListResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalActionHistory;
@@ -15,251 +18,280 @@ import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTempla
 import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplateCategory;
 import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplateLine;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalActionType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalInboxTab;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalType;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalActionHistoryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalBulkWriter;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentLineRepository;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxEntryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxQueryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxQueryRepository.DocumentRow;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxQueryRepository.LineRow;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateCategoryRepository;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateLineRepository;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateRepository;
 import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
 import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Position;
 import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
 import kr.co.awesomelead.groupware_backend.global.error.CustomException;
 import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
+import kr.co.awesomelead.groupware_backend.global.util.CursorCodec;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ApprovalWorkflowService {
 
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+    private static final Pattern FULLTEXT_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
     private final ApprovalTemplateCategoryRepository approvalTemplateCategoryRepository;
     private final ApprovalTemplateRepository approvalTemplateRepository;
     private final ApprovalTemplateLineRepository approvalTemplateLineRepository;
     private final ApprovalDocumentRepository approvalDocumentRepository;
     private final ApprovalDocumentLineRepository approvalDocumentLineRepository;
+    private final ApprovalBulkWriter approvalBulkWriter;
+    private final ApprovalInboxIndexService approvalInboxIndexService;
+    private final ApprovalInboxEntryRepository approvalInboxEntryRepository;
+    private final ApprovalReadReceiptBuffer approvalReadReceiptBuffer;
+    private final ApprovalInboxQueryRepository approvalInboxQueryRepository;
+    private final ApprovalDocumentSequenceService approvalDocumentSequenceService;
+    private final ApprovalTemplateCatalogCache approvalTemplateCatalogCache;
     private final ApprovalActionHistoryRepository approvalActionHistoryRepository;
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
 
+    @Value("${approval.inbox.page-size:20}")
+    private int inboxPageSize;
+
     @Transactional(readOnly = true)
     public ApprovalTemplateListResponseDto getTemplateList() {
-        List<ApprovalTemplateCategory> categories =
-                approvalTemplateCategoryRepository.findByIsActiveTrueOrderBySortOrderAscIdAsc();
+        return getTemplateCatalog().catalog();
+    }
 
-        List<ApprovalTemplateListResponseDto.CategoryDto> categoryDtos =
-                categories.stream()
-                        .map(
-                                category -> {
-                                    List<ApprovalTemplate> templates =
-                                            approvalTemplateRepository
-                                                    .findByCategoryIdAndIsActiveTrueOrderByIdAsc(
-                                                            category.getId());
-
-                                    List<ApprovalTemplateListResponseDto.TemplateDto> templateDtos =
-                                            templates.stream().map(this::toTemplateDto).toList();
-
-                                    return ApprovalTemplateListResponseDto.CategoryDto.builder()
-                                            .id(category.getId())
-                                            .code(category.getCode())
-                                            .name(category.getName())
-                                            .sortOrder(category.getSortOrder())
-                                            .templates(templateDtos)
-                                            .build();
-                                })
-                        .toList();
+    /**
+     * 양식 목록과 ETag 조회. 캐시가 비어 있으면 양식/결재선을 한 번에 조회해 채운다.
+     *
+     * <p>캐시에는 라인 타겟의 ID 만 담는다. 유저 이름/직급이나 부서가 바뀌어도 바로 보이도록 표시용 타겟 이름은 요청마다 이름에
+     * 필요한 컬럼만 projection 으로 조회해 채우고(엔티티는 올리지 않는다), ETag 도 채운 이름까지 반영한다.
+     */
+    @Transactional(readOnly = true)
+    public ApprovalTemplateCatalogCache.Snapshot getTemplateCatalog() {
+        ApprovalTemplateCatalogCache.Snapshot cached =
+                approvalTemplateCatalogCache.get(this::loadTemplateCatalog);
+
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> departmentIds = new HashSet<>();
+        for (ApprovalTemplateListResponseDto.CategoryDto category :
+                cached.catalog().getCategories()) {
+            for (ApprovalTemplateListResponseDto.TemplateDto template : category.getTemplates()) {
+                for (ApprovalTemplateListResponseDto.LineDto line : template.getDefaultLines()) {
+                    if (line.getTargetUserId() != null) {
+                        userIds.add(line.getTargetUserId());
+                    }
+                    if (line.getTargetDepartmentId() != null) {
+                        departmentIds.add(line.getTargetDepartmentId());
+                    }
+                }
+            }
+        }
+        Map<Long, String> userNames =
+                userIds.isEmpty()
+                        ? Map.of()
+                        : userRepository.findApprovalTargetNamesByIdIn(userIds).stream()
+                                .collect(
+                                        Collectors.toMap(
+                                                UserRepository.ApprovalTargetNameView::getId,
+                                                target ->
+                                                        toUserTargetName(
+                                                                target.getDepartmentName(),
+                                                                target.getNameKor(),
+                                                                target.getNameEng(),
+                                                                target.getPosition())));
+        Map<Long, String> departmentNames =
+                departmentIds.isEmpty()
+                        ? Map.of()
+                        : departmentRepository.findNamesByIdIn(departmentIds).stream()
+                                .collect(
+                                        Collectors.toMap(
+                                                DepartmentRepository.DepartmentNameView::getId,
+                                                department ->
+                                                        toDepartmentTargetName(
+                                                                department.getName())));
+
+        List<String> targetNames = new ArrayList<>();
+        List<ApprovalTemplateListResponseDto.CategoryDto> categories = new ArrayList<>();
+        for (ApprovalTemplateListResponseDto.CategoryDto category :
+                cached.catalog().getCategories()) {
+            List<ApprovalTemplateListResponseDto.TemplateDto> templates = new ArrayList<>();
+            for (ApprovalTemplateListResponseDto.TemplateDto template : category.getTemplates()) {
+                templates.add(
+                        withTargetNames(template, userNames, departmentNames, targetNames));
+            }
+            categories.add(
+                    ApprovalTemplateListResponseDto.CategoryDto.builder()
+                            .id(category.getId())
+                            .code(category.getCode())
+                            .name(category.getName())
+                            .sortOrder(category.getSortOrder())
+                            .templates(templates)
+                            .build());
+        }
 
-        return ApprovalTemplateListResponseDto.builder().categories(categoryDtos).build();
+        return new ApprovalTemplateCatalogCache.Snapshot(
+                ApprovalTemplateListResponseDto.builder().categories(categories).build(),
+                ApprovalTemplateCatalogCache.eTagWith(cached.eTag(), targetNames));
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getInboxAll(Long userId) {
+    public ApprovalInboxAllResponseDto getInboxAll(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isInInProgressAll(document, userId, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.IN_PROGRESS_ALL, userId, departmentId, pageRequest)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getInboxToApprove(Long userId) {
+    public ApprovalInboxAllResponseDto getInboxToApprove(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isToApproveDocument(document, userId, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.TO_APPROVE, userId, departmentId, pageRequest)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getInboxBeforeMyTurn(Long userId) {
+    public ApprovalInboxAllResponseDto getInboxBeforeMyTurn(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isBeforeMyTurnDocument(document, userId, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.BEFORE_MY_TURN, userId, departmentId, pageRequest)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getInboxProcessedByMe(Long userId) {
+    public ApprovalInboxAllResponseDto getInboxProcessedByMe(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isProcessedByMeDocument(document, userId, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.PROCESSED_BY_ME, userId, departmentId, pageRequest)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getInboxRejectedOrRecalled(Long userId) {
+    public ApprovalInboxAllResponseDto getInboxRejectedOrRecalled(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(
-                                document ->
-                                        isRejectedOrRecalledDocument(
-                                                document, userId, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(
+                        ApprovalInboxTab.REJECTED_OR_RECALLED, userId, departmentId, pageRequest)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getInboxDraftBox(Long userId) {
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isDraftBoxDocument(document, userId))
-                        .map(document -> toInboxDocumentDto(document, userId, null))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+    public ApprovalInboxAllResponseDto getInboxDraftBox(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
+        return findInboxPage(ApprovalInboxTab.DRAFT_BOX, userId, null, pageRequest).build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getAllMyDrafted(Long userId) {
+    public ApprovalInboxAllResponseDto getAllMyDrafted(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isDraftedByMe(document, userId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.MY_DRAFTED, userId, departmentId, pageRequest)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getAllMyApprovals(Long userId) {
+    public ApprovalInboxAllResponseDto getAllMyApprovals(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isMyApprovalDocument(document, userId, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.MY_APPROVALS, userId, departmentId, pageRequest)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getAllAll(Long userId) {
+    public ApprovalInboxAllResponseDto getAllAll(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isAllTabDocument(document, userId, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.ALL, userId, departmentId, pageRequest).build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getReferenceDocuments(Long userId) {
+    public ApprovalInboxAllResponseDto getReferenceDocuments(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isReferenceDocument(document, userId, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.REFERENCE, userId, departmentId, pageRequest).build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getViewerAcquiredDocuments(Long userId) {
+    public ApprovalInboxAllResponseDto getViewerAcquiredDocuments(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(
-                                document ->
-                                        isViewerAcquiredDocument(document, userId, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.VIEWER_ACQUIRED, userId, departmentId, pageRequest)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getViewerGrantedDocuments(Long userId) {
+    public ApprovalInboxAllResponseDto getViewerGrantedDocuments(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isViewerGrantedDocument(document, userId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder().documents(documents).build();
+        return findInboxPage(ApprovalInboxTab.VIEWER_GRANTED, userId, departmentId, pageRequest)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public ApprovalInboxAllResponseDto getDepartmentBox(Long userId) {
+    public ApprovalInboxAllResponseDto getDepartmentBox(
+            Long userId, ApprovalInboxPageRequestDto pageRequest) {
         User user = getUser(userId);
         if (user.getDepartment() == null) {
             throw new CustomException(ErrorCode.DEPARTMENT_NOT_FOUND);
@@ -267,16 +299,74 @@ public class ApprovalWorkflowService {
         Department myDepartment = user.getDepartment();
         Long departmentId = myDepartment.getId();
 
-        List<ApprovalInboxAllResponseDto.DocumentDto> documents =
-                approvalDocumentRepository.findAllWithLinesOrderByIdDesc().stream()
-                        .filter(document -> isDepartmentBoxDocument(document, departmentId))
-                        .map(document -> toInboxDocumentDto(document, userId, departmentId))
-                        .toList();
-
-        return ApprovalInboxAllResponseDto.builder()
+        return findInboxPage(ApprovalInboxTab.DEPARTMENT_BOX, userId, departmentId, pageRequest)
                 .myDepartmentId(myDepartment.getId())
                 .myDepartmentName(myDepartment.getName().getDescription())
-                .documents(documents)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public ApprovalInboxCountResponseDto getInboxCounts(Long userId) {
+        // 탭 조건은 인덱스 갱신 시점에 이미 반영되어 있으므로 사용자 조회 없이 집계만 수행한다.
+        Map<ApprovalInboxTab, Long> counts = approvalInboxIndexService.countByTab(userId);
+
+        return ApprovalInboxCountResponseDto.builder()
+                .toApprove(counts.get(ApprovalInboxTab.TO_APPROVE))
+                .beforeMyTurn(counts.get(ApprovalInboxTab.BEFORE_MY_TURN))
+                .rejectedOrRecalled(counts.get(ApprovalInboxTab.REJECTED_OR_RECALLED))
+                .reference(counts.get(ApprovalInboxTab.REFERENCE))
+                .departmentBox(counts.get(ApprovalInboxTab.DEPARTMENT_BOX))
+                .build();
+    }
+
+    /**
+     * 문서 열람을 기록한다. 본인 결재함(인덱스)에 없는 문서면 버퍼에 넣지 않고 APPROVAL_NOT_FOUND 를 던진다. 실제 읽음 처리는
+     * {@link ApprovalReadReceiptBuffer} 가 모아서 반영한다.
+     */
+    @Transactional(readOnly = true)
+    public void markDocumentRead(Long userId, Long documentId) {
+        if (!approvalInboxEntryRepository.existsByUserIdAndDocumentId(userId, documentId)) {
+            throw new CustomException(ErrorCode.APPROVAL_NOT_FOUND);
+        }
+        approvalReadReceiptBuffer.record(documentId, userId);
+    }
+
+    /** 제목/본문 전문 검색. 관련도 순으로 정렬되므로 커서는 문서 ID 가 아닌 다음 페이지 시작 위치다. */
+    @Transactional(readOnly = true)
+    public ApprovalInboxAllResponseDto searchDocuments(
+            Long userId, ApprovalSearchRequestDto request) {
+        User user = getUser(userId);
+        Long departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
+
+        String booleanQuery = toFulltextBooleanQuery(request.getKeyword());
+        if (booleanQuery.isEmpty()) {
+            return ApprovalInboxAllResponseDto.builder()
+                    .documents(List.of())
+                    .hasNext(false)
+                    .build();
+        }
+        int size =
+                request.getSize() != null
+                        ? Math.min(request.getSize(), MAX_INBOX_PAGE_SIZE)
+                        : inboxPageSize;
+        Long cursorOffset = CursorCodec.decodeLong(request.getCursor());
+        if (cursorOffset != null && cursorOffset < 0) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+        long offset = cursorOffset != null ? cursorOffset : 0L;
+
+        List<Long> documentIds =
+                approvalInboxQueryRepository.searchDocumentIds(
+                        userId, departmentId, booleanQuery, offset, size + 1);
+        boolean hasNext = documentIds.size() > size;
+        if (hasNext) {
+            documentIds = documentIds.subList(0, size);
+        }
+
+        return ApprovalInboxAllResponseDto.builder()
+                .documents(toInboxDocuments(documentIds, userId, departmentId))
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? CursorCodec.encode(offset + size) : null)
                 .build();
     }
 
@@ -319,11 +409,15 @@ public class ApprovalWorkflowService {
 
         approvalDocumentRepository.save(document);
 
+        List<ApprovalDocumentLine> lines;
         if (request.getLines() != null) {
-            replaceDocumentLines(document, request.getLines(), false);
+            lines = replaceDocumentLines(document, request.getLines(), false);
         } else if (isCreate) {
-            replaceDocumentLines(document, toLineRequestsFromTemplate(template), false);
+            lines = replaceDocumentLines(document, toLineRequestsFromTemplate(template), false);
+        } else {
+            lines = document.getLines();
         }
+        approvalInboxIndexService.refreshDocument(document, lines);
 
         return ApprovalDraftResponseDto.builder()
                 .documentId(document.getId())
@@ -402,6 +496,7 @@ public class ApprovalWorkflowService {
                         .toStatus(ApprovalStatus.IN_PROGRESS)
                         .actorUser(actor)
                         .build());
+        approvalInboxIndexService.refreshDocument(document, lines);
 
         return ApprovalSubmitResponseDto.builder()
                 .documentId(document.getId())
@@ -449,10 +544,44 @@ public class ApprovalWorkflowService {
         return submit(userId, draftResult.getDocumentId(), submitRequest);
     }
 
+    private ApprovalTemplateListResponseDto loadTemplateCatalog() {
+        List<ApprovalTemplateCategory> categories =
+                approvalTemplateCategoryRepository.findByIsActiveTrueOrderBySortOrderAscIdAsc();
+        Map<Long, List<ApprovalTemplate>> templatesByCategoryId =
+                approvalTemplateRepository.findAllActiveWithLines().stream()
+                        .collect(Collectors.groupingBy(template -> template.getCategory().getId()));
+
+        List<ApprovalTemplateListResponseDto.CategoryDto> categoryDtos =
+                categories.stream()
+                        .map(
+                                category ->
+                                        ApprovalTemplateListResponseDto.CategoryDto.builder()
+                                                .id(category.getId())
+                                                .code(category.getCode())
+                                                .name(category.getName())
+                                                .sortOrder(category.getSortOrder())
+                                                .templates(
+                                                        templatesByCategoryId
+                                                                .getOrDefault(
+                                                                        category.getId(), List.of())
+                                                                .stream()
+                                                                .map(this::toTemplateDto)
+                                                                .toList())
+                                                .build())
+                        .toList();
+
+        return ApprovalTemplateListResponseDto.builder().categories(categoryDtos).build();
+    }
+
     private ApprovalTemplateListResponseDto.TemplateDto toTemplateDto(ApprovalTemplate template) {
         List<ApprovalTemplateLine> lines =
-                approvalTemplateLineRepository.findByTemplateIdOrderBySequenceNoAscIdAsc(
-                        template.getId());
+                template.getTemplateLines().stream()
+                        .sorted(
+                                Comparator.comparing(
+                                                ApprovalTemplateLine::getSequenceNo,
+                                                Comparator.nullsLast(Integer::compareTo))
+                                        .thenComparing(ApprovalTemplateLine::getId))
+                        .toList();
 
         List<ApprovalTemplateListResponseDto.LineDto> lineDtos =
                 lines.stream()
@@ -469,11 +598,6 @@ public class ApprovalWorkflowService {
                                                         line.getTargetDepartment() != null
                                                                 ? line.getTargetDepartment().getId()
                                                                 : null)
-                                                .targetName(
-                                                        toTargetName(
-                                                                line.getTargetType(),
-                                                                line.getTargetUser(),
-                                                                line.getTargetDepartment()))
                                                 .sequenceNo(line.getSequenceNo())
                                                 .required(line.getIsRequired())
                                                 .build())
@@ -492,196 +616,120 @@ public class ApprovalWorkflowService {
                 .build();
     }
 
-    private boolean isInInProgressAll(ApprovalDocument document, Long userId, Long departmentId) {
-        return isDraftBoxDocument(document, userId)
-                || isToApproveDocument(document, userId, departmentId)
-                || isBeforeMyTurnDocument(document, userId, departmentId)
-                || isProcessedByMeDocument(document, userId, departmentId)
-                || isRejectedOrRecalledDocument(document, userId, departmentId);
-    }
-
-    private boolean isDraftBoxDocument(ApprovalDocument document, Long userId) {
-        return document.getStatus() == ApprovalStatus.DRAFT
-                && document.getDrafterUser() != null
-                && userId.equals(document.getDrafterUser().getId());
-    }
-
-    private boolean isDraftedByMe(ApprovalDocument document, Long userId) {
-        return document.getDrafterUser() != null
-                && userId.equals(document.getDrafterUser().getId());
-    }
-
-    private boolean isAllTabDocument(ApprovalDocument document, Long userId, Long departmentId) {
-        return isDraftedByMe(document, userId)
-                || isMyApprovalDocument(document, userId, departmentId);
-    }
-
-    private boolean isReferenceDocument(ApprovalDocument document, Long userId, Long departmentId) {
-        if (document.getStatus() == ApprovalStatus.DRAFT) {
-            return false;
-        }
-        return document.getLines().stream()
-                .anyMatch(line -> isMyReferenceLine(line, userId, departmentId));
-    }
-
-    private boolean isViewerAcquiredDocument(
-            ApprovalDocument document, Long userId, Long departmentId) {
-        if (document.getStatus() != ApprovalStatus.APPROVED) {
-            return false;
-        }
-        if (isReferenceDocument(document, userId, departmentId)) {
-            return false;
-        }
-        return document.getLines().stream()
-                .anyMatch(line -> isMyViewerLine(line, userId, departmentId));
-    }
-
-    private boolean isViewerGrantedDocument(ApprovalDocument document, Long userId) {
-        if (document.getStatus() == ApprovalStatus.DRAFT) {
-            return false;
-        }
-        if (document.getDrafterUser() == null
-                || !userId.equals(document.getDrafterUser().getId())) {
-            return false;
-        }
-        return document.getLines().stream()
-                .anyMatch(line -> line.getRole() == ApprovalRouteRole.VIEWER);
-    }
-
-    private boolean isDepartmentBoxDocument(ApprovalDocument document, Long departmentId) {
-        if (document.getStatus() == ApprovalStatus.DRAFT) {
-            return false;
-        }
-
-        if (document.getDrafterDepartment() != null
-                && departmentId.equals(document.getDrafterDepartment().getId())) {
-            return true;
-        }
-
-        return document.getLines().stream()
-                .anyMatch(line -> isDepartmentBoxTargetLine(line, departmentId));
-    }
-
-    private boolean isDepartmentBoxTargetLine(ApprovalDocumentLine line, Long departmentId) {
-        if (line.getTargetType() != ApprovalTargetType.DEPARTMENT) {
-            return false;
-        }
-        if (line.getTargetDepartment() == null
-                || !departmentId.equals(line.getTargetDepartment().getId())) {
-            return false;
-        }
-        return line.getRole() == ApprovalRouteRole.APPROVAL_LINE
-                || line.getRole() == ApprovalRouteRole.AGREEMENT_REQUIRED
-                || line.getRole() == ApprovalRouteRole.AGREEMENT_OPTIONAL
-                || line.getRole() == ApprovalRouteRole.RECEIVER_DEPARTMENT;
-    }
-
-    private boolean isMyApprovalDocument(
-            ApprovalDocument document, Long userId, Long departmentId) {
-        if (document.getStatus() == ApprovalStatus.DRAFT) {
-            return false;
-        }
-        return document.getLines().stream()
-                .anyMatch(line -> isMyProcessingLine(line, userId, departmentId));
-    }
-
-    private boolean isToApproveDocument(ApprovalDocument document, Long userId, Long departmentId) {
-        if (document.getStatus() != ApprovalStatus.IN_PROGRESS) {
-            return false;
-        }
-        return document.getLines().stream()
-                .anyMatch(line -> isMyPendingProcessingLine(line, userId, departmentId));
-    }
-
-    private boolean isBeforeMyTurnDocument(
-            ApprovalDocument document, Long userId, Long departmentId) {
-        if (document.getStatus() != ApprovalStatus.IN_PROGRESS) {
-            return false;
+    /** 캐시된 양식의 기본 라인에 현재 타겟 이름을 채운 복사본. 채운 이름은 순서대로 targetNames 에 모은다. */
+    private ApprovalTemplateListResponseDto.TemplateDto withTargetNames(
+            ApprovalTemplateListResponseDto.TemplateDto template,
+            Map<Long, String> userNames,
+            Map<Long, String> departmentNames,
+            List<String> targetNames) {
+        List<ApprovalTemplateListResponseDto.LineDto> lineDtos = new ArrayList<>();
+        for (ApprovalTemplateListResponseDto.LineDto line : template.getDefaultLines()) {
+            String targetName;
+            if (line.getTargetType() == ApprovalTargetType.DEPARTMENT) {
+                targetName =
+                        line.getTargetDepartmentId() != null
+                                ? departmentNames.get(line.getTargetDepartmentId())
+                                : null;
+            } else {
+                targetName =
+                        line.getTargetUserId() != null
+                                ? userNames.get(line.getTargetUserId())
+                                : null;
+            }
+            targetNames.add(targetName);
+            lineDtos.add(
+                    ApprovalTemplateListResponseDto.LineDto.builder()
+                            .role(line.getRole())
+                            .targetType(line.getTargetType())
+                            .targetUserId(line.getTargetUserId())
+                            .targetDepartmentId(line.getTargetDepartmentId())
+                            .targetName(targetName)
+                            .sequenceNo(line.getSequenceNo())
+                            .required(line.getRequired())
+                            .build());
         }
-        return document.getLines().stream()
-                .anyMatch(line -> isMyWaitingProcessingLine(line, userId, departmentId));
-    }
 
-    private boolean isProcessedByMeDocument(
-            ApprovalDocument document, Long userId, Long departmentId) {
-        return document.getLines().stream()
-                .anyMatch(line -> isMyApprovedProcessingLine(line, userId, departmentId));
+        return ApprovalTemplateListResponseDto.TemplateDto.builder()
+                .id(template.getId())
+                .code(template.getCode())
+                .name(template.getName())
+                .description(template.getDescription())
+                .editorType(template.getEditorType())
+                .approvalType(template.getApprovalType())
+                .linePolicy(template.getLinePolicy())
+                .defaultContentDelta(template.getDefaultContentDelta())
+                .defaultLines(lineDtos)
+                .build();
     }
 
-    private boolean isRejectedOrRecalledDocument(
-            ApprovalDocument document, Long userId, Long departmentId) {
-        if (document.getStatus() == ApprovalStatus.REJECTED) {
-            return document.getLines().stream()
-                    .anyMatch(line -> isMyRejectedProcessingLine(line, userId, departmentId));
-        }
-        if (document.getStatus() == ApprovalStatus.RECALLED) {
-            return document.getDrafterUser() != null
-                    && userId.equals(document.getDrafterUser().getId());
+    private ApprovalInboxAllResponseDto.ApprovalInboxAllResponseDtoBuilder findInboxPage(
+            ApprovalInboxTab tab,
+            Long userId,
+            Long departmentId,
+            ApprovalInboxPageRequestDto pageRequest) {
+        int size =
+                pageRequest != null && pageRequest.getSize() != null
+                        ? Math.min(pageRequest.getSize(), MAX_INBOX_PAGE_SIZE)
+                        : inboxPageSize;
+        Long cursorDocumentId =
+                CursorCodec.decodeLong(pageRequest != null ? pageRequest.getCursor() : null);
+
+        // 인덱스 정렬 키는 문서 ID 이므로 마지막 문서 ID 가 곧 다음 커서가 된다.
+        List<Long> documentIds =
+                approvalInboxIndexService.findDocumentIds(userId, tab, cursorDocumentId, size + 1);
+        boolean hasNext = documentIds.size() > size;
+        if (hasNext) {
+            documentIds = documentIds.subList(0, size);
         }
-        return false;
-    }
-
-    private boolean isMyPendingProcessingLine(
-            ApprovalDocumentLine line, Long userId, Long departmentId) {
-        return isMyProcessingLine(line, userId, departmentId)
-                && line.getLineStatus() == ApprovalLineStatus.PENDING;
-    }
-
-    private boolean isMyWaitingProcessingLine(
-            ApprovalDocumentLine line, Long userId, Long departmentId) {
-        return isMyProcessingLine(line, userId, departmentId)
-                && line.getLineStatus() == ApprovalLineStatus.WAITING;
-    }
-
-    private boolean isMyApprovedProcessingLine(
-            ApprovalDocumentLine line, Long userId, Long departmentId) {
-        return isMyProcessingLine(line, userId, departmentId)
-                && line.getLineStatus() == ApprovalLineStatus.APPROVED
-                && line.getProcessedByUser() != null
-                && userId.equals(line.getProcessedByUser().getId());
-    }
 
-    private boolean isMyRejectedProcessingLine(
-            ApprovalDocumentLine line, Long userId, Long departmentId) {
-        return isMyProcessingLine(line, userId, departmentId)
-                && line.getLineStatus() == ApprovalLineStatus.REJECTED
-                && line.getProcessedByUser() != null;
-    }
-
-    private boolean isMyProcessingLine(ApprovalDocumentLine line, Long userId, Long departmentId) {
-        if (!isProcessingRole(line.getRole())) {
-            return false;
-        }
-        if (line.getTargetType() == ApprovalTargetType.USER) {
-            return line.getTargetUser() != null && userId.equals(line.getTargetUser().getId());
-        }
-        return departmentId != null
-                && line.getTargetDepartment() != null
-                && departmentId.equals(line.getTargetDepartment().getId());
+        return ApprovalInboxAllResponseDto.builder()
+                .documents(toInboxDocuments(documentIds, userId, departmentId))
+                .hasNext(hasNext)
+                .nextCursor(
+                        hasNext
+                                ? CursorCodec.encode(documentIds.get(documentIds.size() - 1))
+                                : null);
     }
 
-    private boolean isMyReferenceLine(ApprovalDocumentLine line, Long userId, Long departmentId) {
-        if (line.getRole() != ApprovalRouteRole.REFERENCE) {
-            return false;
-        }
-        if (line.getTargetType() == ApprovalTargetType.USER) {
-            return line.getTargetUser() != null && userId.equals(line.getTargetUser().getId());
+    /** 결재함 목록 문서 DTO 조회. 엔티티를 로딩하지 않고 문서/결재선 행 프로젝션 두 번으로 구성하며, documentIds 순서를 유지한다. */
+    private List<ApprovalInboxAllResponseDto.DocumentDto> toInboxDocuments(
+            List<Long> documentIds, Long userId, Long departmentId) {
+        if (documentIds.isEmpty()) {
+            return List.of();
         }
-        return departmentId != null
-                && line.getTargetDepartment() != null
-                && departmentId.equals(line.getTargetDepartment().getId());
+        Map<Long, DocumentRow> documentsById =
+                approvalInboxQueryRepository.findDocumentRows(documentIds).stream()
+                        .collect(Collectors.toMap(DocumentRow::documentId, Function.identity()));
+        Map<Long, List<LineRow>> linesByDocumentId =
+                approvalInboxQueryRepository.findLineRows(documentIds).stream()
+                        .sorted(
+                                Comparator.comparing(
+                                                LineRow::sequenceNo,
+                                                Comparator.nullsLast(Integer::compareTo))
+                                        .thenComparing(LineRow::lineId))
+                        .collect(Collectors.groupingBy(LineRow::documentId));
+
+        return documentIds.stream()
+                .map(documentsById::get)
+                .filter(Objects::nonNull)
+                .map(
+                        row ->
+                                toInboxDocumentDto(
+                                        row,
+                                        linesByDocumentId.getOrDefault(row.documentId(), List.of()),
+                                        userId,
+                                        departmentId))
+                .toList();
     }
 
-    private boolean isMyViewerLine(ApprovalDocumentLine line, Long userId, Long departmentId) {
-        if (line.getRole() != ApprovalRouteRole.VIEWER) {
+    private boolean isMyProcessingLine(LineRow line, Long userId, Long departmentId) {
+        if (!isProcessingRole(line.role())) {
             return false;
         }
-        if (line.getTargetType() == ApprovalTargetType.USER) {
-            return line.getTargetUser() != null && userId.equals(line.getTargetUser().getId());
+        if (line.targetType() == ApprovalTargetType.USER) {
+            return userId.equals(line.targetUserId());
         }
-        return departmentId != null
-                && line.getTargetDepartment() != null
-                && departmentId.equals(line.getTargetDepartment().getId());
+        return departmentId != null && departmentId.equals(line.targetDepartmentId());
     }
 
     private boolean isProcessingRole(ApprovalRouteRole role) {
@@ -689,107 +737,105 @@ public class ApprovalWorkflowService {
     }
 
     private ApprovalInboxAllResponseDto.DocumentDto toInboxDocumentDto(
-            ApprovalDocument document, Long userId, Long departmentId) {
-        User drafterUser = document.getDrafterUser();
-        Department drafterDepartment = document.getDrafterDepartment();
-
-        String drafterUserName = drafterUser != null ? drafterUser.getDisplayName() : null;
+            DocumentRow document, List<LineRow> lines, Long userId, Long departmentId) {
+        String drafterUserName =
+                StringUtils.hasText(document.drafterNameKor())
+                        ? document.drafterNameKor()
+                        : document.drafterNameEng();
         String drafterDepartmentName =
-                drafterDepartment != null ? drafterDepartment.getName().getDescription() : null;
+                document.drafterDepartmentName() != null
+                        ? document.drafterDepartmentName().getDescription()
+                        : null;
 
         List<ApprovalInboxAllResponseDto.MyLineDto> myLines =
-                document.getLines().stream()
+                lines.stream()
                         .filter(line -> isMyProcessingLine(line, userId, departmentId))
-                        .sorted(
-                                Comparator.comparing(
-                                                ApprovalDocumentLine::getSequenceNo,
-                                                Comparator.nullsLast(Integer::compareTo))
-                                        .thenComparing(ApprovalDocumentLine::getId))
                         .map(this::toMyLineDto)
                         .toList();
 
         List<ApprovalInboxAllResponseDto.ApprovalLineDto> approvalLines =
-                document.getLines().stream()
-                        .filter(line -> isProcessingRole(line.getRole()))
-                        .sorted(
-                                Comparator.comparing(
-                                                ApprovalDocumentLine::getSequenceNo,
-                                                Comparator.nullsLast(Integer::compareTo))
-                                        .thenComparing(ApprovalDocumentLine::getId))
+                lines.stream()
+                        .filter(line -> isProcessingRole(line.role()))
                         .map(this::toInboxApprovalLineDto)
                         .toList();
 
         return ApprovalInboxAllResponseDto.DocumentDto.builder()
-                .documentNo(document.getDocumentNo())
-                .documentId(document.getId())
-                .templateId(document.getTemplate() != null ? document.getTemplate().getId() : null)
-                .templateCode(document.getTemplateCodeSnapshot())
-                .templateName(document.getTemplateNameSnapshot())
-                .title(document.getTitle())
-                .approvalType(document.getApprovalType())
+                .documentNo(document.documentNo())
+                .documentId(document.documentId())
+                .templateId(document.templateId())
+                .templateCode(document.templateCode())
+                .templateName(document.templateName())
+                .title(document.title())
+                .approvalType(document.approvalType())
                 .approvalTypeLabel(
-                        document.getApprovalType() != null
-                                ? document.getApprovalType().getDescription()
+                        document.approvalType() != null
+                                ? document.approvalType().getDescription()
                                 : null)
-                .status(document.getStatus())
-                .statusLabel(
-                        document.getStatus() != null ? document.getStatus().getDescription() : null)
-                .drafterUserId(drafterUser != null ? drafterUser.getId() : null)
+                .status(document.status())
+                .statusLabel(document.status() != null ? document.status().getDescription() : null)
+                .drafterUserId(document.drafterUserId())
                 .drafterUserName(drafterUserName)
                 .drafterName(drafterUserName)
-                .drafterDepartmentId(drafterDepartment != null ? drafterDepartment.getId() : null)
+                .drafterDepartmentId(document.drafterDepartmentId())
                 .drafterDepartmentName(drafterDepartmentName)
-                .mine(drafterUser != null && userId.equals(drafterUser.getId()))
-                .draftedAt(document.getSubmittedAt())
-                .submittedAt(document.getSubmittedAt())
-                .completedAt(document.getCompletedAt())
-                .createdAt(document.getCreatedAt())
-                .modifiedAt(document.getModifiedAt())
+                .mine(userId.equals(document.drafterUserId()))
+                .draftedAt(document.submittedAt())
+                .submittedAt(document.submittedAt())
+                .completedAt(document.completedAt())
+                .createdAt(document.createdAt())
+                .modifiedAt(document.modifiedAt())
                 .approvalLines(approvalLines)
                 .myLines(myLines)
                 .build();
     }
 
-    private ApprovalInboxAllResponseDto.ApprovalLineDto toInboxApprovalLineDto(
-            ApprovalDocumentLine line) {
+    private ApprovalInboxAllResponseDto.ApprovalLineDto toInboxApprovalLineDto(LineRow line) {
         return ApprovalInboxAllResponseDto.ApprovalLineDto.builder()
-                .lineId(line.getId())
-                .role(line.getRole())
-                .roleLabel(line.getRole() != null ? line.getRole().getDescription() : null)
-                .targetType(line.getTargetType())
-                .targetUserId(line.getTargetUser() != null ? line.getTargetUser().getId() : null)
-                .targetDepartmentId(
-                        line.getTargetDepartment() != null
-                                ? line.getTargetDepartment().getId()
-                                : null)
-                .targetName(line.getTargetNameSnapshot())
-                .sequenceNo(line.getSequenceNo())
-                .lineStatus(line.getLineStatus())
+                .lineId(line.lineId())
+                .role(line.role())
+                .roleLabel(line.role() != null ? line.role().getDescription() : null)
+                .targetType(line.targetType())
+                .targetUserId(line.targetUserId())
+                .targetDepartmentId(line.targetDepartmentId())
+                .targetName(line.targetName())
+                .sequenceNo(line.sequenceNo())
+                .lineStatus(line.lineStatus())
                 .lineStatusLabel(
-                        line.getLineStatus() != null ? line.getLineStatus().getDescription() : null)
+                        line.lineStatus() != null ? line.lineStatus().getDescription() : null)
                 .build();
     }
 
-    private ApprovalInboxAllResponseDto.MyLineDto toMyLineDto(ApprovalDocumentLine line) {
+    private ApprovalInboxAllResponseDto.MyLineDto toMyLineDto(LineRow line) {
         return ApprovalInboxAllResponseDto.MyLineDto.builder()
-                .lineId(line.getId())
-                .role(line.getRole())
-                .roleLabel(line.getRole() != null ? line.getRole().getDescription() : null)
-                .targetType(line.getTargetType())
-                .targetUserId(line.getTargetUser() != null ? line.getTargetUser().getId() : null)
-                .targetDepartmentId(
-                        line.getTargetDepartment() != null
-                                ? line.getTargetDepartment().getId()
-                                : null)
-                .targetName(line.getTargetNameSnapshot())
-                .sequenceNo(line.getSequenceNo())
-                .required(line.getIsRequired())
-                .lineStatus(line.getLineStatus())
+                .lineId(line.lineId())
+                .role(line.role())
+                .roleLabel(line.role() != null ? line.role().getDescription() : null)
+                .targetType(line.targetType())
+                .targetUserId(line.targetUserId())
+                .targetDepartmentId(line.targetDepartmentId())
+                .targetName(line.targetName())
+                .sequenceNo(line.sequenceNo())
+                .required(line.required())
+                .lineStatus(line.lineStatus())
                 .lineStatusLabel(
-                        line.getLineStatus() != null ? line.getLineStatus().getDescription() : null)
+                        line.lineStatus() != null ? line.lineStatus().getDescription() : null)
                 .build();
     }
 
+    /**
+     * 사용자 입력을 불리언 모드 검색식으로 바꾼다. 연산자 문자는 제거하고 공백으로 구분한 단어를 모두 필수(+)로 묶는다. ngram
+     * 파서는 각 단어를 n-gram 구문으로 검색하므로 한글 부분 단어도 찾을 수 있다.
+     */
+    private String toFulltextBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return Arrays.stream(FULLTEXT_OPERATORS.matcher(keyword).replaceAll(" ").split("\\s+"))
+                .filter(term -> !term.isBlank())
+                .map(term -> "+" + term)
+                .collect(Collectors.joining(" "));
+    }
+
     private String buildSubmittedDocumentNo(ApprovalDocument document) {
         ApprovalTemplate template = document.getTemplate();
         if (template == null || template.getId() == null) {
@@ -800,16 +846,12 @@ public class ApprovalWorkflowService {
             throw new CustomException(ErrorCode.DEPARTMENT_NOT_FOUND);
         }
 
+        LocalDateTime submittedAt =
+                document.getSubmittedAt() != null ? document.getSubmittedAt() : LocalDateTime.now();
         long sequence =
-                approvalDocumentRepository.countByTemplateIdAndStatusNot(
-                                template.getId(), ApprovalStatus.DRAFT)
-                        + 1;
+                approvalDocumentSequenceService.next(template.getId(), submittedAt.toLocalDate());
         String sequencePart = String.format("%02d", sequence);
-        String datePart =
-                (document.getSubmittedAt() != null
-                                ? document.getSubmittedAt()
-                                : LocalDateTime.now())
-                        .format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String datePart = submittedAt.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         String departmentName = document.getDrafterDepartment().getName().getDescription();
         String templateName =
                 StringUtils.hasText(document.getTemplateNameSnapshot())
@@ -952,6 +994,12 @@ public class ApprovalWorkflowService {
         return requests;
     }
 
+    /**
+     * 요청 결재선으로 문서 결재선을 교체한다.
+     *
+     * <p>기존 라인과 (역할, 대상) 기준으로 비교하여 같은 대상은 그대로 두고 변경된 값만 갱신하며, 새 대상만 추가하고
+     * 빠진 대상만 삭제한다. 임시저장 자동저장 시 결재선이 바뀌지 않았다면 조회 외 추가 쿼리가 거의 발생하지 않는다.
+     */
     private List<ApprovalDocumentLine> replaceDocumentLines(
             ApprovalDocument document,
             List<ApprovalLineRequestDto> lineRequests,
@@ -960,17 +1008,40 @@ public class ApprovalWorkflowService {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
 
-        approvalDocumentLineRepository.deleteByDocumentId(document.getId());
+        List<ApprovalDocumentLine> existingLines =
+                approvalDocumentLineRepository.findByDocumentIdOrderBySequenceNoAscIdAsc(
+                        document.getId());
         if (lineRequests == null || lineRequests.isEmpty()) {
+            if (!existingLines.isEmpty()) {
+                approvalDocumentLineRepository.deleteAllInBatch(existingLines);
+            }
             return List.of();
         }
 
-        List<ApprovalDocumentLine> newLines = new ArrayList<>();
+        Map<Long, User> targetUsers = findTargetUsers(lineRequests);
+        Map<Long, Department> targetDepartments = findTargetDepartments(lineRequests);
+
+        Map<LineKey, Deque<ApprovalDocumentLine>> reusableLines = new HashMap<>();
+        for (ApprovalDocumentLine existingLine : existingLines) {
+            reusableLines
+                    .computeIfAbsent(LineKey.of(existingLine), key -> new ArrayDeque<>())
+                    .add(existingLine);
+        }
+
+        List<ApprovalDocumentLine> lines = new ArrayList<>();
         for (ApprovalLineRequestDto lineRequest : lineRequests) {
-            ApprovalDocumentLine line = new ApprovalDocumentLine();
-            line.setDocument(document);
-            line.setRole(lineRequest.getRole());
-            line.setTargetType(lineRequest.getTargetType());
+            LineKey key = LineKey.of(lineRequest);
+            Deque<ApprovalDocumentLine> candidates = reusableLines.get(key);
+            ApprovalDocumentLine line =
+                    candidates != null && !candidates.isEmpty() ? candidates.poll() : null;
+
+            if (line == null) {
+                line = new ApprovalDocumentLine();
+                line.setDocument(document);
+                line.setRole(lineRequest.getRole());
+                line.setTargetType(lineRequest.getTargetType());
+            }
+
             line.setSequenceNo(lineRequest.getSequenceNo());
             line.setIsRequired(
                     lineRequest.getRequired() != null
@@ -982,33 +1053,75 @@ public class ApprovalWorkflowService {
             line.setProcessedComment(null);
 
             if (lineRequest.getTargetType() == ApprovalTargetType.USER) {
-                if (lineRequest.getTargetUserId() == null) {
-                    throw new CustomException(ErrorCode.INVALID_ARGUMENT);
-                }
-                User targetUser = getUser(lineRequest.getTargetUserId());
+                User targetUser = targetUsers.get(lineRequest.getTargetUserId());
                 line.setTargetUser(targetUser);
                 line.setTargetDepartment(null);
                 line.setTargetNameSnapshot(toTargetName(ApprovalTargetType.USER, targetUser, null));
             } else {
-                if (lineRequest.getTargetDepartmentId() == null) {
-                    throw new CustomException(ErrorCode.INVALID_ARGUMENT);
-                }
                 Department targetDepartment =
-                        departmentRepository
-                                .findById(lineRequest.getTargetDepartmentId())
-                                .orElseThrow(
-                                        () -> new CustomException(ErrorCode.DEPARTMENT_NOT_FOUND));
+                        targetDepartments.get(lineRequest.getTargetDepartmentId());
                 line.setTargetDepartment(targetDepartment);
                 line.setTargetUser(null);
                 line.setTargetNameSnapshot(
                         toTargetName(ApprovalTargetType.DEPARTMENT, null, targetDepartment));
             }
 
-            newLines.add(line);
+            lines.add(line);
         }
 
-        List<ApprovalDocumentLine> savedLines = approvalDocumentLineRepository.saveAll(newLines);
-        return normalizeAndActivateLines(savedLines, forSubmit);
+        List<ApprovalDocumentLine> removedLines =
+                reusableLines.values().stream().flatMap(Deque::stream).toList();
+        if (!removedLines.isEmpty()) {
+            approvalDocumentLineRepository.deleteAllInBatch(removedLines);
+        }
+
+        return normalizeAndActivateLines(lines, forSubmit);
+    }
+
+    private Map<Long, User> findTargetUsers(List<ApprovalLineRequestDto> lineRequests) {
+        Set<Long> userIds = new HashSet<>();
+        for (ApprovalLineRequestDto lineRequest : lineRequests) {
+            if (lineRequest.getTargetType() == ApprovalTargetType.USER) {
+                if (lineRequest.getTargetUserId() == null) {
+                    throw new CustomException(ErrorCode.INVALID_ARGUMENT);
+                }
+                userIds.add(lineRequest.getTargetUserId());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, User> users =
+                userRepository.findAllByIdInWithDepartment(userIds).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (users.size() != userIds.size()) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        return users;
+    }
+
+    private Map<Long, Department> findTargetDepartments(List<ApprovalLineRequestDto> lineRequests) {
+        Set<Long> departmentIds = new HashSet<>();
+        for (ApprovalLineRequestDto lineRequest : lineRequests) {
+            if (lineRequest.getTargetType() != ApprovalTargetType.USER) {
+                if (lineRequest.getTargetDepartmentId() == null) {
+                    throw new CustomException(ErrorCode.INVALID_ARGUMENT);
+                }
+                departmentIds.add(lineRequest.getTargetDepartmentId());
+            }
+        }
+        if (departmentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Department> departments =
+                departmentRepository.findAllById(departmentIds).stream()
+                        .collect(Collectors.toMap(Department::getId, Function.identity()));
+        if (departments.size() != departmentIds.size()) {
+            throw new CustomException(ErrorCode.DEPARTMENT_NOT_FOUND);
+        }
+        return departments;
     }
 
     private List<ApprovalDocumentLine> normalizeAndActivateLines(
@@ -1020,7 +1133,9 @@ public class ApprovalWorkflowService {
                                 Comparator.comparing(
                                                 ApprovalDocumentLine::getSequenceNo,
                                                 Comparator.nullsLast(Integer::compareTo))
-                                        .thenComparing(ApprovalDocumentLine::getId))
+                                        .thenComparing(
+                                                ApprovalDocumentLine::getId,
+                                                Comparator.nullsLast(Long::compareTo)))
                         .toList();
 
         for (int i = 0; i < approvalLines.size(); i++) {
@@ -1047,7 +1162,16 @@ public class ApprovalWorkflowService {
             throw new CustomException(ErrorCode.INVALID_APPROVAL_STEP);
         }
 
-        return approvalDocumentLineRepository.saveAll(lines);
+        // 기존 라인은 영속 상태이므로 바뀐 값만 UPDATE 되고, 새 라인만 JDBC batch 로 INSERT 한다.
+        List<ApprovalDocumentLine> newLines =
+                lines.stream().filter(line -> line.getId() == null).toList();
+        if (newLines.isEmpty()) {
+            return lines;
+        }
+        approvalBulkWriter.insertDocumentLines(newLines);
+        // JDBC 로 넣은 라인은 영속성 컨텍스트를 거치지 않으므로 ID 가 채워진 라인을 다시 읽는다.
+        return approvalDocumentLineRepository.findByDocumentIdOrderBySequenceNoAscIdAsc(
+                newLines.get(0).getDocument().getId());
     }
 
     private String toTargetName(
@@ -1056,28 +1180,33 @@ public class ApprovalWorkflowService {
             if (targetDepartment == null) {
                 return null;
             }
-            return "[" + targetDepartment.getName().getDescription() + "]";
+            return toDepartmentTargetName(targetDepartment.getName());
         }
 
         if (targetUser == null) {
             return null;
         }
 
-        String departmentName =
-                targetUser.getDepartment() != null
-                        ? targetUser.getDepartment().getName().getDescription()
-                        : "소속없음";
-        String name =
-                StringUtils.hasText(targetUser.getNameKor())
-                        ? targetUser.getNameKor()
-                        : targetUser.getNameEng();
-        String position =
-                targetUser.getPosition() != null ? targetUser.getPosition().getDescription() : null;
-
-        if (StringUtils.hasText(position)) {
-            return "[" + departmentName + "] " + name + " (" + position + ")";
+        return toUserTargetName(
+                targetUser.getDepartment() != null ? targetUser.getDepartment().getName() : null,
+                targetUser.getNameKor(),
+                targetUser.getNameEng(),
+                targetUser.getPosition());
+    }
+
+    private String toDepartmentTargetName(DepartmentName departmentName) {
+        return "[" + departmentName.getDescription() + "]";
+    }
+
+    private String toUserTargetName(
+            DepartmentName departmentName, String nameKor, String nameEng, Position position) {
+        String department = departmentName != null ? departmentName.getDescription() : "소속없음";
+        String name = StringUtils.hasText(nameKor) ? nameKor : nameEng;
+
+        if (position != null && StringUtils.hasText(position.getDescription())) {
+            return "[" + department + "] " + name + " (" + position.getDescription() + ")";
         }
-        return "[" + departmentName + "] " + name;
+        return "[" + department + "] " + name;
     }
 
     private User getUser(Long userId) {
@@ -1096,4 +1225,26 @@ public class ApprovalWorkflowService {
         }
         return template;
     }
+
+    /** 결재선 비교 키. 역할과 대상이 같으면 같은 라인으로 보고 재사용한다. */
+    private record LineKey(ApprovalRouteRole role, ApprovalTargetType targetType, Long targetId) {
+
+        static LineKey of(ApprovalDocumentLine line) {
+            Long targetId =
+                    line.getTargetType() == ApprovalTargetType.USER
+                            ? (line.getTargetUser() != null ? line.getTargetUser().getId() : null)
+                            : (line.getTargetDepartment() != null
+                                    ? line.getTargetDepartment().getId()
+                                    : null);
+            return new LineKey(line.getRole(), line.getTargetType(), targetId);
+        }
+
+        static LineKey of(ApprovalLineRequestDto lineRequest) {
+            Long targetId =
+                    lineRequest.getTargetType() == ApprovalTargetType.USER
+                            ? lineRequest.getTargetUserId()
+                            : lineRequest.getTargetDepartmentId();
+            return new LineKey(lineRequest.getRole(), lineRequest.getTargetType(), targetId);
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package kr.co.awesomelead.groupware_backend.domain.approval.service;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.SavedApprovalLineResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.event.SavedApprovalLineChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.department.event.DepartmentClosureChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 저장된 결재선 인메모리 캐시.
+ *
+ * <p>개인 결재선은 사용자 ID, 부서 결재선은 부서 ID 단위로 응답 DTO 를 보관하고, 부서 결재선 조회에 필요한 사용자 소속 부서와
+ * 부서의 상위 부서 목록도 함께 보관한다. 결재선 변경 커밋 후 해당 항목만 비우고 Redis 채널로 다른 노드에도 무효화를 전파한다. 응답에는 대상자 이름/직급이 함께
+ * 담기므로 approval.saved-line.cache-ttl 이 지나면 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SavedApprovalLineCache {
+
+    public static final String EVICT_CHANNEL = "approval:saved-line:evict";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${approval.saved-line.cache-ttl:PT10M}")
+    private Duration ttl;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Entry<List<SavedApprovalLineResponseDto>>> personalLines =
+            new ConcurrentHashMap<>();
+    private final Map<Long, Entry<List<SavedApprovalLineResponseDto>>> departmentLines =
+            new ConcurrentHashMap<>();
+    private final Map<Long, Entry<Long>> departmentIdsByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Entry<List<Long>>> ancestorIdsByDepartment = new ConcurrentHashMap<>();
+
+    public List<SavedApprovalLineResponseDto> getPersonalLines(
+            Long userId, Supplier<List<SavedApprovalLineResponseDto>> loader) {
+        return get(personalLines, userId, copying(loader));
+    }
+
+    public List<SavedApprovalLineResponseDto> getDepartmentLines(
+            Long departmentId, Supplier<List<SavedApprovalLineResponseDto>> loader) {
+        return get(departmentLines, departmentId, copying(loader));
+    }
+
+    /** 사용자 소속 부서 ID. 소속이 없으면 null 을 반환하며 이 경우는 캐시하지 않는다. */
+    public Long getDepartmentId(Long userId, Supplier<Long> loader) {
+        return get(departmentIdsByUser, userId, loader);
+    }
+
+    /** 부서 자신과 상위 부서 ID (가까운 순) */
+    public List<Long> getAncestorDepartmentIds(Long departmentId, Supplier<List<Long>> loader) {
+        return get(ancestorIdsByDepartment, departmentId, copying(loader));
+    }
+
+    public void evictLocal(SavedApprovalLineChangedEvent.Scope scope, Long id) {
+        generation.incrementAndGet();
+        switch (scope) {
+            case PERSONAL -> personalLines.remove(id);
+            case DEPARTMENT -> departmentLines.remove(id);
+            case MEMBER -> departmentIdsByUser.remove(id);
+            case HIERARCHY -> ancestorIdsByDepartment.remove(id);
+        }
+    }
+
+    public void evictAllLocal() {
+        generation.incrementAndGet();
+        personalLines.clear();
+        departmentLines.clear();
+        departmentIdsByUser.clear();
+        ancestorIdsByDepartment.clear();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSavedLineChanged(SavedApprovalLineChangedEvent event) {
+        evictLocal(event.scope(), event.id());
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, event.scope().name() + ":" + event.id());
+        } catch (DataAccessException e) {
+            log.warn(
+                    "[SavedApprovalLine] 캐시 무효화 브로드캐스트 실패 - scope: {}, id: {}",
+                    event.scope(),
+                    event.id(),
+                    e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleDepartmentClosureChanged(DepartmentClosureChangedEvent event) {
+        for (Long departmentId : event.departmentIds()) {
+            handleSavedLineChanged(
+                    new SavedApprovalLineChangedEvent(
+                            SavedApprovalLineChangedEvent.Scope.HIERARCHY, departmentId));
+        }
+    }
+
+    /** 다른 노드에서 받은 무효화 메시지를 반영한다. 해석할 수 없는 메시지면 전체를 비운다. */
+    public void handleEvictMessage(String body) {
+        int separator = body.indexOf(':');
+        try {
+            evictLocal(
+                    SavedApprovalLineChangedEvent.Scope.valueOf(body.substring(0, separator)),
+                    Long.valueOf(body.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            evictAllLocal();
+        }
+    }
+
+    private <T> T get(Map<Long, Entry<T>> cache, Long key, Supplier<T> loader) {
+        long now = System.currentTimeMillis();
+        Entry<T> cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.value();
+        }
+        long loadingGeneration = generation.get();
+        T value = loader.get();
+        // 로딩 중 무효화가 들어왔다면 이번 결과는 캐시하지 않는다.
+        if (value != null && generation.get() == loadingGeneration) {
+            cache.put(key, new Entry<>(value, now + ttl.toMillis()));
+        }
+        return value;
+    }
+
+    /** 캐시한 목록은 여러 요청이 함께 읽으므로 수정할 수 없는 사본으로 보관하고 그대로 내준다. */
+    private static <T> Supplier<List<T>> copying(Supplier<List<T>> loader) {
+        return () -> List.copyOf(loader.get());
+    }
+
+    private record Entry<T>(T value, long expiresAt) {}
+}
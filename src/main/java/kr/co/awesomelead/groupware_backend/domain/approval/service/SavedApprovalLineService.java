@@ -9,9 +9,11 @@ import kr.co.awesomelead.groupware_backend.domain.approval.entity.SavedApprovalL
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalSavedLineType;
 import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.event.SavedApprovalLineChangedEvent;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.SavedApprovalLineDetailRepository;
 import kr.co.awesomelead.groupware_backend.domain.approval.repository.SavedApprovalLineRepository;
 import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentClosureRepository;
 import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 import kr.co.awesomelead.groupware_backend.domain.user.enums.Authority;
@@ -23,29 +25,66 @@ import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SavedApprovalLineService {
 
+    private static final String INSERT_DETAIL_SQL =
+            """
+            INSERT INTO saved_approval_line_details
+                (saved_line_id, role, target_type, target_user_id, target_department_id,
+                 target_name_snapshot, sequence_no, is_required, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
     private final SavedApprovalLineRepository savedApprovalLineRepository;
     private final SavedApprovalLineDetailRepository savedApprovalLineDetailRepository;
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
+    private final DepartmentClosureRepository departmentClosureRepository;
+    private final SavedApprovalLineCache savedApprovalLineCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional(readOnly = true)
+    /** 기안 작성 화면 진입마다 호출되므로 캐시에서 응답하고, 캐시가 비어 있을 때만 읽기 트랜잭션을 연다. */
     public List<SavedApprovalLineResponseDto> getPersonalLines(Long userId) {
-        List<SavedApprovalLine> lines =
-                savedApprovalLineRepository.findAllPersonalWithDetails(
-                        userId, ApprovalSavedLineType.PERSONAL);
-        return lines.stream().map(this::toResponse).toList();
+        return savedApprovalLineCache.getPersonalLines(
+                userId,
+                () ->
+                        readOnly(
+                                () ->
+                                        savedApprovalLineRepository
+                                                .findAllPersonalWithDetails(
+                                                        userId, ApprovalSavedLineType.PERSONAL)
+                                                .stream()
+                                                .map(this::toResponse)
+                                                .toList()));
     }
 
     @Transactional(readOnly = true)
@@ -82,6 +121,7 @@ public class SavedApprovalLineService {
                         .build();
         SavedApprovalLine saved = savedApprovalLineRepository.save(line);
         replaceDetails(saved, request.getLines());
+        eventPublisher.publishEvent(SavedApprovalLineChangedEvent.personal(owner.getId()));
         return saved.getId();
     }
 
@@ -106,6 +146,7 @@ public class SavedApprovalLineService {
         line.setApprovalType(request.getApprovalType());
         line.setIsDefault(isDefaultRequested);
         replaceDetails(line, request.getLines());
+        eventPublisher.publishEvent(SavedApprovalLineChangedEvent.personal(userId));
     }
 
     @Transactional
@@ -118,20 +159,55 @@ public class SavedApprovalLineService {
         }
         savedApprovalLineDetailRepository.deleteBySavedLineId(lineId);
         savedApprovalLineRepository.delete(line);
+        eventPublisher.publishEvent(SavedApprovalLineChangedEvent.personal(userId));
     }
 
-    @Transactional(readOnly = true)
     public List<SavedApprovalLineResponseDto> getDepartmentLines(Long userId) {
-        User user = getUser(userId);
-        Department department = user.getDepartment();
-        if (department == null) {
+        Long departmentId =
+                savedApprovalLineCache.getDepartmentId(
+                        userId,
+                        () ->
+                                readOnly(
+                                        () -> {
+                                            Department department = getUser(userId).getDepartment();
+                                            return department != null ? department.getId() : null;
+                                        }));
+        if (departmentId == null) {
             throw new CustomException(ErrorCode.DEPARTMENT_NOT_FOUND);
         }
 
-        List<SavedApprovalLine> lines =
-                savedApprovalLineRepository.findAllDepartmentWithDetails(
-                        department.getId(), ApprovalSavedLineType.DEPARTMENT);
-        return lines.stream().map(this::toResponse).toList();
+        // 상위 부서가 공유한 부서 결재선도 하위 부서원이 쓸 수 있다. 내 부서 결재선이 먼저 오도록 가까운 부서 순으로 잇는다.
+        List<Long> ancestorIds =
+                savedApprovalLineCache.getAncestorDepartmentIds(
+                        departmentId,
+                        () ->
+                                readOnly(
+                                        () ->
+                                                departmentClosureRepository.findAncestorIds(
+                                                        departmentId)));
+        if (ancestorIds.isEmpty()) {
+            ancestorIds = List.of(departmentId);
+        }
+        List<SavedApprovalLineResponseDto> lines = new ArrayList<>();
+        for (Long ancestorId : ancestorIds) {
+            lines.addAll(getOwnDepartmentLines(ancestorId));
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    private List<SavedApprovalLineResponseDto> getOwnDepartmentLines(Long departmentId) {
+        return savedApprovalLineCache.getDepartmentLines(
+                departmentId,
+                () ->
+                        readOnly(
+                                () ->
+                                        savedApprovalLineRepository
+                                                .findAllDepartmentWithDetails(
+                                                        departmentId,
+                                                        ApprovalSavedLineType.DEPARTMENT)
+                                                .stream()
+                                                .map(this::toResponse)
+                                                .toList()));
     }
 
     @Transactional(readOnly = true)
@@ -180,6 +256,7 @@ public class SavedApprovalLineService {
                         .build();
         SavedApprovalLine saved = savedApprovalLineRepository.save(line);
         replaceDetails(saved, request.getLines());
+        eventPublisher.publishEvent(SavedApprovalLineChangedEvent.department(department.getId()));
         return saved.getId();
     }
 
@@ -209,11 +286,18 @@ public class SavedApprovalLineService {
                     line.getId());
         }
 
+        Long previousDepartmentId = line.getDepartment().getId();
         line.setLineName(request.getLineName().trim());
         line.setApprovalType(request.getApprovalType());
         line.setDepartment(targetDepartment);
         line.setIsDefault(isDefaultRequested);
         replaceDetails(line, request.getLines());
+        eventPublisher.publishEvent(
+                SavedApprovalLineChangedEvent.department(targetDepartment.getId()));
+        if (!previousDepartmentId.equals(targetDepartment.getId())) {
+            eventPublisher.publishEvent(
+                    SavedApprovalLineChangedEvent.department(previousDepartmentId));
+        }
     }
 
     @Transactional
@@ -231,47 +315,140 @@ public class SavedApprovalLineService {
             throw new CustomException(ErrorCode.NO_AUTHORITY_FOR_DEPARTMENT_APPROVAL_LINE);
         }
 
+        Long departmentId = line.getDepartment().getId();
         savedApprovalLineDetailRepository.deleteBySavedLineId(lineId);
         savedApprovalLineRepository.delete(line);
+        eventPublisher.publishEvent(SavedApprovalLineChangedEvent.department(departmentId));
     }
 
+    /**
+     * 결재선 상세를 요청 내용으로 맞춘다.
+     *
+     * <p>역할과 대상이 같은 기존 상세는 순번/필수 여부/표시명만 갱신해 재사용하고, 빠진 상세는 한 번에 삭제하며, 새 상세는 JDBC batch
+     * INSERT 로 추가한다. 대상 사용자/부서는 건별 조회 대신 한 번에 읽는다. 끝나면 savedLine.details 도 DB 와 같아진다.
+     */
     private void replaceDetails(
             SavedApprovalLine savedLine, List<SavedApprovalLineDetailRequestDto> detailRequests) {
-        savedApprovalLineDetailRepository.deleteBySavedLineId(savedLine.getId());
-        if (detailRequests == null || detailRequests.isEmpty()) {
-            return;
+        List<SavedApprovalLineDetailRequestDto> requests =
+                detailRequests != null ? detailRequests : List.of();
+        requests.forEach(this::validateDetailRequest);
+        Map<Long, User> targetUsers = findTargetUsers(requests);
+        Map<Long, Department> targetDepartments = findTargetDepartments(requests);
+
+        Map<DetailKey, Deque<SavedApprovalLineDetail>> reusable = new HashMap<>();
+        for (SavedApprovalLineDetail detail : savedLine.getDetails()) {
+            reusable.computeIfAbsent(DetailKey.of(detail), key -> new ArrayDeque<>()).add(detail);
         }
 
-        List<SavedApprovalLineDetail> details = new ArrayList<>();
-        for (int i = 0; i < detailRequests.size(); i++) {
-            SavedApprovalLineDetailRequestDto request = detailRequests.get(i);
-            validateDetailRequest(request);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            SavedApprovalLineDetailRequestDto request = requests.get(i);
+            int sequenceNo = request.getSequenceNo() != null ? request.getSequenceNo() : i + 1;
+            User targetUser = null;
+            Department targetDepartment = null;
+            String targetName;
+            if (request.getTargetType() == ApprovalTargetType.USER) {
+                targetUser = targetUsers.get(request.getTargetUserId());
+                targetName = toTargetName(ApprovalTargetType.USER, targetUser, null);
+            } else {
+                targetDepartment = targetDepartments.get(request.getTargetDepartmentId());
+                targetName = toTargetName(ApprovalTargetType.DEPARTMENT, null, targetDepartment);
+            }
+
+            Deque<SavedApprovalLineDetail> candidates = reusable.get(DetailKey.of(request));
+            SavedApprovalLineDetail existing = candidates != null ? candidates.poll() : null;
+            if (existing != null) {
+                // 값이 같으면 dirty checking 에서 UPDATE 가 생략된다.
+                existing.setSequenceNo(sequenceNo);
+                existing.setIsRequired(request.getRequired());
+                existing.setTargetNameSnapshot(targetName);
+                continue;
+            }
+            inserts.add(
+                    new Object[] {
+                        savedLine.getId(),
+                        request.getRole().name(),
+                        request.getTargetType().name(),
+                        targetUser != null ? targetUser.getId() : null,
+                        targetDepartment != null ? targetDepartment.getId() : null,
+                        targetName,
+                        sequenceNo,
+                        request.getRequired(),
+                        now,
+                        now
+                    });
+        }
 
-            SavedApprovalLineDetail detail = new SavedApprovalLineDetail();
-            detail.setSavedLine(savedLine);
-            detail.setRole(request.getRole());
-            detail.setTargetType(request.getTargetType());
-            detail.setSequenceNo(request.getSequenceNo() != null ? request.getSequenceNo() : i + 1);
-            detail.setIsRequired(request.getRequired());
+        List<SavedApprovalLineDetail> removed =
+                reusable.values().stream().flatMap(Deque::stream).toList();
+        if (!removed.isEmpty()) {
+            savedApprovalLineDetailRepository.deleteAllInBatch(removed);
+            savedLine.getDetails().removeAll(removed);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    INSERT_DETAIL_SQL,
+                    inserts,
+                    new int[] {
+                        Types.BIGINT,
+                        Types.VARCHAR,
+                        Types.VARCHAR,
+                        Types.BIGINT,
+                        Types.BIGINT,
+                        Types.VARCHAR,
+                        Types.INTEGER,
+                        Types.BOOLEAN,
+                        Types.TIMESTAMP,
+                        Types.TIMESTAMP
+                    });
+            // JDBC 로 넣은 상세는 영속성 컨텍스트를 거치지 않으므로 다시 읽어 컬렉션을 맞춘다.
+            List<SavedApprovalLineDetail> current =
+                    savedApprovalLineDetailRepository.findAllBySavedLineId(savedLine.getId());
+            savedLine.getDetails().clear();
+            savedLine.getDetails().addAll(current);
+        }
+    }
 
+    private Map<Long, User> findTargetUsers(List<SavedApprovalLineDetailRequestDto> requests) {
+        Set<Long> userIds = new HashSet<>();
+        for (SavedApprovalLineDetailRequestDto request : requests) {
             if (request.getTargetType() == ApprovalTargetType.USER) {
-                User targetUser = getUser(request.getTargetUserId());
-                detail.setTargetUser(targetUser);
-                detail.setTargetDepartment(null);
-                detail.setTargetNameSnapshot(
-                        toTargetName(ApprovalTargetType.USER, targetUser, null));
-            } else {
-                Department targetDepartment = getDepartment(request.getTargetDepartmentId());
-                detail.setTargetDepartment(targetDepartment);
-                detail.setTargetUser(null);
-                detail.setTargetNameSnapshot(
-                        toTargetName(ApprovalTargetType.DEPARTMENT, null, targetDepartment));
+                userIds.add(request.getTargetUserId());
             }
+        }
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, User> users =
+                userRepository.findAllByIdInWithDepartment(userIds).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (users.size() != userIds.size()) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        return users;
+    }
 
-            details.add(detail);
+    private Map<Long, Department> findTargetDepartments(
+            List<SavedApprovalLineDetailRequestDto> requests) {
+        Set<Long> departmentIds = new HashSet<>();
+        for (SavedApprovalLineDetailRequestDto request : requests) {
+            if (request.getTargetType() != ApprovalTargetType.USER) {
+                departmentIds.add(request.getTargetDepartmentId());
+            }
+        }
+        if (departmentIds.isEmpty()) {
+            return Map.of();
         }
 
-        savedApprovalLineDetailRepository.saveAll(details);
+        Map<Long, Department> departments =
+                departmentRepository.findAllById(departmentIds).stream()
+                        .collect(Collectors.toMap(Department::getId, Function.identity()));
+        if (departments.size() != departmentIds.size()) {
+            throw new CustomException(ErrorCode.DEPARTMENT_NOT_FOUND);
+        }
+        return departments;
     }
 
     private void validateDetailRequest(SavedApprovalLineDetailRequestDto request) {
@@ -304,13 +481,19 @@ public class SavedApprovalLineService {
                 .orElseThrow(() -> new CustomException(ErrorCode.DEPARTMENT_NOT_FOUND));
     }
 
+    /** 결재선 부서가 내 부서이거나 그 상위 부서면 읽을 수 있다. 관리는 같은 부서만 할 수 있다. */
     private boolean canReadDepartmentLine(User user, SavedApprovalLine line) {
         if (isGlobalDepartmentLineManager(user)) {
             return true;
         }
-        return user.getDepartment() != null
-                && line.getDepartment() != null
-                && user.getDepartment().getId().equals(line.getDepartment().getId());
+        if (user.getDepartment() == null || line.getDepartment() == null) {
+            return false;
+        }
+        Long departmentId = user.getDepartment().getId();
+        Long lineDepartmentId = line.getDepartment().getId();
+        return departmentId.equals(lineDepartmentId)
+                || departmentClosureRepository.existsByAncestorIdAndDescendantId(
+                        lineDepartmentId, departmentId);
     }
 
     private boolean canManageDepartmentLine(User user, SavedApprovalLine line) {
@@ -504,7 +687,37 @@ public class SavedApprovalLineService {
         return SavedApprovalLineResponseDto.ApprovalBoxPreviewDto.builder().slots(slots).build();
     }
 
+    private <T> T readOnly(Supplier<T> query) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> query.get());
+    }
+
     private boolean isTrue(Boolean value) {
         return Boolean.TRUE.equals(value);
     }
+
+    /** 상세 비교 키. 역할과 대상이 같으면 같은 상세로 보고 재사용한다. */
+    private record DetailKey(ApprovalRouteRole role, ApprovalTargetType targetType, Long targetId) {
+
+        static DetailKey of(SavedApprovalLineDetail detail) {
+            Long targetId =
+                    detail.getTargetType() == ApprovalTargetType.USER
+                            ? (detail.getTargetUser() != null
+                                    ? detail.getTargetUser().getId()
+                                    : null)
+                            : (detail.getTargetDepartment() != null
+                                    ? detail.getTargetDepartment().getId()
+                                    : null);
+            return new DetailKey(detail.getRole(), detail.getTargetType(), targetId);
+        }
+
+        static DetailKey of(SavedApprovalLineDetailRequestDto request) {
+            Long targetId =
+                    request.getTargetType() == ApprovalTargetType.USER
+                            ? request.getTargetUserId()
+                            : request.getTargetDepartmentId();
+            return new DetailKey(request.getRole(), request.getTargetType(), targetId);
+        }
+    }
 }
@@ -654,7 +654,7 @@ public class AuthController {
             Authentication authentication, @RequestBody LogoutRequestDto requestDto) {
 
         String email = authentication.getName();
-        authService.logout(email, requestDto.getRefreshToken());
+        authService.logout(email, requestDto.getRefreshToken(), requestDto.getFcmToken());
 
         return ResponseEntity.ok(ApiResponse.onNoContent("로그아웃되었습니다."));
     }
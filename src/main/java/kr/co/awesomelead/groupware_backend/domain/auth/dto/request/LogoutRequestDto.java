@@ -10,4 +10,7 @@ import lombok.NoArgsConstructor;
 public class LogoutRequestDto {
 
     private String refreshToken;
+
+    /** 로그아웃하는 기기의 FCM 토큰 (선택). 보내면 해당 기기로 더 이상 푸시를 보내지 않는다. */
+    private String fcmToken;
 }
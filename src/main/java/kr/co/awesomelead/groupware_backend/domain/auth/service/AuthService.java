@@ -16,6 +16,7 @@ import kr.co.awesomelead.groupware_backend.domain.auth.dto.response.LoginRespons
 import kr.co.awesomelead.groupware_backend.domain.auth.dto.response.SignupResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.auth.entity.RefreshToken;
 import kr.co.awesomelead.groupware_backend.domain.auth.util.JWTUtil;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTokenService;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
 import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
@@ -65,6 +66,7 @@ public class AuthService {
     private final RefreshTokenService refreshTokenService;
     private final NotificationService notificationService;
     private final SafetyTrainingSessionRepository safetyTrainingSessionRepository;
+    private final FcmTokenService fcmTokenService;
 
     @PersistenceContext private EntityManager entityManager;
 
@@ -211,7 +213,7 @@ public class AuthService {
         return loginResponseDto;
     }
 
-    public void logout(String email, String refreshToken) {
+    public void logout(String email, String refreshToken, String fcmToken) {
         RefreshToken token = refreshTokenService.validateRefreshToken(refreshToken);
 
         if (!token.getEmail().equals(email)) {
@@ -219,6 +221,12 @@ public class AuthService {
         }
 
         refreshTokenService.deleteRefreshToken(refreshToken);
+
+        if (fcmToken != null && !fcmToken.isBlank()) {
+            userRepository
+                    .findByEmail(email)
+                    .ifPresent(user -> fcmTokenService.deleteTokenOnLogout(user.getId(), fcmToken));
+        }
     }
 
     public AuthTokensDto reissue(String refreshToken) {
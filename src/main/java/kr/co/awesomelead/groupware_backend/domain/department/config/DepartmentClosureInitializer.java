@@ -0,0 +1,28 @@
+package kr.co.awesomelead.groupware_backend.domain.department.config;
+
+import kr.co.awesomelead.groupware_backend.domain.department.service.DepartmentClosureService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부서 데이터는 애플리케이션 밖에서도 바뀔 수 있으므로 기동 시 closure 테이블을 departments 기준으로 맞춘다. closure 를 쓰는
+ * 결재함 인덱스 초기 적재보다 먼저 실행한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DepartmentClosureInitializer implements ApplicationRunner {
+
+    private final DepartmentClosureService departmentClosureService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        departmentClosureService.rebuild();
+    }
+}
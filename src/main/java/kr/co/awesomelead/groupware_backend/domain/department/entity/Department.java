@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -15,11 +16,13 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
 import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,6 +31,7 @@ import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Getter
@@ -36,6 +40,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "departments")
+@EntityListeners(DepartmentEntityListener.class)
 public class Department {
 
     @Id
@@ -65,13 +70,33 @@ public class Department {
     @JsonManagedReference
     private List<User> users = new ArrayList<>();
 
+    /** 로딩 이후 상위 부서가 바뀌었는지 여부. closure 재계산 대상 판단에만 쓰며 저장하지 않는다. */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean parentChanged;
+
     public void setParent(Department parent) {
+        if (!Objects.equals(idOf(this.parent), idOf(parent))) {
+            this.parentChanged = true;
+        }
         this.parent = parent;
         if (parent != null) {
             parent.getChildren().add(this);
         }
     }
 
+    /** 상위 부서 변경 여부를 돌려주고 초기화한다. */
+    public boolean consumeParentChange() {
+        boolean changed = parentChanged;
+        parentChanged = false;
+        return changed;
+    }
+
+    private static Long idOf(Department department) {
+        return department != null ? department.getId() : null;
+    }
+
     // Service 로직 예시
 
     // 1. 부모가 없는 최상위 부서(Root)들만 조회
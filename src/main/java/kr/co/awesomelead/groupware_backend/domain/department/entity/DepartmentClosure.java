@@ -0,0 +1,55 @@
+package kr.co.awesomelead.groupware_backend.domain.department.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 부서 계층 closure 테이블. 모든 (상위 부서, 하위 부서) 쌍을 깊이와 함께 보관한다. 자기 자신은 depth 0 으로 포함한다.
+ *
+ * <p>departments.parent_id 가 바뀌면 {@code DepartmentClosureService} 가 다시 계산한다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "department_closure",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_department_closure_ancestor_descendant",
+                    columnNames = {"ancestor_id", "descendant_id"})
+        },
+        indexes = {
+            @Index(
+                    name = "idx_department_closure_descendant",
+                    columnList = "descendant_id, ancestor_id")
+        })
+public class DepartmentClosure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+}
@@ -0,0 +1,35 @@
+package kr.co.awesomelead.groupware_backend.domain.department.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import kr.co.awesomelead.groupware_backend.domain.department.event.DepartmentHierarchyChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/** 부서 변경을 감지해 계층 변경 이벤트를 발행한다. Hibernate 가 Spring 빈으로 생성한다. */
+@Component
+@RequiredArgsConstructor
+public class DepartmentEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostRemove
+    public void onChange(Department department) {
+        department.consumeParentChange();
+        eventPublisher.publishEvent(new DepartmentHierarchyChangedEvent());
+    }
+
+    /** 이름, 회사 등 계층과 무관한 수정에는 closure 를 다시 계산하지 않는다. */
+    @PostUpdate
+    public void onUpdate(Department department) {
+        if (department.consumeParentChange()) {
+            eventPublisher.publishEvent(new DepartmentHierarchyChangedEvent());
+        }
+    }
+}
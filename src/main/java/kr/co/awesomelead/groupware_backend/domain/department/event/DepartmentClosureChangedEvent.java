@@ -0,0 +1,21 @@
+package kr.co.awesomelead.groupware_backend.domain.department.event;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 부서 closure 의 (상위, 하위) 쌍이 추가되거나 삭제되었음을 알린다.
+ *
+ * @param ancestorsChangedIds 상위 부서 목록이 바뀐 부서 ID (바뀐 쌍의 하위 부서)
+ * @param descendantsChangedIds 하위 부서 목록이 바뀐 부서 ID (바뀐 쌍의 상위 부서)
+ */
+public record DepartmentClosureChangedEvent(
+        Set<Long> ancestorsChangedIds, Set<Long> descendantsChangedIds) {
+
+    /** 상위 또는 하위 부서 목록이 바뀐 부서 ID */
+    public Set<Long> departmentIds() {
+        Set<Long> departmentIds = new HashSet<>(ancestorsChangedIds);
+        departmentIds.addAll(descendantsChangedIds);
+        return departmentIds;
+    }
+}
@@ -0,0 +1,4 @@
+package kr.co.awesomelead.groupware_backend.domain.department.event;
+
+/** 부서가 추가/삭제되거나 상위 부서가 바뀌었음을 알린다. 커밋 후 closure 테이블을 다시 계산한다. */
+public record DepartmentHierarchyChangedEvent() {}
@@ -0,0 +1,27 @@
+package kr.co.awesomelead.groupware_backend.domain.department.repository;
+
+import kr.co.awesomelead.groupware_backend.domain.department.entity.DepartmentClosure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface DepartmentClosureRepository extends JpaRepository<DepartmentClosure, Long> {
+
+    /** 기준 부서와 모든 하위 부서 ID (기준 부서 포함) */
+    @Query(
+            "select c.descendantId from DepartmentClosure c "
+                    + "where c.ancestorId = :departmentId order by c.depth, c.descendantId")
+    List<Long> findDescendantIds(@Param("departmentId") Long departmentId);
+
+    /** 기준 부서와 모든 상위 부서 ID (기준 부서 포함, 가까운 순) */
+    @Query(
+            "select c.ancestorId from DepartmentClosure c "
+                    + "where c.descendantId = :departmentId order by c.depth")
+    List<Long> findAncestorIds(@Param("departmentId") Long departmentId);
+
+    /** ancestorId 가 descendantId 자신이거나 그 상위 부서인지 여부 */
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+}
@@ -5,7 +5,10 @@ import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
 import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +19,22 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     List<Department> findByParentIsNullAndCompany(Company company);
 
     Optional<Department> findByName(DepartmentName name);
+
+    @Query("select d.id as id, d.parent.id as parentId from Department d")
+    List<DepartmentParentLink> findAllParentLinks();
+
+    @Query("select d.id as id, d.name as name from Department d where d.id in :ids")
+    List<DepartmentNameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface DepartmentParentLink {
+        Long getId();
+
+        Long getParentId();
+    }
+
+    interface DepartmentNameView {
+        Long getId();
+
+        DepartmentName getName();
+    }
 }
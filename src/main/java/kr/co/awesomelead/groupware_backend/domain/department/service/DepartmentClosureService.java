@@ -0,0 +1,115 @@
+package kr.co.awesomelead.groupware_backend.domain.department.service;
+
+import kr.co.awesomelead.groupware_backend.domain.department.entity.DepartmentClosure;
+import kr.co.awesomelead.groupware_backend.domain.department.event.DepartmentClosureChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.department.event.DepartmentHierarchyChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentClosureRepository;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부서 closure 테이블 관리.
+ *
+ * <p>부서 수가 많지 않으므로 변경이 있을 때마다 departments.parent_id 전체로 closure 를 다시 계산하고, 기존 행과
+ * 비교해 바뀐 행만 반영한다. 쌍이 추가되거나 삭제되면 상위/하위 부서 목록이 바뀐 부서를 {@link
+ * DepartmentClosureChangedEvent} 로 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DepartmentClosureService {
+
+    private final DepartmentRepository departmentRepository;
+    private final DepartmentClosureRepository departmentClosureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onHierarchyChanged(DepartmentHierarchyChangedEvent event) {
+        rebuild();
+    }
+
+    @Transactional
+    public void rebuild() {
+        Map<Long, Long> parentById = new HashMap<>();
+        for (DepartmentRepository.DepartmentParentLink link :
+                departmentRepository.findAllParentLinks()) {
+            parentById.put(link.getId(), link.getParentId());
+        }
+
+        Map<PairKey, Integer> expected = new HashMap<>();
+        for (Long departmentId : parentById.keySet()) {
+            Set<Long> visited = new HashSet<>();
+            Long ancestorId = departmentId;
+            int depth = 0;
+            // parent_id 가 잘못 입력되어 순환이 생겨도 무한 루프에 빠지지 않도록 방문한 부서에서 멈춘다.
+            while (ancestorId != null && visited.add(ancestorId)) {
+                expected.put(new PairKey(ancestorId, departmentId), depth++);
+                ancestorId = parentById.get(ancestorId);
+            }
+        }
+
+        List<DepartmentClosure> stale = new ArrayList<>();
+        for (DepartmentClosure closure : departmentClosureRepository.findAll()) {
+            PairKey key = new PairKey(closure.getAncestorId(), closure.getDescendantId());
+            Integer depth = expected.remove(key);
+            if (depth == null) {
+                stale.add(closure);
+            } else if (!depth.equals(closure.getDepth())) {
+                closure.setDepth(depth);
+            }
+        }
+        if (!stale.isEmpty()) {
+            departmentClosureRepository.deleteAllInBatch(stale);
+        }
+
+        List<DepartmentClosure> added =
+                expected.entrySet().stream()
+                        .map(
+                                entry ->
+                                        DepartmentClosure.builder()
+                                                .ancestorId(entry.getKey().ancestorId())
+                                                .descendantId(entry.getKey().descendantId())
+                                                .depth(entry.getValue())
+                                                .build())
+                        .toList();
+        departmentClosureRepository.saveAll(added);
+
+        if (!stale.isEmpty() || !added.isEmpty()) {
+            log.info(
+                    "[DepartmentClosure] 부서 closure 갱신 - added: {}, removed: {}",
+                    added.size(),
+                    stale.size());
+            Set<Long> ancestorsChangedIds = new HashSet<>();
+            Set<Long> descendantsChangedIds = new HashSet<>();
+            for (DepartmentClosure closure : stale) {
+                ancestorsChangedIds.add(closure.getDescendantId());
+                descendantsChangedIds.add(closure.getAncestorId());
+            }
+            for (DepartmentClosure closure : added) {
+                ancestorsChangedIds.add(closure.getDescendantId());
+                descendantsChangedIds.add(closure.getAncestorId());
+            }
+            eventPublisher.publishEvent(
+                    new DepartmentClosureChangedEvent(ancestorsChangedIds, descendantsChangedIds));
+        }
+    }
+
+    private record PairKey(Long ancestorId, Long descendantId) {}
+}
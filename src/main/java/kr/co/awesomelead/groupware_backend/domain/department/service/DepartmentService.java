@@ -9,6 +9,7 @@ import kr.co.awesomelead.groupware_backend.domain.department.dto.response.UserSu
 import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
 import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
 import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentClosureRepository;
 import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 import kr.co.awesomelead.groupware_backend.domain.user.enums.Status;
@@ -22,7 +23,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -33,6 +33,7 @@ import java.util.List;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final DepartmentClosureRepository departmentClosureRepository;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
 
@@ -87,9 +88,11 @@ public class DepartmentService {
                         .findById(departmentId)
                         .orElseThrow(() -> new CustomException(ErrorCode.DEPARTMENT_NOT_FOUND));
 
-        // 모든 하위 부서 ID 수집 (본인 포함)
-        List<Long> allDeptIds = new ArrayList<>();
-        collectDepartmentIdsRecursive(targetDept, allDeptIds);
+        // 모든 하위 부서 ID 수집 (본인 포함). 방금 만든 부서라 closure 가 아직 없으면 본인만 대상이다.
+        List<Long> allDeptIds = departmentClosureRepository.findDescendantIds(targetDept.getId());
+        if (allDeptIds.isEmpty()) {
+            allDeptIds = List.of(targetDept.getId());
+        }
 
         // 해당 부서들에 속한 모든 유저 조회
         List<User> users = userRepository.findAllByDepartmentIdIn(allDeptIds);
@@ -98,16 +101,6 @@ public class DepartmentService {
         return users.stream().map(userMapper::toSummaryDto).toList();
     }
 
-    private void collectDepartmentIdsRecursive(Department department, List<Long> ids) {
-        ids.add(department.getId());
-
-        if (department.getChildren() != null) {
-            for (Department child : department.getChildren()) {
-                collectDepartmentIdsRecursive(child, ids);
-            }
-        }
-    }
-
     private OrganizationDepartmentNodeResponseDto toOrganizationDepartmentNode(
             Department department) {
         List<OrganizationUserNodeResponseDto> users =
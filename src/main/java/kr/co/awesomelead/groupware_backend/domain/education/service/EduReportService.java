@@ -27,6 +27,9 @@ import kr.co.awesomelead.groupware_backend.domain.education.repository.EduAttend
 import kr.co.awesomelead.groupware_backend.domain.education.repository.EduReportQueryRepository;
 import kr.co.awesomelead.groupware_backend.domain.education.repository.EduReportRepository;
 import kr.co.awesomelead.groupware_backend.domain.education.repository.EducationCategoryRepository;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.NotificationAudience;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
 import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 import kr.co.awesomelead.groupware_backend.domain.user.enums.Authority;
@@ -170,16 +173,22 @@ public class EduReportService {
 
         EduReport savedReport = eduReportRepository.save(report);
 
-        // 알림 발송 대상 조회 및 전송
+        // 알림 발송 대상 조회 및 전송 (전사/회사/부서 단위 교육은 브로드캐스트 알림으로 한 건만 저장)
         List<Long> targetUserIds;
+        NotificationAudience audience = null;
         if (requestDto.getEduType() == EduType.PSM || requestDto.getEduType() == EduType.SAFETY) {
             if (report.getCompany() == null) {
                 targetUserIds = userRepository.findAllActiveUserIds();
+                audience = NotificationAudience.all();
             } else {
                 targetUserIds = userRepository.findAllIdsByCompany(report.getCompany());
+                audience = NotificationAudience.company(report.getCompany());
             }
         } else {
             targetUserIds = userRepository.findAllIdsByDepartmentId(requestDto.getDepartmentId());
+            if (department != null) {
+                audience = NotificationAudience.department(department.getId());
+            }
         }
         Map<String, Object> metadata =
                 requestDto.getEduType() == EduType.SAFETY
@@ -189,12 +198,24 @@ public class EduReportService {
                                 "detailType",
                                 "GENERAL")
                         : Map.of("educationType", requestDto.getEduType().name());
-        notificationService.sendEduReportAlertToTargets(
-                requestDto.getEduType().getDescription(),
-                requestDto.getTitle(),
-                savedReport.getId(),
-                targetUserIds,
-                metadata);
+        if (audience != null) {
+            notificationService.sendBroadcastAlert(
+                    audience,
+                    targetUserIds,
+                    NotificationMessage.EDU_REPORT_CREATED,
+                    NotificationDomainType.EDUCATION,
+                    savedReport.getId(),
+                    metadata,
+                    requestDto.getEduType().getDescription(),
+                    requestDto.getTitle());
+        } else {
+            notificationService.sendEduReportAlertToTargets(
+                    requestDto.getEduType().getDescription(),
+                    requestDto.getTitle(),
+                    savedReport.getId(),
+                    targetUserIds,
+                    metadata);
+        }
 
         return savedReport.getId();
     }
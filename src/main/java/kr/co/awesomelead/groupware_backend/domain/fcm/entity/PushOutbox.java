@@ -0,0 +1,76 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.enums.PushOutboxStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 푸시 발송 대기열 (transactional outbox).
+ *
+ * <p>알림을 저장하는 트랜잭션 안에서 함께 기록되고, {@code PushOutboxRelay} 가 SKIP LOCKED 로 나눠 가져가 발송한다. 쓰기/조회는
+ * JDBC 로 하며, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "push_outbox",
+        indexes = {
+            @Index(
+                    name = "idx_push_outbox_status_next_attempt",
+                    columnList = "status, next_attempt_at, id")
+        })
+public class PushOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 유저 대상 발송이면 수신 유저, 토픽 발송이면 null */
+    private Long userId;
+
+    /** 토픽 발송이면 토픽 이름 */
+    @Column(length = 100)
+    private String topic;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    /** FCM data payload (JSON) */
+    @Column(columnDefinition = "TEXT")
+    private String data;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PushOutboxStatus status;
+
+    /** 발송 시도 횟수 */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 이 시각 이후에 발송(재시도)한다. 발송 중인 행은 점유 만료 시각이 들어 있다. */
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
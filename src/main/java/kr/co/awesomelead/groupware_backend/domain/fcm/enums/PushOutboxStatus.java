@@ -0,0 +1,9 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.enums;
+
+/** 푸시 발송 대기열 상태. 발송에 성공한 행은 바로 삭제한다. */
+public enum PushOutboxStatus {
+    /** 발송 대기 (재시도 대기 포함) */
+    PENDING,
+    /** 최대 재시도 횟수를 넘겨 더 이상 발송하지 않음 */
+    DEAD
+}
@@ -1,12 +1,13 @@
 package kr.co.awesomelead.groupware_backend.domain.fcm.event;
 
-import com.google.firebase.messaging.FirebaseMessagingException;
-
-import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmService;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTopicService;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.PushOutboxRecorder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -16,11 +17,29 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class FcmEventListener {
 
-    private final FcmService fcmService;
+    private final PushOutboxRecorder pushOutboxRecorder;
+    private final FcmTopicService fcmTopicService;
+
+    /**
+     * 발송 요청을 발행한 트랜잭션 안에서 푸시 발송 대기열에 기록한다. 실제 발송은 커밋 이후 {@code PushOutboxRelay} 가 한다.
+     */
+    @EventListener
+    public void handleFcmSendEvent(FcmSendEvent event) {
+        log.debug("FCM 이벤트 수신 - userId: {}", event.userId());
+        pushOutboxRecorder.record(event);
+    }
+
+    /** 커밋 이후 유저의 토픽 구독을 현재 근무지/부서에 맞춘다. FCM 호출이 있으므로 요청 스레드를 막지 않는다. */
+    @Async("fcmTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFcmTopicSyncEvent(FcmTopicSyncEvent event) {
+        fcmTopicService.syncUser(event.userId());
+    }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleFcmSendEvent(FcmSendEvent event) throws FirebaseMessagingException {
-        log.debug("FCM 이벤트 수신 (AFTER_COMMIT) - userId: {}", event.userId());
-        fcmService.sendToUser(event.userId(), event.title(), event.body(), event.data());
+    /** 커밋 이후 삭제되거나 교체된 토큰의 토픽 구독을 FCM 에서 해지한다. */
+    @Async("fcmTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFcmTopicUnsubscribeEvent(FcmTopicUnsubscribeEvent event) {
+        fcmTopicService.unsubscribe(event.token(), event.topics());
     }
 }
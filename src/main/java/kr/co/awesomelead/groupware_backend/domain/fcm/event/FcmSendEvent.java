@@ -2,4 +2,20 @@ package kr.co.awesomelead.groupware_backend.domain.fcm.event;
 
 import java.util.Map;
 
-public record FcmSendEvent(Long userId, String title, String body, Map<String, String> data) {}
+/**
+ * 푸시 발송 요청. userId 로 보내거나, topic 이 있으면 해당 토픽 구독자 전체에게 한 번에 보낸다.
+ *
+ * @param topic 토픽 이름. 유저 대상 발송이면 null
+ */
+public record FcmSendEvent(
+        Long userId, String title, String body, Map<String, String> data, String topic) {
+
+    public FcmSendEvent(Long userId, String title, String body, Map<String, String> data) {
+        this(userId, title, body, data, null);
+    }
+
+    public static FcmSendEvent toTopic(
+            String topic, String title, String body, Map<String, String> data) {
+        return new FcmSendEvent(null, title, body, data, topic);
+    }
+}
@@ -0,0 +1,4 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.event;
+
+/** 유저의 회사/부서가 바뀌었거나 토큰이 새로 등록되어 토픽 구독을 다시 맞춰야 할 때 발행한다. */
+public record FcmTopicSyncEvent(Long userId) {}
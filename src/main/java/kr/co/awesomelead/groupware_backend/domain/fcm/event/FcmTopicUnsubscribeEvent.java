@@ -0,0 +1,6 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.event;
+
+import java.util.List;
+
+/** 삭제되거나 교체된 토큰의 토픽 구독을 FCM 에서 해지할 때 발행한다. */
+public record FcmTopicUnsubscribeEvent(String token, List<String> topics) {}
@@ -0,0 +1,115 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.gateway;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.google.firebase.messaging.TopicManagementResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/** FCM(Firebase Admin SDK) 으로 보내는 기본 구현 */
+@Component
+@ConditionalOnProperty(name = "fcm.gateway", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushGateway implements PushGateway {
+
+    @Override
+    public List<PushResult> sendMulticast(
+            List<String> tokens, String title, String body, Map<String, String> data)
+            throws PushGatewayException {
+        MulticastMessage.Builder builder =
+                MulticastMessage.builder()
+                        .setNotification(
+                                Notification.builder().setTitle(title).setBody(body).build())
+                        .addAllTokens(tokens);
+
+        if (data != null && !data.isEmpty()) {
+            builder.putAllData(data);
+        }
+
+        BatchResponse response;
+        try {
+            response = FirebaseMessaging.getInstance().sendEachForMulticast(builder.build());
+        } catch (FirebaseMessagingException e) {
+            throw translate(e);
+        }
+
+        List<PushResult> results = new ArrayList<>(tokens.size());
+        if (response.getFailureCount() == 0) {
+            tokens.forEach(token -> results.add(PushResult.success()));
+            return results;
+        }
+        for (SendResponse sendResponse : response.getResponses()) {
+            results.add(
+                    sendResponse.isSuccessful()
+                            ? PushResult.success()
+                            : PushResult.failure(
+                                    sendResponse.getException().getMessagingErrorCode()));
+        }
+        return results;
+    }
+
+    @Override
+    public String sendToTopic(String topic, String title, String body, Map<String, String> data)
+            throws PushGatewayException {
+        Message.Builder builder =
+                Message.builder()
+                        .setTopic(topic)
+                        .setNotification(
+                                Notification.builder().setTitle(title).setBody(body).build());
+
+        if (data != null && !data.isEmpty()) {
+            builder.putAllData(data);
+        }
+
+        try {
+            return FirebaseMessaging.getInstance().send(builder.build());
+        } catch (FirebaseMessagingException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public void subscribeToTopic(List<String> tokens, String topic) throws PushGatewayException {
+        try {
+            checkTopicResponse(FirebaseMessaging.getInstance().subscribeToTopic(tokens, topic));
+        } catch (FirebaseMessagingException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public void unsubscribeFromTopic(List<String> tokens, String topic)
+            throws PushGatewayException {
+        try {
+            checkTopicResponse(
+                    FirebaseMessaging.getInstance().unsubscribeFromTopic(tokens, topic));
+        } catch (FirebaseMessagingException e) {
+            throw translate(e);
+        }
+    }
+
+    private void checkTopicResponse(TopicManagementResponse response)
+            throws PushGatewayException {
+        if (response.getFailureCount() > 0) {
+            throw new PushGatewayException(
+                    null,
+                    "토픽 구독 변경 실패 - 실패 수: "
+                            + response.getFailureCount()
+                            + ", 사유: "
+                            + response.getErrors().get(0).getReason());
+        }
+    }
+
+    private PushGatewayException translate(FirebaseMessagingException e) {
+        return new PushGatewayException(e.getMessagingErrorCode(), e.getMessage(), e);
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.gateway;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 푸시 발송 창구.
+ *
+ * <p>운영에서는 {@link FirebasePushGateway} 가 FCM 으로 보내고, {@code fcm.gateway=stub} 이면 {@link
+ * StubPushGateway} 가 지연과 오류를 흉내 내며 프로세스 안에서 처리한다. Firebase 의 응답/예외 타입은 밖에서 만들 수 없으므로 결과는
+ * {@link PushResult} 와 {@link PushGatewayException} 으로 돌려준다.
+ */
+public interface PushGateway {
+
+    /**
+     * 여러 토큰으로 같은 메시지를 보낸다.
+     *
+     * @return 요청한 토큰 순서와 같은 순서의 토큰별 결과
+     * @throws PushGatewayException 호출 자체가 실패한 경우 (인증, 네트워크, 할당량 초과 등)
+     */
+    List<PushResult> sendMulticast(
+            List<String> tokens, String title, String body, Map<String, String> data)
+            throws PushGatewayException;
+
+    /**
+     * 토픽 구독자 전체에게 메시지를 보낸다.
+     *
+     * @param data FCM data payload (선택)
+     * @return 메시지 ID
+     */
+    String sendToTopic(String topic, String title, String body, Map<String, String> data)
+            throws PushGatewayException;
+
+    /**
+     * 토큰들을 토픽에 구독시킨다.
+     *
+     * @throws PushGatewayException 호출이 실패했거나 구독에 실패한 토큰이 있는 경우
+     */
+    void subscribeToTopic(List<String> tokens, String topic) throws PushGatewayException;
+
+    /** 토큰들의 토픽 구독을 해지한다. */
+    void unsubscribeFromTopic(List<String> tokens, String topic) throws PushGatewayException;
+}
@@ -0,0 +1,21 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.gateway;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import lombok.Getter;
+
+/** 푸시 발송 호출 자체가 실패한 경우. errorCode 는 알 수 없으면 null 이다. */
+@Getter
+public class PushGatewayException extends Exception {
+
+    private final MessagingErrorCode errorCode;
+
+    public PushGatewayException(MessagingErrorCode errorCode, String message) {
+        this(errorCode, message, null);
+    }
+
+    public PushGatewayException(MessagingErrorCode errorCode, String message, Throwable cause) {
+        super(message, cause);
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,21 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.gateway;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/**
+ * 토큰 하나의 발송 결과
+ *
+ * @param errorCode 실패 사유. 성공했거나 알 수 없는 오류면 null
+ */
+public record PushResult(boolean successful, MessagingErrorCode errorCode) {
+
+    private static final PushResult SUCCESS = new PushResult(true, null);
+
+    public static PushResult success() {
+        return SUCCESS;
+    }
+
+    public static PushResult failure(MessagingErrorCode errorCode) {
+        return new PushResult(false, errorCode);
+    }
+}
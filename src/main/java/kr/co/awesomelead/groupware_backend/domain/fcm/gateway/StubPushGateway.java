@@ -0,0 +1,160 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.gateway;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM 을 흉내 내는 프로세스 내 구현. 부하 시험과 로컬 개발에서 구글을 호출하지 않고 발송 경로 전체를 돌려 볼 때 쓴다.
+ *
+ * <p>호출마다 latency ± latency-jitter 만큼 지연하고, quota-exceeded-rate 확률로 호출 전체를 QUOTA_EXCEEDED 로
+ * 실패시킨다. 토큰별로는 unregistered-rate / unavailable-rate 확률로 실패하며, {@value #UNREGISTERED_PREFIX} 로 시작하는
+ * 토큰은 항상 UNREGISTERED 로 실패한다. 호출마다 성공한 메시지 수와 시각을 남겨 두므로 하네스가 발송 완료와 지연 분포를 확인할 수
+ * 있다.
+ *
+ * <pre>
+ * fcm.gateway=stub
+ * fcm.stub.latency=PT0.08S
+ * fcm.stub.unregistered-rate=0.01
+ * fcm.stub.quota-exceeded-rate=0.001
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.gateway", havingValue = "stub")
+public class StubPushGateway implements PushGateway {
+
+    public static final String UNREGISTERED_PREFIX = "unregistered-";
+
+    @Value("${fcm.stub.latency:PT0.05S}")
+    private Duration latency;
+
+    @Value("${fcm.stub.latency-jitter:PT0.02S}")
+    private Duration latencyJitter;
+
+    @Value("${fcm.stub.unregistered-rate:0}")
+    private double unregisteredRate;
+
+    @Value("${fcm.stub.unavailable-rate:0}")
+    private double unavailableRate;
+
+    @Value("${fcm.stub.quota-exceeded-rate:0}")
+    private double quotaExceededRate;
+
+    private final AtomicLong deliveredMessages = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+    private final Queue<Delivery> deliveries = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public List<PushResult> sendMulticast(
+            List<String> tokens, String title, String body, Map<String, String> data)
+            throws PushGatewayException {
+        simulateCall();
+
+        List<PushResult> results = new ArrayList<>(tokens.size());
+        int delivered = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (String token : tokens) {
+            if (token.startsWith(UNREGISTERED_PREFIX) || random.nextDouble() < unregisteredRate) {
+                results.add(PushResult.failure(MessagingErrorCode.UNREGISTERED));
+            } else if (random.nextDouble() < unavailableRate) {
+                results.add(PushResult.failure(MessagingErrorCode.UNAVAILABLE));
+            } else {
+                results.add(PushResult.success());
+                delivered++;
+            }
+        }
+        recordDelivered(delivered);
+        return results;
+    }
+
+    @Override
+    public String sendToTopic(String topic, String title, String body, Map<String, String> data)
+            throws PushGatewayException {
+        simulateCall();
+        recordDelivered(1);
+        return "stub-" + UUID.randomUUID();
+    }
+
+    @Override
+    public void subscribeToTopic(List<String> tokens, String topic) throws PushGatewayException {
+        simulateCall();
+    }
+
+    @Override
+    public void unsubscribeFromTopic(List<String> tokens, String topic)
+            throws PushGatewayException {
+        simulateCall();
+    }
+
+    /** 지금까지 성공한 메시지 수 */
+    public long deliveredMessages() {
+        return deliveredMessages.get();
+    }
+
+    /** 지금까지 받은 호출 수 */
+    public long calls() {
+        return calls.get();
+    }
+
+    /** 호출별 성공 기록 */
+    public List<Delivery> deliveries() {
+        return List.copyOf(deliveries);
+    }
+
+    public void reset() {
+        deliveredMessages.set(0);
+        calls.set(0);
+        deliveries.clear();
+    }
+
+    private void simulateCall() throws PushGatewayException {
+        calls.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long jitterNanos = latencyJitter.toNanos();
+        long delayNanos =
+                latency.toNanos()
+                        + (jitterNanos > 0 ? random.nextLong(-jitterNanos, jitterNanos + 1) : 0);
+        if (delayNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (random.nextDouble() < quotaExceededRate) {
+            log.debug("[StubPushGateway] QUOTA_EXCEEDED 응답");
+            throw new PushGatewayException(
+                    MessagingErrorCode.QUOTA_EXCEEDED, "stub quota exceeded");
+        }
+    }
+
+    private void recordDelivered(int delivered) {
+        if (delivered > 0) {
+            deliveries.add(new Delivery(System.nanoTime(), delivered));
+            deliveredMessages.addAndGet(delivered);
+        }
+    }
+
+    /**
+     * 한 번의 호출에서 성공한 메시지
+     *
+     * @param deliveredAtNanos 성공 시각 ({@link System#nanoTime()} 기준)
+     */
+    public record Delivery(long deliveredAtNanos, int messages) {}
+}
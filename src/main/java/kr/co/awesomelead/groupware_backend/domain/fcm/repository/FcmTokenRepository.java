@@ -4,7 +4,9 @@ import kr.co.awesomelead.groupware_backend.domain.fcm.entity.FcmToken;
 import kr.co.awesomelead.groupware_backend.domain.fcm.enums.DeviceType;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +16,13 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
 
     List<FcmToken> findAllByUserId(Long userId);
 
+    List<FcmToken> findAllByUserIdIn(Collection<Long> userIds);
+
     Optional<FcmToken> findByToken(String token);
 
     void deleteByToken(String token);
+
+    /** 토큰을 하나 이상 가진 유저 ID */
+    @Query("SELECT DISTINCT t.user.id FROM FcmToken t ORDER BY t.user.id")
+    List<Long> findDistinctUserIds();
 }
@@ -0,0 +1,200 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.enums.PushOutboxStatus;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 푸시 발송 대기열 JDBC 접근.
+ *
+ * <p>대기열은 다수 인스턴스가 동시에 꺼내 가므로 {@link #claim} 은 SELECT ... FOR UPDATE SKIP LOCKED 로 다른 인스턴스가
+ * 잡은 행을 건너뛰고, 가져간 행의 next_attempt_at 을 점유 만료 시각으로 미뤄 둔다. 발송 도중 인스턴스가 죽으면 점유가 만료된 뒤
+ * 다른 인스턴스가 다시 가져간다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PushOutboxRepository {
+
+    private static final String INSERT_SQL =
+            """
+            INSERT INTO push_outbox
+                (user_id, topic, title, body, data, status, attempts, next_attempt_at, created_at)
+            VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)
+            """;
+
+    private static final String CLAIM_SQL =
+            """
+            SELECT id, user_id, topic, title, body, data, attempts
+              FROM push_outbox
+             WHERE status = 'PENDING' AND next_attempt_at <= ?
+             ORDER BY next_attempt_at, id
+             LIMIT ?
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String LEASE_SQL =
+            "UPDATE push_outbox SET attempts = attempts + 1, next_attempt_at = ? WHERE id = ?";
+
+    private static final String RESCHEDULE_SQL =
+            "UPDATE push_outbox SET status = ?, next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE push_outbox SET attempts = attempts - 1, next_attempt_at = ? WHERE id = ?";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, String>> DATA_TYPE = new TypeReference<>() {};
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 발송 요청을 한 번의 batch 로 대기열에 넣는다. 호출한 트랜잭션과 함께 커밋된다. */
+    public void insertAll(Collection<FcmSendEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                events,
+                events.size(),
+                (ps, event) -> {
+                    ps.setObject(1, event.userId(), Types.BIGINT);
+                    ps.setString(2, event.topic());
+                    ps.setString(3, event.title());
+                    ps.setString(4, event.body());
+                    ps.setString(5, writeData(event.data()));
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+    }
+
+    /**
+     * 발송 시각이 된 행을 최대 limit 건 가져가고 leaseUntil 까지 점유한다. 트랜잭션 안에서 호출해야 한다.
+     *
+     * @return 가져간 행. attempts 는 이번 시도를 포함한 횟수다.
+     */
+    public List<PushOutboxRow> claim(int limit, LocalDateTime leaseUntil) {
+        List<PushOutboxRow> rows =
+                jdbcTemplate.query(
+                        CLAIM_SQL, this::mapRow, Timestamp.valueOf(LocalDateTime.now()), limit);
+        if (!rows.isEmpty()) {
+            Timestamp lease = Timestamp.valueOf(leaseUntil);
+            jdbcTemplate.batchUpdate(
+                    LEASE_SQL,
+                    rows,
+                    rows.size(),
+                    (ps, row) -> {
+                        ps.setTimestamp(1, lease);
+                        ps.setLong(2, row.id());
+                    });
+        }
+        return rows;
+    }
+
+    public void deleteAllByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM push_outbox WHERE id = ?",
+                ids,
+                ids.size(),
+                (ps, id) -> ps.setLong(1, id));
+    }
+
+    /** 가져갔지만 보내지 않은 행을 이번 시도를 세지 않고 nextAttemptAt 에 다시 가져갈 수 있게 돌려놓는다. */
+    public void releaseAll(Collection<Long> ids, LocalDateTime nextAttemptAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp next = Timestamp.valueOf(nextAttemptAt);
+        jdbcTemplate.batchUpdate(
+                RELEASE_SQL,
+                ids,
+                ids.size(),
+                (ps, id) -> {
+                    ps.setTimestamp(1, next);
+                    ps.setLong(2, id);
+                });
+    }
+
+    /** 다음 시도 시각을 정하거나 더 이상 시도하지 않도록 DEAD 로 돌린다. */
+    public void reschedule(
+            long id, PushOutboxStatus status, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update(
+                RESCHEDULE_SQL,
+                status.name(),
+                Timestamp.valueOf(nextAttemptAt),
+                truncate(error),
+                id);
+    }
+
+    private PushOutboxRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new PushOutboxRow(
+                rs.getLong("id"),
+                new FcmSendEvent(
+                        rs.getObject("user_id", Long.class),
+                        rs.getString("title"),
+                        rs.getString("body"),
+                        readData(rs.getString("data")),
+                        rs.getString("topic")),
+                rs.getInt("attempts") + 1);
+    }
+
+    private String writeData(Map<String, String> data) {
+        if (data == null || data.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("[PushOutbox] data 직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private Map<String, String> readData(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, DATA_TYPE);
+        } catch (JsonProcessingException e) {
+            log.error("[PushOutbox] data 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= ERROR_MAX_LENGTH) {
+            return error;
+        }
+        return error.substring(0, ERROR_MAX_LENGTH);
+    }
+
+    /**
+     * 대기열에서 가져간 발송 요청
+     *
+     * @param attempts 이번 시도를 포함한 발송 시도 횟수
+     */
+    public record PushOutboxRow(long id, FcmSendEvent event, int attempts) {}
+}
@@ -0,0 +1,96 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.service;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * FCM 전역 차단기.
+ *
+ * <p>FCM 이 QUOTA_EXCEEDED / UNAVAILABLE 을 돌려주면 호출마다 따로 재시도하지 않고 애플리케이션 전체의 발송을 잠시 멈춘다.
+ * 차단 시간은 open-duration 에서 시작해 연속으로 걸릴 때마다 두 배씩 늘어나며 max-open-duration 을 넘지 않는다. 차단이 풀린 뒤
+ * 첫 호출이 성공하면 다시 open-duration 부터 센다.
+ *
+ * <p>차단 상태는 인스턴스마다 따로 가진다. 한 인스턴스가 QUOTA_EXCEEDED 를 받아 차단해도 다른 인스턴스는 자기가 같은 오류를 받을
+ * 때까지 발송을 계속하므로, 인스턴스가 N 대면 할당량 초과 직후 최대 N 번의 호출이 더 나갈 수 있다.
+ */
+@Slf4j
+@Component
+public class FcmCircuitBreaker {
+
+    private static final Set<MessagingErrorCode> TRIP_CODES =
+            Set.of(MessagingErrorCode.QUOTA_EXCEEDED, MessagingErrorCode.UNAVAILABLE);
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fcm.circuit-breaker.open-duration:PT30S}")
+    private Duration openDuration;
+
+    @Value("${fcm.circuit-breaker.max-open-duration:PT10M}")
+    private Duration maxOpenDuration;
+
+    private volatile long openUntilNanos = System.nanoTime();
+    private int consecutiveTrips;
+
+    public FcmCircuitBreaker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("fcm.circuit.open", this, breaker -> breaker.isOpen() ? 1 : 0)
+                .description("FCM 발송 차단 여부 (1 = 차단)")
+                .register(meterRegistry);
+    }
+
+    public boolean isOpen() {
+        return System.nanoTime() - openUntilNanos < 0;
+    }
+
+    /** @return 차단이 풀리는 시각. 차단 중이 아니면 현재 시각 */
+    public LocalDateTime openUntil() {
+        long remainingNanos = openUntilNanos - System.nanoTime();
+        return LocalDateTime.now().plusNanos(Math.max(remainingNanos, 0));
+    }
+
+    /** @return 차단 대상 오류면 true */
+    public static boolean isTripCode(MessagingErrorCode code) {
+        return code != null && TRIP_CODES.contains(code);
+    }
+
+    /** 차단 대상 오류면 차단기를 연다. 그 외 오류는 무시한다. */
+    public synchronized void recordFailure(MessagingErrorCode code) {
+        if (!isTripCode(code) || isOpen()) {
+            return;
+        }
+        Duration duration = openDuration.multipliedBy(1L << Math.min(consecutiveTrips, 20));
+        if (duration.compareTo(maxOpenDuration) > 0) {
+            duration = maxOpenDuration;
+        }
+        consecutiveTrips++;
+        openUntilNanos = System.nanoTime() + duration.toNanos();
+        Counter.builder("fcm.circuit.trips")
+                .tag("code", code.name())
+                .register(meterRegistry)
+                .increment();
+        log.warn(
+                "[FcmCircuitBreaker] FCM 발송 차단 - code: {}, 차단 시간: {}, 연속 차단: {}",
+                code,
+                duration,
+                consecutiveTrips);
+    }
+
+    public synchronized void recordSuccess() {
+        if (consecutiveTrips > 0 && !isOpen()) {
+            log.info("[FcmCircuitBreaker] FCM 발송 재개");
+            consecutiveTrips = 0;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.service;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.entity.FcmToken;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGatewayException;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * FCM 발송 묶음 처리기.
+ *
+ * <p>발송 요청 목록을 제목/본문/data 가 같은 것끼리 묶고, 대상 유저 토큰을 한 번에 조회해 최대 {@link
+ * #MULTICAST_TOKEN_LIMIT} 개씩 멀티캐스트로 보낸다. 한 유저의 토큰은 같은 멀티캐스트에 담기므로, 멀티캐스트가 실패하면 그 안에
+ * 담긴 요청만 실패로 돌려준다. 2,000명 대상 공지도 토큰 조회 몇 번과 FCM 호출 몇 번으로 끝난다.
+ *
+ * <p>{@link FcmCircuitBreaker} 가 열려 있으면 남은 묶음은 보내지 않고 {@link #CIRCUIT_OPEN} 실패로 돌려주며, 일시적인
+ * 오류로 실패한 토큰이 있는 요청도 실패로 돌려준다. 이때 같은 유저의 다른 기기로는 다시 발송될 수 있다. 토픽 대상 요청은 토큰
+ * 조회 없이 요청마다 토픽 메시지 한 번으로 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmDispatcher {
+
+    /** FCM 멀티캐스트 한 번에 보낼 수 있는 최대 토큰 수 */
+    public static final int MULTICAST_TOKEN_LIMIT = 500;
+
+    /** 차단기가 열려 있어 보내지 않은 요청의 실패 사유. 발송 시도로 세지 않는다. */
+    public static final String CIRCUIT_OPEN = "FCM 발송 일시 중단";
+
+    private static final int TOKEN_QUERY_CHUNK_SIZE = 1000;
+
+    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmService fcmService;
+    private final FcmCircuitBreaker fcmCircuitBreaker;
+
+    /**
+     * 발송 요청을 묶어서 동기로 발송한다.
+     *
+     * @param eventsByKey 호출자가 정한 키별 발송 요청
+     * @return 발송에 실패한 요청의 키와 실패 사유. 토큰이 없는 유저는 성공으로 본다.
+     */
+    public <K> Map<K, String> dispatch(Map<K, FcmSendEvent> eventsByKey) {
+        if (eventsByKey.isEmpty()) {
+            return Map.of();
+        }
+        Map<K, String> failures = new HashMap<>();
+        Map<Payload, Map<K, Long>> groups = new LinkedHashMap<>();
+        List<FcmSendEvent> userEvents = new ArrayList<>();
+        eventsByKey.forEach(
+                (key, event) -> {
+                    if (event.topic() != null) {
+                        sendTopic(key, event, failures);
+                        return;
+                    }
+                    groups.computeIfAbsent(
+                                    new Payload(event.title(), event.body(), event.data()),
+                                    payload -> new LinkedHashMap<>())
+                            .put(key, event.userId());
+                    userEvents.add(event);
+                });
+        if (userEvents.isEmpty()) {
+            return failures;
+        }
+
+        Map<Long, List<String>> tokensByUserId;
+        try {
+            tokensByUserId = findTokens(userEvents);
+        } catch (DataAccessException e) {
+            log.warn("[FcmDispatcher] 토큰 조회 실패 - 요청 수: {}", userEvents.size(), e);
+            groups.values()
+                    .forEach(group -> group.keySet().forEach(key -> failures.put(key, "토큰 조회 실패")));
+            return failures;
+        }
+
+        int multicasts = 0;
+        for (Map.Entry<Payload, Map<K, Long>> group : groups.entrySet()) {
+            List<Chunk<K>> chunks = toChunks(group.getValue(), tokensByUserId);
+            for (Chunk<K> chunk : chunks) {
+                send(chunk, group.getKey(), failures);
+            }
+            multicasts += chunks.size();
+        }
+        log.debug(
+                "[FcmDispatcher] 묶음 발송 - 요청 수: {}, 묶음 수: {}, 멀티캐스트 수: {}, 실패: {}",
+                eventsByKey.size(),
+                groups.size(),
+                multicasts,
+                failures.size());
+        return failures;
+    }
+
+    /** 유저 단위로 토큰을 채워 MULTICAST_TOKEN_LIMIT 을 넘기 전에 다음 묶음으로 넘긴다. 같은 유저는 한 번만 담는다. */
+    private <K> List<Chunk<K>> toChunks(
+            Map<K, Long> userIdsByKey, Map<Long, List<String>> tokensByUserId) {
+        List<Chunk<K>> chunks = new ArrayList<>();
+        Chunk<K> current = new Chunk<>(new ArrayList<>(), new LinkedHashMap<>());
+        Set<Long> seenUserIds = new HashSet<>();
+        for (Map.Entry<K, Long> entry : userIdsByKey.entrySet()) {
+            Long userId = entry.getValue();
+            List<String> tokens = tokensByUserId.getOrDefault(userId, List.of());
+            if (!seenUserIds.add(userId) || tokens.isEmpty()) {
+                continue;
+            }
+            if (current.tokens().size() + tokens.size() > MULTICAST_TOKEN_LIMIT
+                    && !current.tokens().isEmpty()) {
+                chunks.add(current);
+                current = new Chunk<>(new ArrayList<>(), new LinkedHashMap<>());
+            }
+            for (String token : tokens) {
+                current.tokens().add(token);
+                current.keysByToken().put(token, entry.getKey());
+            }
+        }
+        if (!current.tokens().isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private Map<Long, List<String>> findTokens(Iterable<FcmSendEvent> events) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        events.forEach(event -> userIds.add(event.userId()));
+
+        Map<Long, List<String>> tokensByUserId = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += TOKEN_QUERY_CHUNK_SIZE) {
+            int to = Math.min(from + TOKEN_QUERY_CHUNK_SIZE, ids.size());
+            for (FcmToken token : fcmTokenRepository.findAllByUserIdIn(ids.subList(from, to))) {
+                tokensByUserId
+                        .computeIfAbsent(token.getUser().getId(), id -> new ArrayList<>())
+                        .add(token.getToken());
+            }
+        }
+        return tokensByUserId;
+    }
+
+    /** 묶음 하나를 보내고 실패한 요청을 failures 에 담는다. */
+    private <K> void send(Chunk<K> chunk, Payload payload, Map<K, String> failures) {
+        if (fcmCircuitBreaker.isOpen()) {
+            chunk.keysByToken().values().forEach(key -> failures.put(key, CIRCUIT_OPEN));
+            return;
+        }
+        List<String> retryableTokens;
+        try {
+            retryableTokens =
+                    fcmService.sendMulticast(
+                            chunk.tokens(), payload.title(), payload.body(), payload.data());
+        } catch (PushGatewayException e) {
+            log.warn("[FcmDispatcher] 멀티캐스트 실패 - 토큰 수: {}", chunk.tokens().size(), e);
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            chunk.keysByToken().values().forEach(key -> failures.put(key, error));
+            return;
+        }
+        retryableTokens.forEach(
+                token -> failures.put(chunk.keysByToken().get(token), "일시적인 토큰 발송 실패"));
+    }
+
+    private <K> void sendTopic(K key, FcmSendEvent event, Map<K, String> failures) {
+        if (fcmCircuitBreaker.isOpen()) {
+            failures.put(key, CIRCUIT_OPEN);
+            return;
+        }
+        try {
+            fcmService.sendTopicMessage(event.topic(), event.title(), event.body(), event.data());
+        } catch (PushGatewayException e) {
+            log.warn("[FcmDispatcher] 토픽 발송 실패 - topic: {}", event.topic(), e);
+            failures.put(
+                    key, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private record Payload(String title, String body, Map<String, String> data) {}
+
+    private record Chunk<K>(List<String> tokens, Map<String, K> keysByToken) {}
+}
@@ -0,0 +1,70 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 발송 속도 제한 (토큰 버킷).
+ *
+ * <p>초당 messages-per-second 개씩 채워지고 최대 1초 분량까지 쌓이는 버킷에서 메시지 수만큼 꺼내 간다. 버킷이 모자라면 빚을 지고 그만큼
+ * 호출한 스레드를 재우므로, 500 토큰 멀티캐스트처럼 한 번에 많이 꺼내도 평균 속도는 설정값을 넘지 않는다. 대기 시간은 그대로
+ * 발송 대기열 중계기를 늦추는 역압이 된다. 0 이하로 설정하면 제한하지 않는다.
+ */
+@Component
+public class FcmRateLimiter {
+
+    private final Timer waitTimer;
+
+    /**
+     * 인스턴스 하나의 초당 발송 한도. 버킷은 인스턴스마다 따로 있으므로 프로젝트 전체 발송 속도는 이 값에 인스턴스 수를 곱한 만큼까지
+     * 올라간다. FCM 프로젝트 할당량을 인스턴스 수로 나눈 값 이하로 둔다.
+     */
+    @Value("${fcm.rate-limit.messages-per-second:5000}")
+    private double messagesPerSecond;
+
+    private double available;
+
+    // 시작 시점에 버킷이 가득 차 있도록 1초 전에 채운 것으로 둔다.
+    private long lastRefillNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+
+    public FcmRateLimiter(MeterRegistry meterRegistry) {
+        this.waitTimer =
+                Timer.builder("fcm.rate_limit.wait")
+                        .description("FCM 발송 속도 제한으로 기다린 시간")
+                        .register(meterRegistry);
+    }
+
+    /** 메시지 messages 개를 보낼 수 있을 때까지 기다린다. */
+    public void acquire(int messages) {
+        long waitNanos = reserve(messages);
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** @return 기다려야 하는 시간 (나노초) */
+    private synchronized long reserve(int messages) {
+        if (messagesPerSecond <= 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        available =
+                Math.min(
+                        messagesPerSecond,
+                        available + (now - lastRefillNanos) * messagesPerSecond / 1e9);
+        lastRefillNanos = now;
+        available -= messages;
+        return available >= 0 ? 0 : (long) (-available / messagesPerSecond * 1e9);
+    }
+}
@@ -1,15 +1,14 @@
 package kr.co.awesomelead.groupware_backend.domain.fcm.service;
 
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
-import com.google.firebase.messaging.MulticastMessage;
-import com.google.firebase.messaging.Notification;
-import com.google.firebase.messaging.SendResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import kr.co.awesomelead.groupware_backend.domain.fcm.entity.FcmToken;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGateway;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGatewayException;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushResult;
 import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -21,25 +20,38 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmService {
 
+    /** 다시 보내면 성공할 수 있는 토큰 단위 오류 */
+    private static final Set<MessagingErrorCode> RETRYABLE_CODES =
+            Set.of(
+                    MessagingErrorCode.QUOTA_EXCEEDED,
+                    MessagingErrorCode.UNAVAILABLE,
+                    MessagingErrorCode.INTERNAL);
+
     private final FcmTokenRepository fcmTokenRepository;
     private final FcmTokenService fcmTokenService;
+    private final PushGateway pushGateway;
+    private final FcmRateLimiter fcmRateLimiter;
+    private final FcmCircuitBreaker fcmCircuitBreaker;
+    private final MeterRegistry meterRegistry;
 
     /** 특정 유저의 모든 디바이스로 메시지 발송 */
     @Async("fcmTaskExecutor")
     @Retryable(
-            value = {FirebaseMessagingException.class},
+            value = {PushGatewayException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 2000, multiplier = 2.0))
     public void sendToUser(Long userId, String title, String body, Map<String, String> data)
-            throws FirebaseMessagingException {
+            throws PushGatewayException {
         List<FcmToken> tokens = fcmTokenRepository.findAllByUserId(userId);
         if (tokens.isEmpty()) {
             log.info("FCM 발송 건너뜀 - userId: {} (등록된 토큰 없음)", userId);
@@ -47,42 +59,14 @@ public class FcmService {
         }
 
         List<String> tokenValues = tokens.stream().map(FcmToken::getToken).toList();
-
-        MulticastMessage.Builder builder =
-                MulticastMessage.builder()
-                        .setNotification(
-                                Notification.builder().setTitle(title).setBody(body).build())
-                        .addAllTokens(tokenValues);
-
-        if (data != null && !data.isEmpty()) {
-            builder.putAllData(data);
-        }
-
-        BatchResponse response =
-                FirebaseMessaging.getInstance().sendEachForMulticast(builder.build());
+        List<PushResult> results = sendEachForMulticast(tokenValues, title, body, data);
+        int success = countSuccess(results);
         log.info(
                 "FCM 다중 발송 완료 - userId: {}, 성공: {}, 실패: {}",
                 userId,
-                response.getSuccessCount(),
-                response.getFailureCount());
-
-        if (response.getFailureCount() > 0) {
-            List<SendResponse> responses = response.getResponses();
-            for (int i = 0; i < responses.size(); i++) {
-                SendResponse sendResponse = responses.get(i);
-                if (!sendResponse.isSuccessful()
-                        && sendResponse.getException().getMessagingErrorCode()
-                                == MessagingErrorCode.UNREGISTERED) {
-                    String invalidToken = tokenValues.get(i);
-                    log.warn(
-                            "무효 토큰 삭제 - userId: {}, token: {}...{}",
-                            userId,
-                            invalidToken.substring(0, 10),
-                            invalidToken.substring(invalidToken.length() - 6));
-                    fcmTokenService.removeInvalidToken(invalidToken);
-                }
-            }
-        }
+                success,
+                results.size() - success);
+        removeUnregisteredTokens(tokenValues, results);
     }
 
     @Recover
@@ -93,21 +77,135 @@ public class FcmService {
         // API 레벨 실패(네트워크/인증 오류)이므로 토큰 삭제 없이 로그만 기록
     }
 
+    /**
+     * 여러 유저의 토큰으로 같은 메시지를 한 번에 동기 발송한다. {@link FcmDispatcher} 가 최대 {@link
+     * FcmDispatcher#MULTICAST_TOKEN_LIMIT} 개씩 나눠 호출하며, 재시도는 호출자(발송 대기열)가 맡는다.
+     *
+     * @return 일시적인 오류(QUOTA_EXCEEDED, UNAVAILABLE, INTERNAL)로 실패해 다시 보내야 하는 토큰
+     */
+    public List<String> sendMulticast(
+            List<String> tokens, String title, String body, Map<String, String> data)
+            throws PushGatewayException {
+        List<PushResult> results = sendEachForMulticast(tokens, title, body, data);
+        int success = countSuccess(results);
+        log.info(
+                "FCM 묶음 발송 완료 - 토큰 수: {}, 성공: {}, 실패: {}",
+                tokens.size(),
+                success,
+                results.size() - success);
+        removeUnregisteredTokens(tokens, results);
+        return findRetryableTokens(tokens, results);
+    }
+
+    private List<PushResult> sendEachForMulticast(
+            List<String> tokenValues, String title, String body, Map<String, String> data)
+            throws PushGatewayException {
+        fcmRateLimiter.acquire(tokenValues.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<PushResult> results;
+        try {
+            results = pushGateway.sendMulticast(tokenValues, title, body, data);
+        } catch (PushGatewayException e) {
+            recordCall(sample, "multicast", 0, tokenValues.size());
+            fcmCircuitBreaker.recordFailure(e.getErrorCode());
+            throw e;
+        }
+        int success = countSuccess(results);
+        recordCall(sample, "multicast", success, results.size() - success);
+        recordResultErrors(results);
+        return results;
+    }
+
+    private int countSuccess(List<PushResult> results) {
+        int success = 0;
+        for (PushResult result : results) {
+            if (result.successful()) {
+                success++;
+            }
+        }
+        return success;
+    }
+
+    /** 토큰 단위 오류에 QUOTA_EXCEEDED / UNAVAILABLE 이 섞여 있으면 차단기에 알린다. */
+    private void recordResultErrors(List<PushResult> results) {
+        for (PushResult result : results) {
+            if (!result.successful() && FcmCircuitBreaker.isTripCode(result.errorCode())) {
+                fcmCircuitBreaker.recordFailure(result.errorCode());
+                return;
+            }
+        }
+        fcmCircuitBreaker.recordSuccess();
+    }
+
+    private List<String> findRetryableTokens(List<String> tokenValues, List<PushResult> results) {
+        List<String> retryable = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            PushResult result = results.get(i);
+            if (!result.successful() && RETRYABLE_CODES.contains(result.errorCode())) {
+                retryable.add(tokenValues.get(i));
+            }
+        }
+        return retryable;
+    }
+
+    private void recordCall(Timer.Sample sample, String operation, int success, int failure) {
+        sample.stop(
+                Timer.builder("fcm.send.latency")
+                        .description("FCM 호출 지연 시간")
+                        .tag("operation", operation)
+                        .register(meterRegistry));
+        meterRegistry
+                .counter("fcm.send.messages", "operation", operation, "result", "success")
+                .increment(success);
+        meterRegistry
+                .counter("fcm.send.messages", "operation", operation, "result", "failure")
+                .increment(failure);
+    }
+
+    /** 발송 결과 중 UNREGISTERED 토큰만 삭제한다. 결과 순서는 요청한 토큰 순서와 같다. */
+    private void removeUnregisteredTokens(List<String> tokenValues, List<PushResult> results) {
+        for (int i = 0; i < results.size(); i++) {
+            PushResult result = results.get(i);
+            if (!result.successful() && result.errorCode() == MessagingErrorCode.UNREGISTERED) {
+                String invalidToken = tokenValues.get(i);
+                log.warn(
+                        "무효 토큰 삭제 - token: {}...{}",
+                        invalidToken.substring(0, 10),
+                        invalidToken.substring(invalidToken.length() - 6));
+                fcmTokenService.removeInvalidToken(invalidToken);
+            }
+        }
+    }
+
     /** 토픽 구독 전체 유저에 메시지 발송 */
     @Retryable(
-            value = {FirebaseMessagingException.class},
+            value = {PushGatewayException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 2000, multiplier = 2.0))
     public void sendToTopic(String topicName, String title, String body)
-            throws FirebaseMessagingException {
-        Message message =
-                Message.builder()
-                        .setTopic(topicName)
-                        .setNotification(
-                                Notification.builder().setTitle(title).setBody(body).build())
-                        .build();
-
-        String messageId = FirebaseMessaging.getInstance().send(message);
+            throws PushGatewayException {
+        sendTopicMessage(topicName, title, body, null);
+    }
+
+    /**
+     * 토픽 구독자 전체에게 한 번의 요청으로 동기 발송한다. {@link FcmDispatcher} 가 회사/부서 단위 알림을 보낼 때 호출하며, 재시도는
+     * 호출자(발송 대기열)가 맡는다.
+     */
+    public void sendTopicMessage(
+            String topicName, String title, String body, Map<String, String> data)
+            throws PushGatewayException {
+        fcmRateLimiter.acquire(1);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String messageId;
+        try {
+            messageId = pushGateway.sendToTopic(topicName, title, body, data);
+        } catch (PushGatewayException e) {
+            recordCall(sample, "topic", 0, 1);
+            fcmCircuitBreaker.recordFailure(e.getErrorCode());
+            throw e;
+        }
+        recordCall(sample, "topic", 1, 0);
+        fcmCircuitBreaker.recordSuccess();
         log.info("FCM 토픽 발송 완료 - topic: {}, messageId: {}", topicName, messageId);
     }
 
@@ -2,6 +2,8 @@ package kr.co.awesomelead.groupware_backend.domain.fcm.service;
 
 import kr.co.awesomelead.groupware_backend.domain.fcm.entity.FcmToken;
 import kr.co.awesomelead.groupware_backend.domain.fcm.enums.DeviceType;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmTopicSyncEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmTopicUnsubscribeEvent;
 import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
@@ -11,9 +13,11 @@ import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -23,8 +27,14 @@ public class FcmTokenService {
 
     private final FcmTokenRepository fcmTokenRepository;
     private final UserRepository userRepository;
+    private final FcmTopicService fcmTopicService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    /** FCM 토큰 등록 또는 갱신 (Upsert) - 동일 userId + deviceType 조합이 존재하면 토큰 업데이트 - 새로운 조합이면 신규 생성 */
+    /**
+     * FCM 토큰 등록 또는 갱신 (Upsert) - 동일 userId + deviceType 조합이 존재하면 토큰 업데이트 - 새로운 조합이면 신규 생성
+     *
+     * <p>토큰 값이 바뀌면 이전 토큰의 토픽 구독을 해지하고, 커밋 이후 새 토큰을 회사/부서 토픽에 구독시킨다.
+     */
     @Transactional
     public void registerToken(Long userId, String token, DeviceType deviceType) {
         User user =
@@ -36,18 +46,24 @@ public class FcmTokenService {
                 fcmTokenRepository.findByUserIdAndDeviceType(userId, deviceType);
 
         if (existing.isPresent()) {
-            existing.get().updateToken(token);
+            FcmToken fcmToken = existing.get();
+            if (!fcmToken.getToken().equals(token)) {
+                releaseTopics(fcmToken);
+            }
+            fcmToken.updateToken(token);
             log.info("FCM 토큰 갱신 - userId: {}, deviceType: {}", userId, deviceType);
         } else {
             FcmToken fcmToken = FcmToken.of(user, token, deviceType);
             fcmTokenRepository.save(fcmToken);
             log.info("FCM 토큰 신규 등록 - userId: {}, deviceType: {}", userId, deviceType);
         }
+        eventPublisher.publishEvent(new FcmTopicSyncEvent(userId));
     }
 
     /** 무효 토큰 삭제 (Firebase UNREGISTERED 응답 시) */
     @Transactional
     public void removeInvalidToken(String token) {
+        fcmTokenRepository.findByToken(token).ifPresent(fcmTopicService::releaseToken);
         fcmTokenRepository.deleteByToken(token);
     }
 
@@ -63,7 +79,30 @@ public class FcmTokenService {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
+        releaseTopics(fcmToken);
         fcmTokenRepository.delete(fcmToken);
         log.info("FCM 토큰 삭제 - userId: {}", userId);
     }
+
+    /** 로그아웃한 기기의 FCM 토큰 삭제. 이미 지워졌거나 다른 유저의 토큰이면 무시한다. */
+    @Transactional
+    public void deleteTokenOnLogout(Long userId, String token) {
+        fcmTokenRepository
+                .findByToken(token)
+                .filter(fcmToken -> fcmToken.getUser().getId().equals(userId))
+                .ifPresent(
+                        fcmToken -> {
+                            releaseTopics(fcmToken);
+                            fcmTokenRepository.delete(fcmToken);
+                            log.info("FCM 토큰 삭제 (로그아웃) - userId: {}", userId);
+                        });
+    }
+
+    /** 토큰의 토픽 구독 기록을 지우고, 커밋 이후 FCM 구독 해지를 요청한다. */
+    private void releaseTopics(FcmToken fcmToken) {
+        List<String> topics = fcmTopicService.releaseToken(fcmToken);
+        if (!topics.isEmpty()) {
+            eventPublisher.publishEvent(new FcmTopicUnsubscribeEvent(fcmToken.getToken(), topics));
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.service;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
+import kr.co.awesomelead.groupware_backend.global.lock.DistributedLockExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 토큰을 가진 모든 유저의 토픽 구독을 현재 근무지/부서/재직 상태에 맞게 다시 맞춘다.
+ *
+ * <p>기동 시 한 번, 이후 fcm.topic.reconcile-cron 주기로 실행한다. 토픽 발송 도입 전에 등록된 토큰, 이벤트 처리 중 FCM 호출이
+ * 실패했거나 차단 중이라 건너뛴 구독, 퇴사 등으로 빠져야 하는 구독이 대상이다. 유저마다 원하는 토픽과 기록된 토픽을 비교하므로 이미 맞는
+ * 유저는 FCM 을 호출하지 않는다. 여러 인스턴스 중 분산 락을 잡은 한 곳에서만 실행된다.
+ *
+ * <p>fcm.topic.enabled 는 이 작업이 한 번 끝나 기존 토큰이 모두 구독된 뒤에 켠다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "fcm.topic.reconcile-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class FcmTopicReconciler {
+
+    private static final String LOCK_NAME = "fcm:topic-reconcile";
+
+    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmTopicService fcmTopicService;
+    private final FcmCircuitBreaker fcmCircuitBreaker;
+    private final DistributedLockExecutor distributedLockExecutor;
+
+    @Value("${fcm.topic.reconcile-lock-lease:PT30M}")
+    private Duration lockLease;
+
+    @Async("fcmTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${fcm.topic.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        boolean executed =
+                distributedLockExecutor.executeWithLock(LOCK_NAME, lockLease, this::syncAll);
+        if (!executed) {
+            log.info("[FcmTopicReconciler] 다른 인스턴스에서 실행 중이거나 락을 잡지 못해 건너뜀");
+        }
+    }
+
+    void syncAll() {
+        List<Long> userIds = fcmTokenRepository.findDistinctUserIds();
+        log.info("[FcmTopicReconciler] 토픽 구독 보정 시작 - 대상 유저 수: {}", userIds.size());
+        int synced = 0;
+        int failed = 0;
+        for (Long userId : userIds) {
+            if (fcmCircuitBreaker.isOpen()) {
+                log.warn(
+                        "[FcmTopicReconciler] FCM 차단 중이라 중단, 다음 실행에서 이어서 보정 - 남은 유저 수: {}",
+                        userIds.size() - synced - failed);
+                break;
+            }
+            try {
+                fcmTopicService.syncUser(userId);
+                synced++;
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("[FcmTopicReconciler] 토픽 구독 보정 실패 - userId: {}", userId, e);
+            }
+        }
+        log.info(
+                "[FcmTopicReconciler] 토픽 구독 보정 완료 - 대상 유저 수: {}, 처리: {}, 실패: {}",
+                userIds.size(),
+                synced,
+                failed);
+    }
+}
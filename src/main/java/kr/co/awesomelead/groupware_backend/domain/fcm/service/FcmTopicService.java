@@ -0,0 +1,245 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.service;
+
+import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
+import kr.co.awesomelead.groupware_backend.domain.fcm.entity.FcmToken;
+import kr.co.awesomelead.groupware_backend.domain.fcm.entity.Topic;
+import kr.co.awesomelead.groupware_backend.domain.fcm.entity.TopicToken;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGateway;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGatewayException;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.TopicRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.TopicTokenRepository;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Status;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 기기 토큰의 FCM 토픽 구독 관리.
+ *
+ * <p>유저의 토큰은 전체({@value #ALL_TOPIC}), 근무지 회사, 소속 부서 토픽을 구독한다. 구독 기준은 브로드캐스트 알림 대상 조회와
+ * 같다. 전체 토픽은 재직(AVAILABLE) 유저만, 회사와 부서 토픽은 근무지와 부서가 지정된 유저가 구독한다. 구독 상태는 topic_tokens 에
+ * 남겨 두고, 바뀐 토픽만 FCM 에 구독/해지를 요청한다.
+ *
+ * <p>구독 기록 조회와 반영은 각각 짧은 트랜잭션으로 처리하고 FCM 호출은 그 사이 트랜잭션 밖에서 한다. FCM 호출은 발송과 같은
+ * {@link FcmRateLimiter} 와 {@link FcmCircuitBreaker} 를 거치며, 실패하거나 차단 중이라 건너뛴 토픽은 기록을 바꾸지 않으므로
+ * {@link FcmTopicReconciler} 가 다시 맞춘다.
+ */
+@Slf4j
+@Service
+public class FcmTopicService {
+
+    public static final String ALL_TOPIC = "all";
+
+    private final UserRepository userRepository;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final TopicRepository topicRepository;
+    private final TopicTokenRepository topicTokenRepository;
+    private final PushGateway pushGateway;
+    private final FcmRateLimiter fcmRateLimiter;
+    private final FcmCircuitBreaker fcmCircuitBreaker;
+    private final TransactionTemplate transactionTemplate;
+
+    public FcmTopicService(
+            UserRepository userRepository,
+            FcmTokenRepository fcmTokenRepository,
+            TopicRepository topicRepository,
+            TopicTokenRepository topicTokenRepository,
+            PushGateway pushGateway,
+            FcmRateLimiter fcmRateLimiter,
+            FcmCircuitBreaker fcmCircuitBreaker,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.topicRepository = topicRepository;
+        this.topicTokenRepository = topicTokenRepository;
+        this.pushGateway = pushGateway;
+        this.fcmRateLimiter = fcmRateLimiter;
+        this.fcmCircuitBreaker = fcmCircuitBreaker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public static String companyTopic(Company company) {
+        return "company-" + company.name();
+    }
+
+    public static String departmentTopic(Long departmentId) {
+        return "department-" + departmentId;
+    }
+
+    /** 유저의 모든 토큰이 현재 근무지/부서에 맞는 토픽만 구독하도록 맞춘다. 트랜잭션 안에서 호출하지 않는다. */
+    public void syncUser(Long userId) {
+        List<TokenPlan> plans = transactionTemplate.execute(status -> plan(userId));
+        if (plans == null) {
+            return;
+        }
+        for (TokenPlan plan : plans) {
+            syncToken(plan);
+        }
+    }
+
+    /**
+     * 토큰의 구독 기록을 지운다. 토큰을 삭제하거나 교체하기 전에 호출한다.
+     *
+     * @return 구독하고 있던 토픽 이름. FCM 구독 해지는 호출한 쪽에서 커밋 이후에 한다.
+     */
+    @Transactional
+    public List<String> releaseToken(FcmToken token) {
+        List<TopicToken> subscriptions = topicTokenRepository.findAllByTokenId(token.getId());
+        if (subscriptions.isEmpty()) {
+            return List.of();
+        }
+        List<String> topics =
+                subscriptions.stream()
+                        .map(subscription -> subscription.getTopic().getName())
+                        .toList();
+        topicTokenRepository.deleteAll(subscriptions);
+        return topics;
+    }
+
+    /** 토큰의 토픽 구독을 FCM 에서 해지한다. 실패해도 무효 토큰은 FCM 이 정리하므로 로그만 남긴다. */
+    public void unsubscribe(String token, List<String> topics) {
+        for (String topic : topics) {
+            if (!call(token, topic, false)) {
+                log.warn("[FcmTopic] 토픽 구독 해지 못 함 - topic: {}", topic);
+            }
+        }
+    }
+
+    private List<TokenPlan> plan(Long userId) {
+        Set<String> desired = userRepository.findById(userId).map(this::topicsOf).orElse(Set.of());
+        List<TokenPlan> plans = new ArrayList<>();
+        for (FcmToken token : fcmTokenRepository.findAllByUserId(userId)) {
+            Map<String, Long> current = new HashMap<>();
+            for (TopicToken subscription : topicTokenRepository.findAllByTokenId(token.getId())) {
+                current.put(subscription.getTopic().getName(), subscription.getId());
+            }
+            List<String> subscribe =
+                    desired.stream().filter(topic -> !current.containsKey(topic)).toList();
+            Map<String, Long> unsubscribe = new LinkedHashMap<>(current);
+            unsubscribe.keySet().removeAll(desired);
+            if (!subscribe.isEmpty() || !unsubscribe.isEmpty()) {
+                plans.add(
+                        new TokenPlan(
+                                userId, token.getId(), token.getToken(), subscribe, unsubscribe));
+            }
+        }
+        return plans;
+    }
+
+    private Set<String> topicsOf(User user) {
+        Set<String> topics = new LinkedHashSet<>();
+        if (user.getStatus() == Status.AVAILABLE) {
+            topics.add(ALL_TOPIC);
+        }
+        if (user.getWorkLocation() != null) {
+            topics.add(companyTopic(user.getWorkLocation()));
+        }
+        if (user.getDepartment() != null) {
+            topics.add(departmentTopic(user.getDepartment().getId()));
+        }
+        return topics;
+    }
+
+    private void syncToken(TokenPlan plan) {
+        List<String> subscribed = new ArrayList<>();
+        for (String topic : plan.subscribe()) {
+            if (call(plan.token(), topic, true)) {
+                subscribed.add(topic);
+            }
+        }
+        List<Long> unsubscribed = new ArrayList<>();
+        plan.unsubscribe()
+                .forEach(
+                        (topic, subscriptionId) -> {
+                            if (call(plan.token(), topic, false)) {
+                                unsubscribed.add(subscriptionId);
+                            }
+                        });
+        if (subscribed.size() < plan.subscribe().size()
+                || unsubscribed.size() < plan.unsubscribe().size()) {
+            log.warn(
+                    "[FcmTopic] 토픽 구독 일부 실패, 다음 동기화 때 다시 시도 - userId: {}, tokenId: {}",
+                    plan.userId(),
+                    plan.tokenId());
+        }
+        if (!subscribed.isEmpty() || !unsubscribed.isEmpty()) {
+            transactionTemplate.executeWithoutResult(
+                    status -> record(plan, subscribed, unsubscribed));
+        }
+    }
+
+    /** @return FCM 호출 성공 여부. 차단 중이면 호출하지 않고 false. */
+    private boolean call(String token, String topic, boolean subscribe) {
+        if (fcmCircuitBreaker.isOpen()) {
+            return false;
+        }
+        fcmRateLimiter.acquire(1);
+        try {
+            if (subscribe) {
+                pushGateway.subscribeToTopic(List.of(token), topic);
+            } else {
+                pushGateway.unsubscribeFromTopic(List.of(token), topic);
+            }
+            fcmCircuitBreaker.recordSuccess();
+            return true;
+        } catch (PushGatewayException e) {
+            fcmCircuitBreaker.recordFailure(e.getErrorCode());
+            log.warn(
+                    "[FcmTopic] FCM 토픽 {} 실패 - topic: {}",
+                    subscribe ? "구독" : "구독 해지",
+                    topic,
+                    e);
+            return false;
+        }
+    }
+
+    private void record(TokenPlan plan, List<String> subscribed, List<Long> unsubscribed) {
+        topicTokenRepository.deleteAllById(unsubscribed);
+        // FCM 호출 사이 토큰이 삭제되거나 다른 값으로 교체됐으면 구독 기록을 남기지 않는다.
+        Optional<FcmToken> token =
+                fcmTokenRepository
+                        .findById(plan.tokenId())
+                        .filter(current -> current.getToken().equals(plan.token()));
+        if (token.isEmpty()) {
+            log.debug("[FcmTopic] 동기화 중 토큰이 바뀌어 구독 기록 생략 - tokenId: {}", plan.tokenId());
+            return;
+        }
+        for (String topic : subscribed) {
+            topicTokenRepository.save(TopicToken.of(token.get(), findOrCreate(topic)));
+        }
+    }
+
+    private Topic findOrCreate(String name) {
+        return topicRepository
+                .findByName(name)
+                .orElseGet(() -> topicRepository.save(Topic.of(name)));
+    }
+
+    /**
+     * 토큰 하나의 구독 변경 계획
+     *
+     * @param unsubscribe 해지할 토픽 이름과 그 구독 기록 ID
+     */
+    private record TokenPlan(
+            Long userId,
+            Long tokenId,
+            String token,
+            List<String> subscribe,
+            Map<String, Long> unsubscribe) {}
+}
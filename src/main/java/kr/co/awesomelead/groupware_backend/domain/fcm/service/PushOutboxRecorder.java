@@ -0,0 +1,57 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.service;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.PushOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발송 요청을 푸시 발송 대기열에 기록한다.
+ *
+ * <p>트랜잭션 안에서 들어온 요청은 트랜잭션별로 모았다가 커밋 직전에 한 번의 batch INSERT 로 기록하므로, 알림 행과 발송 대기열이
+ * 함께 커밋되거나 함께 롤백된다. 트랜잭션 밖에서 들어온 요청은 바로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PushOutboxRecorder {
+
+    private final PushOutboxRepository pushOutboxRepository;
+
+    public void record(FcmSendEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pushOutboxRepository.insertAll(List.of(event));
+            return;
+        }
+        // 동기화 목록은 트랜잭션별로 관리되므로 REQUIRES_NEW 로 중첩된 트랜잭션은 자기 버퍼를 따로 가진다.
+        OutboxSynchronization synchronization =
+                TransactionSynchronizationManager.getSynchronizations().stream()
+                        .filter(OutboxSynchronization.class::isInstance)
+                        .map(OutboxSynchronization.class::cast)
+                        .findFirst()
+                        .orElseGet(this::registerSynchronization);
+        synchronization.events.add(event);
+    }
+
+    private OutboxSynchronization registerSynchronization() {
+        OutboxSynchronization synchronization = new OutboxSynchronization();
+        TransactionSynchronizationManager.registerSynchronization(synchronization);
+        return synchronization;
+    }
+
+    private class OutboxSynchronization implements TransactionSynchronization {
+
+        private final List<FcmSendEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            pushOutboxRepository.insertAll(events);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm.service;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.enums.PushOutboxStatus;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.PushOutboxRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.PushOutboxRepository.PushOutboxRow;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 푸시 발송 대기열 중계기.
+ *
+ * <p>주기적으로 대기열에서 batch-size 건씩 가져가 {@link FcmDispatcher} 로 묶어 보낸다. 가져가는 단계만 짧은 트랜잭션으로
+ * 처리하고 발송은 트랜잭션 밖에서 하므로, 발송이 느려도 DB 락을 오래 잡지 않는다. 성공한 행은 삭제하고, 실패한 행은 지수
+ * 백오프로 다음 시도 시각을 미루며 max-attempts 를 넘기면 DEAD 로 남긴다. 여러 인스턴스가 동시에 돌아도 SKIP LOCKED 로 서로 다른
+ * 행을 가져간다. {@link FcmCircuitBreaker} 가 열려 있는 동안에는 대기열을 가져가지 않고 쌓아 둔다. batch 를 보내는 도중
+ * 차단돼 보내지 못한 행은 시도 횟수를 세지 않고 차단이 풀리는 시각에 다시 가져가도록 돌려놓는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = "fcm.outbox.relay-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class PushOutboxRelay {
+
+    /** 한 번 실행에서 연속으로 처리하는 최대 batch 수. 대기열이 밀려 있어도 스케줄러 스레드를 오래 잡지 않는다. */
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final FcmDispatcher fcmDispatcher;
+    private final FcmCircuitBreaker fcmCircuitBreaker;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${fcm.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${fcm.outbox.lease:PT1M}")
+    private Duration lease;
+
+    @Value("${fcm.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${fcm.outbox.initial-backoff:PT10S}")
+    private Duration initialBackoff;
+
+    @Value("${fcm.outbox.max-backoff:PT30M}")
+    private Duration maxBackoff;
+
+    public PushOutboxRelay(
+            PushOutboxRepository pushOutboxRepository,
+            FcmDispatcher fcmDispatcher,
+            FcmCircuitBreaker fcmCircuitBreaker,
+            PlatformTransactionManager transactionManager) {
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.fcmDispatcher = fcmDispatcher;
+        this.fcmCircuitBreaker = fcmCircuitBreaker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${fcm.outbox.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN && !fcmCircuitBreaker.isOpen(); i++) {
+                if (relayOnce() < batchSize) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("[PushOutbox] 대기열 처리 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 대기열에서 한 batch 를 가져가 발송한다.
+     *
+     * @return 가져간 행 수
+     */
+    public int relayOnce() {
+        List<PushOutboxRow> rows =
+                transactionTemplate.execute(
+                        status ->
+                                pushOutboxRepository.claim(
+                                        batchSize, LocalDateTime.now().plus(lease)));
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, FcmSendEvent> eventsById = new LinkedHashMap<>();
+        rows.forEach(row -> eventsById.put(row.id(), row.event()));
+        Map<Long, String> failures = fcmDispatcher.dispatch(eventsById);
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> releasedIds = new ArrayList<>();
+        for (PushOutboxRow row : rows) {
+            String error = failures.get(row.id());
+            if (error == null) {
+                sentIds.add(row.id());
+            } else if (FcmDispatcher.CIRCUIT_OPEN.equals(error)) {
+                releasedIds.add(row.id());
+            } else {
+                scheduleRetry(row, error);
+            }
+        }
+        pushOutboxRepository.deleteAllByIdIn(sentIds);
+        pushOutboxRepository.releaseAll(releasedIds, fcmCircuitBreaker.openUntil());
+        log.debug(
+                "[PushOutbox] 발송 - 가져감: {}, 성공: {}, 실패: {}, 차단으로 보류: {}",
+                rows.size(),
+                sentIds.size(),
+                failures.size() - releasedIds.size(),
+                releasedIds.size());
+        return rows.size();
+    }
+
+    private void scheduleRetry(PushOutboxRow row, String error) {
+        if (row.attempts() >= maxAttempts) {
+            log.error(
+                    "[PushOutbox] 최대 재시도 초과, DEAD 처리 - id: {}, userId: {}, error: {}",
+                    row.id(),
+                    row.event().userId(),
+                    error);
+            pushOutboxRepository.reschedule(
+                    row.id(), PushOutboxStatus.DEAD, LocalDateTime.now(), error);
+            return;
+        }
+        pushOutboxRepository.reschedule(
+                row.id(),
+                PushOutboxStatus.PENDING,
+                LocalDateTime.now().plus(backoff(row.attempts())),
+                error);
+    }
+
+    /** initial-backoff * 2^(attempts - 1), 최대 max-backoff */
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
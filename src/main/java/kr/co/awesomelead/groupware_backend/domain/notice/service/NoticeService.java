@@ -16,6 +16,9 @@ import kr.co.awesomelead.groupware_backend.domain.notice.respository.NoticeAttac
 import kr.co.awesomelead.groupware_backend.domain.notice.respository.NoticeQueryRepository;
 import kr.co.awesomelead.groupware_backend.domain.notice.respository.NoticeRepository;
 import kr.co.awesomelead.groupware_backend.domain.notice.respository.NoticeTargetRepository;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.NotificationAudience;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
 import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 import kr.co.awesomelead.groupware_backend.domain.user.enums.Authority;
@@ -34,7 +37,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -73,10 +78,12 @@ public class NoticeService {
         noticeRepository.save(notice);
 
         Set<Long> finalTargetUserIds = new HashSet<>();
+        Map<Company, List<Long>> companyTargetUserIds = new LinkedHashMap<>();
 
         if (requestDto.getTargetCompanies() != null) {
             for (Company company : requestDto.getTargetCompanies()) {
                 List<Long> companyUserIds = userRepository.findAllIdsByCompany(company);
+                companyTargetUserIds.put(company, companyUserIds);
                 finalTargetUserIds.addAll(companyUserIds);
             }
         }
@@ -107,9 +114,23 @@ public class NoticeService {
 
         noticeTargetRepository.saveAll(targets);
 
-        // 공지 대상자에게 알림 전송
+        // 공지 대상자에게 알림 전송. 회사 단위 대상은 브로드캐스트 알림 한 건으로 저장하고,
+        // 부서/개인으로만 지정된 나머지 대상자에게는 개별 알림을 저장한다.
+        Set<Long> individualTargetUserIds = new HashSet<>(finalTargetUserIds);
+        companyTargetUserIds.forEach(
+                (company, companyUserIds) -> {
+                    notificationService.sendBroadcastAlert(
+                            NotificationAudience.company(company),
+                            companyUserIds,
+                            NotificationMessage.NOTICE_CREATED,
+                            NotificationDomainType.NOTICE,
+                            notice.getId(),
+                            null,
+                            notice.getTitle());
+                    companyUserIds.forEach(individualTargetUserIds::remove);
+                });
         notificationService.sendNoticeAlertToTargets(
-                notice.getTitle(), notice.getId(), finalTargetUserIds);
+                notice.getTitle(), notice.getId(), individualTargetUserIds);
 
         uploadFiles(files, notice);
 
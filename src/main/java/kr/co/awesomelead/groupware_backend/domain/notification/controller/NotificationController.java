@@ -5,7 +5,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import kr.co.awesomelead.groupware_backend.domain.auth.util.JWTUtil;
+import kr.co.awesomelead.groupware_backend.domain.notification.dto.response.NotificationFeedResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.notification.dto.response.NotificationResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
 import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
 import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
 import kr.co.awesomelead.groupware_backend.global.common.response.ApiResponse;
@@ -18,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -27,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Tag(
@@ -35,7 +39,9 @@ import java.util.Map;
                 """
         ## 알림 관리 API
 
-        시스템에서 발생하는 각종 알림(결재 요청, 공지사항 등)을 사용자에게 제공합니다. 알림 목록 조회, 미읽음 건수 조회, 개별 알림 읽음 처리 기능이 포함되어 있습니다.
+        시스템에서 발생하는 각종 알림(결재 요청, 공지사항 등)을 사용자에게 제공합니다. 알림 목록 조회, 미읽음 건수 조회, 개별/일괄 알림 읽음 처리 기능이 포함되어 있습니다.
+
+        전사 공지/안전·PSM 교육처럼 다수에게 같은 내용을 보내는 알림은 브로드캐스트 알림(`broadcast=true`)으로 내려갑니다. 브로드캐스트 알림은 `id` 대신 `broadcastId` 를 가지며, 읽음/숨김 처리는 `broadcastId` 로 `/api/notifications/broadcasts/{id}` 하위 API를 사용합니다. `/api/notifications/{id}/read` 는 개인 알림 `id` 만 받습니다.
 
         ### 사용되는 Enum 타입
         - **NotificationDomainType**: 알림 관련 도메인 유형 (`VISIT`: 방문, `APPROVAL`: 전자결재, `NOTICE`: 공지사항, `ANNUAL_LEAVE`: 연차휴가, `GENERAL`: 일반알림, `AUTH`: 계정관련, `EDUCATION`: 교육, `PAYSLIP`: 급여명세서, `REQUEST_HISTORY`: 신청내역, `MY_INFO_UPDATE`: 내정보수정, `CHECK_SHEET`: 체크시트)
@@ -76,6 +82,33 @@ public class NotificationController {
                         notificationService.getNotifications(userId, pendingApproval, pageable)));
     }
 
+    @Operation(
+            summary = "알림 피드 조회 (커서 기반)",
+            description =
+                    "로그인한 유저의 알림을 생성일시 내림차순으로 커서 기반 조회합니다. 전체 건수는 반환하지 않으며, 응답의 nextCursor 로"
+                            + " 다음 페이지를 조회합니다. size 기본값 20, 최대 100.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content =
+                    @io.swagger.v3.oas.annotations.media.Content(
+                            mediaType = "application/json",
+                            schema =
+                                    @io.swagger.v3.oas.annotations.media.Schema(
+                                            implementation = ApiResponse.class)))
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<NotificationFeedResponseDto>> getNotificationFeed(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @RequestParam(required = false, defaultValue = "false") boolean pendingApproval,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = extractUserId(authorizationHeader);
+        return ResponseEntity.ok(
+                ApiResponse.onSuccess(
+                        notificationService.getNotificationFeed(
+                                userId, pendingApproval, cursor, size)));
+    }
+
     @Operation(summary = "미읽음 알림 수 조회", description = "읽지 않은 알림 건수를 반환합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
@@ -148,6 +181,147 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.onSuccess(null));
     }
 
+    @Operation(
+            summary = "알림 전체 읽음 처리",
+            description = "본인의 읽지 않은 알림(브로드캐스트 알림 포함)을 모두 읽음 처리하고 처리 건수를 반환합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "읽음 처리 성공",
+            content =
+                    @io.swagger.v3.oas.annotations.media.Content(
+                            mediaType = "application/json",
+                            schema =
+                                    @io.swagger.v3.oas.annotations.media.Schema(
+                                            implementation = ApiResponse.class)))
+    @PatchMapping("/read-all")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> markAllAsRead(
+            @RequestHeader("Authorization") String authorizationHeader) {
+        Long userId = extractUserId(authorizationHeader);
+        int count = notificationService.markAllAsRead(userId);
+        return ResponseEntity.ok(ApiResponse.onSuccess(Map.of("readCount", count)));
+    }
+
+    @Operation(
+            summary = "도메인별 알림 읽음 처리",
+            description =
+                    "특정 도메인 유형(domainId 지정 시 해당 대상)의 읽지 않은 알림을 모두 읽음 처리하고 처리 건수를 반환합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "읽음 처리 성공",
+            content =
+                    @io.swagger.v3.oas.annotations.media.Content(
+                            mediaType = "application/json",
+                            schema =
+                                    @io.swagger.v3.oas.annotations.media.Schema(
+                                            implementation = ApiResponse.class)))
+    @PatchMapping("/read-by-domain")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> markAsReadByDomain(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @RequestParam NotificationDomainType domainType,
+            @RequestParam(required = false) Long domainId) {
+        Long userId = extractUserId(authorizationHeader);
+        int count = notificationService.markAsReadByDomain(userId, domainType, domainId);
+        return ResponseEntity.ok(ApiResponse.onSuccess(Map.of("readCount", count)));
+    }
+
+    @Operation(
+            summary = "기준 시각 이전 알림 읽음 처리",
+            description = "before 시각 이전에 생성된 읽지 않은 알림을 모두 읽음 처리하고 처리 건수를 반환합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "읽음 처리 성공",
+            content =
+                    @io.swagger.v3.oas.annotations.media.Content(
+                            mediaType = "application/json",
+                            schema =
+                                    @io.swagger.v3.oas.annotations.media.Schema(
+                                            implementation = ApiResponse.class)))
+    @PatchMapping("/read-before")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> markAsReadBefore(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime before) {
+        Long userId = extractUserId(authorizationHeader);
+        int count = notificationService.markAsReadBefore(userId, before);
+        return ResponseEntity.ok(ApiResponse.onSuccess(Map.of("readCount", count)));
+    }
+
+    @Operation(summary = "브로드캐스트 알림 읽음 처리", description = "특정 브로드캐스트 알림을 읽음 처리합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "읽음 처리 성공",
+                content =
+                        @io.swagger.v3.oas.annotations.media.Content(
+                                mediaType = "application/json",
+                                schema =
+                                        @io.swagger.v3.oas.annotations.media.Schema(
+                                                implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404",
+                description = "알림을 찾을 수 없음",
+                content =
+                        @io.swagger.v3.oas.annotations.media.Content(
+                                mediaType = "application/json",
+                                examples =
+                                        @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                                value =
+                                                        """
+                    {
+                      "isSuccess": false,
+                      "code": "NOTIFICATION_NOT_FOUND",
+                      "message": "해당 알림을 찾을 수 없습니다.",
+                      "result": null
+                    }
+                    """)))
+    })
+    @PatchMapping("/broadcasts/{id}/read")
+    public ResponseEntity<ApiResponse<Void>> markBroadcastAsRead(
+            @RequestHeader("Authorization") String authorizationHeader, @PathVariable Long id) {
+        Long userId = extractUserId(authorizationHeader);
+        notificationService.markBroadcastAsRead(id, userId);
+        return ResponseEntity.ok(ApiResponse.onSuccess(null));
+    }
+
+    @Operation(
+            summary = "브로드캐스트 알림 숨김",
+            description = "특정 브로드캐스트 알림을 본인 알림 목록에서 숨깁니다. 숨긴 알림은 읽음으로 처리됩니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "숨김 처리 성공",
+                content =
+                        @io.swagger.v3.oas.annotations.media.Content(
+                                mediaType = "application/json",
+                                schema =
+                                        @io.swagger.v3.oas.annotations.media.Schema(
+                                                implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404",
+                description = "알림을 찾을 수 없음",
+                content =
+                        @io.swagger.v3.oas.annotations.media.Content(
+                                mediaType = "application/json",
+                                examples =
+                                        @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                                value =
+                                                        """
+                    {
+                      "isSuccess": false,
+                      "code": "NOTIFICATION_NOT_FOUND",
+                      "message": "해당 알림을 찾을 수 없습니다.",
+                      "result": null
+                    }
+                    """)))
+    })
+    @PatchMapping("/broadcasts/{id}/dismiss")
+    public ResponseEntity<ApiResponse<Void>> dismissBroadcast(
+            @RequestHeader("Authorization") String authorizationHeader, @PathVariable Long id) {
+        Long userId = extractUserId(authorizationHeader);
+        notificationService.dismissBroadcast(id, userId);
+        return ResponseEntity.ok(ApiResponse.onSuccess(null));
+    }
+
     private Long extractUserId(String authorizationHeader) {
         String accessToken = authorizationHeader.replace("Bearer ", "");
         String email = jwtUtil.getUsername(accessToken);
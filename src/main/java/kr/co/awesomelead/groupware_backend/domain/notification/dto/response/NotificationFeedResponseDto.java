@@ -0,0 +1,25 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "알림 피드 응답 (커서 기반)")
+public class NotificationFeedResponseDto {
+
+    @Schema(description = "알림 목록 (생성일시 내림차순)")
+    private List<NotificationResponseDto> notifications;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNi0wMi0yNVQwMTowMHxQfDEw")
+    private String nextCursor;
+}
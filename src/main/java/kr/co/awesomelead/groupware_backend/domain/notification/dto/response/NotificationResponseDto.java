@@ -2,6 +2,7 @@ package kr.co.awesomelead.groupware_backend.domain.notification.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.BroadcastNotification;
 import kr.co.awesomelead.groupware_backend.domain.notification.entity.Notification;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
@@ -15,9 +16,12 @@ import java.util.Map;
 @Schema(description = "알림 응답")
 public class NotificationResponseDto {
 
-    @Schema(description = "알림 ID", example = "1")
+    @Schema(description = "개인 알림 ID (브로드캐스트 알림이면 null)", example = "1")
     private final Long id;
 
+    @Schema(description = "브로드캐스트 알림 ID (개인 알림이면 null)", example = "7")
+    private final Long broadcastId;
+
     @Schema(description = "알림 제목", example = "방문 신청이 승인되었습니다.")
     private final String title;
 
@@ -52,8 +56,14 @@ public class NotificationResponseDto {
             example = "false")
     private final boolean approvalOrRejectionCompleted;
 
+    @Schema(
+            description = "브로드캐스트 알림 여부 (true이면 broadcastId 로 broadcasts API 를 사용해 읽음/숨김 처리)",
+            example = "false")
+    private final boolean broadcast;
+
     private NotificationResponseDto(Notification notification) {
         this.id = notification.getId();
+        this.broadcastId = null;
         this.title = notification.getTitle();
         this.content = notification.getContent();
         this.domainType = notification.getDomainType();
@@ -64,12 +74,33 @@ public class NotificationResponseDto {
         this.requiresApproval = notification.isRequiresApproval();
         this.messageType = notification.getMessageType();
         this.approvalOrRejectionCompleted = isApprovalOrRejectionCompleted(notification);
+        this.broadcast = false;
+    }
+
+    private NotificationResponseDto(BroadcastNotification notification, boolean isRead) {
+        this.id = null;
+        this.broadcastId = notification.getId();
+        this.title = notification.getTitle();
+        this.content = notification.getContent();
+        this.domainType = notification.getDomainType();
+        this.domainId = notification.getDomainId();
+        this.isRead = isRead;
+        this.createdAt = notification.getCreatedAt();
+        this.metadata = notification.getMetadata();
+        this.requiresApproval = false;
+        this.messageType = notification.getMessageType();
+        this.approvalOrRejectionCompleted = false;
+        this.broadcast = true;
     }
 
     public static NotificationResponseDto from(Notification notification) {
         return new NotificationResponseDto(notification);
     }
 
+    public static NotificationResponseDto from(BroadcastNotification notification, boolean isRead) {
+        return new NotificationResponseDto(notification, isRead);
+    }
+
     private static boolean isApprovalOrRejectionCompleted(Notification notification) {
         NotificationMessage messageType = notification.getMessageType();
         if (messageType == null) {
@@ -0,0 +1,118 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
+import kr.co.awesomelead.groupware_backend.global.util.NotificationMetadataConverter;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 브로드캐스트 알림.
+ *
+ * <p>전사 공지처럼 다수에게 같은 내용을 보내는 알림은 수신자별 Notification 대신 본문 한 건과 수신 범위만 저장한다. 유저별 읽음/숨김
+ * 상태는 처리한 유저만 {@link BroadcastNotificationReceipt} 에 기록한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "broadcast_notifications",
+        indexes = {
+            @Index(
+                    name = "idx_broadcast_notification_audience_created",
+                    columnList = "audience_type, created_at")
+        })
+public class BroadcastNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Embedded private NotificationAudience audience;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationDomainType domainType;
+
+    private Long domainId;
+
+    @Convert(converter = NotificationMetadataConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private Map<String, Object> metadata;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "message_type", length = 50)
+    private NotificationMessage messageType;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    private BroadcastNotification(
+            NotificationAudience audience,
+            String title,
+            String content,
+            NotificationDomainType domainType,
+            Long domainId,
+            Map<String, Object> metadata,
+            NotificationMessage messageType) {
+        this.audience = audience;
+        this.title = title;
+        this.content = content;
+        this.domainType = domainType;
+        this.domainId = domainId;
+        this.metadata = metadata;
+        this.messageType = messageType;
+    }
+
+    public static BroadcastNotification of(
+            NotificationAudience audience,
+            String title,
+            String content,
+            NotificationDomainType domainType,
+            Long domainId,
+            Map<String, Object> metadata,
+            NotificationMessage messageType) {
+        if (audience == null) {
+            throw new IllegalArgumentException("audience는 필수입니다.");
+        }
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("title은 필수입니다.");
+        }
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("content는 필수입니다.");
+        }
+        if (domainType == null) {
+            throw new IllegalArgumentException("domainType은 필수입니다.");
+        }
+        return new BroadcastNotification(
+                audience, title, content, domainType, domainId, metadata, messageType);
+    }
+}
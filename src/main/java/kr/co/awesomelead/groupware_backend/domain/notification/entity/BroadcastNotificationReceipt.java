@@ -0,0 +1,69 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** 브로드캐스트 알림의 유저별 읽음/숨김 상태. 읽거나 숨긴 유저만 행을 가진다. */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "broadcast_notification_receipts",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_broadcast_notification_receipt_broadcast_user",
+                    columnNames = {"broadcast_id", "user_id"})
+        })
+public class BroadcastNotificationReceipt {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "broadcast_id", nullable = false)
+    private Long broadcastId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private LocalDateTime readAt;
+
+    private LocalDateTime dismissedAt;
+
+    private BroadcastNotificationReceipt(Long broadcastId, Long userId) {
+        this.broadcastId = broadcastId;
+        this.userId = userId;
+    }
+
+    public static BroadcastNotificationReceipt of(Long broadcastId, Long userId) {
+        return new BroadcastNotificationReceipt(broadcastId, userId);
+    }
+
+    public boolean isRead() {
+        return readAt != null;
+    }
+
+    public void markAsRead() {
+        if (readAt == null) {
+            readAt = LocalDateTime.now();
+        }
+    }
+
+    /** 알림 목록에서 숨긴다. 숨긴 알림은 읽은 것으로 본다. */
+    public void dismiss() {
+        markAsRead();
+        if (dismissedAt == null) {
+            dismissedAt = LocalDateTime.now();
+        }
+    }
+}
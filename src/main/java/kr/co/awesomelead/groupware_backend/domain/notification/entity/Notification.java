@@ -4,10 +4,12 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
@@ -24,7 +26,16 @@ import java.util.Map;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "notifications")
+@Table(
+        name = "notifications",
+        indexes = {
+            @Index(name = "idx_notification_user_read", columnList = "user_id, is_read"),
+            @Index(name = "idx_notification_user_created", columnList = "user_id, created_at, id"),
+            @Index(
+                    name = "idx_notification_user_approval_created",
+                    columnList = "user_id, requires_approval, created_at, id")
+        })
+@EntityListeners(NotificationEntityListener.class)
 public class Notification {
 
     @Id
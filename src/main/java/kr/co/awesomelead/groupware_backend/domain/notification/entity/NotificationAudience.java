@@ -0,0 +1,51 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationAudienceType;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 브로드캐스트 알림 수신 범위. 전체, 특정 회사(근무지), 특정 부서 중 하나이다. */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NotificationAudience {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "audience_type", nullable = false, length = 20)
+    private NotificationAudienceType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "audience_company", length = 20)
+    private Company company;
+
+    @Column(name = "audience_department_id")
+    private Long departmentId;
+
+    public static NotificationAudience all() {
+        return new NotificationAudience(NotificationAudienceType.ALL, null, null);
+    }
+
+    public static NotificationAudience company(Company company) {
+        if (company == null) {
+            throw new IllegalArgumentException("company는 필수입니다.");
+        }
+        return new NotificationAudience(NotificationAudienceType.COMPANY, company, null);
+    }
+
+    public static NotificationAudience department(Long departmentId) {
+        if (departmentId == null) {
+            throw new IllegalArgumentException("departmentId는 필수입니다.");
+        }
+        return new NotificationAudience(NotificationAudienceType.DEPARTMENT, null, departmentId);
+    }
+}
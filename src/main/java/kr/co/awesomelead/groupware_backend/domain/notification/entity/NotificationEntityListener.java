@@ -0,0 +1,29 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.entity;
+
+import jakarta.persistence.PostRemove;
+
+import kr.co.awesomelead.groupware_backend.domain.notification.event.NotificationUnreadCountChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽지 않은 알림이 삭제되면 미읽음 수 감소 이벤트를 발행한다. 알림 삭제는 여러 도메인의 파생 delete 쿼리에서 일어나므로 엔티티
+ * 단위로 감지한다. Hibernate 가 Spring 빈으로 생성한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostRemove
+    public void onRemove(Notification notification) {
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            eventPublisher.publishEvent(
+                    NotificationUnreadCountChangedEvent.decrement(notification.getUserId()));
+        }
+    }
+}
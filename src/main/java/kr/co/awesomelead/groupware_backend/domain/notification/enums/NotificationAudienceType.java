@@ -0,0 +1,15 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 브로드캐스트 알림 수신 범위 */
+@Getter
+@AllArgsConstructor
+public enum NotificationAudienceType {
+    ALL("전체"),
+    COMPANY("회사"),
+    DEPARTMENT("부서");
+
+    private final String description;
+}
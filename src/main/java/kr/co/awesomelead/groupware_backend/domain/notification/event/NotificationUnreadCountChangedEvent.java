@@ -0,0 +1,29 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 미읽음 알림 수 변경 이벤트. 커밋 이후 유저별 미읽음 카운터에 반영한다.
+ *
+ * @param userIds 미읽음 수가 바뀐 유저 ID
+ * @param delta 유저별 증감량
+ */
+public record NotificationUnreadCountChangedEvent(Collection<Long> userIds, long delta) {
+
+    public static NotificationUnreadCountChangedEvent increment(Collection<Long> userIds) {
+        return new NotificationUnreadCountChangedEvent(userIds, 1);
+    }
+
+    public static NotificationUnreadCountChangedEvent increment(Long userId) {
+        return increment(List.of(userId));
+    }
+
+    public static NotificationUnreadCountChangedEvent decrement(Long userId) {
+        return decrement(userId, 1);
+    }
+
+    public static NotificationUnreadCountChangedEvent decrement(Long userId, long count) {
+        return new NotificationUnreadCountChangedEvent(List.of(userId), -count);
+    }
+}
@@ -0,0 +1,202 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.repository;
+
+import static kr.co.awesomelead.groupware_backend.domain.notification.entity.QBroadcastNotification.broadcastNotification;
+import static kr.co.awesomelead.groupware_backend.domain.notification.entity.QBroadcastNotificationReceipt.broadcastNotificationReceipt;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.BroadcastNotification;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationAudienceType;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BroadcastNotificationQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 피드 커서 이후의 브로드캐스트 알림을 최신순으로 limit 건 조회한다. 숨긴 알림은 제외한다.
+     *
+     * @param cursor 이전 페이지 마지막 알림 위치 (첫 페이지면 null)
+     */
+    public List<BroadcastNotification> findVisible(
+            BroadcastRecipient recipient, NotificationFeedCursor cursor, int limit) {
+        return queryFactory
+                .selectFrom(broadcastNotification)
+                .where(visibleTo(recipient), after(cursor))
+                .orderBy(broadcastNotification.createdAt.desc(), broadcastNotification.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 수신자에게 보이는 브로드캐스트 알림을 피드 순서로 세웠을 때 position 번째(0부터) 알림의 정렬 키
+     *
+     * @return 해당 위치에 알림이 없으면 null
+     */
+    public NotificationFeedCursor findKeyAt(BroadcastRecipient recipient, long position) {
+        Tuple key =
+                queryFactory
+                        .select(broadcastNotification.createdAt, broadcastNotification.id)
+                        .from(broadcastNotification)
+                        .where(visibleTo(recipient))
+                        .orderBy(
+                                broadcastNotification.createdAt.desc(),
+                                broadcastNotification.id.desc())
+                        .offset(position)
+                        .limit(1)
+                        .fetchFirst();
+        if (key == null) {
+            return null;
+        }
+        return new NotificationFeedCursor(
+                key.get(broadcastNotification.createdAt), true, key.get(broadcastNotification.id));
+    }
+
+    public long countVisible(BroadcastRecipient recipient) {
+        Long count =
+                queryFactory
+                        .select(broadcastNotification.count())
+                        .from(broadcastNotification)
+                        .where(visibleTo(recipient))
+                        .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    public long countUnread(BroadcastRecipient recipient) {
+        Long count =
+                queryFactory
+                        .select(broadcastNotification.count())
+                        .from(broadcastNotification)
+                        .where(visibleTo(recipient), unreadBy(recipient))
+                        .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 수신자가 아직 읽지 않은 브로드캐스트 알림 ID 를 조회한다. 조건 인자가 null 이면 해당 조건은 적용하지 않는다.
+     *
+     * @param domainType 알림 도메인 유형
+     * @param domainId 알림 도메인 ID
+     * @param before 이 시각 이전에 생성된 알림만 조회한다
+     */
+    public List<Long> findUnreadIds(
+            BroadcastRecipient recipient,
+            NotificationDomainType domainType,
+            Long domainId,
+            LocalDateTime before) {
+        return queryFactory
+                .select(broadcastNotification.id)
+                .from(broadcastNotification)
+                .where(
+                        visibleTo(recipient),
+                        unreadBy(recipient),
+                        domainType != null ? broadcastNotification.domainType.eq(domainType) : null,
+                        domainId != null ? broadcastNotification.domainId.eq(domainId) : null,
+                        before != null ? broadcastNotification.createdAt.lt(before) : null)
+                .fetch();
+    }
+
+    /** 브로드캐스트 알림이 수신자의 수신 범위에 해당하는지 확인한다. 숨긴 알림도 수신 범위에 포함된다. */
+    public boolean isAddressedTo(Long broadcastId, BroadcastRecipient recipient) {
+        return queryFactory
+                        .selectOne()
+                        .from(broadcastNotification)
+                        .where(broadcastNotification.id.eq(broadcastId), audienceOf(recipient))
+                        .fetchFirst()
+                != null;
+    }
+
+    /** 같은 시각이면 개인 알림이 먼저 내려가므로, 커서가 개인 알림이면 그 시각의 브로드캐스트 알림은 아직 남아 있다. */
+    private BooleanExpression after(NotificationFeedCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        BooleanExpression older = broadcastNotification.createdAt.lt(cursor.createdAt());
+        BooleanExpression sameTime = broadcastNotification.createdAt.eq(cursor.createdAt());
+        if (!cursor.broadcast()) {
+            return older.or(sameTime);
+        }
+        return older.or(sameTime.and(broadcastNotification.id.lt(cursor.id())));
+    }
+
+    private BooleanExpression unreadBy(BroadcastRecipient recipient) {
+        return JPAExpressions.selectOne()
+                .from(broadcastNotificationReceipt)
+                .where(receiptOf(recipient), broadcastNotificationReceipt.readAt.isNotNull())
+                .notExists();
+    }
+
+    private BooleanExpression visibleTo(BroadcastRecipient recipient) {
+        return audienceOf(recipient)
+                .and(
+                        JPAExpressions.selectOne()
+                                .from(broadcastNotificationReceipt)
+                                .where(
+                                        receiptOf(recipient),
+                                        broadcastNotificationReceipt.dismissedAt.isNotNull())
+                                .notExists());
+    }
+
+    private BooleanExpression audienceOf(BroadcastRecipient recipient) {
+        BooleanExpression audience =
+                broadcastNotification.audience.type.eq(NotificationAudienceType.ALL);
+        if (recipient.company() != null) {
+            audience =
+                    audience.or(
+                            broadcastNotification
+                                    .audience
+                                    .type
+                                    .eq(NotificationAudienceType.COMPANY)
+                                    .and(
+                                            broadcastNotification.audience.company.eq(
+                                                    recipient.company())));
+        }
+        if (recipient.departmentId() != null) {
+            audience =
+                    audience.or(
+                            broadcastNotification
+                                    .audience
+                                    .type
+                                    .eq(NotificationAudienceType.DEPARTMENT)
+                                    .and(
+                                            broadcastNotification.audience.departmentId.eq(
+                                                    recipient.departmentId())));
+        }
+
+        if (recipient.since() != null) {
+            audience = audience.and(broadcastNotification.createdAt.goe(recipient.since()));
+        }
+        return audience;
+    }
+
+    private BooleanExpression receiptOf(BroadcastRecipient recipient) {
+        return broadcastNotificationReceipt
+                .broadcastId
+                .eq(broadcastNotification.id)
+                .and(broadcastNotificationReceipt.userId.eq(recipient.userId()));
+    }
+
+    /**
+     * 브로드캐스트 알림 수신자 조건
+     *
+     * @param userId 수신 유저 ID
+     * @param company 유저 근무지 (없으면 null)
+     * @param departmentId 유저 소속 부서 ID (없으면 null)
+     * @param since 이 시각 이후 생성된 알림만 보인다 (입사일 기준, 없으면 null)
+     */
+    public record BroadcastRecipient(
+            Long userId, Company company, Long departmentId, LocalDateTime since) {}
+}
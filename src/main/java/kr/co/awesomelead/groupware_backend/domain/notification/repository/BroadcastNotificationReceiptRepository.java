@@ -0,0 +1,31 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.repository;
+
+import jakarta.persistence.LockModeType;
+
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.BroadcastNotificationReceipt;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BroadcastNotificationReceiptRepository
+        extends JpaRepository<BroadcastNotificationReceipt, Long> {
+
+    Optional<BroadcastNotificationReceipt> findByBroadcastIdAndUserId(
+            Long broadcastId, Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            "select r from BroadcastNotificationReceipt r "
+                    + "where r.broadcastId = :broadcastId and r.userId = :userId")
+    Optional<BroadcastNotificationReceipt> findForUpdate(
+            @Param("broadcastId") Long broadcastId, @Param("userId") Long userId);
+
+    List<BroadcastNotificationReceipt> findAllByUserIdAndBroadcastIdIn(
+            Long userId, Collection<Long> broadcastIds);
+}
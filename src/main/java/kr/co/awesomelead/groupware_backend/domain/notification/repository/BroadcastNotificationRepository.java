@@ -0,0 +1,8 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.repository;
+
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.BroadcastNotification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BroadcastNotificationRepository
+        extends JpaRepository<BroadcastNotification, Long> {}
@@ -0,0 +1,102 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.repository;
+
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.Notification;
+import kr.co.awesomelead.groupware_backend.global.util.NotificationMetadataConverter;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 알림 대량 저장.
+ *
+ * <p>Notification 은 IDENTITY 채번이라 Hibernate 가 INSERT 를 batch 로 묶지 못한다. 다수 수신자 알림은 JDBC batch 로
+ * 직접 INSERT 하며, MySQL 드라이버의 rewriteBatchedStatements 옵션이 켜져 있으면 multi-row INSERT 한 번으로 전송된다.
+ * 브로드캐스트 알림 일괄 읽음 기록도 같은 방식으로 저장한다. 생성된 ID 는 돌려받지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkWriter {
+
+    private static final String INSERT_SQL =
+            """
+            INSERT INTO notifications
+                (user_id, title, content, domain_type, domain_id, is_read, metadata,
+                 requires_approval, message_type, created_at)
+            VALUES (?, ?, ?, ?, ?, false, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_READ_RECEIPT_SQL =
+            """
+            INSERT INTO broadcast_notification_receipts (broadcast_id, user_id, read_at)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final NotificationMetadataConverter METADATA_CONVERTER =
+            new NotificationMetadataConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림을 한 번의 batch 로 저장한다.
+     *
+     * @return 저장한 알림 수
+     */
+    public int insertAll(Collection<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                notifications,
+                notifications.size(),
+                (ps, notification) -> {
+                    ps.setLong(1, notification.getUserId());
+                    ps.setString(2, notification.getTitle());
+                    ps.setString(3, notification.getContent());
+                    ps.setString(4, notification.getDomainType().name());
+                    ps.setObject(5, notification.getDomainId(), Types.BIGINT);
+                    ps.setString(
+                            6,
+                            METADATA_CONVERTER.convertToDatabaseColumn(
+                                    notification.getMetadata()));
+                    ps.setBoolean(7, notification.isRequiresApproval());
+                    ps.setString(
+                            8,
+                            notification.getMessageType() != null
+                                    ? notification.getMessageType().name()
+                                    : null);
+                    ps.setTimestamp(9, now);
+                });
+        return notifications.size();
+    }
+
+    /**
+     * 한 유저의 브로드캐스트 알림 읽음 기록을 한 번의 batch 로 저장한다. 기록이 없는 알림만 넘겨야 한다.
+     *
+     * @return 저장한 기록 수
+     */
+    public int insertReadReceipts(Long userId, Collection<Long> broadcastIds) {
+        if (broadcastIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                INSERT_READ_RECEIPT_SQL,
+                broadcastIds,
+                broadcastIds.size(),
+                (ps, broadcastId) -> {
+                    ps.setLong(1, broadcastId);
+                    ps.setLong(2, userId);
+                    ps.setTimestamp(3, now);
+                });
+        return broadcastIds.size();
+    }
+}
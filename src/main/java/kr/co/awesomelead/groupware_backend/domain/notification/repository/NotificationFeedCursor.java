@@ -0,0 +1,59 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.repository;
+
+import kr.co.awesomelead.groupware_backend.global.error.CustomException;
+import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
+import kr.co.awesomelead.groupware_backend.global.util.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 알림 피드 키셋 커서. 마지막으로 내려준 알림의 정렬 키다.
+ *
+ * <p>피드는 (createdAt desc, 개인 알림 먼저, id desc) 순으로 정렬된다. 개인 알림과 브로드캐스트 알림은 ID 체계가 다르므로 같은
+ * 시각에서는 종류로 먼저 순서를 정한다.
+ *
+ * @param createdAt 마지막 알림 생성일시
+ * @param broadcast 마지막 알림이 브로드캐스트 알림인지 여부
+ * @param id 마지막 알림 ID
+ */
+public record NotificationFeedCursor(LocalDateTime createdAt, boolean broadcast, Long id) {
+
+    private static final String PERSONAL = "P";
+    private static final String BROADCAST = "B";
+
+    /** @return 피드에서 이 위치가 other 보다 앞에 오면 true */
+    public boolean precedes(NotificationFeedCursor other) {
+        int byTime = createdAt.compareTo(other.createdAt);
+        if (byTime != 0) {
+            return byTime > 0;
+        }
+        if (broadcast != other.broadcast) {
+            return !broadcast;
+        }
+        return id > other.id;
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt, broadcast ? BROADCAST : PERSONAL, id);
+    }
+
+    /** 커서 문자열을 복원한다. 커서가 없으면 null. */
+    public static NotificationFeedCursor decode(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        if (parts == null) {
+            return null;
+        }
+        if (!PERSONAL.equals(parts[1]) && !BROADCAST.equals(parts[1])) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+        try {
+            return new NotificationFeedCursor(
+                    LocalDateTime.parse(parts[0]),
+                    BROADCAST.equals(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.repository;
+
+import static kr.co.awesomelead.groupware_backend.domain.notification.entity.QNotification.notification;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.Notification;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 개인 알림 피드를 키셋 방식으로 limit 건 조회한다. (user_id, created_at, id) 인덱스를 역순으로 읽으므로 커서 위치와 관계없이
+     * 비용이 같다. 전체 건수는 세지 않는다.
+     *
+     * @param pendingApproval true 이면 승인 대기 알림만 조회한다. (user_id, requires_approval, created_at, id)
+     *     인덱스를 사용한다.
+     * @param cursor 이전 페이지 마지막 알림 위치 (첫 페이지면 null)
+     */
+    public List<Notification> findFeed(
+            Long userId, boolean pendingApproval, NotificationFeedCursor cursor, int limit) {
+        return queryFactory
+                .selectFrom(notification)
+                .where(
+                        notification.userId.eq(userId),
+                        pendingApproval ? notification.requiresApproval.isTrue() : null,
+                        after(cursor))
+                .orderBy(notification.createdAt.desc(), notification.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 개인 알림을 피드 순서로 세웠을 때 position 번째(0부터) 알림의 정렬 키. 같은 인덱스를 읽되 행 대신 키 한 건만 가져온다.
+     *
+     * @return 해당 위치에 알림이 없으면 null
+     */
+    public NotificationFeedCursor findKeyAt(Long userId, long position) {
+        Tuple key =
+                queryFactory
+                        .select(notification.createdAt, notification.id)
+                        .from(notification)
+                        .where(notification.userId.eq(userId))
+                        .orderBy(notification.createdAt.desc(), notification.id.desc())
+                        .offset(position)
+                        .limit(1)
+                        .fetchFirst();
+        if (key == null) {
+            return null;
+        }
+        return new NotificationFeedCursor(
+                key.get(notification.createdAt), false, key.get(notification.id));
+    }
+
+    /** 같은 시각이면 개인 알림이 브로드캐스트 알림보다 앞선다. 커서가 브로드캐스트면 그 시각의 개인 알림은 이미 내려간 것이다. */
+    private BooleanExpression after(NotificationFeedCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        BooleanExpression older = notification.createdAt.lt(cursor.createdAt());
+        if (cursor.broadcast()) {
+            return older;
+        }
+        return older.or(
+                notification.createdAt.eq(cursor.createdAt()).and(notification.id.lt(cursor.id())));
+    }
+}
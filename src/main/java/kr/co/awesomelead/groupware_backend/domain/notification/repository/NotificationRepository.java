@@ -10,6 +10,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     Page<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
@@ -19,6 +22,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     long countByUserIdAndIsReadFalse(Long userId);
 
+    long countByUserId(Long userId);
+
     void deleteByDomainTypeAndDomainId(NotificationDomainType domainType, Long domainId);
 
     @Modifying
@@ -28,4 +33,42 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     void resolveRequiresApprovalByDomainTypeAndDomainId(
             @Param("domainType") NotificationDomainType domainType,
             @Param("domainId") Long domainId);
+
+    @Modifying
+    @Query(
+            "UPDATE Notification n SET n.requiresApproval = false WHERE n.domainType = :domainType"
+                    + " AND n.domainId IN :domainIds AND n.requiresApproval = true")
+    void resolveRequiresApprovalByDomainTypeAndDomainIdIn(
+            @Param("domainType") NotificationDomainType domainType,
+            @Param("domainIds") Collection<Long> domainIds);
+
+    @Modifying
+    @Query(
+            "UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId"
+                    + " AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(
+            "UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId"
+                    + " AND n.domainType = :domainType AND n.isRead = false")
+    int markAsReadByUserIdAndDomainType(
+            @Param("userId") Long userId, @Param("domainType") NotificationDomainType domainType);
+
+    @Modifying
+    @Query(
+            "UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId"
+                    + " AND n.domainType = :domainType AND n.domainId = :domainId"
+                    + " AND n.isRead = false")
+    int markAsReadByUserIdAndDomainTypeAndDomainId(
+            @Param("userId") Long userId,
+            @Param("domainType") NotificationDomainType domainType,
+            @Param("domainId") Long domainId);
+
+    @Modifying
+    @Query(
+            "UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId"
+                    + " AND n.createdAt < :before AND n.isRead = false")
+    int markAsReadByUserIdAndCreatedAtBefore(
+            @Param("userId") Long userId, @Param("before") LocalDateTime before);
 }
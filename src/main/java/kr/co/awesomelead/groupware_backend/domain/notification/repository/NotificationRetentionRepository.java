@@ -0,0 +1,58 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 알림 정리용 JDBC 접근.
+ *
+ * <p>모든 조건은 PK 범위로 묶어 한 번에 잠그는 행 수를 제한한다. 삭제 범위는 항상 삭제 대상인 첫 알림부터 잡으므로, 지우지 않는
+ * 안 읽은 알림이 앞쪽에 쌓여 있어도 실행마다 같은 구간을 다시 훑지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionRepository {
+
+    private static final String DELETE_READ_SQL =
+            """
+            DELETE FROM notifications
+             WHERE id >= ? AND id < ?
+               AND is_read = true
+               AND created_at < ?
+            """;
+
+    private static final String FIND_NEXT_DELETABLE_SQL =
+            """
+            SELECT id FROM notifications
+             WHERE id >= ?
+               AND is_read = true
+               AND created_at < ?
+             ORDER BY id
+             LIMIT 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** fromId 이상에서 cutoff 이전에 생성된 첫 읽은 알림의 ID. 남은 대상이 없으면 null. */
+    public Long findNextDeletableId(long fromId, LocalDateTime cutoff) {
+        List<Long> ids =
+                jdbcTemplate.queryForList(
+                        FIND_NEXT_DELETABLE_SQL, Long.class, fromId, Timestamp.valueOf(cutoff));
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    /**
+     * [fromId, toId) 범위에서 cutoff 이전에 생성된 읽은 알림을 삭제한다.
+     *
+     * @return 삭제한 알림 수
+     */
+    public int deleteReadBefore(long fromId, long toId, LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_READ_SQL, fromId, toId, Timestamp.valueOf(cutoff));
+    }
+}
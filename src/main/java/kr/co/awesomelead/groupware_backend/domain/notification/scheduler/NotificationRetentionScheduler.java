@@ -0,0 +1,114 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.scheduler;
+
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationRetentionRepository;
+import kr.co.awesomelead.groupware_backend.global.lock.DistributedLockExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 읽은 지 오래된 알림 정리 스케줄러.
+ *
+ * <p>생성 후 read-max-age 가 지난 읽은 알림을 PK 범위(chunk-size) 단위로 나눠 삭제한다. 범위는 다음 삭제 대상 알림부터 잡으므로
+ * 지우지 않는 안 읽은 알림은 건너뛴다. 범위마다 별도 DELETE 문으로 바로 커밋하고 chunk 사이에 pause 만큼 쉬어 긴 락이나 복제 지연을
+ * 만들지 않는다. 한 번 실행에 max-chunks-per-run 까지만 처리하며, 남은 분량은 다음 실행에서 처음부터 다시 찾아 지운다. 여러
+ * 인스턴스 중 분산 락을 잡은 한 곳에서만 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "notification.retention.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class NotificationRetentionScheduler {
+
+    private static final String LOCK_NAME = "notification:retention";
+
+    private final NotificationRetentionRepository notificationRetentionRepository;
+    private final DistributedLockExecutor distributedLockExecutor;
+
+    @Value("${notification.retention.read-max-age:P90D}")
+    private Duration readMaxAge;
+
+    @Value("${notification.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${notification.retention.pause:PT0.2S}")
+    private Duration pause;
+
+    @Value("${notification.retention.max-chunks-per-run:2000}")
+    private int maxChunksPerRun;
+
+    @Value("${notification.retention.lock-lease:PT1H}")
+    private Duration lockLease;
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void purgeReadNotifications() {
+        boolean executed =
+                distributedLockExecutor.executeWithLock(LOCK_NAME, lockLease, this::purge);
+        if (!executed) {
+            log.info("[NotificationRetention] 다른 인스턴스에서 실행 중이거나 락을 잡지 못해 건너뜀");
+        }
+    }
+
+    /**
+     * 읽은 알림 정리를 한 번 실행한다.
+     *
+     * @return 삭제한 알림 수
+     */
+    long purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(readMaxAge);
+        log.info("[NotificationRetention] 읽은 알림 정리 시작 - cutoff: {}", cutoff);
+
+        long deleted = 0;
+        int chunks = 0;
+        long fromId = 0;
+        try {
+            while (chunks < maxChunksPerRun && !Thread.currentThread().isInterrupted()) {
+                Long nextId = notificationRetentionRepository.findNextDeletableId(fromId, cutoff);
+                if (nextId == null) {
+                    break;
+                }
+                long toId = nextId + chunkSize;
+                deleted += notificationRetentionRepository.deleteReadBefore(nextId, toId, cutoff);
+                fromId = toId;
+                chunks++;
+                sleep();
+            }
+        } catch (DataAccessException e) {
+            log.warn(
+                    "[NotificationRetention] 정리 중단, 다음 실행에서 이어서 처리 - deleted: {}, nextId: {}",
+                    deleted,
+                    fromId,
+                    e);
+        }
+
+        log.info(
+                "[NotificationRetention] 읽은 알림 정리 완료 - deleted: {}, chunks: {}, nextId: {}",
+                deleted,
+                chunks,
+                fromId);
+        return deleted;
+    }
+
+    private void sleep() {
+        if (pause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
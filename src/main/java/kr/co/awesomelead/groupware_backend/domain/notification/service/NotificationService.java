@@ -4,10 +4,24 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTopicReconciler;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTopicService;
+import kr.co.awesomelead.groupware_backend.domain.notification.dto.response.NotificationFeedResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.notification.dto.response.NotificationResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.BroadcastNotification;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.BroadcastNotificationReceipt;
 import kr.co.awesomelead.groupware_backend.domain.notification.entity.Notification;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.NotificationAudience;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
+import kr.co.awesomelead.groupware_backend.domain.notification.event.NotificationUnreadCountChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.BroadcastNotificationQueryRepository;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.BroadcastNotificationQueryRepository.BroadcastRecipient;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.BroadcastNotificationReceiptRepository;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.BroadcastNotificationRepository;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationBulkWriter;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationFeedCursor;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationQueryRepository;
 import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationRepository;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 import kr.co.awesomelead.groupware_backend.domain.user.enums.Role;
@@ -18,27 +32,59 @@ import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    /** 대량 알림 저장 시 한 번의 batch 로 보내는 최대 건수 */
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    private static final int FEED_PAGE_SIZE = 20;
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationBulkWriter notificationBulkWriter;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final BroadcastNotificationReceiptRepository broadcastNotificationReceiptRepository;
+    private final BroadcastNotificationQueryRepository broadcastNotificationQueryRepository;
+    private final NotificationQueryRepository notificationQueryRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
     private final ApplicationEventPublisher eventPublisher;
     private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * 브로드캐스트 알림을 수신 범위 토픽 메시지 한 건으로 발송할지 여부. 끄면 대상 유저별로 발송한다. 기존 토큰의 구독이 끝나기 전에 켜면
+     * 구독하지 않은 기기는 알림을 받지 못하므로, {@link FcmTopicReconciler} 의 첫 보정이 끝난 뒤에 켠다.
+     */
+    @Value("${fcm.topic.enabled:false}")
+    private boolean topicPushEnabled;
+
     @Transactional
     public void createNotification(
             Long userId,
@@ -73,6 +119,7 @@ public class NotificationService {
                 Notification.of(
                         userId, title, content, domainType, domainId, metadata, requiresApproval);
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(NotificationUnreadCountChangedEvent.increment(userId));
         log.info("알림 생성 - userId: {}, domainType: {}", userId, domainType);
     }
 
@@ -96,19 +143,185 @@ public class NotificationService {
                         requiresApproval,
                         messageType);
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(NotificationUnreadCountChangedEvent.increment(userId));
         log.info("알림 생성 - userId: {}, domainType: {}", userId, domainType);
     }
 
+    /**
+     * 알림 목록 조회. 개인 알림과 수신 범위에 해당하는 브로드캐스트 알림을 생성일시 내림차순으로 합쳐서 반환한다.
+     *
+     * <p>승인 대기 알림은 개인 알림에만 존재하므로 pendingApproval=true 이면 개인 알림만 조회한다.
+     */
     @Transactional(readOnly = true)
     public Page<NotificationResponseDto> getNotifications(
             Long userId, boolean pendingApproval, Pageable pageable) {
-        Page<Notification> page =
-                pendingApproval
-                        ? notificationRepository
-                                .findByUserIdAndRequiresApprovalTrueOrderByCreatedAtDesc(
-                                        userId, pageable)
-                        : notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-        return page.map(NotificationResponseDto::from);
+        if (pendingApproval) {
+            return notificationRepository
+                    .findByUserIdAndRequiresApprovalTrueOrderByCreatedAtDesc(userId, pageable)
+                    .map(NotificationResponseDto::from);
+        }
+
+        Optional<BroadcastRecipient> recipient = findBroadcastRecipient(userId);
+        long broadcastTotal =
+                recipient.map(broadcastNotificationQueryRepository::countVisible).orElse(0L);
+        if (broadcastTotal == 0) {
+            return notificationRepository
+                    .findByUserIdOrderByCreatedAtDesc(userId, pageable)
+                    .map(NotificationResponseDto::from);
+        }
+        return mergeWithBroadcasts(userId, recipient.get(), broadcastTotal, pageable);
+    }
+
+    /**
+     * 요청한 페이지 바로 앞 알림의 위치를 찾아 그 뒤부터 피드와 같은 키셋 병합으로 한 페이지만 읽는다. 앞 페이지의 알림은 읽지 않으므로
+     * 뒤 페이지도 첫 페이지와 비슷한 비용으로 조회한다.
+     */
+    private Page<NotificationResponseDto> mergeWithBroadcasts(
+            Long userId, BroadcastRecipient recipient, long broadcastTotal, Pageable pageable) {
+        long personalTotal = notificationRepository.countByUserId(userId);
+        NotificationFeedCursor after =
+                cursorBefore(
+                        userId, recipient, pageable.getOffset(), personalTotal, broadcastTotal);
+        FeedPage page = mergeFeed(userId, false, recipient, after, pageable.getPageSize());
+        return new PageImpl<>(page.items(), pageable, personalTotal + broadcastTotal);
+    }
+
+    /**
+     * 두 목록을 병합한 순서에서 앞쪽 offset 건의 마지막 알림 위치. 앞쪽 offset 건 중 개인 알림 수를 이분 탐색으로 찾으므로 정렬 키 한
+     * 건 조회를 log(offset) 번 정도만 한다.
+     *
+     * @return offset 이 0 이면 null
+     */
+    private NotificationFeedCursor cursorBefore(
+            Long userId,
+            BroadcastRecipient recipient,
+            long offset,
+            long personalTotal,
+            long broadcastTotal) {
+        if (offset == 0) {
+            return null;
+        }
+        // 앞쪽 offset 건에 개인 알림이 i 건이면 i 번째 개인 알림은 offset - i 번째 브로드캐스트 알림보다 앞선다.
+        long low = Math.max(0, offset - broadcastTotal);
+        long high = Math.min(offset, personalTotal);
+        while (low < high) {
+            long mid = low + (high - low + 1) / 2;
+            NotificationFeedCursor personal =
+                    notificationQueryRepository.findKeyAt(userId, mid - 1);
+            NotificationFeedCursor broadcast =
+                    broadcastNotificationQueryRepository.findKeyAt(recipient, offset - mid);
+            if (personal != null && (broadcast == null || personal.precedes(broadcast))) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        NotificationFeedCursor lastPersonal =
+                low > 0 ? notificationQueryRepository.findKeyAt(userId, low - 1) : null;
+        NotificationFeedCursor lastBroadcast =
+                offset - low > 0
+                        ? broadcastNotificationQueryRepository.findKeyAt(
+                                recipient, offset - low - 1)
+                        : null;
+        if (lastPersonal == null) {
+            return lastBroadcast;
+        }
+        if (lastBroadcast == null || lastBroadcast.precedes(lastPersonal)) {
+            return lastPersonal;
+        }
+        return lastBroadcast;
+    }
+
+    /**
+     * 알림 피드 조회 (키셋 페이지네이션). 개인 알림과 브로드캐스트 알림을 각각 커서 이후 size + 1 건만 읽어 병합하므로, 얼마나
+     * 뒤로 스크롤했는지와 관계없이 첫 페이지와 비용이 같다. 전체 건수는 세지 않는다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public NotificationFeedResponseDto getNotificationFeed(
+            Long userId, boolean pendingApproval, String cursor, Integer size) {
+        int limit = size != null ? Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE)) : FEED_PAGE_SIZE;
+        NotificationFeedCursor after = NotificationFeedCursor.decode(cursor);
+        // 승인 대기 알림은 개인 알림에만 존재한다.
+        BroadcastRecipient recipient =
+                pendingApproval ? null : findBroadcastRecipient(userId).orElse(null);
+
+        FeedPage page = mergeFeed(userId, pendingApproval, recipient, after, limit);
+        return NotificationFeedResponseDto.builder()
+                .notifications(page.items())
+                .hasNext(page.hasNext())
+                .nextCursor(page.hasNext() ? page.last().encode() : null)
+                .build();
+    }
+
+    /**
+     * 커서 이후 개인 알림과 브로드캐스트 알림을 각각 limit + 1 건씩 읽어 피드 순서로 limit 건까지 병합한다.
+     *
+     * @param recipient 브로드캐스트 알림 수신자 (null 이면 개인 알림만)
+     */
+    private FeedPage mergeFeed(
+            Long userId,
+            boolean pendingApproval,
+            BroadcastRecipient recipient,
+            NotificationFeedCursor after,
+            int limit) {
+        List<Notification> personal =
+                notificationQueryRepository.findFeed(userId, pendingApproval, after, limit + 1);
+        List<BroadcastNotification> broadcasts =
+                recipient != null
+                        ? broadcastNotificationQueryRepository.findVisible(
+                                recipient, after, limit + 1)
+                        : List.of();
+        Set<Long> readBroadcastIds = findReadBroadcastIds(userId, broadcasts);
+
+        List<NotificationResponseDto> items = new ArrayList<>(limit);
+        NotificationFeedCursor last = null;
+        int p = 0;
+        int b = 0;
+        while (items.size() < limit && (p < personal.size() || b < broadcasts.size())) {
+            boolean takePersonal =
+                    b >= broadcasts.size()
+                            || (p < personal.size()
+                                    && !personal
+                                            .get(p)
+                                            .getCreatedAt()
+                                            .isBefore(broadcasts.get(b).getCreatedAt()));
+            if (takePersonal) {
+                Notification notification = personal.get(p++);
+                items.add(NotificationResponseDto.from(notification));
+                last =
+                        new NotificationFeedCursor(
+                                notification.getCreatedAt(), false, notification.getId());
+            } else {
+                BroadcastNotification broadcast = broadcasts.get(b++);
+                items.add(
+                        NotificationResponseDto.from(
+                                broadcast, readBroadcastIds.contains(broadcast.getId())));
+                last =
+                        new NotificationFeedCursor(
+                                broadcast.getCreatedAt(), true, broadcast.getId());
+            }
+        }
+        return new FeedPage(items, last, p < personal.size() || b < broadcasts.size());
+    }
+
+    /** 병합한 알림과 마지막 알림 위치, 다음 페이지 존재 여부 */
+    private record FeedPage(
+            List<NotificationResponseDto> items, NotificationFeedCursor last, boolean hasNext) {}
+
+    private Set<Long> findReadBroadcastIds(Long userId, List<BroadcastNotification> broadcasts) {
+        if (broadcasts.isEmpty()) {
+            return Set.of();
+        }
+        return broadcastNotificationReceiptRepository
+                .findAllByUserIdAndBroadcastIdIn(
+                        userId, broadcasts.stream().map(BroadcastNotification::getId).toList())
+                .stream()
+                .filter(BroadcastNotificationReceipt::isRead)
+                .map(BroadcastNotificationReceipt::getBroadcastId)
+                .collect(Collectors.toSet());
     }
 
     @Transactional
@@ -117,6 +330,17 @@ public class NotificationService {
         log.info("requiresApproval 해제 - domainType: {}, domainId: {}", domainType, domainId);
     }
 
+    @Transactional
+    public void resolveRequiresApproval(
+            NotificationDomainType domainType, Collection<Long> domainIds) {
+        if (domainIds.isEmpty()) {
+            return;
+        }
+        notificationRepository.resolveRequiresApprovalByDomainTypeAndDomainIdIn(
+                domainType, domainIds);
+        log.info("requiresApproval 일괄 해제 - domainType: {}, 대상 수: {}", domainType, domainIds.size());
+    }
+
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
         Notification notification =
@@ -128,12 +352,181 @@ public class NotificationService {
             throw new CustomException(ErrorCode.NO_AUTHORITY_FOR_NOTIFICATION);
         }
 
-        notification.markAsRead();
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notification.markAsRead();
+            eventPublisher.publishEvent(NotificationUnreadCountChangedEvent.decrement(userId));
+        }
     }
 
-    @Transactional(readOnly = true)
+    /** 브로드캐스트 알림 읽음 처리. 처음 읽은 경우에만 읽음 기록을 만든다. */
+    @Transactional
+    public void markBroadcastAsRead(Long broadcastId, Long userId) {
+        BroadcastNotificationReceipt receipt = getOrCreateReceipt(broadcastId, userId);
+        if (!receipt.isRead()) {
+            receipt.markAsRead();
+            eventPublisher.publishEvent(NotificationUnreadCountChangedEvent.decrement(userId));
+        }
+    }
+
+    /** 브로드캐스트 알림을 본인 알림 목록에서 숨긴다. */
+    @Transactional
+    public void dismissBroadcast(Long broadcastId, Long userId) {
+        BroadcastNotificationReceipt receipt = getOrCreateReceipt(broadcastId, userId);
+        if (!receipt.isRead()) {
+            eventPublisher.publishEvent(NotificationUnreadCountChangedEvent.decrement(userId));
+        }
+        receipt.dismiss();
+    }
+
+    /**
+     * 본인 알림 전체 읽음 처리. 브로드캐스트 알림도 함께 읽음 처리한다.
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        return applyBulkRead(userId, updated + markBroadcastsAsRead(userId, null, null, null));
+    }
+
+    /**
+     * 도메인별 읽음 처리. domainId 가 없으면 해당 도메인 유형의 알림을 모두 읽음 처리한다.
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markAsReadByDomain(Long userId, NotificationDomainType domainType, Long domainId) {
+        int updated =
+                domainId == null
+                        ? notificationRepository.markAsReadByUserIdAndDomainType(userId, domainType)
+                        : notificationRepository.markAsReadByUserIdAndDomainTypeAndDomainId(
+                                userId, domainType, domainId);
+        return applyBulkRead(
+                userId, updated + markBroadcastsAsRead(userId, domainType, domainId, null));
+    }
+
+    /**
+     * 지정 시각 이전에 생성된 알림 읽음 처리
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markAsReadBefore(Long userId, LocalDateTime before) {
+        int updated = notificationRepository.markAsReadByUserIdAndCreatedAtBefore(userId, before);
+        return applyBulkRead(userId, updated + markBroadcastsAsRead(userId, null, null, before));
+    }
+
+    private int applyBulkRead(Long userId, int count) {
+        if (count > 0) {
+            eventPublisher.publishEvent(
+                    NotificationUnreadCountChangedEvent.decrement(userId, count));
+        }
+        log.info("알림 일괄 읽음 처리 - userId: {}, count: {}", userId, count);
+        return count;
+    }
+
+    /** 조건에 맞는 미읽음 브로드캐스트 알림의 읽음 기록을 남긴다. 읽음 처리한 건수를 반환한다. */
+    private int markBroadcastsAsRead(
+            Long userId, NotificationDomainType domainType, Long domainId, LocalDateTime before) {
+        List<Long> broadcastIds =
+                findBroadcastRecipient(userId)
+                        .map(
+                                recipient ->
+                                        broadcastNotificationQueryRepository.findUnreadIds(
+                                                recipient, domainType, domainId, before))
+                        .orElse(List.of());
+        if (broadcastIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, BroadcastNotificationReceipt> existing =
+                broadcastNotificationReceiptRepository
+                        .findAllByUserIdAndBroadcastIdIn(userId, broadcastIds)
+                        .stream()
+                        .collect(
+                                Collectors.toMap(
+                                        BroadcastNotificationReceipt::getBroadcastId,
+                                        receipt -> receipt));
+        // 읽음 기록도 IDENTITY 채번이라 새 기록은 JDBC batch 로 한 번에 넣고, 기존 기록만 변경 감지로 갱신한다.
+        List<Long> missing = new ArrayList<>();
+        for (Long broadcastId : broadcastIds) {
+            BroadcastNotificationReceipt receipt = existing.get(broadcastId);
+            if (receipt == null) {
+                missing.add(broadcastId);
+            } else {
+                receipt.markAsRead();
+            }
+        }
+        notificationBulkWriter.insertReadReceipts(userId, missing);
+        return broadcastIds.size();
+    }
+
+    /**
+     * 읽음 기록을 잠가서 가져오고 없으면 만든다. 같은 유저가 동시에 읽음/숨김을 요청해도 유니크 제약에 걸려 실패하지 않도록, 기록은
+     * 별도 트랜잭션에서 만들고 제약에 걸리면 먼저 만들어진 행을 쓴다. 잠금 조회는 다른 트랜잭션이 커밋한 행도 읽고, 미읽음 수가 두 번
+     * 줄어들지 않도록 동시 요청을 줄 세운다.
+     */
+    private BroadcastNotificationReceipt getOrCreateReceipt(Long broadcastId, Long userId) {
+        // 수신 범위 밖의 알림에는 읽음 기록을 만들지 않고, 존재 여부도 드러내지 않는다.
+        boolean addressed =
+                findBroadcastRecipient(userId)
+                        .map(
+                                recipient ->
+                                        broadcastNotificationQueryRepository.isAddressedTo(
+                                                broadcastId, recipient))
+                        .orElse(false);
+        if (!addressed) {
+            throw new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND);
+        }
+        // 없는 행을 잠금 조회하면 갭 락이 걸려 아래 별도 트랜잭션의 INSERT 가 막히므로, 존재 확인은 잠금 없이 한다.
+        if (broadcastNotificationReceiptRepository
+                .findByBroadcastIdAndUserId(broadcastId, userId)
+                .isEmpty()) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setPropagationBehavior(
+                    TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status ->
+                                broadcastNotificationReceiptRepository.saveAndFlush(
+                                        BroadcastNotificationReceipt.of(broadcastId, userId)));
+            } catch (DataIntegrityViolationException e) {
+                log.debug(
+                        "동시 생성된 브로드캐스트 읽음 기록 사용 - broadcastId: {}, userId: {}",
+                        broadcastId,
+                        userId);
+            }
+        }
+        return broadcastNotificationReceiptRepository
+                .findForUpdate(broadcastId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND));
+    }
+
+    /** 미읽음 알림 수. Redis 카운터에서 응답하고, 카운터가 없을 때만 DB 에서 센다. */
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return notificationUnreadCounter.get(userId, () -> countUnreadFromDatabase(userId));
+    }
+
+    private long countUnreadFromDatabase(Long userId) {
+        long broadcastUnread =
+                findBroadcastRecipient(userId)
+                        .map(broadcastNotificationQueryRepository::countUnread)
+                        .orElse(0L);
+        return notificationRepository.countByUserIdAndIsReadFalse(userId) + broadcastUnread;
+    }
+
+    private Optional<BroadcastRecipient> findBroadcastRecipient(Long userId) {
+        return userRepository
+                .findBroadcastAudienceById(userId)
+                .map(
+                        user ->
+                                new BroadcastRecipient(
+                                        user.getId(),
+                                        user.getWorkLocation(),
+                                        user.getDepartmentId(),
+                                        user.getHireDate() != null
+                                                ? user.getHireDate().atStartOfDay()
+                                                : null));
     }
 
     /**
@@ -186,28 +579,18 @@ public class NotificationService {
         List<User> admins = userRepository.findAllByRole(Role.ADMIN);
         admins.addAll(userRepository.findAllByRole(Role.MASTER_ADMIN));
 
-        for (User admin : admins) {
-            // 1. 알림함 저장
-            doCreateNotification(
-                    admin.getId(),
-                    title,
-                    content,
-                    template,
-                    domainType,
-                    domainId,
-                    metadata,
-                    requiresApproval);
-
-            // 2. FCM 이벤트 발행 (트랜잭션 커밋 후 비동기 발송)
-            eventPublisher.publishEvent(
-                    new FcmSendEvent(
-                            admin.getId(),
-                            title,
-                            content,
-                            buildFcmData(domainType, domainId, metadata)));
-        }
+        int count =
+                createBulkNotifications(
+                        admins.stream().map(User::getId).toList(),
+                        title,
+                        content,
+                        template,
+                        domainType,
+                        domainId,
+                        metadata,
+                        requiresApproval);
 
-        log.info("관리자 그룹 알림 전송 완료 - 대상 Admin 수: {}, 템플릿: {}", admins.size(), template.name());
+        log.info("관리자 그룹 알림 전송 완료 - 대상 Admin 수: {}, 템플릿: {}", count, template.name());
     }
 
     /**
@@ -252,6 +635,116 @@ public class NotificationService {
         log.info("단일 유저 알림 전송 완료 - userId: {}, 템플릿: {}", userId, template.name());
     }
 
+    /**
+     * 수신 범위 전체에 브로드캐스트 알림을 저장하고 대상 유저에게 FCM 알림 전송
+     *
+     * <p>알림함에는 본문 한 건만 저장되므로 수신자 수와 관계없이 INSERT 는 한 번이다. 유저별 읽음/숨김 상태는 처리 시점에 따로
+     * 기록한다. FCM 은 수신 범위에 해당하는 토픽(전체/회사/부서)으로 한 번만 발송하며, pushUserIds 는 안 읽은 알림 수 갱신에
+     * 쓴다. fcm.topic.enabled 를 끄면 pushUserIds 의 유저별로 발송한다.
+     *
+     * @param audience 알림 수신 범위
+     * @param pushUserIds 수신 대상 유저 ID
+     * @param template 알림 메시지 템플릿
+     * @param domainType 생성할 알림의 도메인 타입
+     * @param domainId 생성할 알림의 도메인 ID
+     * @param metadata 알림 메타데이터 (선택)
+     * @param args 템플릿 포맷팅에 사용할 인자
+     * @return 저장된 브로드캐스트 알림 ID
+     */
+    @Transactional
+    public Long sendBroadcastAlert(
+            NotificationAudience audience,
+            Iterable<Long> pushUserIds,
+            NotificationMessage template,
+            NotificationDomainType domainType,
+            Long domainId,
+            Map<String, Object> metadata,
+            Object... args) {
+        String title = template.getTitle();
+        String content = template.formatContent(args);
+
+        // 1. 알림함 저장 (본문 한 건)
+        BroadcastNotification broadcast =
+                broadcastNotificationRepository.save(
+                        BroadcastNotification.of(
+                                audience,
+                                title,
+                                content,
+                                domainType,
+                                domainId,
+                                metadata,
+                                template));
+
+        // 2. FCM 이벤트 발행 (트랜잭션 커밋 후 비동기 발송)
+        Map<String, String> fcmData =
+                Collections.unmodifiableMap(buildFcmData(domainType, domainId, metadata));
+        List<Long> recipients = new ArrayList<>();
+        for (Long userId : pushUserIds) {
+            if (!topicPushEnabled) {
+                eventPublisher.publishEvent(new FcmSendEvent(userId, title, content, fcmData));
+            }
+            recipients.add(userId);
+        }
+        if (topicPushEnabled) {
+            eventPublisher.publishEvent(
+                    FcmSendEvent.toTopic(topicOf(audience), title, content, fcmData));
+        }
+        if (!recipients.isEmpty()) {
+            eventPublisher.publishEvent(NotificationUnreadCountChangedEvent.increment(recipients));
+        }
+
+        log.info(
+                "브로드캐스트 알림 전송 완료 - broadcastId: {}, 범위: {}, 푸시 대상 수: {}, 템플릿: {}",
+                broadcast.getId(),
+                audience.getType(),
+                recipients.size(),
+                template.name());
+        return broadcast.getId();
+    }
+
+    private String topicOf(NotificationAudience audience) {
+        return switch (audience.getType()) {
+            case ALL -> FcmTopicService.ALL_TOPIC;
+            case COMPANY -> FcmTopicService.companyTopic(audience.getCompany());
+            case DEPARTMENT -> FcmTopicService.departmentTopic(audience.getDepartmentId());
+        };
+    }
+
+    /**
+     * 여러 유저에게 같은 알림을 FCM 전송 + Notification 저장
+     *
+     * <p>알림함 저장은 {@link NotificationBulkWriter} 로 묶어서 처리하므로 전사 공지처럼 수신자가 많아도 수 회의 왕복으로 끝난다.
+     *
+     * @param userIds 수신 유저 ID (순회 가능한 어떤 컬렉션이든 가능)
+     * @param template 알림 메시지 템플릿
+     * @param domainType 생성할 알림의 도메인 타입
+     * @param domainId 생성할 알림의 도메인 ID
+     * @param metadata 알림 메타데이터 (선택)
+     * @param args 템플릿 포맷팅에 사용할 인자
+     * @return 저장한 알림 수
+     */
+    @Transactional
+    public int sendAlertToUsers(
+            Iterable<Long> userIds,
+            NotificationMessage template,
+            NotificationDomainType domainType,
+            Long domainId,
+            Map<String, Object> metadata,
+            Object... args) {
+        int count =
+                createBulkNotifications(
+                        userIds,
+                        template.getTitle(),
+                        template.formatContent(args),
+                        template,
+                        domainType,
+                        domainId,
+                        metadata,
+                        false);
+        log.info("다중 유저 알림 전송 완료 - 대상 수: {}, 템플릿: {}", count, template.name());
+        return count;
+    }
+
     /**
      * 공지사항 등록 시 대상 유저 전체에게 FCM 알림 전송 + Notification 저장
      *
@@ -270,26 +763,15 @@ public class NotificationService {
         String title = NotificationMessage.NOTICE_CREATED.getTitle();
         String content = NotificationMessage.NOTICE_CREATED.formatContent(noticeTitle);
 
-        for (Long userId : targetUserIds) {
-            // 1. 알림함 저장
-            doCreateNotification(
-                    userId,
-                    title,
-                    content,
-                    NotificationMessage.NOTICE_CREATED,
-                    NotificationDomainType.NOTICE,
-                    noticeId,
-                    null,
-                    false);
-
-            // 2. FCM 이벤트 발행 (트랜잭션 커밋 후 비동기 발송)
-            eventPublisher.publishEvent(
-                    new FcmSendEvent(
-                            userId,
-                            title,
-                            content,
-                            buildFcmData(NotificationDomainType.NOTICE, noticeId)));
-        }
+        createBulkNotifications(
+                targetUserIds,
+                title,
+                content,
+                NotificationMessage.NOTICE_CREATED,
+                NotificationDomainType.NOTICE,
+                noticeId,
+                null,
+                false);
 
         log.info("공지 알림 전송 완료 - noticeId: {}, 대상 수: {}", noticeId, targetUserIds.size());
     }
@@ -324,26 +806,15 @@ public class NotificationService {
         String content =
                 NotificationMessage.EDU_REPORT_CREATED.formatContent(eduTypeLabel, eduTitle);
 
-        for (Long userId : targetUserIds) {
-            // 1. 알림함 저장
-            doCreateNotification(
-                    userId,
-                    title,
-                    content,
-                    NotificationMessage.EDU_REPORT_CREATED,
-                    NotificationDomainType.EDUCATION,
-                    reportId,
-                    metadata,
-                    false);
-
-            // 2. FCM 이벤트 발행 (트랜잭션 커밋 후 비동기 발송)
-            eventPublisher.publishEvent(
-                    new FcmSendEvent(
-                            userId,
-                            title,
-                            content,
-                            buildFcmData(NotificationDomainType.EDUCATION, reportId, metadata)));
-        }
+        createBulkNotifications(
+                targetUserIds,
+                title,
+                content,
+                NotificationMessage.EDU_REPORT_CREATED,
+                NotificationDomainType.EDUCATION,
+                reportId,
+                metadata,
+                false);
 
         log.info("교육 알림 전송 완료 - reportId: {}, 대상 수: {}", reportId, targetUserIds.size());
     }
@@ -384,26 +855,15 @@ public class NotificationService {
         boolean requiresApproval =
                 metadata != null && Boolean.TRUE.equals(metadata.get("isApprovalTarget"));
 
-        for (Long userId : targetUserIds) {
-            // 1. 알림함 저장
-            doCreateNotification(
-                    userId,
-                    title,
-                    content,
-                    template,
-                    NotificationDomainType.VISIT,
-                    visitId,
-                    metadata,
-                    requiresApproval);
-
-            // 2. FCM 이벤트 발행 (트랜잭션 커밋 후 비동기 발송)
-            eventPublisher.publishEvent(
-                    new FcmSendEvent(
-                            userId,
-                            title,
-                            content,
-                            buildFcmData(NotificationDomainType.VISIT, visitId, metadata)));
-        }
+        createBulkNotifications(
+                targetUserIds,
+                title,
+                content,
+                template,
+                NotificationDomainType.VISIT,
+                visitId,
+                metadata,
+                requiresApproval);
 
         log.info(
                 "방문 알림 전송 완료 - visitId: {}, 대상 수: {}, 템플릿: {}",
@@ -480,6 +940,55 @@ public class NotificationService {
         log.info("급여명세서 알림 전송 완료 - userId: {}, payslipId: {}", userId, payslipId);
     }
 
+    /**
+     * 여러 유저/도메인에 대한 알림을 한 번에 저장하고 FCM 이벤트를 발행
+     *
+     * <p>일괄 결재처럼 한 요청에서 다수의 알림이 발생하는 경우, 알림함 저장을 BULK_CHUNK_SIZE 단위 batch INSERT 로 처리한다.
+     *
+     * @param requests 알림 요청 목록
+     */
+    @Transactional
+    public void sendAlerts(List<AlertRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return;
+        }
+
+        List<Notification> notifications =
+                requests.stream()
+                        .map(
+                                request ->
+                                        Notification.of(
+                                                request.userId(),
+                                                request.template().getTitle(),
+                                                request.template().formatContent(request.args()),
+                                                request.domainType(),
+                                                request.domainId(),
+                                                null,
+                                                request.requiresApproval(),
+                                                request.template()))
+                        .toList();
+        for (int from = 0; from < notifications.size(); from += BULK_CHUNK_SIZE) {
+            notificationBulkWriter.insertAll(
+                    notifications.subList(
+                            from, Math.min(from + BULK_CHUNK_SIZE, notifications.size())));
+        }
+        eventPublisher.publishEvent(
+                NotificationUnreadCountChangedEvent.increment(
+                        notifications.stream().map(Notification::getUserId).toList()));
+
+        for (Notification notification : notifications) {
+            eventPublisher.publishEvent(
+                    new FcmSendEvent(
+                            notification.getUserId(),
+                            notification.getTitle(),
+                            notification.getContent(),
+                            buildFcmData(
+                                    notification.getDomainType(), notification.getDomainId())));
+        }
+
+        log.info("일괄 알림 전송 완료 - 대상 수: {}", notifications.size());
+    }
+
     /**
      * 전자결재 생성 시 첫 번째 결재자와 참조자(REFERRER)에게 알림 전송
      *
@@ -682,24 +1191,15 @@ public class NotificationService {
                 NotificationMessage.SAFETY_TRAINING_SESSION_CREATED.formatContent(sessionTitle);
         Map<String, Object> metadata = Map.of("educationType", "SAFETY", "detailType", "SESSION");
 
-        for (Long userId : targetUserIds) {
-            doCreateNotification(
-                    userId,
-                    title,
-                    content,
-                    NotificationMessage.SAFETY_TRAINING_SESSION_CREATED,
-                    NotificationDomainType.SAFETY_TRAINING,
-                    sessionId,
-                    metadata,
-                    false);
-            eventPublisher.publishEvent(
-                    new FcmSendEvent(
-                            userId,
-                            title,
-                            content,
-                            buildFcmData(
-                                    NotificationDomainType.SAFETY_TRAINING, sessionId, metadata)));
-        }
+        createBulkNotifications(
+                targetUserIds,
+                title,
+                content,
+                NotificationMessage.SAFETY_TRAINING_SESSION_CREATED,
+                NotificationDomainType.SAFETY_TRAINING,
+                sessionId,
+                metadata,
+                false);
 
         log.info("안전보건교육 세션 알림 전송 완료 - sessionId: {}, 대상 수: {}", sessionId, targetUserIds.size());
     }
@@ -727,23 +1227,15 @@ public class NotificationService {
         String content =
                 NotificationMessage.EDU_REPORT_CREATED.formatContent(eduTypeLabel, eduTitle);
 
-        for (Long userId : targetUserIds) {
-            doCreateNotification(
-                    userId,
-                    title,
-                    content,
-                    NotificationMessage.EDU_REPORT_CREATED,
-                    NotificationDomainType.EDUCATION,
-                    reportId,
-                    metadata,
-                    false);
-            eventPublisher.publishEvent(
-                    new FcmSendEvent(
-                            userId,
-                            title,
-                            content,
-                            buildFcmData(NotificationDomainType.EDUCATION, reportId, metadata)));
-        }
+        createBulkNotifications(
+                targetUserIds,
+                title,
+                content,
+                NotificationMessage.EDU_REPORT_CREATED,
+                NotificationDomainType.EDUCATION,
+                reportId,
+                metadata,
+                false);
 
         log.info("교육 리마인드 알림 전송 완료 - reportId: {}, 대상 수: {}", reportId, targetUserIds.size());
     }
@@ -762,24 +1254,15 @@ public class NotificationService {
                 NotificationMessage.SAFETY_TRAINING_SESSION_CREATED.formatContent(sessionTitle);
         Map<String, Object> metadata = Map.of("educationType", "SAFETY", "detailType", "SESSION");
 
-        for (Long userId : targetUserIds) {
-            doCreateNotification(
-                    userId,
-                    title,
-                    content,
-                    NotificationMessage.SAFETY_TRAINING_SESSION_CREATED,
-                    NotificationDomainType.SAFETY_TRAINING,
-                    sessionId,
-                    metadata,
-                    false);
-            eventPublisher.publishEvent(
-                    new FcmSendEvent(
-                            userId,
-                            title,
-                            content,
-                            buildFcmData(
-                                    NotificationDomainType.SAFETY_TRAINING, sessionId, metadata)));
-        }
+        createBulkNotifications(
+                targetUserIds,
+                title,
+                content,
+                NotificationMessage.SAFETY_TRAINING_SESSION_CREATED,
+                NotificationDomainType.SAFETY_TRAINING,
+                sessionId,
+                metadata,
+                false);
 
         log.info(
                 "안전보건교육 세션 리마인드 알림 전송 완료 - sessionId: {}, 대상 수: {}",
@@ -787,6 +1270,52 @@ public class NotificationService {
                 targetUserIds.size());
     }
 
+    /**
+     * 같은 내용의 알림을 수신자별로 저장하고 FCM 이벤트를 발행한다. BULK_CHUNK_SIZE 단위로 batch INSERT 한다.
+     *
+     * @return 저장한 알림 수
+     */
+    private int createBulkNotifications(
+            Iterable<Long> userIds,
+            String title,
+            String content,
+            NotificationMessage messageType,
+            NotificationDomainType domainType,
+            Long domainId,
+            Map<String, Object> metadata,
+            boolean requiresApproval) {
+        // FCM data 는 수신자와 무관하므로 한 번만 만들어 공유한다.
+        Map<String, String> fcmData =
+                Collections.unmodifiableMap(buildFcmData(domainType, domainId, metadata));
+        List<Notification> chunk = new ArrayList<>();
+        List<Long> recipients = new ArrayList<>();
+        int count = 0;
+        for (Long userId : userIds) {
+            recipients.add(userId);
+            chunk.add(
+                    Notification.of(
+                            userId,
+                            title,
+                            content,
+                            domainType,
+                            domainId,
+                            metadata,
+                            requiresApproval,
+                            messageType));
+            // FCM 이벤트 발행 (트랜잭션 커밋 후 비동기 발송)
+            eventPublisher.publishEvent(new FcmSendEvent(userId, title, content, fcmData));
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                count += notificationBulkWriter.insertAll(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        count += notificationBulkWriter.insertAll(chunk);
+        if (!recipients.isEmpty()) {
+            eventPublisher.publishEvent(NotificationUnreadCountChangedEvent.increment(recipients));
+        }
+        return count;
+    }
+
     private Map<String, String> buildFcmData(NotificationDomainType domainType, Long domainId) {
         return buildFcmData(domainType, domainId, null);
     }
@@ -805,4 +1334,22 @@ public class NotificationService {
         }
         return data;
     }
+
+    /**
+     * 일괄 알림 요청
+     *
+     * @param userId 수신 유저 ID
+     * @param template 알림 메시지 템플릿
+     * @param domainType 알림 도메인 타입
+     * @param domainId 알림 도메인 ID
+     * @param requiresApproval 승인 대기 알림 여부
+     * @param args 템플릿 포맷팅에 사용할 인자
+     */
+    public record AlertRequest(
+            Long userId,
+            NotificationMessage template,
+            NotificationDomainType domainType,
+            Long domainId,
+            boolean requiresApproval,
+            Object... args) {}
 }
@@ -0,0 +1,111 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.service;
+
+import kr.co.awesomelead.groupware_backend.domain.notification.event.NotificationUnreadCountChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 유저별 미읽음 알림 수 Redis 카운터.
+ *
+ * <p>조회 시 키가 있으면 GET 한 번으로 응답하고, 없으면 DB 에서 세어 TTL 과 함께 채운다. 알림 생성/읽음 처리는 커밋 후 키가 있을
+ * 때만 증감하며, 키가 없으면 다음 조회 때 다시 센다. 증감이 누락되더라도 TTL 이 지나면 DB 기준으로 맞춰진다. Redis 장애 시에는
+ * DB 에서 직접 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    /** 키가 있을 때만 증감한다. 음수가 되면 어긋난 값이므로 키를 지워 다음 조회 때 다시 세게 한다. */
+    private static final byte[] ADJUST_SCRIPT =
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then return nil end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then redis.call('DEL', KEYS[1]) end
+            return value
+            """
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${notification.unread-counter.ttl:PT1H}")
+    private Duration ttl;
+
+    /**
+     * 미읽음 알림 수 조회
+     *
+     * @param loader 캐시가 비어 있을 때 DB 에서 미읽음 수를 세는 함수
+     */
+    public long get(Long userId, LongSupplier loader) {
+        String key = key(userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[NotificationUnreadCounter] 카운터 조회 실패, DB 로 대체 - userId: {}", userId, e);
+            return loader.getAsLong();
+        }
+
+        long count = loader.getAsLong();
+        try {
+            // 동시에 채우는 경우 먼저 들어간 값을 유지한다.
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+        } catch (DataAccessException e) {
+            log.warn("[NotificationUnreadCounter] 카운터 저장 실패 - userId: {}", userId, e);
+        }
+        return count;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUnreadCountChanged(NotificationUnreadCountChangedEvent event) {
+        if (event.userIds().isEmpty() || event.delta() == 0) {
+            return;
+        }
+        byte[] delta = String.valueOf(event.delta()).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined(
+                    (RedisCallback<Object>)
+                            connection -> {
+                                for (Long userId : event.userIds()) {
+                                    connection
+                                            .scriptingCommands()
+                                            .eval(
+                                                    ADJUST_SCRIPT,
+                                                    ReturnType.INTEGER,
+                                                    1,
+                                                    key(userId).getBytes(StandardCharsets.UTF_8),
+                                                    delta);
+                                }
+                                return null;
+                            });
+        } catch (DataAccessException e) {
+            log.warn(
+                    "[NotificationUnreadCounter] 카운터 반영 실패 - 대상 수: {}, delta: {}",
+                    event.userIds().size(),
+                    event.delta(),
+                    e);
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -2,6 +2,7 @@ package kr.co.awesomelead.groupware_backend.domain.user.repository;
 
 import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
 import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 import kr.co.awesomelead.groupware_backend.domain.user.enums.JobType;
 import kr.co.awesomelead.groupware_backend.domain.user.enums.Position;
@@ -15,6 +16,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +30,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     long countByDepartment(Department department);
 
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.department d WHERE u.id IN :ids")
+    List<User> findAllByIdInWithDepartment(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT u FROM User u JOIN FETCH u.department d WHERE d.id IN :departmentIds")
     List<User> findAllByDepartmentIdIn(@Param("departmentIds") List<Long> departmentIds);
 
@@ -50,6 +55,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u.id FROM User u WHERE u.department.id = :departmentId")
     List<Long> findAllIdsByDepartmentId(@Param("departmentId") Long departmentId);
 
+    /** 기준 부서와 그 하위 부서에 속한 사용자 ID */
+    @Query(
+            "SELECT u.id FROM User u, DepartmentClosure c"
+                    + " WHERE c.ancestorId = :departmentId AND u.department.id = c.descendantId")
+    List<Long> findAllIdsInDepartmentSubtree(@Param("departmentId") Long departmentId);
+
+    /** 기준 부서와 그 상위 부서에 속한 사용자 ID */
+    @Query(
+            "SELECT u.id FROM User u, DepartmentClosure c"
+                    + " WHERE c.descendantId = :departmentId AND u.department.id = c.ancestorId")
+    List<Long> findAllIdsInDepartmentAncestors(@Param("departmentId") Long departmentId);
+
+    /** 브로드캐스트 알림 수신 범위 판단에 필요한 값만 조회한다. */
+    @Query(
+            "SELECT u.id AS id, u.workLocation AS workLocation, d.id AS departmentId,"
+                    + " u.hireDate AS hireDate FROM User u LEFT JOIN u.department d"
+                    + " WHERE u.id = :id")
+    Optional<BroadcastAudienceView> findBroadcastAudienceById(@Param("id") Long id);
+
+    @Query(
+            "SELECT u.id AS id, u.nameKor AS nameKor, u.nameEng AS nameEng, u.position AS position,"
+                    + " d.name AS departmentName FROM User u LEFT JOIN u.department d"
+                    + " WHERE u.id IN :ids")
+    List<ApprovalTargetNameView> findApprovalTargetNamesByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT u.id FROM User u WHERE u.status = 'AVAILABLE'")
     List<Long> findAllActiveUserIds();
 
@@ -118,4 +148,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
             @Param("jobType") JobType jobType,
             @Param("role") Role role,
             Pageable pageable);
+
+    interface BroadcastAudienceView {
+        Long getId();
+
+        Company getWorkLocation();
+
+        Long getDepartmentId();
+
+        LocalDate getHireDate();
+    }
+
+    interface ApprovalTargetNameView {
+        Long getId();
+
+        String getNameKor();
+
+        String getNameEng();
+
+        Position getPosition();
+
+        DepartmentName getDepartmentName();
+    }
 }
@@ -2,20 +2,28 @@ package kr.co.awesomelead.groupware_backend.global.config;
 
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
 import org.hibernate.type.StandardBasicTypes;
 
 public class MysqlFulltextFunctionContributor implements FunctionContributor {
 
     @Override
     public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType =
+                functionContributions
+                        .getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE);
         functionContributions
                 .getFunctionRegistry()
                 .registerPattern(
-                        "match_against",
-                        "match(?1) against (?2 in boolean mode)",
-                        functionContributions
-                                .getTypeConfiguration()
-                                .getBasicTypeRegistry()
-                                .resolve(StandardBasicTypes.DOUBLE));
+                        "match_against", "match(?1) against (?2 in boolean mode)", doubleType);
+        // 두 컬럼을 묶은 FULLTEXT 인덱스용. MATCH 컬럼 목록은 인덱스 컬럼 구성과 정확히 같아야 한다.
+        functionContributions
+                .getFunctionRegistry()
+                .registerPattern(
+                        "match_against_2",
+                        "match(?1, ?2) against (?3 in boolean mode)",
+                        doubleType);
     }
 }
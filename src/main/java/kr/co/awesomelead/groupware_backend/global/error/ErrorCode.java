@@ -27,6 +27,7 @@ public enum ErrorCode {
     SAME_AS_CURRENT_PASSWORD(HttpStatus.BAD_REQUEST, "새 비밀번호는 현재 비밀번호와 달라야 합니다."),
     FILE_UPLOAD_ERROR(HttpStatus.BAD_REQUEST, "파일 업로드 중 오류가 발생했습니다."),
     INVALID_BASE_DATE_FORMAT(HttpStatus.BAD_REQUEST, "유효하지 않은 기준일자 형식입니다. (yyyy-MM-dd)"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
     ONLY_PDF_ALLOWED(HttpStatus.BAD_REQUEST, "PDF 파일 형식만 업로드할 수 있습니다."),
     IDENTITY_VERIFICATION_NOT_COMPLETED(HttpStatus.BAD_REQUEST, "본인인증이 완료되지 않았습니다."),
     IDENTITY_VERIFICATION_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 본인인증 정보를 찾을 수 없습니다."),
@@ -131,6 +132,7 @@ public enum ErrorCode {
     APPROVAL_TEMPLATE_CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 전자결재 양식구분을 찾을 수 없습니다."),
     APPROVAL_TEMPLATE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 전자결재 양식을 찾을 수 없습니다."),
     SAVED_APPROVAL_LINE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 저장 결재선을 찾을 수 없습니다."),
+    APPROVAL_LINE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 결재 라인을 찾을 수 없습니다."),
 
     // 409 Conflict
     DUPLICATED_SIGNUP_REQUEST(HttpStatus.CONFLICT, "이미 처리된 가입 요청입니다."),
@@ -141,6 +143,7 @@ public enum ErrorCode {
     DUPLICATE_APPROVAL_TEMPLATE_CATEGORY_CODE(HttpStatus.CONFLICT, "이미 사용 중인 전자결재 양식구분 코드입니다."),
     DUPLICATE_APPROVAL_TEMPLATE_CODE(HttpStatus.CONFLICT, "이미 사용 중인 전자결재 양식 코드입니다."),
     BOOTSTRAP_ADMIN_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 관리자 계정이 존재합니다."),
+    APPROVAL_LINE_CONCURRENTLY_PROCESSED(HttpStatus.CONFLICT, "다른 사용자가 먼저 처리한 결재 단계입니다."),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
@@ -0,0 +1,78 @@
+package kr.co.awesomelead.groupware_backend.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 분산 락.
+ *
+ * <p>여러 인스턴스 중 한 곳에서만 실행되어야 하는 스케줄 작업에 사용한다. SET NX PX 로 락을 잡고, 작업이 끝나면 자신이 잡은 락일 때만
+ * 해제한다. 인스턴스가 비정상 종료되어도 leaseTime 이 지나면 락이 풀린다. Redis 에 접근할 수 없으면 작업을 실행하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedLockExecutor {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    if redis.call('GET', KEYS[1]) == ARGV[1] then
+                        return redis.call('DEL', KEYS[1])
+                    end
+                    return 0
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 락을 잡은 경우에만 작업을 실행한다.
+     *
+     * @param lockName 락 이름
+     * @param leaseTime 락 유지 시간. 작업 최대 소요 시간보다 길게 잡는다.
+     * @return 작업 실행 여부
+     */
+    public boolean executeWithLock(String lockName, Duration leaseTime, Runnable task) {
+        String key = KEY_PREFIX + lockName;
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, leaseTime);
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.debug("[DistributedLock] 다른 인스턴스가 실행 중 - lock: {}", lockName);
+                return false;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[DistributedLock] 락 획득 실패, 작업을 건너뜀 - lock: {}", lockName, e);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(key, token);
+        }
+    }
+
+    private void release(String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (DataAccessException e) {
+            // 해제하지 못한 락은 leaseTime 이 지나면 풀린다.
+            log.warn("[DistributedLock] 락 해제 실패 - key: {}", key, e);
+        }
+    }
+}
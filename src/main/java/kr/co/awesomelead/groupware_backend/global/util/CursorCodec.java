@@ -0,0 +1,62 @@
+package kr.co.awesomelead.groupware_backend.global.util;
+
+import kr.co.awesomelead.groupware_backend.global.error.CustomException;
+import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
+
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/** 키셋 페이지네이션용 커서 인코더. 정렬 키 값들을 클라이언트가 해석하지 않는 불투명 문자열로 변환한다. */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {}
+
+    public static String encode(Object... parts) {
+        String raw =
+                Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값 목록으로 복원한다.
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 null)
+     * @param expectedParts 정렬 키 개수
+     * @return 커서가 없으면 null
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static Long decodeLong(String cursor) {
+        String[] parts = decode(cursor, 1);
+        if (parts == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(parts[0]);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
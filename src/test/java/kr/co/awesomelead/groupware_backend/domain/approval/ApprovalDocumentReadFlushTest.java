@@ -0,0 +1,227 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.persistence.EntityManager;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.controller.ApprovalWorkflowController;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocument;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentRead;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalInboxEntry;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplate;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplateCategory;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalEditorType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalInboxTab;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLinePolicy;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalReadRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalType;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentReadRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxEntryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateCategoryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalReadReceiptBuffer;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+import kr.co.awesomelead.groupware_backend.domain.user.dto.CustomUserDetails;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Position;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Status;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+import kr.co.awesomelead.groupware_backend.global.error.CustomException;
+import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+
+/**
+ * POST /approvals/{documentId}/read 로 들어온 열람 기록이 버퍼를 거쳐 approval_document_reads 에 반영되는지 H2 에서
+ * 확인한다. 주기 반영이 테스트 트랜잭션 밖에서 버퍼를 비우지 않도록 주기를 충분히 늘려 둔다.
+ */
+@SpringBootTest(properties = "approval.read-receipt.flush-interval-ms=3600000")
+@ActiveProfiles("test")
+@Transactional
+class ApprovalDocumentReadFlushTest {
+
+    @Autowired private ApprovalWorkflowController approvalWorkflowController;
+    @Autowired private ApprovalReadReceiptBuffer approvalReadReceiptBuffer;
+    @Autowired private ApprovalTemplateCategoryRepository approvalTemplateCategoryRepository;
+    @Autowired private ApprovalTemplateRepository approvalTemplateRepository;
+    @Autowired private ApprovalDocumentRepository approvalDocumentRepository;
+    @Autowired private ApprovalDocumentReadRepository approvalDocumentReadRepository;
+    @Autowired private ApprovalInboxEntryRepository approvalInboxEntryRepository;
+    @Autowired private DepartmentRepository departmentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private Department department;
+    private User drafter;
+    private User reader;
+    private User colleague;
+    private ApprovalDocument document;
+
+    @BeforeEach
+    void setUp() {
+        Department otherDepartment =
+                departmentRepository.save(
+                        Department.builder()
+                                .name(DepartmentName.values()[1])
+                                .company(Company.AWESOME)
+                                .build());
+        department =
+                departmentRepository.save(
+                        Department.builder()
+                                .name(DepartmentName.values()[0])
+                                .company(Company.AWESOME)
+                                .build());
+        drafter = userRepository.save(user(0, otherDepartment));
+        reader = userRepository.save(user(1, department));
+        colleague = userRepository.save(user(2, otherDepartment));
+
+        ApprovalTemplateCategory category =
+                approvalTemplateCategoryRepository.save(
+                        ApprovalTemplateCategory.builder().code("READ").name("열람").build());
+        ApprovalTemplate template =
+                approvalTemplateRepository.save(
+                        ApprovalTemplate.builder()
+                                .category(category)
+                                .code("READ_DRAFT")
+                                .name("열람 기안")
+                                .editorType(ApprovalEditorType.QUILL)
+                                .approvalType(ApprovalType.INTERNAL)
+                                .linePolicy(ApprovalLinePolicy.FLEXIBLE)
+                                .build());
+        document =
+                approvalDocumentRepository.save(
+                        ApprovalDocument.builder()
+                                .template(template)
+                                .templateNameSnapshot(template.getName())
+                                .templateCodeSnapshot(template.getCode())
+                                .title("열람 문서")
+                                .contentDelta("{\"ops\":[]}")
+                                .approvalType(ApprovalType.INTERNAL)
+                                .status(ApprovalStatus.IN_PROGRESS)
+                                .drafterUser(drafter)
+                                .drafterDepartment(drafter.getDepartment())
+                                .build());
+        approvalInboxEntryRepository.save(
+                ApprovalInboxEntry.builder()
+                        .userId(reader.getId())
+                        .documentId(document.getId())
+                        .tab(ApprovalInboxTab.REFERENCE)
+                        .sortKey(document.getId())
+                        .build());
+    }
+
+    @Test
+    @DisplayName("열람 요청은 반영 전까지 DB 를 바꾸지 않고, 반영하면 본인 대상과 소속 부서 대상 행을 함께 읽음 처리한다")
+    void markDocumentRead_flushesUserAndDepartmentRows() {
+        ApprovalDocumentRead userRead = read(ApprovalTargetType.USER, reader, null);
+        ApprovalDocumentRead departmentRead = read(ApprovalTargetType.DEPARTMENT, null, department);
+        ApprovalDocumentRead otherRead = read(ApprovalTargetType.USER, colleague, null);
+
+        approvalWorkflowController.markDocumentRead(
+                document.getId(), new CustomUserDetails(reader));
+        approvalWorkflowController.markDocumentRead(
+                document.getId(), new CustomUserDetails(reader));
+
+        assertThat(isRead(userRead)).isFalse();
+        assertThat(approvalReadReceiptBuffer.flush()).isEqualTo(1);
+        assertThat(isRead(userRead)).isTrue();
+        assertThat(isRead(departmentRead)).isTrue();
+        assertThat(readAt(userRead)).isNotNull();
+        assertThat(isRead(otherRead)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 읽음 처리된 행의 열람 시각은 바꾸지 않는다")
+    void markDocumentRead_keepsExistingReadAt() {
+        ApprovalDocumentRead userRead = read(ApprovalTargetType.USER, reader, null);
+        Timestamp firstReadAt = Timestamp.valueOf("2024-01-01 09:00:00");
+        jdbcTemplate.update(
+                "UPDATE approval_document_reads SET is_read = true, read_at = ? WHERE id = ?",
+                firstReadAt,
+                userRead.getId());
+
+        approvalWorkflowController.markDocumentRead(
+                document.getId(), new CustomUserDetails(reader));
+        approvalReadReceiptBuffer.flush();
+
+        assertThat(readAt(userRead)).isEqualTo(firstReadAt);
+    }
+
+    @Test
+    @DisplayName("본인 결재함에 없는 문서의 열람 요청은 버퍼에 넣지 않고 거부한다")
+    void markDocumentRead_notInInbox_rejects() {
+        ApprovalDocumentRead otherRead = read(ApprovalTargetType.USER, colleague, null);
+
+        assertThatThrownBy(
+                        () ->
+                                approvalWorkflowController.markDocumentRead(
+                                        document.getId(), new CustomUserDetails(colleague)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.APPROVAL_NOT_FOUND);
+
+        assertThat(approvalReadReceiptBuffer.flush()).isZero();
+        assertThat(isRead(otherRead)).isFalse();
+    }
+
+    private ApprovalDocumentRead read(
+            ApprovalTargetType targetType, User targetUser, Department targetDepartment) {
+        ApprovalDocumentRead read =
+                approvalDocumentReadRepository.save(
+                        ApprovalDocumentRead.builder()
+                                .document(document)
+                                .readRole(ApprovalReadRole.REFERENCE)
+                                .targetType(targetType)
+                                .targetUser(targetUser)
+                                .targetDepartment(targetDepartment)
+                                .build());
+        // 버퍼는 JDBC 로 갱신하므로 영속성 컨텍스트의 INSERT 를 먼저 내보낸다.
+        entityManager.flush();
+        return read;
+    }
+
+    private boolean isRead(ApprovalDocumentRead read) {
+        return jdbcTemplate.queryForObject(
+                "SELECT is_read FROM approval_document_reads WHERE id = ?",
+                Boolean.class,
+                read.getId());
+    }
+
+    private Timestamp readAt(ApprovalDocumentRead read) {
+        return jdbcTemplate.queryForObject(
+                "SELECT read_at FROM approval_document_reads WHERE id = ?",
+                Timestamp.class,
+                read.getId());
+    }
+
+    private User user(int index, Department department) {
+        User user = new User();
+        user.setEmail("read" + index + "@example.com");
+        user.setPassword("password");
+        user.setNameKor("사용자" + index);
+        user.setAddress1("충남 아산시");
+        user.setRegistrationNumber(String.format("900101-1%06d", index));
+        user.setPhoneNumber(String.format("010%08d", index));
+        user.setPosition(Position.STAFF);
+        user.setStatus(Status.AVAILABLE);
+        user.setDepartment(department);
+        return user;
+    }
+}
@@ -0,0 +1,137 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentSequence;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentSequenceRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalDocumentSequenceService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalDocumentSequenceServiceTest {
+
+    private static final Long TEMPLATE_ID = 7L;
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 18);
+
+    @Mock private ApprovalDocumentSequenceRepository approvalDocumentSequenceRepository;
+    @Mock private ApprovalDocumentRepository approvalDocumentRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @InjectMocks private ApprovalDocumentSequenceService approvalDocumentSequenceService;
+
+    @Test
+    @DisplayName("그날 첫 채번 - 잠금 조회 전에 카운터 행을 먼저 만들고 1 을 발급한다")
+    void next_firstOfDay_createsRowBeforeLockingRead() {
+        ApprovalDocumentSequence sequence = sequence(0L);
+        given(
+                        approvalDocumentSequenceRepository.existsByTemplateIdAndSequenceDate(
+                                TEMPLATE_ID, DATE))
+                .willReturn(false);
+        given(
+                        approvalDocumentRepository.findDocumentNosByTemplateIdAndSubmittedAtBetween(
+                                eq(TEMPLATE_ID), any(), any()))
+                .willReturn(List.of());
+        given(approvalDocumentSequenceRepository.findForUpdate(TEMPLATE_ID, DATE))
+                .willReturn(Optional.of(sequence));
+
+        long value = approvalDocumentSequenceService.next(TEMPLATE_ID, DATE);
+
+        assertThat(value).isEqualTo(1L);
+        assertThat(sequence.getLastValue()).isEqualTo(1L);
+        InOrder order = inOrder(approvalDocumentSequenceRepository);
+        order.verify(approvalDocumentSequenceRepository)
+                .existsByTemplateIdAndSequenceDate(TEMPLATE_ID, DATE);
+        order.verify(approvalDocumentSequenceRepository).saveAndFlush(any());
+        order.verify(approvalDocumentSequenceRepository).findForUpdate(TEMPLATE_ID, DATE);
+        verify(approvalDocumentSequenceRepository, times(1)).findForUpdate(TEMPLATE_ID, DATE);
+    }
+
+    @Test
+    @DisplayName("새 카운터는 건수가 아닌 이미 발급된 최대 번호로 시작한다")
+    void next_newRow_seedsFromMaxIssuedNumber() {
+        given(
+                        approvalDocumentSequenceRepository.existsByTemplateIdAndSequenceDate(
+                                TEMPLATE_ID, DATE))
+                .willReturn(false);
+        // 02 는 롤백되어 비어 있다.
+        given(
+                        approvalDocumentRepository.findDocumentNosByTemplateIdAndSubmittedAtBetween(
+                                eq(TEMPLATE_ID), any(), any()))
+                .willReturn(List.of("인사팀 20261018-01", "인사팀 20261018-03"));
+        given(approvalDocumentSequenceRepository.findForUpdate(TEMPLATE_ID, DATE))
+                .willReturn(Optional.of(sequence(3L)));
+
+        long value = approvalDocumentSequenceService.next(TEMPLATE_ID, DATE);
+
+        ArgumentCaptor<ApprovalDocumentSequence> captor =
+                ArgumentCaptor.forClass(ApprovalDocumentSequence.class);
+        verify(approvalDocumentSequenceRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getLastValue()).isEqualTo(3L);
+        assertThat(value).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("동시 생성으로 유니크 제약에 걸리면 이미 만들어진 행을 잠가 사용한다")
+    void next_concurrentCreate_usesExistingRow() {
+        given(
+                        approvalDocumentSequenceRepository.existsByTemplateIdAndSequenceDate(
+                                TEMPLATE_ID, DATE))
+                .willReturn(false);
+        given(
+                        approvalDocumentRepository.findDocumentNosByTemplateIdAndSubmittedAtBetween(
+                                eq(TEMPLATE_ID), any(), any()))
+                .willReturn(List.of());
+        given(approvalDocumentSequenceRepository.saveAndFlush(any()))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+        given(approvalDocumentSequenceRepository.findForUpdate(TEMPLATE_ID, DATE))
+                .willReturn(Optional.of(sequence(1L)));
+
+        assertThat(approvalDocumentSequenceService.next(TEMPLATE_ID, DATE)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("행이 이미 있으면 새로 만들지 않고 잠근 뒤 1 증가시킨다")
+    void next_existingRow_incrementsUnderLock() {
+        ApprovalDocumentSequence sequence = sequence(4L);
+        given(
+                        approvalDocumentSequenceRepository.existsByTemplateIdAndSequenceDate(
+                                TEMPLATE_ID, DATE))
+                .willReturn(true);
+        given(approvalDocumentSequenceRepository.findForUpdate(TEMPLATE_ID, DATE))
+                .willReturn(Optional.of(sequence));
+
+        assertThat(approvalDocumentSequenceService.next(TEMPLATE_ID, DATE)).isEqualTo(5L);
+        verify(approvalDocumentSequenceRepository, never()).saveAndFlush(any());
+    }
+
+    private ApprovalDocumentSequence sequence(long lastValue) {
+        return ApprovalDocumentSequence.builder()
+                .id(1L)
+                .templateId(TEMPLATE_ID)
+                .sequenceDate(DATE)
+                .lastValue(lastValue)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.config.ApprovalInboxIndexInitializer;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxBackfillRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxBackfillRepository.PendingUser;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalInboxIndexService;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Status;
+import kr.co.awesomelead.groupware_backend.global.lock.DistributedLockExecutor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalInboxIndexInitializerTest {
+
+    @Mock private ApprovalInboxBackfillRepository approvalInboxBackfillRepository;
+    @Mock private ApprovalInboxIndexService approvalInboxIndexService;
+    @Mock private DistributedLockExecutor distributedLockExecutor;
+
+    @InjectMocks private ApprovalInboxIndexInitializer approvalInboxIndexInitializer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(approvalInboxIndexInitializer, "pageSize", 2);
+        ReflectionTestUtils.setField(
+                approvalInboxIndexInitializer, "lockLease", Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("적재하지 않은 사용자를 ID 순 페이지로 이어서 적재하고, 한 명이 실패해도 나머지는 계속한다")
+    void backfill_pagesThroughPendingUsers() {
+        givenLockAcquired();
+        given(
+                        approvalInboxBackfillRepository.findPendingUsers(
+                                Status.AVAILABLE, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(pending(3L, 1L), pending(7L, null)));
+        given(
+                        approvalInboxBackfillRepository.findPendingUsers(
+                                Status.AVAILABLE, 7L, PageRequest.of(0, 2)))
+                .willReturn(List.of(pending(9L, 2L)));
+        given(
+                        approvalInboxBackfillRepository.findPendingUsers(
+                                Status.AVAILABLE, 9L, PageRequest.of(0, 2)))
+                .willReturn(List.of());
+        willThrow(new IllegalStateException("boom"))
+                .given(approvalInboxIndexService)
+                .rebuildUser(7L, null);
+
+        approvalInboxIndexInitializer.backfillOnStartup();
+
+        verify(approvalInboxIndexService).rebuildUser(3L, 1L);
+        verify(approvalInboxIndexService).rebuildUser(7L, null);
+        verify(approvalInboxIndexService).rebuildUser(9L, 2L);
+    }
+
+    @Test
+    @DisplayName("락을 잡지 못하면 적재하지 않는다")
+    void backfill_lockNotAcquired_skips() {
+        given(distributedLockExecutor.executeWithLock(eq("approval:inbox-backfill"), any(), any()))
+                .willReturn(false);
+
+        approvalInboxIndexInitializer.backfillOnStartup();
+
+        verify(approvalInboxBackfillRepository, never()).findPendingUsers(any(), any(), any());
+    }
+
+    private void givenLockAcquired() {
+        given(distributedLockExecutor.executeWithLock(any(), any(), any()))
+                .willAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(2).run();
+                            return true;
+                        });
+    }
+
+    private PendingUser pending(Long userId, Long departmentId) {
+        return new PendingUser() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getDepartmentId() {
+                return departmentId;
+            }
+        };
+    }
+}
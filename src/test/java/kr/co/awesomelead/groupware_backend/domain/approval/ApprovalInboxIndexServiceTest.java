@@ -0,0 +1,432 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocument;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalInboxBackfill;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalInboxEntry;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalInboxTab;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalBulkWriter;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxBackfillRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxEntryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxQueryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalInboxIndexService;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.event.DepartmentClosureChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalInboxIndexServiceTest {
+
+    private static final Long DOCUMENT_ID = 100L;
+    private static final Long DRAFTER_ID = 1L;
+
+    @Mock private ApprovalInboxEntryRepository approvalInboxEntryRepository;
+    @Mock private ApprovalInboxQueryRepository approvalInboxQueryRepository;
+    @Mock private ApprovalInboxBackfillRepository approvalInboxBackfillRepository;
+    @Mock private ApprovalBulkWriter approvalBulkWriter;
+    @Mock private UserRepository userRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @InjectMocks private ApprovalInboxIndexService approvalInboxIndexService;
+
+    @Test
+    @DisplayName("상신하면 임시저장함 항목을 지우고 결재하기/결재 전단계/참조/부서결재함 항목을 만든다")
+    void refreshDocument_submitted() {
+        ApprovalDocument document = document(ApprovalStatus.IN_PROGRESS);
+        document.setDrafterDepartment(Department.builder().id(3L).build());
+        List<ApprovalDocumentLine> lines =
+                List.of(
+                        userLine(ApprovalRouteRole.APPROVAL_LINE, 10L, ApprovalLineStatus.PENDING),
+                        userLine(ApprovalRouteRole.APPROVAL_LINE, 11L, ApprovalLineStatus.WAITING),
+                        departmentLine(ApprovalRouteRole.REFERENCE, 7L));
+        given(approvalInboxEntryRepository.findByDocumentId(DOCUMENT_ID))
+                .willReturn(
+                        entries(
+                                Map.of(
+                                        ApprovalInboxTab.DRAFT_BOX, Set.of(DRAFTER_ID),
+                                        ApprovalInboxTab.IN_PROGRESS_ALL, Set.of(DRAFTER_ID),
+                                        ApprovalInboxTab.MY_DRAFTED, Set.of(DRAFTER_ID),
+                                        ApprovalInboxTab.ALL, Set.of(DRAFTER_ID))));
+        given(userRepository.findAllIdsInDepartmentSubtree(7L)).willReturn(List.of(20L, 21L));
+        given(userRepository.findAllIdsInDepartmentAncestors(3L))
+                .willReturn(List.of(DRAFTER_ID, 30L));
+
+        approvalInboxIndexService.refreshDocument(document, lines);
+
+        assertThat(index(deletedEntries()))
+                .isEqualTo(
+                        Map.of(
+                                ApprovalInboxTab.DRAFT_BOX, Set.of(DRAFTER_ID),
+                                ApprovalInboxTab.IN_PROGRESS_ALL, Set.of(DRAFTER_ID)));
+        List<ApprovalInboxEntry> saved = savedEntries();
+        assertThat(index(saved))
+                .isEqualTo(
+                        Map.of(
+                                ApprovalInboxTab.TO_APPROVE, Set.of(10L),
+                                ApprovalInboxTab.BEFORE_MY_TURN, Set.of(11L),
+                                ApprovalInboxTab.IN_PROGRESS_ALL, Set.of(10L, 11L),
+                                ApprovalInboxTab.MY_APPROVALS, Set.of(10L, 11L),
+                                ApprovalInboxTab.ALL, Set.of(10L, 11L),
+                                ApprovalInboxTab.REFERENCE, Set.of(20L, 21L),
+                                ApprovalInboxTab.DEPARTMENT_BOX, Set.of(DRAFTER_ID, 30L)));
+        assertThat(saved)
+                .allSatisfy(
+                        entry -> {
+                            assertThat(entry.getDocumentId()).isEqualTo(DOCUMENT_ID);
+                            assertThat(entry.getSortKey()).isEqualTo(DOCUMENT_ID);
+                        });
+    }
+
+    @Test
+    @DisplayName("승인하면 처리한 결재자는 기결로, 다음 결재자는 결재하기로 옮기고 나머지 항목은 건드리지 않는다")
+    void refreshDocument_approved_movesOnlyChangedEntries() {
+        ApprovalDocument document = document(ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine first =
+                userLine(ApprovalRouteRole.APPROVAL_LINE, 10L, ApprovalLineStatus.APPROVED);
+        first.setProcessedByUser(User.builder().id(10L).build());
+        List<ApprovalDocumentLine> lines =
+                List.of(
+                        first,
+                        userLine(
+                                ApprovalRouteRole.APPROVAL_LINE, 11L, ApprovalLineStatus.PENDING));
+        given(approvalInboxEntryRepository.findByDocumentId(DOCUMENT_ID))
+                .willReturn(
+                        entries(
+                                Map.of(
+                                        ApprovalInboxTab.TO_APPROVE, Set.of(10L),
+                                        ApprovalInboxTab.BEFORE_MY_TURN, Set.of(11L),
+                                        ApprovalInboxTab.IN_PROGRESS_ALL, Set.of(10L, 11L),
+                                        ApprovalInboxTab.MY_APPROVALS, Set.of(10L, 11L),
+                                        ApprovalInboxTab.MY_DRAFTED, Set.of(DRAFTER_ID),
+                                        ApprovalInboxTab.ALL, Set.of(DRAFTER_ID, 10L, 11L))));
+
+        approvalInboxIndexService.refreshDocument(document, lines);
+
+        assertThat(index(deletedEntries()))
+                .isEqualTo(
+                        Map.of(
+                                ApprovalInboxTab.TO_APPROVE, Set.of(10L),
+                                ApprovalInboxTab.BEFORE_MY_TURN, Set.of(11L)));
+        assertThat(index(savedEntries()))
+                .isEqualTo(
+                        Map.of(
+                                ApprovalInboxTab.TO_APPROVE, Set.of(11L),
+                                ApprovalInboxTab.PROCESSED_BY_ME, Set.of(10L)));
+    }
+
+    @Test
+    @DisplayName("반려하면 결재하기 항목을 지우고 반려한 결재자에게 반려/회수 항목을 만든다")
+    void refreshDocument_rejected() {
+        ApprovalDocument document = document(ApprovalStatus.REJECTED);
+        ApprovalDocumentLine first =
+                userLine(ApprovalRouteRole.APPROVAL_LINE, 10L, ApprovalLineStatus.APPROVED);
+        first.setProcessedByUser(User.builder().id(10L).build());
+        ApprovalDocumentLine second =
+                userLine(ApprovalRouteRole.APPROVAL_LINE, 11L, ApprovalLineStatus.REJECTED);
+        second.setProcessedByUser(User.builder().id(11L).build());
+        given(approvalInboxEntryRepository.findByDocumentId(DOCUMENT_ID))
+                .willReturn(
+                        entries(
+                                Map.of(
+                                        ApprovalInboxTab.TO_APPROVE, Set.of(11L),
+                                        ApprovalInboxTab.PROCESSED_BY_ME, Set.of(10L),
+                                        ApprovalInboxTab.IN_PROGRESS_ALL, Set.of(10L, 11L),
+                                        ApprovalInboxTab.MY_APPROVALS, Set.of(10L, 11L),
+                                        ApprovalInboxTab.MY_DRAFTED, Set.of(DRAFTER_ID),
+                                        ApprovalInboxTab.ALL, Set.of(DRAFTER_ID, 10L, 11L))));
+
+        approvalInboxIndexService.refreshDocument(document, List.of(first, second));
+
+        assertThat(index(deletedEntries()))
+                .isEqualTo(Map.of(ApprovalInboxTab.TO_APPROVE, Set.of(11L)));
+        assertThat(index(savedEntries()))
+                .isEqualTo(Map.of(ApprovalInboxTab.REJECTED_OR_RECALLED, Set.of(11L)));
+    }
+
+    @Test
+    @DisplayName("결재선에서 빠진 결재자의 항목은 지우고 새로 지정된 결재자의 항목만 만든다")
+    void refreshDocument_lineChanged_replacesApprover() {
+        ApprovalDocument document = document(ApprovalStatus.IN_PROGRESS);
+        given(approvalInboxEntryRepository.findByDocumentId(DOCUMENT_ID))
+                .willReturn(
+                        entries(
+                                Map.of(
+                                        ApprovalInboxTab.TO_APPROVE, Set.of(10L),
+                                        ApprovalInboxTab.IN_PROGRESS_ALL, Set.of(10L),
+                                        ApprovalInboxTab.MY_APPROVALS, Set.of(10L),
+                                        ApprovalInboxTab.MY_DRAFTED, Set.of(DRAFTER_ID),
+                                        ApprovalInboxTab.ALL, Set.of(DRAFTER_ID, 10L))));
+
+        approvalInboxIndexService.refreshDocument(
+                document,
+                List.of(
+                        userLine(
+                                ApprovalRouteRole.APPROVAL_LINE, 12L, ApprovalLineStatus.PENDING)));
+
+        Map<ApprovalInboxTab, Set<Long>> replaced =
+                Map.of(
+                        ApprovalInboxTab.TO_APPROVE, Set.of(10L),
+                        ApprovalInboxTab.IN_PROGRESS_ALL, Set.of(10L),
+                        ApprovalInboxTab.MY_APPROVALS, Set.of(10L),
+                        ApprovalInboxTab.ALL, Set.of(10L));
+        assertThat(index(deletedEntries())).isEqualTo(replaced);
+        assertThat(index(savedEntries()))
+                .isEqualTo(
+                        Map.of(
+                                ApprovalInboxTab.TO_APPROVE, Set.of(12L),
+                                ApprovalInboxTab.IN_PROGRESS_ALL, Set.of(12L),
+                                ApprovalInboxTab.MY_APPROVALS, Set.of(12L),
+                                ApprovalInboxTab.ALL, Set.of(12L)));
+    }
+
+    @Test
+    @DisplayName("부서 대상 결재선은 부서원에게, 부서결재함은 상위 부서원까지 펼치고 같은 부서는 한 번만 조회한다")
+    void refreshDocument_departmentTarget_expandsMembersOnce() {
+        ApprovalDocument document = document(ApprovalStatus.IN_PROGRESS);
+        document.setDrafterDepartment(Department.builder().id(5L).build());
+        ApprovalDocumentLine line = departmentLine(ApprovalRouteRole.APPROVAL_LINE, 5L);
+        line.setLineStatus(ApprovalLineStatus.PENDING);
+        given(approvalInboxEntryRepository.findByDocumentId(DOCUMENT_ID)).willReturn(List.of());
+        given(userRepository.findAllIdsByDepartmentId(5L)).willReturn(List.of(40L, 41L));
+        given(userRepository.findAllIdsInDepartmentAncestors(5L))
+                .willReturn(List.of(40L, 41L, 50L));
+
+        approvalInboxIndexService.refreshDocument(document, List.of(line));
+
+        assertThat(index(savedEntries()))
+                .isEqualTo(
+                        Map.of(
+                                ApprovalInboxTab.TO_APPROVE, Set.of(40L, 41L),
+                                ApprovalInboxTab.IN_PROGRESS_ALL, Set.of(40L, 41L),
+                                ApprovalInboxTab.MY_APPROVALS, Set.of(40L, 41L),
+                                ApprovalInboxTab.DEPARTMENT_BOX, Set.of(40L, 41L, 50L),
+                                ApprovalInboxTab.MY_DRAFTED, Set.of(DRAFTER_ID),
+                                ApprovalInboxTab.ALL, Set.of(DRAFTER_ID, 40L, 41L)));
+        verify(userRepository, times(1)).findAllIdsByDepartmentId(5L);
+        verify(userRepository, times(1)).findAllIdsInDepartmentAncestors(5L);
+    }
+
+    @Test
+    @DisplayName("최종 승인되면 열람선은 하위 부서원까지 열람획득으로 펼치되 참조자로도 지정된 사용자는 제외한다")
+    void refreshDocument_approved_viewerSubtreeExcludesReferences() {
+        ApprovalDocument document = document(ApprovalStatus.APPROVED);
+        ApprovalDocumentLine approval =
+                userLine(ApprovalRouteRole.APPROVAL_LINE, 10L, ApprovalLineStatus.APPROVED);
+        approval.setProcessedByUser(User.builder().id(10L).build());
+        given(approvalInboxEntryRepository.findByDocumentId(DOCUMENT_ID)).willReturn(List.of());
+        given(userRepository.findAllIdsInDepartmentSubtree(7L)).willReturn(List.of(20L, 21L));
+        given(userRepository.findAllIdsInDepartmentSubtree(8L)).willReturn(List.of(21L, 22L));
+
+        approvalInboxIndexService.refreshDocument(
+                document,
+                List.of(
+                        approval,
+                        departmentLine(ApprovalRouteRole.REFERENCE, 7L),
+                        departmentLine(ApprovalRouteRole.VIEWER, 8L)));
+
+        Map<ApprovalInboxTab, Set<Long>> saved = index(savedEntries());
+        assertThat(saved.get(ApprovalInboxTab.REFERENCE)).containsExactlyInAnyOrder(20L, 21L);
+        assertThat(saved.get(ApprovalInboxTab.VIEWER_ACQUIRED)).containsExactly(22L);
+        assertThat(saved.get(ApprovalInboxTab.VIEWER_GRANTED)).containsExactly(DRAFTER_ID);
+        assertThat(saved.get(ApprovalInboxTab.PROCESSED_BY_ME)).containsExactly(10L);
+        assertThat(saved).doesNotContainKey(ApprovalInboxTab.TO_APPROVE);
+    }
+
+    @Test
+    @DisplayName("사용자 인덱스를 재구성하면 기존 항목을 지운 뒤 탭별 조건 조회 결과로 다시 채우고 적재 완료로 기록한다")
+    void rebuildUser_replacesEntries() {
+        given(approvalInboxQueryRepository.findDocumentIds(ApprovalInboxTab.TO_APPROVE, 10L, 3L))
+                .willReturn(List.of(200L, 150L));
+        given(approvalInboxQueryRepository.findDocumentIds(ApprovalInboxTab.MY_DRAFTED, 10L, 3L))
+                .willReturn(List.of(180L));
+
+        approvalInboxIndexService.rebuildUser(10L, 3L);
+
+        InOrder order = inOrder(approvalInboxEntryRepository, approvalBulkWriter);
+        order.verify(approvalInboxEntryRepository).deleteAllByUserId(10L);
+        order.verify(approvalBulkWriter).insertInboxEntries(any());
+        List<ApprovalInboxEntry> saved = savedEntries();
+        assertThat(saved)
+                .extracting(
+                        ApprovalInboxEntry::getTab,
+                        ApprovalInboxEntry::getDocumentId,
+                        ApprovalInboxEntry::getSortKey)
+                .containsExactlyInAnyOrder(
+                        tuple(ApprovalInboxTab.TO_APPROVE, 200L, 200L),
+                        tuple(ApprovalInboxTab.TO_APPROVE, 150L, 150L),
+                        tuple(ApprovalInboxTab.IN_PROGRESS_ALL, 200L, 200L),
+                        tuple(ApprovalInboxTab.IN_PROGRESS_ALL, 150L, 150L),
+                        tuple(ApprovalInboxTab.MY_DRAFTED, 180L, 180L),
+                        tuple(ApprovalInboxTab.ALL, 180L, 180L));
+        assertThat(saved).allSatisfy(entry -> assertThat(entry.getUserId()).isEqualTo(10L));
+        verify(approvalInboxQueryRepository)
+                .findDocumentIds(ApprovalInboxTab.DEPARTMENT_BOX, 10L, 3L);
+        verify(approvalInboxQueryRepository, never())
+                .findDocumentIds(eq(ApprovalInboxTab.IN_PROGRESS_ALL), any(), any());
+        verify(approvalInboxQueryRepository, never())
+                .findDocumentIds(eq(ApprovalInboxTab.ALL), any(), any());
+
+        ArgumentCaptor<ApprovalInboxBackfill> backfill =
+                ArgumentCaptor.forClass(ApprovalInboxBackfill.class);
+        verify(approvalInboxBackfillRepository).save(backfill.capture());
+        assertThat(backfill.getValue().getUserId()).isEqualTo(10L);
+        assertThat(backfill.getValue().getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("이미 적재 완료로 기록된 사용자는 기록을 다시 만들지 않는다")
+    void rebuildUser_alreadyBackfilled_keepsMarker() {
+        given(approvalInboxBackfillRepository.existsByUserId(10L)).willReturn(true);
+
+        approvalInboxIndexService.rebuildUser(10L, 3L);
+
+        verify(approvalInboxEntryRepository).deleteAllByUserId(10L);
+        verify(approvalInboxBackfillRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("소속 부서가 없으면 부서결재함은 조회하지 않는다")
+    void rebuildUser_withoutDepartment_skipsDepartmentBox() {
+        approvalInboxIndexService.rebuildUser(10L, null);
+
+        verify(approvalInboxQueryRepository, never())
+                .findDocumentIds(eq(ApprovalInboxTab.DEPARTMENT_BOX), any(), any());
+        verify(approvalInboxQueryRepository, times(ApprovalInboxTab.values().length - 3))
+                .findDocumentIds(any(), eq(10L), isNull());
+    }
+
+    @Test
+    @DisplayName("부서 계층이 바뀌면 적재를 마친 부서원의 계층 의존 탭만 사용자별 트랜잭션으로 재구성한다")
+    void onDepartmentClosureChanged_rebuildsHierarchyTabsPerUser() {
+        given(approvalInboxBackfillRepository.findBackfilledUserIdsByDepartmentId(3L))
+                .willReturn(List.of(10L, 11L));
+        given(approvalInboxBackfillRepository.findBackfilledUserIdsByDepartmentId(5L))
+                .willReturn(List.of(12L));
+        given(approvalInboxQueryRepository.findDocumentIds(ApprovalInboxTab.REFERENCE, 10L, 3L))
+                .willReturn(List.of(300L));
+
+        approvalInboxIndexService.onDepartmentClosureChanged(
+                new DepartmentClosureChangedEvent(Set.of(3L), Set.of(5L)));
+
+        Set<ApprovalInboxTab> ancestorTabs =
+                Set.of(ApprovalInboxTab.REFERENCE, ApprovalInboxTab.VIEWER_ACQUIRED);
+        verify(approvalInboxEntryRepository).deleteAllByUserIdAndTabIn(10L, ancestorTabs);
+        verify(approvalInboxEntryRepository).deleteAllByUserIdAndTabIn(11L, ancestorTabs);
+        verify(approvalInboxEntryRepository)
+                .deleteAllByUserIdAndTabIn(12L, Set.of(ApprovalInboxTab.DEPARTMENT_BOX));
+        verify(approvalInboxEntryRepository, never()).deleteAllByUserId(any());
+        verify(approvalInboxQueryRepository)
+                .findDocumentIds(ApprovalInboxTab.DEPARTMENT_BOX, 12L, 5L);
+        verify(approvalInboxQueryRepository, never())
+                .findDocumentIds(eq(ApprovalInboxTab.MY_APPROVALS), any(), any());
+        ArgumentCaptor<List<ApprovalInboxEntry>> inserted = listCaptor();
+        verify(approvalBulkWriter, times(3)).insertInboxEntries(inserted.capture());
+        assertThat(inserted.getAllValues().stream().flatMap(List::stream).toList())
+                .extracting(
+                        ApprovalInboxEntry::getUserId,
+                        ApprovalInboxEntry::getTab,
+                        ApprovalInboxEntry::getDocumentId)
+                .containsExactly(tuple(10L, ApprovalInboxTab.REFERENCE, 300L));
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    private List<ApprovalInboxEntry> savedEntries() {
+        ArgumentCaptor<List<ApprovalInboxEntry>> captor = listCaptor();
+        verify(approvalBulkWriter).insertInboxEntries(captor.capture());
+        return captor.getValue();
+    }
+
+    private List<ApprovalInboxEntry> deletedEntries() {
+        ArgumentCaptor<List<ApprovalInboxEntry>> captor = listCaptor();
+        verify(approvalInboxEntryRepository).deleteAllInBatch(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<ApprovalInboxEntry>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private Map<ApprovalInboxTab, Set<Long>> index(List<ApprovalInboxEntry> entries) {
+        Map<ApprovalInboxTab, Set<Long>> index = new EnumMap<>(ApprovalInboxTab.class);
+        for (ApprovalInboxEntry entry : entries) {
+            index.computeIfAbsent(entry.getTab(), tab -> new HashSet<>()).add(entry.getUserId());
+        }
+        return index;
+    }
+
+    private List<ApprovalInboxEntry> entries(Map<ApprovalInboxTab, Set<Long>> index) {
+        List<ApprovalInboxEntry> entries = new ArrayList<>();
+        index.forEach(
+                (tab, userIds) ->
+                        userIds.forEach(
+                                userId ->
+                                        entries.add(
+                                                ApprovalInboxEntry.builder()
+                                                        .userId(userId)
+                                                        .documentId(DOCUMENT_ID)
+                                                        .tab(tab)
+                                                        .sortKey(DOCUMENT_ID)
+                                                        .build())));
+        return entries;
+    }
+
+    private ApprovalDocument document(ApprovalStatus status) {
+        return ApprovalDocument.builder()
+                .id(DOCUMENT_ID)
+                .status(status)
+                .drafterUser(User.builder().id(DRAFTER_ID).build())
+                .build();
+    }
+
+    private ApprovalDocumentLine userLine(
+            ApprovalRouteRole role, Long userId, ApprovalLineStatus status) {
+        return ApprovalDocumentLine.builder()
+                .role(role)
+                .targetType(ApprovalTargetType.USER)
+                .targetUser(User.builder().id(userId).build())
+                .lineStatus(status)
+                .build();
+    }
+
+    private ApprovalDocumentLine departmentLine(ApprovalRouteRole role, Long departmentId) {
+        return ApprovalDocumentLine.builder()
+                .role(role)
+                .targetType(ApprovalTargetType.DEPARTMENT)
+                .targetDepartment(Department.builder().id(departmentId).build())
+                .build();
+    }
+}
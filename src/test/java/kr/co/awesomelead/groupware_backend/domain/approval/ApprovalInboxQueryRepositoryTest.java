@@ -0,0 +1,296 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocument;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplate;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplateCategory;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalEditorType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalInboxTab;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLinePolicy;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalType;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentLineRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalInboxQueryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateCategoryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalInboxIndexService;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+import kr.co.awesomelead.groupware_backend.domain.department.service.DepartmentClosureService;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Position;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Status;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결재함 탭 조건(EXISTS 서브쿼리)을 H2 에서 실행해 탭별 문서 구성을 확인하고, 같은 조건으로 적재한 인덱스의 커서 조회와 탭별 건수
+ * 집계가 조건 조회 결과와 맞는지 확인한다.
+ *
+ * <p>부서 계층은 본부 &gt; 팀 &gt; 파트이고, 조회하는 사용자는 팀 소속이다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ApprovalInboxQueryRepositoryTest {
+
+    @Autowired private ApprovalInboxQueryRepository approvalInboxQueryRepository;
+    @Autowired private ApprovalInboxIndexService approvalInboxIndexService;
+    @Autowired private ApprovalTemplateCategoryRepository approvalTemplateCategoryRepository;
+    @Autowired private ApprovalTemplateRepository approvalTemplateRepository;
+    @Autowired private ApprovalDocumentRepository approvalDocumentRepository;
+    @Autowired private ApprovalDocumentLineRepository approvalDocumentLineRepository;
+    @Autowired private DepartmentRepository departmentRepository;
+    @Autowired private DepartmentClosureService departmentClosureService;
+    @Autowired private UserRepository userRepository;
+
+    private Department division;
+    private Department team;
+    private Department part;
+    private User me;
+    private User drafter;
+    private User partMember;
+    private ApprovalTemplate template;
+
+    private Long pending;
+    private Long upcoming;
+    private Long referenceToUpperDepartment;
+    private Long referenceToLowerDepartment;
+    private Long viewerApproved;
+    private Long viewerInProgress;
+    private Long draftedByLowerDepartment;
+    private Long receivedByLowerDepartment;
+    private Long myDraft;
+
+    @BeforeEach
+    void setUp() {
+        division = departmentRepository.save(department(0, null));
+        team = departmentRepository.save(department(1, division));
+        part = departmentRepository.save(department(2, team));
+        departmentClosureService.rebuild();
+
+        me = userRepository.save(user(0, team));
+        drafter = userRepository.save(user(1, division));
+        partMember = userRepository.save(user(2, part));
+
+        ApprovalTemplateCategory category =
+                approvalTemplateCategoryRepository.save(
+                        ApprovalTemplateCategory.builder().code("INBOX").name("결재함").build());
+        template =
+                approvalTemplateRepository.save(
+                        ApprovalTemplate.builder()
+                                .category(category)
+                                .code("INBOX_DRAFT")
+                                .name("결재함 기안")
+                                .editorType(ApprovalEditorType.QUILL)
+                                .approvalType(ApprovalType.INTERNAL)
+                                .linePolicy(ApprovalLinePolicy.FLEXIBLE)
+                                .build());
+
+        ApprovalDocument document = document(drafter, ApprovalStatus.IN_PROGRESS);
+        userLine(document, ApprovalRouteRole.APPROVAL_LINE, me, 1, ApprovalLineStatus.PENDING);
+        pending = document.getId();
+
+        document = document(drafter, ApprovalStatus.IN_PROGRESS);
+        userLine(
+                document, ApprovalRouteRole.APPROVAL_LINE, drafter, 1, ApprovalLineStatus.PENDING);
+        userLine(document, ApprovalRouteRole.APPROVAL_LINE, me, 2, ApprovalLineStatus.WAITING);
+        upcoming = document.getId();
+
+        document = document(drafter, ApprovalStatus.IN_PROGRESS);
+        departmentLine(document, ApprovalRouteRole.REFERENCE, division);
+        referenceToUpperDepartment = document.getId();
+
+        document = document(drafter, ApprovalStatus.IN_PROGRESS);
+        departmentLine(document, ApprovalRouteRole.REFERENCE, part);
+        referenceToLowerDepartment = document.getId();
+
+        document = document(drafter, ApprovalStatus.APPROVED);
+        userLine(document, ApprovalRouteRole.VIEWER, me, null, ApprovalLineStatus.WAITING);
+        viewerApproved = document.getId();
+
+        document = document(drafter, ApprovalStatus.IN_PROGRESS);
+        userLine(document, ApprovalRouteRole.VIEWER, me, null, ApprovalLineStatus.WAITING);
+        viewerInProgress = document.getId();
+
+        draftedByLowerDepartment = document(partMember, ApprovalStatus.IN_PROGRESS).getId();
+
+        document = document(drafter, ApprovalStatus.IN_PROGRESS);
+        departmentLine(document, ApprovalRouteRole.RECEIVER_DEPARTMENT, part);
+        receivedByLowerDepartment = document.getId();
+
+        myDraft = document(me, ApprovalStatus.DRAFT).getId();
+    }
+
+    @Test
+    @DisplayName("결재할 차례인 문서는 결재하기, 앞 단계가 남은 문서는 결재 전단계 탭에만 들어간다")
+    void pendingAndUpcoming_splitByLineStatus() {
+        assertThat(findDocumentIds(ApprovalInboxTab.TO_APPROVE)).containsExactly(pending);
+        assertThat(findDocumentIds(ApprovalInboxTab.BEFORE_MY_TURN)).containsExactly(upcoming);
+        assertThat(
+                        approvalInboxQueryRepository.findDocumentIds(
+                                ApprovalInboxTab.TO_APPROVE, drafter.getId(), division.getId()))
+                .containsExactly(upcoming);
+        assertThat(findDocumentIds(ApprovalInboxTab.MY_APPROVALS))
+                .containsExactly(upcoming, pending);
+        assertThat(findDocumentIds(ApprovalInboxTab.IN_PROGRESS_ALL))
+                .containsExactly(myDraft, upcoming, pending);
+        assertThat(findDocumentIds(ApprovalInboxTab.DRAFT_BOX)).containsExactly(myDraft);
+    }
+
+    @Test
+    @DisplayName("부서 대상 참조는 상위 부서를 지정한 경우에만 보이고, 하위 부서를 지정한 참조는 보이지 않는다")
+    void reference_followsAncestorDepartments() {
+        assertThat(findDocumentIds(ApprovalInboxTab.REFERENCE))
+                .containsExactly(referenceToUpperDepartment)
+                .doesNotContain(referenceToLowerDepartment);
+        assertThat(
+                        approvalInboxQueryRepository.findDocumentIds(
+                                ApprovalInboxTab.REFERENCE, partMember.getId(), part.getId()))
+                .containsExactly(referenceToLowerDepartment, referenceToUpperDepartment);
+    }
+
+    @Test
+    @DisplayName("열람선은 결재 완료된 문서만 열람획득 탭에 들어가고, 기안자에게는 열람부여 탭으로 보인다")
+    void viewerLines_onlyApprovedDocuments() {
+        assertThat(findDocumentIds(ApprovalInboxTab.VIEWER_ACQUIRED))
+                .containsExactly(viewerApproved)
+                .doesNotContain(viewerInProgress);
+        assertThat(
+                        approvalInboxQueryRepository.findDocumentIds(
+                                ApprovalInboxTab.VIEWER_GRANTED,
+                                drafter.getId(),
+                                division.getId()))
+                .containsExactly(viewerInProgress, viewerApproved);
+    }
+
+    @Test
+    @DisplayName("부서결재함은 하위 부서가 기안했거나 수신 대상인 문서를 포함하고, 임시저장 문서와 상위 부서 문서는 제외한다")
+    void departmentBox_includesSubtree() {
+        assertThat(findDocumentIds(ApprovalInboxTab.DEPARTMENT_BOX))
+                .containsExactly(receivedByLowerDepartment, draftedByLowerDepartment);
+        assertThat(
+                        approvalInboxQueryRepository.findDocumentIds(
+                                ApprovalInboxTab.DEPARTMENT_BOX,
+                                partMember.getId(),
+                                part.getId()))
+                .containsExactly(receivedByLowerDepartment, draftedByLowerDepartment);
+    }
+
+    @Test
+    @DisplayName("적재한 인덱스는 탭마다 조건 조회와 같은 문서를 돌려주고, 커서로 이어서 조회하며 탭별 건수를 한 번에 센다")
+    void index_matchesQueryAndPagesByCursor() {
+        approvalInboxIndexService.rebuildUser(me.getId(), team.getId());
+
+        Map<ApprovalInboxTab, Long> counts = approvalInboxIndexService.countByTab(me.getId());
+        for (ApprovalInboxTab tab : ApprovalInboxTab.values()) {
+            List<Long> expected = findDocumentIds(tab);
+            assertThat(approvalInboxIndexService.findDocumentIds(me.getId(), tab, null, 100))
+                    .as(tab.name())
+                    .containsExactlyElementsOf(expected);
+            assertThat(counts.get(tab)).as(tab.name()).isEqualTo((long) expected.size());
+        }
+
+        List<Long> firstPage =
+                approvalInboxIndexService.findDocumentIds(
+                        me.getId(), ApprovalInboxTab.IN_PROGRESS_ALL, null, 2);
+        assertThat(firstPage).containsExactly(myDraft, upcoming);
+        List<Long> secondPage =
+                approvalInboxIndexService.findDocumentIds(
+                        me.getId(), ApprovalInboxTab.IN_PROGRESS_ALL, firstPage.get(1), 2);
+        assertThat(secondPage).containsExactly(pending);
+        assertThat(
+                        approvalInboxIndexService.findDocumentIds(
+                                me.getId(), ApprovalInboxTab.IN_PROGRESS_ALL, pending, 2))
+                .isEmpty();
+    }
+
+    private List<Long> findDocumentIds(ApprovalInboxTab tab) {
+        return approvalInboxQueryRepository.findDocumentIds(tab, me.getId(), team.getId());
+    }
+
+    private ApprovalDocument document(User drafterUser, ApprovalStatus status) {
+        return approvalDocumentRepository.save(
+                ApprovalDocument.builder()
+                        .template(template)
+                        .templateNameSnapshot(template.getName())
+                        .templateCodeSnapshot(template.getCode())
+                        .title("결재함 문서")
+                        .contentDelta("{\"ops\":[]}")
+                        .approvalType(ApprovalType.INTERNAL)
+                        .status(status)
+                        .drafterUser(drafterUser)
+                        .drafterDepartment(drafterUser.getDepartment())
+                        .build());
+    }
+
+    private void userLine(
+            ApprovalDocument document,
+            ApprovalRouteRole role,
+            User target,
+            Integer sequenceNo,
+            ApprovalLineStatus lineStatus) {
+        approvalDocumentLineRepository.save(
+                ApprovalDocumentLine.builder()
+                        .document(document)
+                        .role(role)
+                        .targetType(ApprovalTargetType.USER)
+                        .targetUser(target)
+                        .targetNameSnapshot(target.getNameKor())
+                        .sequenceNo(sequenceNo)
+                        .lineStatus(lineStatus)
+                        .build());
+    }
+
+    private void departmentLine(
+            ApprovalDocument document, ApprovalRouteRole role, Department target) {
+        approvalDocumentLineRepository.save(
+                ApprovalDocumentLine.builder()
+                        .document(document)
+                        .role(role)
+                        .targetType(ApprovalTargetType.DEPARTMENT)
+                        .targetDepartment(target)
+                        .targetNameSnapshot(target.getName().name())
+                        .build());
+    }
+
+    private Department department(int index, Department parent) {
+        return Department.builder()
+                .name(DepartmentName.values()[index])
+                .company(Company.AWESOME)
+                .parent(parent)
+                .build();
+    }
+
+    private User user(int index, Department department) {
+        User user = new User();
+        user.setEmail("inbox" + index + "@example.com");
+        user.setPassword("password");
+        user.setNameKor("사용자" + index);
+        user.setAddress1("충남 아산시");
+        user.setRegistrationNumber(String.format("900101-1%06d", index));
+        user.setPhoneNumber(String.format("010%08d", index));
+        user.setPosition(Position.STAFF);
+        user.setStatus(Status.AVAILABLE);
+        user.setDepartment(department);
+        return user;
+    }
+}
@@ -0,0 +1,389 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalLineBulkActionRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalLineBulkActionResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalActionHistory;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocument;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalActionType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalBulkWriter;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentLineRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalInboxIndexService;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalLineActionService;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
+import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
+import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService.AlertRequest;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+import kr.co.awesomelead.groupware_backend.global.error.CustomException;
+import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalLineActionServiceTest {
+
+    private static final Long ACTOR_ID = 10L;
+    private static final Long DRAFTER_ID = 1L;
+
+    @Mock private ApprovalDocumentLineRepository approvalDocumentLineRepository;
+    @Mock private ApprovalDocumentRepository approvalDocumentRepository;
+    @Mock private ApprovalBulkWriter approvalBulkWriter;
+    @Mock private ApprovalInboxIndexService approvalInboxIndexService;
+    @Mock private NotificationService notificationService;
+    @Mock private UserRepository userRepository;
+
+    @InjectMocks private ApprovalLineActionService approvalLineActionService;
+
+    private User actor;
+    private User drafter;
+
+    @BeforeEach
+    void setUp() {
+        actor = User.builder().id(ACTOR_ID).department(Department.builder().id(5L).build()).build();
+        drafter = User.builder().id(DRAFTER_ID).build();
+    }
+
+    @Test
+    @DisplayName("승인하면 라인을 처리하고 다음 결재 라인을 활성화해 다음 결재자에게 알린다")
+    void approve_activatesNextLine() {
+        ApprovalDocument document = document(1L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine current = userLine(document, 101L, 1, ACTOR_ID);
+        ApprovalDocumentLine next = userLine(document, 102L, 2, 11L);
+        next.setLineStatus(ApprovalLineStatus.WAITING);
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(101L)))
+                .willReturn(List.of(current));
+        given(
+                        approvalDocumentLineRepository.activateLines(
+                                List.of(102L),
+                                ApprovalLineStatus.WAITING,
+                                ApprovalLineStatus.PENDING))
+                .willAnswer(
+                        inv -> {
+                            next.setLineStatus(ApprovalLineStatus.PENDING);
+                            return 1;
+                        });
+        given(approvalDocumentRepository.findAllWithLinesByIdInOrderByIdDesc(List.of(1L)))
+                .willReturn(List.of(document));
+
+        ApprovalLineBulkActionResponseDto result =
+                approvalLineActionService.processLines(
+                        ACTOR_ID, request(ApprovalActionType.APPROVE, 101L));
+
+        assertThat(current.getLineStatus()).isEqualTo(ApprovalLineStatus.APPROVED);
+        assertThat(current.getProcessedByUser()).isEqualTo(actor);
+        assertThat(document.getStatus()).isEqualTo(ApprovalStatus.IN_PROGRESS);
+        assertThat(document.getCompletedAt()).isNull();
+        assertThat(savedHistories())
+                .singleElement()
+                .extracting(ApprovalActionHistory::getToStatus)
+                .isEqualTo(ApprovalStatus.IN_PROGRESS);
+        verify(approvalInboxIndexService).refreshDocument(document, document.getLines());
+        verify(notificationService)
+                .resolveRequiresApproval(NotificationDomainType.APPROVAL, List.of(1L));
+        assertThat(sentAlerts())
+                .singleElement()
+                .satisfies(
+                        alert -> {
+                            assertThat(alert.userId()).isEqualTo(11L);
+                            assertThat(alert.template())
+                                    .isEqualTo(NotificationMessage.APPROVAL_CREATED_APPROVER);
+                            assertThat(alert.requiresApproval()).isTrue();
+                        });
+        assertThat(result.getProcessedCount()).isEqualTo(1);
+        assertThat(result.getDocuments())
+                .extracting(
+                        ApprovalLineBulkActionResponseDto.DocumentResultDto::getStatus)
+                .containsExactly(ApprovalStatus.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("마지막 결재 라인을 승인하면 문서를 최종 승인하고 기안자와 열람권자에게 알린다")
+    void approve_lastLine_completesDocument() {
+        ApprovalDocument document = document(1L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine current = userLine(document, 101L, 1, ACTOR_ID);
+        ApprovalDocumentLine viewer = userLine(document, 103L, null, 12L);
+        viewer.setRole(ApprovalRouteRole.VIEWER);
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(101L)))
+                .willReturn(List.of(current));
+        given(approvalDocumentRepository.findAllWithLinesByIdInOrderByIdDesc(List.of(1L)))
+                .willReturn(List.of(document));
+
+        approvalLineActionService.processLines(
+                ACTOR_ID, request(ApprovalActionType.APPROVE, 101L));
+
+        assertThat(document.getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+        assertThat(document.getCompletedAt()).isNotNull();
+        verify(approvalDocumentLineRepository, never()).activateLines(anyList(), any(), any());
+        assertThat(sentAlerts())
+                .extracting(AlertRequest::userId, AlertRequest::template)
+                .containsExactly(
+                        tuple(DRAFTER_ID, NotificationMessage.APPROVAL_FINALLY_APPROVED),
+                        tuple(12L, NotificationMessage.APPROVAL_FINALLY_APPROVED));
+    }
+
+    @Test
+    @DisplayName("반려하면 남은 결재 라인을 활성화하지 않고 문서를 바로 반려한다")
+    void reject_shortCircuitsRemainingLines() {
+        ApprovalDocument document = document(1L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine current = userLine(document, 101L, 1, ACTOR_ID);
+        ApprovalDocumentLine next = userLine(document, 102L, 2, 11L);
+        next.setLineStatus(ApprovalLineStatus.WAITING);
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(101L)))
+                .willReturn(List.of(current));
+        given(approvalDocumentRepository.findAllWithLinesByIdInOrderByIdDesc(List.of(1L)))
+                .willReturn(List.of(document));
+
+        approvalLineActionService.processLines(
+                ACTOR_ID, request(ApprovalActionType.REJECT, 101L));
+
+        assertThat(current.getLineStatus()).isEqualTo(ApprovalLineStatus.REJECTED);
+        assertThat(next.getLineStatus()).isEqualTo(ApprovalLineStatus.WAITING);
+        assertThat(document.getStatus()).isEqualTo(ApprovalStatus.REJECTED);
+        verify(approvalDocumentLineRepository, never()).activateLines(anyList(), any(), any());
+        assertThat(sentAlerts())
+                .singleElement()
+                .satisfies(
+                        alert -> {
+                            assertThat(alert.userId()).isEqualTo(DRAFTER_ID);
+                            assertThat(alert.template())
+                                    .isEqualTo(NotificationMessage.APPROVAL_REJECTED);
+                            assertThat(alert.args()).contains("의견");
+                        });
+    }
+
+    @Test
+    @DisplayName("여러 문서를 처리하면 요청한 라인 순서대로 문서별 결과를 돌려준다")
+    void approve_multipleDocuments_reportsPerLine() {
+        ApprovalDocument first = document(1L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine firstLine = userLine(first, 101L, 1, ACTOR_ID);
+        ApprovalDocumentLine firstNext = userLine(first, 102L, 2, 11L);
+        firstNext.setLineStatus(ApprovalLineStatus.WAITING);
+        ApprovalDocument second = document(2L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine departmentLine = userLine(second, 201L, 1, null);
+        departmentLine.setTargetType(ApprovalTargetType.DEPARTMENT);
+        departmentLine.setTargetDepartment(Department.builder().id(5L).build());
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(201L, 101L)))
+                .willReturn(List.of(firstLine, departmentLine));
+        given(
+                        approvalDocumentLineRepository.activateLines(
+                                List.of(102L),
+                                ApprovalLineStatus.WAITING,
+                                ApprovalLineStatus.PENDING))
+                .willReturn(1);
+        given(approvalDocumentRepository.findAllWithLinesByIdInOrderByIdDesc(anyList()))
+                .willReturn(List.of(second, first));
+
+        ApprovalLineBulkActionResponseDto result =
+                approvalLineActionService.processLines(
+                        ACTOR_ID, request(ApprovalActionType.APPROVE, 201L, 101L, 101L));
+
+        assertThat(result.getProcessedCount()).isEqualTo(2);
+        assertThat(result.getDocuments())
+                .extracting(
+                        ApprovalLineBulkActionResponseDto.DocumentResultDto::getLineId,
+                        ApprovalLineBulkActionResponseDto.DocumentResultDto::getDocumentId,
+                        ApprovalLineBulkActionResponseDto.DocumentResultDto::getStatus)
+                .containsExactly(
+                        tuple(201L, 2L, ApprovalStatus.APPROVED),
+                        tuple(101L, 1L, ApprovalStatus.IN_PROGRESS));
+    }
+
+    @Test
+    @DisplayName("아직 차례가 오지 않은 라인이면 NOT_YOUR_TURN 으로 전체를 거절한다")
+    void process_waitingLine_notYourTurn() {
+        ApprovalDocument document = document(1L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine line = userLine(document, 102L, 2, ACTOR_ID);
+        line.setLineStatus(ApprovalLineStatus.WAITING);
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(102L)))
+                .willReturn(List.of(line));
+
+        assertRejected(request(ApprovalActionType.APPROVE, 102L), ErrorCode.NOT_YOUR_TURN);
+    }
+
+    @Test
+    @DisplayName("결재 대상이 아니면 NOT_APPROVER 로 거절한다")
+    void process_otherUsersLine_notApprover() {
+        ApprovalDocument document = document(1L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine line = userLine(document, 101L, 1, 99L);
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(101L)))
+                .willReturn(List.of(line));
+
+        assertRejected(request(ApprovalActionType.APPROVE, 101L), ErrorCode.NOT_APPROVER);
+    }
+
+    @Test
+    @DisplayName("하나라도 처리할 수 없으면 앞선 라인까지 아무것도 저장하지 않는다")
+    void process_partialFailure_writesNothing() {
+        ApprovalDocument open = document(1L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine valid = userLine(open, 101L, 1, ACTOR_ID);
+        ApprovalDocument closed = document(2L, ApprovalStatus.REJECTED);
+        ApprovalDocumentLine stale = userLine(closed, 201L, 1, ACTOR_ID);
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(101L, 201L)))
+                .willReturn(List.of(valid, stale));
+
+        assertRejected(
+                request(ApprovalActionType.APPROVE, 101L, 201L), ErrorCode.ALREADY_PROCESSED_STEP);
+        verify(notificationService, never()).sendAlerts(anyList());
+    }
+
+    @Test
+    @DisplayName("없는 라인이 섞여 있으면 APPROVAL_LINE_NOT_FOUND 로 거절한다")
+    void process_missingLine_notFound() {
+        ApprovalDocument document = document(1L, ApprovalStatus.IN_PROGRESS);
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(101L, 999L)))
+                .willReturn(List.of(userLine(document, 101L, 1, ACTOR_ID)));
+
+        assertRejected(
+                request(ApprovalActionType.APPROVE, 101L, 999L),
+                ErrorCode.APPROVAL_LINE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 처리해 라인 버전이 바뀌었으면 동시 처리로 거절한다")
+    void process_versionConflict_concurrentlyProcessed() {
+        ApprovalDocument document = document(1L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine line = userLine(document, 101L, 1, ACTOR_ID);
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(101L)))
+                .willReturn(List.of(line));
+        willThrow(new ObjectOptimisticLockingFailureException(ApprovalDocumentLine.class, 101L))
+                .given(approvalDocumentLineRepository)
+                .flush();
+
+        assertThatThrownBy(
+                        () ->
+                                approvalLineActionService.processLines(
+                                        ACTOR_ID, request(ApprovalActionType.APPROVE, 101L)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.APPROVAL_LINE_CONCURRENTLY_PROCESSED);
+        verify(approvalBulkWriter, never()).insertActionHistories(anyList());
+    }
+
+    @Test
+    @DisplayName("다음 라인이 이미 활성화되어 있으면 동시 처리로 거절한다")
+    void process_nextLineAlreadyActivated_concurrentlyProcessed() {
+        ApprovalDocument document = document(1L, ApprovalStatus.IN_PROGRESS);
+        ApprovalDocumentLine line = userLine(document, 101L, 1, ACTOR_ID);
+        userLine(document, 102L, 2, 11L).setLineStatus(ApprovalLineStatus.WAITING);
+        givenActor();
+        given(approvalDocumentLineRepository.findAllWithDocumentByIdIn(List.of(101L)))
+                .willReturn(List.of(line));
+        given(
+                        approvalDocumentLineRepository.activateLines(
+                                eq(List.of(102L)), any(), any()))
+                .willReturn(0);
+
+        assertThatThrownBy(
+                        () ->
+                                approvalLineActionService.processLines(
+                                        ACTOR_ID, request(ApprovalActionType.APPROVE, 101L)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.APPROVAL_LINE_CONCURRENTLY_PROCESSED);
+        verify(notificationService, never()).sendAlerts(anyList());
+    }
+
+    private void assertRejected(ApprovalLineBulkActionRequestDto request, ErrorCode errorCode) {
+        assertThatThrownBy(() -> approvalLineActionService.processLines(ACTOR_ID, request))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(errorCode);
+        verify(approvalDocumentLineRepository, never()).flush();
+        verify(approvalBulkWriter, never()).insertActionHistories(anyList());
+    }
+
+    private void givenActor() {
+        given(userRepository.findById(ACTOR_ID)).willReturn(Optional.of(actor));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ApprovalActionHistory> savedHistories() {
+        ArgumentCaptor<List<ApprovalActionHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(approvalBulkWriter).insertActionHistories(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AlertRequest> sentAlerts() {
+        ArgumentCaptor<List<AlertRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).sendAlerts(captor.capture());
+        return captor.getValue();
+    }
+
+    private ApprovalDocument document(Long id, ApprovalStatus status) {
+        return ApprovalDocument.builder()
+                .id(id)
+                .title("문서 " + id)
+                .status(status)
+                .drafterUser(drafter)
+                .lines(new ArrayList<>())
+                .build();
+    }
+
+    private ApprovalDocumentLine userLine(
+            ApprovalDocument document, Long id, Integer sequenceNo, Long targetUserId) {
+        ApprovalDocumentLine line =
+                ApprovalDocumentLine.builder()
+                        .id(id)
+                        .document(document)
+                        .role(ApprovalRouteRole.APPROVAL_LINE)
+                        .targetType(ApprovalTargetType.USER)
+                        .targetUser(
+                                targetUserId != null
+                                        ? User.builder().id(targetUserId).build()
+                                        : null)
+                        .sequenceNo(sequenceNo)
+                        .lineStatus(ApprovalLineStatus.PENDING)
+                        .build();
+        document.getLines().add(line);
+        return line;
+    }
+
+    private ApprovalLineBulkActionRequestDto request(ApprovalActionType action, Long... lineIds) {
+        ApprovalLineBulkActionRequestDto request = new ApprovalLineBulkActionRequestDto();
+        request.setAction(action);
+        request.setLineIds(List.of(lineIds));
+        request.setComment("의견");
+        return request;
+    }
+}
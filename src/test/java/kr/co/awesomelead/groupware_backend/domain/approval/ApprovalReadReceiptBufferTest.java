@@ -0,0 +1,152 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalReadReceiptBuffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalReadReceiptBufferTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks private ApprovalReadReceiptBuffer approvalReadReceiptBuffer;
+
+    @Test
+    @DisplayName("열람 기록은 버퍼에만 쌓고 DB 에 바로 쓰지 않는다")
+    void record_buffersWithoutDatabaseAccess() {
+        approvalReadReceiptBuffer.record(100L, 10L);
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("같은 문서를 같은 사용자가 여러 번 열면 최초 열람 한 건만 반영한다")
+    void flush_deduplicatesSameDocumentAndUser() throws SQLException {
+        approvalReadReceiptBuffer.record(100L, 10L);
+        approvalReadReceiptBuffer.record(100L, 10L);
+        approvalReadReceiptBuffer.record(100L, 11L);
+        approvalReadReceiptBuffer.record(200L, 10L);
+
+        assertThat(approvalReadReceiptBuffer.flush()).isEqualTo(3);
+
+        assertThat(flushedRows())
+                .containsExactlyInAnyOrder(
+                        List.of(100L, 10L, 10L), List.of(100L, 11L, 11L), List.of(200L, 10L, 10L));
+    }
+
+    @Test
+    @DisplayName("한 번 반영한 기록은 버퍼에서 비우고, 비어 있으면 DB 를 호출하지 않는다")
+    void flush_drainsBuffer() {
+        approvalReadReceiptBuffer.record(100L, 10L);
+
+        approvalReadReceiptBuffer.flush();
+        assertThat(approvalReadReceiptBuffer.flush()).isZero();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), eq(500), any());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 기록을 버퍼에 되돌려 다음 주기에 다시 반영한다")
+    void flush_failure_requeues() {
+        approvalReadReceiptBuffer.record(100L, 10L);
+        willThrow(new QueryTimeoutException("timeout"))
+                .given(jdbcTemplate)
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any());
+
+        assertThat(approvalReadReceiptBuffer.flush()).isZero();
+        assertThat(approvalReadReceiptBuffer.flush()).isZero();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("재시도 전에 같은 열람이 다시 들어와도 먼저 열람한 시각을 유지한다")
+    void flush_failure_keepsEarliestReadAt() throws SQLException {
+        approvalReadReceiptBuffer.record(100L, 10L);
+        Timestamp firstReadAt = firstReadAtOfFailedFlush();
+        approvalReadReceiptBuffer.record(100L, 10L);
+
+        approvalReadReceiptBuffer.flush();
+
+        PreparedStatement ps = applyLastBatch().get(0);
+        verify(ps).setTimestamp(1, firstReadAt);
+    }
+
+    @Test
+    @DisplayName("애플리케이션 종료 시 남은 기록을 반영한다")
+    void flushOnShutdown_flushesPending() throws SQLException {
+        approvalReadReceiptBuffer.record(100L, 10L);
+
+        approvalReadReceiptBuffer.flushOnShutdown();
+
+        assertThat(flushedRows()).containsExactly(List.of(100L, 10L, 10L));
+    }
+
+    private Timestamp firstReadAtOfFailedFlush() throws SQLException {
+        willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[0][])
+                .given(jdbcTemplate)
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        approvalReadReceiptBuffer.flush();
+        ArgumentCaptor<Timestamp> readAt = ArgumentCaptor.forClass(Timestamp.class);
+        verify(applyLastBatch().get(0)).setTimestamp(eq(1), readAt.capture());
+        return readAt.getValue();
+    }
+
+    /** 마지막 batch 의 각 행을 PreparedStatement 목에 바인딩해 (문서 ID, 사용자 ID, 부서 조회 사용자 ID) 로 돌려준다. */
+    private List<List<Long>> flushedRows() throws SQLException {
+        List<List<Long>> rows = new ArrayList<>();
+        for (PreparedStatement ps : applyLastBatch()) {
+            ArgumentCaptor<Long> values = ArgumentCaptor.forClass(Long.class);
+            verify(ps, times(3)).setLong(anyInt(), values.capture());
+            rows.add(values.getAllValues());
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<PreparedStatement> applyLastBatch() throws SQLException {
+        ArgumentCaptor<Collection<T>> batch = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<T>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate, atLeastOnce())
+                .batchUpdate(anyString(), batch.capture(), eq(500), setter.capture());
+
+        List<PreparedStatement> statements = new ArrayList<>();
+        for (T entry : batch.getValue()) {
+            PreparedStatement ps = mock(PreparedStatement.class);
+            setter.getValue().setValues(ps, entry);
+            statements.add(ps);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,148 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.ApprovalTemplateListResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalTemplateCatalogCache;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalWorkflowService;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository.DepartmentNameView;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Position;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository.ApprovalTargetNameView;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalTemplateCatalogTest {
+
+    private static final DepartmentName DEPARTMENT_NAME = DepartmentName.values()[0];
+    private static final Position POSITION = Position.values()[0];
+
+    @Mock private ApprovalTemplateCatalogCache approvalTemplateCatalogCache;
+    @Mock private UserRepository userRepository;
+    @Mock private DepartmentRepository departmentRepository;
+
+    @InjectMocks private ApprovalWorkflowService approvalWorkflowService;
+
+    @Test
+    @DisplayName("캐시된 양식 목록의 타겟 이름은 projection 으로만 채우고 유저/부서 엔티티는 조회하지 않는다")
+    void getTemplateCatalog_fillsTargetNamesFromProjection() {
+        given(approvalTemplateCatalogCache.get(any()))
+                .willReturn(
+                        new ApprovalTemplateCatalogCache.Snapshot(
+                                catalog(
+                                        line(ApprovalTargetType.USER, 10L, null),
+                                        line(ApprovalTargetType.DEPARTMENT, null, 3L)),
+                                "\"v1\""));
+        given(userRepository.findApprovalTargetNamesByIdIn(Set.of(10L)))
+                .willReturn(List.of(userTarget(10L, "홍길동")));
+        given(departmentRepository.findNamesByIdIn(Set.of(3L)))
+                .willReturn(List.of(departmentTarget(3L)));
+
+        ApprovalTemplateCatalogCache.Snapshot snapshot =
+                approvalWorkflowService.getTemplateCatalog();
+
+        String departmentName = DEPARTMENT_NAME.getDescription();
+        ApprovalTemplateListResponseDto.TemplateDto template =
+                snapshot.catalog().getCategories().get(0).getTemplates().get(0);
+        assertThat(template.getDefaultLines())
+                .extracting(ApprovalTemplateListResponseDto.LineDto::getTargetName)
+                .containsExactly(
+                        "[" + departmentName + "] 홍길동 (" + POSITION.getDescription() + ")",
+                        "[" + departmentName + "]");
+        assertThat(snapshot.eTag()).isNotEqualTo("\"v1\"");
+        verify(userRepository, never()).findAllByIdInWithDepartment(anyCollection());
+        verify(departmentRepository, never()).findAllById(any());
+    }
+
+    private ApprovalTemplateListResponseDto catalog(
+            ApprovalTemplateListResponseDto.LineDto... lines) {
+        ApprovalTemplateListResponseDto.TemplateDto template =
+                ApprovalTemplateListResponseDto.TemplateDto.builder()
+                        .id(5L)
+                        .code("DRAFT")
+                        .name("기안서")
+                        .defaultLines(List.of(lines))
+                        .build();
+        return ApprovalTemplateListResponseDto.builder()
+                .categories(
+                        List.of(
+                                ApprovalTemplateListResponseDto.CategoryDto.builder()
+                                        .id(1L)
+                                        .code("COMMON")
+                                        .name("공통")
+                                        .templates(List.of(template))
+                                        .build()))
+                .build();
+    }
+
+    private ApprovalTemplateListResponseDto.LineDto line(
+            ApprovalTargetType targetType, Long targetUserId, Long targetDepartmentId) {
+        return ApprovalTemplateListResponseDto.LineDto.builder()
+                .role(ApprovalRouteRole.APPROVAL_LINE)
+                .targetType(targetType)
+                .targetUserId(targetUserId)
+                .targetDepartmentId(targetDepartmentId)
+                .build();
+    }
+
+    private ApprovalTargetNameView userTarget(Long id, String nameKor) {
+        return new ApprovalTargetNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getNameKor() {
+                return nameKor;
+            }
+
+            @Override
+            public String getNameEng() {
+                return null;
+            }
+
+            @Override
+            public Position getPosition() {
+                return POSITION;
+            }
+
+            @Override
+            public DepartmentName getDepartmentName() {
+                return DEPARTMENT_NAME;
+            }
+        };
+    }
+
+    private DepartmentNameView departmentTarget(Long id) {
+        return new DepartmentNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public DepartmentName getName() {
+                return DEPARTMENT_NAME;
+            }
+        };
+    }
+}
@@ -0,0 +1,460 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalDirectSubmitRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalLineRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplate;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplateCategory;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalEditorType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLinePolicy;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalType;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateCategoryRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalInboxIndexService;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalWorkflowService;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+import kr.co.awesomelead.groupware_backend.support.BenchmarkFixture;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.LongConsumer;
+
+/**
+ * 결재 목록/상신 경로 규모 측정용 하네스.
+ *
+ * <p>H2 에 사용자/문서/결재선을 지정한 규모로 적재한 뒤 서비스 메서드별 p50/p99 지연, 호출당 할당 바이트, 호출당 SQL 문 수를
+ * 로그로 남긴다. 호출당 SQL 문 수에는 호출이 남긴 비동기 작업의 SQL 도 포함되며, 측정 구간 앞뒤로 비동기 작업이 끝나기를
+ * 기다린다. 주기 작업(발송 대기열 중계, 열람 기록 반영)은 꺼 둔다.
+ *
+ * <p>별도 source set 을 두지 않고 test source set 에 {@code @Tag("benchmark")} 로 둔다. 테스트 설정과
+ * {@code BenchmarkFixture} 를 그대로 쓰기 위해서이며, 기본 {@code test} 태스크에서는 제외되고 {@code ./gradlew
+ * benchmarkTest} 로 실행한다. 규모는 시스템 프로퍼티로 조정한다.
+ *
+ * <pre>
+ * ./gradlew benchmarkTest -Dbenchmark.users=1000 -Dbenchmark.documents=100000 \
+ *     -Dbenchmark.lines-per-document=6
+ * </pre>
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(
+        properties = {
+            "spring.jpa.show-sql=false",
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "fcm.outbox.relay-enabled=false",
+            "approval.read-receipt.flush-interval-ms=3600000"
+        })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApprovalWorkflowBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("benchmark.users", 200);
+    private static final int DOCUMENTS = Integer.getInteger("benchmark.documents", 5_000);
+    private static final int LINES_PER_DOCUMENT =
+            Math.max(3, Integer.getInteger("benchmark.lines-per-document", 6));
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 50);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 300);
+    private static final int DEPARTMENTS = 10;
+    private static final int BATCH_SIZE = 1_000;
+    private static final long ASYNC_IDLE_TIMEOUT_MILLIS = 60_000;
+
+    @Autowired private ApprovalWorkflowService approvalWorkflowService;
+    @Autowired private ApprovalInboxIndexService approvalInboxIndexService;
+    @Autowired private ApprovalTemplateCategoryRepository approvalTemplateCategoryRepository;
+    @Autowired private ApprovalTemplateRepository approvalTemplateRepository;
+    @Autowired private DepartmentRepository departmentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("fcmTaskExecutor")
+    private Executor fcmTaskExecutor;
+
+    private final Random random = new Random(42);
+    private final List<Result> results = new ArrayList<>();
+
+    private List<Department> departments;
+    private List<User> users;
+    private ApprovalTemplate template;
+
+    @BeforeAll
+    void seed() {
+        long startedAt = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> seedOrganization());
+        seedDocuments();
+        for (User user : users) {
+            approvalInboxIndexService.rebuildUser(user.getId(), user.getDepartment().getId());
+        }
+        log.info(
+                "[ApprovalBenchmark] seeded users={}, documents={}, lines={} in {} ms",
+                USERS,
+                DOCUMENTS,
+                (long) DOCUMENTS * LINES_PER_DOCUMENT,
+                System.currentTimeMillis() - startedAt);
+    }
+
+    @Test
+    @DisplayName("결재 목록/상신 경로 지연·할당·SQL 수 측정")
+    void measureWorkflowHotPaths() {
+        measure("getInboxAll", i -> approvalWorkflowService.getInboxAll(i, null));
+        measure("getInboxToApprove", i -> approvalWorkflowService.getInboxToApprove(i, null));
+        measure(
+                "getInboxBeforeMyTurn",
+                i -> approvalWorkflowService.getInboxBeforeMyTurn(i, null));
+        measure("getInboxCounts", approvalWorkflowService::getInboxCounts);
+        measure("getAllAll", i -> approvalWorkflowService.getAllAll(i, null));
+        measure(
+                "getReferenceDocuments",
+                i -> approvalWorkflowService.getReferenceDocuments(i, null));
+        measure("getDepartmentBox", i -> approvalWorkflowService.getDepartmentBox(i, null));
+        measure("submitDirect", i -> approvalWorkflowService.submitDirect(i, submitRequest(i)));
+
+        log.info(
+                "[ApprovalBenchmark] users={}, documents={}, lines/document={}, iterations={}",
+                USERS,
+                DOCUMENTS,
+                LINES_PER_DOCUMENT,
+                ITERATIONS);
+        log.info(
+                String.format(
+                        "%-24s %10s %10s %14s %12s",
+                        "ApprovalWorkflowService method",
+                        "p50(ms)",
+                        "p99(ms)",
+                        "alloc/op(KB)",
+                        "sql/op"));
+        for (Result result : results) {
+            log.info(
+                    String.format(
+                            "%-24s %10.2f %10.2f %14.1f %12.1f",
+                            result.name(),
+                            result.p50Millis(),
+                            result.p99Millis(),
+                            result.allocatedBytesPerOp() / 1024.0,
+                            result.statementsPerOp()));
+        }
+        assertThat(results).allSatisfy(result -> assertThat(result.statementsPerOp()).isPositive());
+    }
+
+    private void measure(String name, LongConsumer operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.accept(nextUserId());
+        }
+
+        // 워밍업이 남긴 비동기 작업의 SQL 이 측정 구간에 섞이지 않도록 끝나기를 기다린 뒤 통계를 비운다.
+        awaitAsyncIdle();
+        Statistics statistics = statistics();
+        statistics.clear();
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] elapsed = new long[ITERATIONS];
+        long allocated = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long userId = nextUserId();
+            long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+            long startedAt = System.nanoTime();
+            operation.accept(userId);
+            elapsed[i] = System.nanoTime() - startedAt;
+            allocated += threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+        awaitAsyncIdle();
+        long statements = statistics.getPrepareStatementCount();
+
+        Arrays.sort(elapsed);
+        results.add(
+                new Result(
+                        name,
+                        percentile(elapsed, 0.50) / 1_000_000.0,
+                        percentile(elapsed, 0.99) / 1_000_000.0,
+                        (double) allocated / ITERATIONS,
+                        (double) statements / ITERATIONS));
+    }
+
+    /** 비동기 실행기의 실행 중/대기 작업이 모두 끝날 때까지 기다린다. 제한 시간 안에 끝나지 않으면 측정을 실패로 둔다. */
+    private void awaitAsyncIdle() {
+        ThreadPoolExecutor pool =
+                ((ThreadPoolTaskExecutor) fcmTaskExecutor).getThreadPoolExecutor();
+        long deadline = System.currentTimeMillis() + ASYNC_IDLE_TIMEOUT_MILLIS;
+        while (pool.getActiveCount() > 0 || !pool.getQueue().isEmpty()) {
+            assertThat(System.currentTimeMillis())
+                    .as("비동기 작업이 %d ms 안에 끝나야 한다", ASYNC_IDLE_TIMEOUT_MILLIS)
+                    .isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("비동기 작업 대기 중 인터럽트", e);
+            }
+        }
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private long nextUserId() {
+        return users.get(random.nextInt(users.size())).getId();
+    }
+
+    private ApprovalDirectSubmitRequestDto submitRequest(long drafterId) {
+        List<ApprovalLineRequestDto> lines = new ArrayList<>();
+        int sequenceNo = 1;
+        for (User approver : pickOtherUsers(drafterId, 2)) {
+            lines.add(userLine(ApprovalRouteRole.APPROVAL_LINE, approver.getId(), sequenceNo++));
+        }
+        Long referenceId = pickOtherUsers(drafterId, 1).get(0).getId();
+        lines.add(userLine(ApprovalRouteRole.REFERENCE, referenceId, null));
+
+        ApprovalDirectSubmitRequestDto request = new ApprovalDirectSubmitRequestDto();
+        request.setTemplateId(template.getId());
+        request.setTitle("벤치마크 상신 문서");
+        request.setContentDelta("{\"ops\":[{\"insert\":\"benchmark\\n\"}]}");
+        request.setContentHtml("<p>benchmark</p>");
+        request.setApprovalType(ApprovalType.INTERNAL);
+        request.setLines(lines);
+        return request;
+    }
+
+    private ApprovalLineRequestDto userLine(
+            ApprovalRouteRole role, Long userId, Integer sequenceNo) {
+        ApprovalLineRequestDto line = new ApprovalLineRequestDto();
+        line.setRole(role);
+        line.setTargetType(ApprovalTargetType.USER);
+        line.setTargetUserId(userId);
+        line.setSequenceNo(sequenceNo);
+        line.setRequired(true);
+        return line;
+    }
+
+    private List<User> pickOtherUsers(long userId, int count) {
+        List<User> picked = new ArrayList<>();
+        while (picked.size() < count) {
+            User candidate = users.get(random.nextInt(users.size()));
+            if (candidate.getId() != userId && !picked.contains(candidate)) {
+                picked.add(candidate);
+            }
+        }
+        return picked;
+    }
+
+    // ── 데이터 적재 ──────────────────────────────────────
+
+    private void seedOrganization() {
+        BenchmarkFixture fixture = new BenchmarkFixture(departmentRepository, userRepository);
+        departments = fixture.seedDepartments(DEPARTMENTS);
+        users = fixture.seedUsers("bench", USERS, departments);
+
+        ApprovalTemplateCategory category =
+                approvalTemplateCategoryRepository.save(
+                        ApprovalTemplateCategory.builder().code("BENCH").name("벤치마크").build());
+        template =
+                approvalTemplateRepository.save(
+                        ApprovalTemplate.builder()
+                                .category(category)
+                                .code("BENCH_DRAFT")
+                                .name("벤치마크 기안")
+                                .editorType(ApprovalEditorType.QUILL)
+                                .approvalType(ApprovalType.INTERNAL)
+                                .linePolicy(ApprovalLinePolicy.FLEXIBLE)
+                                .build());
+    }
+
+    private void seedDocuments() {
+        // 건수가 많으므로 JPA 대신 JDBC batch 로 적재하고, 이후 상신 시 ID 가 겹치지 않도록 identity 를 다시 맞춘다.
+        List<Object[]> documentRows = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> lineRows = new ArrayList<>(BATCH_SIZE * LINES_PER_DOCUMENT);
+        long lineId = 1;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (long documentId = 1; documentId <= DOCUMENTS; documentId++) {
+            User drafter = users.get(random.nextInt(users.size()));
+            ApprovalStatus status = randomStatus();
+            documentRows.add(
+                    new Object[] {
+                        documentId,
+                        template.getId(),
+                        template.getName(),
+                        template.getCode(),
+                        "벤치마크 문서 " + documentId,
+                        status == ApprovalStatus.DRAFT ? null : "BENCH-" + documentId,
+                        "{\"ops\":[]}",
+                        "<p>benchmark</p>",
+                        ApprovalType.INTERNAL.name(),
+                        status.name(),
+                        drafter.getId(),
+                        drafter.getDepartment().getId(),
+                        status == ApprovalStatus.DRAFT ? null : now,
+                        now,
+                        now
+                    });
+
+            int approvers = LINES_PER_DOCUMENT - 2;
+            int pendingIndex = random.nextInt(approvers);
+            for (int i = 0; i < approvers; i++) {
+                User approver = users.get(random.nextInt(users.size()));
+                lineRows.add(
+                        lineRow(
+                                lineId++,
+                                documentId,
+                                ApprovalRouteRole.APPROVAL_LINE,
+                                approver,
+                                null,
+                                i + 1,
+                                lineStatus(status, i, pendingIndex),
+                                now));
+            }
+            lineRows.add(
+                    lineRow(
+                            lineId++,
+                            documentId,
+                            ApprovalRouteRole.REFERENCE,
+                            users.get(random.nextInt(users.size())),
+                            null,
+                            null,
+                            ApprovalLineStatus.WAITING,
+                            now));
+            lineRows.add(
+                    lineRow(
+                            lineId++,
+                            documentId,
+                            ApprovalRouteRole.VIEWER,
+                            null,
+                            departments.get(random.nextInt(DEPARTMENTS)),
+                            null,
+                            ApprovalLineStatus.WAITING,
+                            now));
+
+            if (documentRows.size() >= BATCH_SIZE) {
+                flushSeedRows(documentRows, lineRows);
+            }
+        }
+        flushSeedRows(documentRows, lineRows);
+
+        jdbcTemplate.execute(
+                "ALTER TABLE approval_documents ALTER COLUMN id RESTART WITH " + (DOCUMENTS + 1));
+        jdbcTemplate.execute(
+                "ALTER TABLE approval_document_lines ALTER COLUMN id RESTART WITH " + lineId);
+    }
+
+    private void flushSeedRows(List<Object[]> documentRows, List<Object[]> lineRows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO approval_documents (id, template_id, template_name_snapshot,"
+                        + " template_code_snapshot, title, document_no, content_delta,"
+                        + " content_html, approval_type, status, drafter_user_id,"
+                        + " drafter_department_id, submitted_at, created_at, modified_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                documentRows);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO approval_document_lines (id, document_id, role, target_type,"
+                        + " target_user_id, target_department_id, target_name_snapshot,"
+                        + " sequence_no, is_required, line_status, version, created_at,"
+                        + " modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, true, ?, 0, ?, ?)",
+                lineRows);
+        documentRows.clear();
+        lineRows.clear();
+    }
+
+    private Object[] lineRow(
+            long lineId,
+            long documentId,
+            ApprovalRouteRole role,
+            User targetUser,
+            Department targetDepartment,
+            Integer sequenceNo,
+            ApprovalLineStatus lineStatus,
+            Timestamp now) {
+        return new Object[] {
+            lineId,
+            documentId,
+            role.name(),
+            (targetUser != null ? ApprovalTargetType.USER : ApprovalTargetType.DEPARTMENT).name(),
+            targetUser != null ? targetUser.getId() : null,
+            targetDepartment != null ? targetDepartment.getId() : null,
+            targetUser != null ? targetUser.getNameKor() : "[" + targetDepartment.getName() + "]",
+            sequenceNo,
+            lineStatus.name(),
+            now,
+            now
+        };
+    }
+
+    private ApprovalStatus randomStatus() {
+        int bucket = random.nextInt(100);
+        if (bucket < 60) {
+            return ApprovalStatus.IN_PROGRESS;
+        }
+        if (bucket < 85) {
+            return ApprovalStatus.APPROVED;
+        }
+        if (bucket < 95) {
+            return ApprovalStatus.REJECTED;
+        }
+        return ApprovalStatus.DRAFT;
+    }
+
+    private ApprovalLineStatus lineStatus(ApprovalStatus status, int index, int pendingIndex) {
+        return switch (status) {
+            case APPROVED -> ApprovalLineStatus.APPROVED;
+            case IN_PROGRESS ->
+                    index < pendingIndex
+                            ? ApprovalLineStatus.APPROVED
+                            : index == pendingIndex
+                                    ? ApprovalLineStatus.PENDING
+                                    : ApprovalLineStatus.WAITING;
+            case REJECTED ->
+                    index < pendingIndex
+                            ? ApprovalLineStatus.APPROVED
+                            : index == pendingIndex
+                                    ? ApprovalLineStatus.REJECTED
+                                    : ApprovalLineStatus.WAITING;
+            default -> ApprovalLineStatus.WAITING;
+        };
+    }
+
+    private record Result(
+            String name,
+            double p50Millis,
+            double p99Millis,
+            double allocatedBytesPerOp,
+            double statementsPerOp) {}
+}
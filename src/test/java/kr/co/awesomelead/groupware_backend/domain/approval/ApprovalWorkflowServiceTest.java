@@ -0,0 +1,194 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalDraftUpsertRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.ApprovalLineRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocument;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalDocumentLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.ApprovalTemplate;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalLineStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalStatus;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalType;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalBulkWriter;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentLineRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalDocumentRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.ApprovalTemplateRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalInboxIndexService;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.ApprovalWorkflowService;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Position;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalWorkflowServiceTest {
+
+    private static final Long DRAFTER_ID = 1L;
+    private static final Long TEMPLATE_ID = 5L;
+    private static final Long DOCUMENT_ID = 100L;
+
+    @Mock private ApprovalTemplateRepository approvalTemplateRepository;
+    @Mock private ApprovalDocumentRepository approvalDocumentRepository;
+    @Mock private ApprovalDocumentLineRepository approvalDocumentLineRepository;
+    @Mock private ApprovalBulkWriter approvalBulkWriter;
+    @Mock private ApprovalInboxIndexService approvalInboxIndexService;
+    @Mock private UserRepository userRepository;
+
+    @InjectMocks private ApprovalWorkflowService approvalWorkflowService;
+
+    private Department department;
+    private ApprovalDocument document;
+
+    @BeforeEach
+    void setUp() {
+        department = Department.builder().id(3L).name(DepartmentName.values()[0]).build();
+        User drafter = user(DRAFTER_ID);
+        ApprovalTemplate template =
+                ApprovalTemplate.builder()
+                        .id(TEMPLATE_ID)
+                        .code("DRAFT")
+                        .name("기안서")
+                        .approvalType(ApprovalType.INTERNAL)
+                        .build();
+        document =
+                ApprovalDocument.builder()
+                        .id(DOCUMENT_ID)
+                        .template(template)
+                        .status(ApprovalStatus.DRAFT)
+                        .drafterUser(drafter)
+                        .drafterDepartment(department)
+                        .build();
+        given(userRepository.findById(DRAFTER_ID)).willReturn(Optional.of(drafter));
+        given(approvalTemplateRepository.findById(TEMPLATE_ID)).willReturn(Optional.of(template));
+        given(approvalDocumentRepository.findByIdAndDrafterUserIdWithLines(DOCUMENT_ID, DRAFTER_ID))
+                .willReturn(Optional.of(document));
+    }
+
+    @Test
+    @DisplayName("결재선을 바꿔 저장하면 같은 대상은 그대로 갱신하고, 빠진 대상만 삭제하고, 새 대상만 batch 로 추가한다")
+    void upsertDraft_linesChanged_appliesDiff() {
+        ApprovalDocumentLine removed = existingLine(1L, ApprovalRouteRole.APPROVAL_LINE, 10L, 1);
+        ApprovalDocumentLine kept = existingLine(2L, ApprovalRouteRole.APPROVAL_LINE, 11L, 2);
+        ApprovalDocumentLine reference = existingLine(3L, ApprovalRouteRole.REFERENCE, 12L, null);
+        List<ApprovalDocumentLine> reread = List.of(kept, reference);
+        given(approvalDocumentLineRepository.findByDocumentIdOrderBySequenceNoAscIdAsc(DOCUMENT_ID))
+                .willReturn(new ArrayList<>(List.of(removed, kept, reference)), reread);
+        given(userRepository.findAllByIdInWithDepartment(Set.of(11L, 12L, 13L)))
+                .willReturn(List.of(user(11L), user(12L), user(13L)));
+
+        approvalWorkflowService.upsertDraft(
+                DRAFTER_ID,
+                request(
+                        lineRequest(ApprovalRouteRole.APPROVAL_LINE, 11L, 1),
+                        lineRequest(ApprovalRouteRole.APPROVAL_LINE, 13L, 2),
+                        lineRequest(ApprovalRouteRole.REFERENCE, 12L, null)));
+
+        verify(approvalDocumentLineRepository).deleteAllInBatch(List.of(removed));
+        assertThat(kept.getSequenceNo()).isEqualTo(1);
+        assertThat(kept.getLineStatus()).isEqualTo(ApprovalLineStatus.WAITING);
+
+        List<ApprovalDocumentLine> inserted = insertedLines();
+        assertThat(inserted)
+                .extracting(
+                        line -> line.getTargetUser().getId(),
+                        ApprovalDocumentLine::getRole,
+                        ApprovalDocumentLine::getSequenceNo,
+                        ApprovalDocumentLine::getLineStatus)
+                .containsExactly(
+                        tuple(13L, ApprovalRouteRole.APPROVAL_LINE, 2, ApprovalLineStatus.WAITING));
+        assertThat(inserted.get(0).getDocument()).isSameAs(document);
+        assertThat(inserted.get(0).getTargetNameSnapshot()).isNotBlank();
+        verify(approvalInboxIndexService).refreshDocument(document, reread);
+    }
+
+    @Test
+    @DisplayName("결재선이 그대로면 삭제나 추가 없이 기존 라인만 사용한다")
+    void upsertDraft_linesUnchanged_writesNothing() {
+        ApprovalDocumentLine first = existingLine(1L, ApprovalRouteRole.APPROVAL_LINE, 10L, 1);
+        ApprovalDocumentLine second = existingLine(2L, ApprovalRouteRole.APPROVAL_LINE, 11L, 2);
+        given(approvalDocumentLineRepository.findByDocumentIdOrderBySequenceNoAscIdAsc(DOCUMENT_ID))
+                .willReturn(new ArrayList<>(List.of(first, second)));
+        given(userRepository.findAllByIdInWithDepartment(Set.of(10L, 11L)))
+                .willReturn(List.of(user(10L), user(11L)));
+
+        approvalWorkflowService.upsertDraft(
+                DRAFTER_ID,
+                request(
+                        lineRequest(ApprovalRouteRole.APPROVAL_LINE, 10L, 1),
+                        lineRequest(ApprovalRouteRole.APPROVAL_LINE, 11L, 2)));
+
+        verify(approvalDocumentLineRepository, never()).deleteAllInBatch(anyList());
+        verify(approvalBulkWriter, never()).insertDocumentLines(any());
+        verify(approvalInboxIndexService).refreshDocument(document, List.of(first, second));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ApprovalDocumentLine> insertedLines() {
+        ArgumentCaptor<Collection<ApprovalDocumentLine>> captor =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(approvalBulkWriter).insertDocumentLines(captor.capture());
+        return List.copyOf(captor.getValue());
+    }
+
+    private ApprovalDraftUpsertRequestDto request(ApprovalLineRequestDto... lines) {
+        ApprovalDraftUpsertRequestDto request = new ApprovalDraftUpsertRequestDto();
+        request.setDocumentId(DOCUMENT_ID);
+        request.setTemplateId(TEMPLATE_ID);
+        request.setLines(List.of(lines));
+        return request;
+    }
+
+    private ApprovalLineRequestDto lineRequest(
+            ApprovalRouteRole role, Long userId, Integer sequenceNo) {
+        ApprovalLineRequestDto lineRequest = new ApprovalLineRequestDto();
+        lineRequest.setRole(role);
+        lineRequest.setTargetType(ApprovalTargetType.USER);
+        lineRequest.setTargetUserId(userId);
+        lineRequest.setSequenceNo(sequenceNo);
+        return lineRequest;
+    }
+
+    private ApprovalDocumentLine existingLine(
+            Long id, ApprovalRouteRole role, Long userId, Integer sequenceNo) {
+        return ApprovalDocumentLine.builder()
+                .id(id)
+                .document(document)
+                .role(role)
+                .targetType(ApprovalTargetType.USER)
+                .targetUser(user(userId))
+                .sequenceNo(sequenceNo)
+                .build();
+    }
+
+    private User user(Long id) {
+        User user = User.builder().id(id).department(department).build();
+        user.setNameKor("사용자" + id);
+        user.setPosition(Position.values()[0]);
+        return user;
+    }
+}
@@ -0,0 +1,229 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.response.SavedApprovalLineResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.event.SavedApprovalLineChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.SavedApprovalLineCache;
+import kr.co.awesomelead.groupware_backend.domain.department.event.DepartmentClosureChangedEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@ExtendWith(MockitoExtension.class)
+class SavedApprovalLineCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long DEPARTMENT_ID = 3L;
+
+    @Mock private StringRedisTemplate redisTemplate;
+
+    private SavedApprovalLineCache savedApprovalLineCache;
+
+    @BeforeEach
+    void setUp() {
+        savedApprovalLineCache = new SavedApprovalLineCache(redisTemplate);
+        ReflectionTestUtils.setField(savedApprovalLineCache, "ttl", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 결재선은 무효화 전까지 다시 읽지 않는다")
+    void getPersonalLines_cachedUntilEvicted() {
+        CountingLoader loader = new CountingLoader(List.of(line(101L)));
+
+        savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+        savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+        assertThat(loader.calls()).isEqualTo(1);
+
+        savedApprovalLineCache.evictLocal(SavedApprovalLineChangedEvent.Scope.PERSONAL, USER_ID);
+        savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+        assertThat(loader.calls()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 읽는다")
+    void getPersonalLines_expired_reloads() {
+        ReflectionTestUtils.setField(savedApprovalLineCache, "ttl", Duration.ZERO);
+        CountingLoader loader = new CountingLoader(List.of(line(101L)));
+
+        savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+        savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+
+        assertThat(loader.calls()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화가 들어오면 그 결과는 돌려주되 캐시하지 않는다")
+    void getPersonalLines_evictedWhileLoading_notCached() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<List<SavedApprovalLineResponseDto>> loader =
+                () -> {
+                    if (calls.incrementAndGet() == 1) {
+                        savedApprovalLineCache.evictLocal(
+                                SavedApprovalLineChangedEvent.Scope.PERSONAL, USER_ID);
+                    }
+                    return List.of(line(101L));
+                };
+
+        List<SavedApprovalLineResponseDto> first =
+                savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+        savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+        savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+
+        assertThat(first).extracting(SavedApprovalLineResponseDto::getId).containsExactly(101L);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시한 목록은 수정할 수 없는 사본이라 로더의 원본을 바꿔도 영향이 없다")
+    void getDepartmentLines_returnsUnmodifiableCopy() {
+        List<SavedApprovalLineResponseDto> source = new ArrayList<>(List.of(line(201L)));
+
+        List<SavedApprovalLineResponseDto> cached =
+                savedApprovalLineCache.getDepartmentLines(DEPARTMENT_ID, () -> source);
+        source.add(line(202L));
+
+        assertThat(cached).extracting(SavedApprovalLineResponseDto::getId).containsExactly(201L);
+        assertThatThrownBy(() -> cached.add(line(203L)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(
+                        savedApprovalLineCache.getDepartmentLines(
+                                DEPARTMENT_ID, () -> List.of(line(204L))))
+                .extracting(SavedApprovalLineResponseDto::getId)
+                .containsExactly(201L);
+    }
+
+    @Test
+    @DisplayName("소속 부서가 없으면 캐시하지 않는다")
+    void getDepartmentId_null_notCached() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Long> loader =
+                () -> {
+                    calls.incrementAndGet();
+                    return null;
+                };
+
+        savedApprovalLineCache.getDepartmentId(USER_ID, loader);
+        savedApprovalLineCache.getDepartmentId(USER_ID, loader);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트는 해당 범위만 비우고 다른 노드에 무효화 메시지를 보낸다")
+    void handleSavedLineChanged_evictsScopeAndBroadcasts() {
+        CountingLoader personal = new CountingLoader(List.of(line(101L)));
+        CountingLoader department = new CountingLoader(List.of(line(201L)));
+        savedApprovalLineCache.getPersonalLines(USER_ID, personal);
+        savedApprovalLineCache.getDepartmentLines(DEPARTMENT_ID, department);
+
+        savedApprovalLineCache.handleSavedLineChanged(
+                SavedApprovalLineChangedEvent.department(DEPARTMENT_ID));
+        savedApprovalLineCache.getPersonalLines(USER_ID, personal);
+        savedApprovalLineCache.getDepartmentLines(DEPARTMENT_ID, department);
+
+        assertThat(personal.calls()).isEqualTo(1);
+        assertThat(department.calls()).isEqualTo(2);
+        verify(redisTemplate)
+                .convertAndSend(SavedApprovalLineCache.EVICT_CHANNEL, "DEPARTMENT:3");
+    }
+
+    @Test
+    @DisplayName("Redis 발행이 실패해도 로컬 캐시는 비운다")
+    void handleSavedLineChanged_redisFailure_stillEvictsLocally() {
+        CountingLoader loader = new CountingLoader(List.of(line(101L)));
+        savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(redisTemplate)
+                .convertAndSend(anyString(), anyString());
+
+        savedApprovalLineCache.handleSavedLineChanged(
+                SavedApprovalLineChangedEvent.personal(USER_ID));
+        savedApprovalLineCache.getPersonalLines(USER_ID, loader);
+
+        assertThat(loader.calls()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("부서 계층이 바뀌면 해당 부서들의 상위 부서 목록을 비운다")
+    void handleDepartmentClosureChanged_evictsAncestors() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<List<Long>> loader =
+                () -> {
+                    calls.incrementAndGet();
+                    return List.of(DEPARTMENT_ID, 1L);
+                };
+        savedApprovalLineCache.getAncestorDepartmentIds(DEPARTMENT_ID, loader);
+
+        savedApprovalLineCache.handleDepartmentClosureChanged(
+                new DepartmentClosureChangedEvent(Set.of(DEPARTMENT_ID), Set.of()));
+        savedApprovalLineCache.getAncestorDepartmentIds(DEPARTMENT_ID, loader);
+
+        assertThat(calls.get()).isEqualTo(2);
+        verify(redisTemplate)
+                .convertAndSend(SavedApprovalLineCache.EVICT_CHANNEL, "HIERARCHY:3");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 해당 항목만 비우고, 해석할 수 없으면 전체를 비운다")
+    void handleEvictMessage_evictsEntryOrEverything() {
+        CountingLoader personal = new CountingLoader(List.of(line(101L)));
+        CountingLoader department = new CountingLoader(List.of(line(201L)));
+        savedApprovalLineCache.getPersonalLines(USER_ID, personal);
+        savedApprovalLineCache.getDepartmentLines(DEPARTMENT_ID, department);
+
+        savedApprovalLineCache.handleEvictMessage("PERSONAL:1");
+        savedApprovalLineCache.getPersonalLines(USER_ID, personal);
+        savedApprovalLineCache.getDepartmentLines(DEPARTMENT_ID, department);
+        assertThat(personal.calls()).isEqualTo(2);
+        assertThat(department.calls()).isEqualTo(1);
+
+        savedApprovalLineCache.handleEvictMessage("garbage");
+        savedApprovalLineCache.getPersonalLines(USER_ID, personal);
+        savedApprovalLineCache.getDepartmentLines(DEPARTMENT_ID, department);
+        assertThat(personal.calls()).isEqualTo(3);
+        assertThat(department.calls()).isEqualTo(2);
+    }
+
+    private SavedApprovalLineResponseDto line(Long id) {
+        return SavedApprovalLineResponseDto.builder().id(id).lines(List.of()).build();
+    }
+
+    private static class CountingLoader implements Supplier<List<SavedApprovalLineResponseDto>> {
+
+        private final List<SavedApprovalLineResponseDto> value;
+        private int calls;
+
+        CountingLoader(List<SavedApprovalLineResponseDto> value) {
+            this.value = value;
+        }
+
+        @Override
+        public List<SavedApprovalLineResponseDto> get() {
+            calls++;
+            return value;
+        }
+
+        int calls() {
+            return calls;
+        }
+    }
+}
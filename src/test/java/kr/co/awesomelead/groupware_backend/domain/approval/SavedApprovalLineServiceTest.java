@@ -0,0 +1,238 @@
+package kr.co.awesomelead.groupware_backend.domain.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.SavedApprovalLineDetailRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.dto.request.SavedPersonalApprovalLineUpsertRequestDto;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.SavedApprovalLine;
+import kr.co.awesomelead.groupware_backend.domain.approval.entity.SavedApprovalLineDetail;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalRouteRole;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalSavedLineType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalTargetType;
+import kr.co.awesomelead.groupware_backend.domain.approval.enums.ApprovalType;
+import kr.co.awesomelead.groupware_backend.domain.approval.event.SavedApprovalLineChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.SavedApprovalLineDetailRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.repository.SavedApprovalLineRepository;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.SavedApprovalLineCache;
+import kr.co.awesomelead.groupware_backend.domain.approval.service.SavedApprovalLineService;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentClosureRepository;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Position;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class SavedApprovalLineServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long LINE_ID = 101L;
+
+    @Mock private SavedApprovalLineRepository savedApprovalLineRepository;
+    @Mock private SavedApprovalLineDetailRepository savedApprovalLineDetailRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private DepartmentRepository departmentRepository;
+    @Mock private DepartmentClosureRepository departmentClosureRepository;
+    @Mock private SavedApprovalLineCache savedApprovalLineCache;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @InjectMocks private SavedApprovalLineService savedApprovalLineService;
+
+    private User owner;
+    private User approver;
+    private User reviewer;
+    private Department department;
+    private SavedApprovalLine line;
+
+    @BeforeEach
+    void setUp() {
+        department = Department.builder().id(3L).name(DepartmentName.CHUNGNAM_HQ).build();
+        owner = User.builder().id(USER_ID).nameKor("기안자").build();
+        approver =
+                User.builder()
+                        .id(10L)
+                        .nameKor("결재자")
+                        .position(Position.CEO)
+                        .department(department)
+                        .build();
+        reviewer = User.builder().id(11L).nameKor("참조자").department(department).build();
+        line =
+                SavedApprovalLine.builder()
+                        .id(LINE_ID)
+                        .lineType(ApprovalSavedLineType.PERSONAL)
+                        .lineName("기본 결재선")
+                        .approvalType(ApprovalType.INTERNAL)
+                        .ownerUser(owner)
+                        .createdByUser(owner)
+                        .details(new ArrayList<>())
+                        .build();
+    }
+
+    @Test
+    @DisplayName("역할과 대상이 같은 상세는 재사용하고, 빠진 상세는 한 번에 지우고, 새 상세만 JDBC 로 넣는다")
+    void updatePersonalLine_diffsDetails() {
+        SavedApprovalLineDetail kept = detail(1001L, ApprovalRouteRole.APPROVAL_LINE, approver, 2);
+        SavedApprovalLineDetail dropped = detail(1002L, ApprovalRouteRole.REFERENCE, reviewer, 3);
+        line.getDetails().addAll(List.of(kept, dropped));
+        SavedApprovalLineDetail inserted =
+                SavedApprovalLineDetail.builder()
+                        .id(1003L)
+                        .savedLine(line)
+                        .role(ApprovalRouteRole.RECEIVER_DEPARTMENT)
+                        .targetType(ApprovalTargetType.DEPARTMENT)
+                        .targetDepartment(department)
+                        .build();
+        given(savedApprovalLineRepository.findWithDetailsById(LINE_ID))
+                .willReturn(Optional.of(line));
+        given(userRepository.findAllByIdInWithDepartment(Set.of(10L)))
+                .willReturn(List.of(approver));
+        given(departmentRepository.findAllById(Set.of(3L))).willReturn(List.of(department));
+        given(savedApprovalLineDetailRepository.findAllBySavedLineId(LINE_ID))
+                .willReturn(List.of(kept, inserted));
+
+        savedApprovalLineService.updatePersonalLine(
+                USER_ID,
+                LINE_ID,
+                request(
+                        userDetail(ApprovalRouteRole.APPROVAL_LINE, 10L),
+                        departmentDetail(ApprovalRouteRole.RECEIVER_DEPARTMENT, 3L)));
+
+        assertThat(kept.getSequenceNo()).isEqualTo(1);
+        assertThat(kept.getTargetNameSnapshot()).isEqualTo("[충남사업본부] 결재자 (대표이사)");
+        verify(savedApprovalLineDetailRepository).deleteAllInBatch(List.of(dropped));
+        ArgumentCaptor<List<Object[]>> rows = insertedRows();
+        assertThat(rows.getValue()).hasSize(1);
+        assertThat(rows.getValue().get(0))
+                .containsExactly(
+                        LINE_ID,
+                        "RECEIVER_DEPARTMENT",
+                        "DEPARTMENT",
+                        null,
+                        3L,
+                        "[충남사업본부]",
+                        2,
+                        true,
+                        rows.getValue().get(0)[8],
+                        rows.getValue().get(0)[9]);
+        assertThat(line.getDetails()).containsExactly(kept, inserted);
+        verify(eventPublisher).publishEvent(SavedApprovalLineChangedEvent.personal(USER_ID));
+    }
+
+    @Test
+    @DisplayName("새 상세가 없으면 INSERT 없이 지운 상세만 컬렉션에서 뺀다")
+    void updatePersonalLine_onlyRemovals_skipsInsertAndReload() {
+        SavedApprovalLineDetail kept = detail(1001L, ApprovalRouteRole.APPROVAL_LINE, approver, 1);
+        SavedApprovalLineDetail dropped = detail(1002L, ApprovalRouteRole.REFERENCE, reviewer, 2);
+        line.getDetails().addAll(List.of(kept, dropped));
+        given(savedApprovalLineRepository.findWithDetailsById(LINE_ID))
+                .willReturn(Optional.of(line));
+        given(userRepository.findAllByIdInWithDepartment(Set.of(10L)))
+                .willReturn(List.of(approver));
+
+        savedApprovalLineService.updatePersonalLine(
+                USER_ID, LINE_ID, request(userDetail(ApprovalRouteRole.APPROVAL_LINE, 10L)));
+
+        verify(savedApprovalLineDetailRepository).deleteAllInBatch(List.of(dropped));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), any(int[].class));
+        verify(savedApprovalLineDetailRepository, never()).findAllBySavedLineId(any());
+        assertThat(line.getDetails()).containsExactly(kept);
+    }
+
+    @Test
+    @DisplayName("같은 대상이 중복되면 기존 상세 하나만 재사용하고 나머지는 새로 넣는다")
+    void updatePersonalLine_duplicateTarget_reusesOnce() {
+        SavedApprovalLineDetail kept = detail(1001L, ApprovalRouteRole.APPROVAL_LINE, approver, 1);
+        line.getDetails().add(kept);
+        given(savedApprovalLineRepository.findWithDetailsById(LINE_ID))
+                .willReturn(Optional.of(line));
+        given(userRepository.findAllByIdInWithDepartment(Set.of(10L)))
+                .willReturn(List.of(approver));
+
+        savedApprovalLineService.updatePersonalLine(
+                USER_ID,
+                LINE_ID,
+                request(
+                        userDetail(ApprovalRouteRole.APPROVAL_LINE, 10L),
+                        userDetail(ApprovalRouteRole.APPROVAL_LINE, 10L)));
+
+        verify(savedApprovalLineDetailRepository, never()).deleteAllInBatch(anyList());
+        assertThat(insertedRows().getValue()).hasSize(1);
+        verify(savedApprovalLineDetailRepository).findAllBySavedLineId(LINE_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Object[]>> insertedRows() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture(), any(int[].class));
+        return captor;
+    }
+
+    private SavedApprovalLineDetail detail(
+            Long id, ApprovalRouteRole role, User targetUser, int sequenceNo) {
+        return SavedApprovalLineDetail.builder()
+                .id(id)
+                .savedLine(line)
+                .role(role)
+                .targetType(ApprovalTargetType.USER)
+                .targetUser(targetUser)
+                .targetNameSnapshot("이전 표시명")
+                .sequenceNo(sequenceNo)
+                .build();
+    }
+
+    private SavedPersonalApprovalLineUpsertRequestDto request(
+            SavedApprovalLineDetailRequestDto... details) {
+        SavedPersonalApprovalLineUpsertRequestDto request =
+                new SavedPersonalApprovalLineUpsertRequestDto();
+        request.setLineName("기본 결재선");
+        request.setApprovalType(ApprovalType.INTERNAL);
+        request.setLines(List.of(details));
+        return request;
+    }
+
+    private SavedApprovalLineDetailRequestDto userDetail(ApprovalRouteRole role, Long userId) {
+        SavedApprovalLineDetailRequestDto detail = new SavedApprovalLineDetailRequestDto();
+        detail.setRole(role);
+        detail.setTargetType(ApprovalTargetType.USER);
+        detail.setTargetUserId(userId);
+        detail.setRequired(true);
+        return detail;
+    }
+
+    private SavedApprovalLineDetailRequestDto departmentDetail(
+            ApprovalRouteRole role, Long departmentId) {
+        SavedApprovalLineDetailRequestDto detail = new SavedApprovalLineDetailRequestDto();
+        detail.setRole(role);
+        detail.setTargetType(ApprovalTargetType.DEPARTMENT);
+        detail.setTargetDepartmentId(departmentId);
+        detail.setRequired(true);
+        return detail;
+    }
+}
@@ -24,11 +24,13 @@ import kr.co.awesomelead.groupware_backend.domain.auth.dto.request.ResetPassword
 import kr.co.awesomelead.groupware_backend.domain.auth.dto.request.SignupRequestDto;
 import kr.co.awesomelead.groupware_backend.domain.auth.dto.response.LoginResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.auth.dto.response.SignupResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.auth.entity.RefreshToken;
 import kr.co.awesomelead.groupware_backend.domain.auth.service.AuthService;
 import kr.co.awesomelead.groupware_backend.domain.auth.service.EmailAuthService;
 import kr.co.awesomelead.groupware_backend.domain.auth.service.RefreshTokenService;
 import kr.co.awesomelead.groupware_backend.domain.auth.util.JWTUtil;
 import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTokenService;
 import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
 import kr.co.awesomelead.groupware_backend.domain.safetytraining.repository.SafetyTrainingSessionRepository;
 import kr.co.awesomelead.groupware_backend.domain.user.dto.response.MyInfoAuthorityItemDto;
@@ -82,6 +84,7 @@ class AuthServiceTest {
     @Mock private RefreshTokenService refreshTokenService;
     @Mock private EntityManager entityManager;
     @Mock private SafetyTrainingSessionRepository safetyTrainingSessionRepository;
+    @Mock private FcmTokenService fcmTokenService;
 
     @InjectMocks private AuthService authService;
 
@@ -2208,4 +2211,60 @@ class AuthServiceTest {
                     .isEqualTo(deleteRequestHistoryIdx - 1);
         }
     }
+
+    @Nested
+    @DisplayName("로그아웃")
+    class LogoutTest {
+
+        private static final String REFRESH_TOKEN = "refresh-token";
+
+        @BeforeEach
+        void setUp() {
+            given(refreshTokenService.validateRefreshToken(REFRESH_TOKEN))
+                    .willReturn(
+                            RefreshToken.builder()
+                                    .email(TEST_EMAIL)
+                                    .tokenValue(REFRESH_TOKEN)
+                                    .build());
+        }
+
+        @Test
+        @DisplayName("성공: FCM 토큰을 함께 보내면 해당 기기의 토큰도 삭제한다")
+        void logout_withFcmToken_deletesDeviceToken() {
+            // given
+            given(userRepository.findByEmail(TEST_EMAIL)).willReturn(Optional.of(testUser));
+
+            // when
+            authService.logout(TEST_EMAIL, REFRESH_TOKEN, "fcm-token");
+
+            // then
+            verify(refreshTokenService).deleteRefreshToken(REFRESH_TOKEN);
+            verify(fcmTokenService).deleteTokenOnLogout(1L, "fcm-token");
+        }
+
+        @Test
+        @DisplayName("성공: FCM 토큰이 없으면 리프레시 토큰만 삭제한다")
+        void logout_withoutFcmToken_keepsDeviceTokens() {
+            // when
+            authService.logout(TEST_EMAIL, REFRESH_TOKEN, " ");
+
+            // then
+            verify(refreshTokenService).deleteRefreshToken(REFRESH_TOKEN);
+            verify(userRepository, never()).findByEmail(anyString());
+            verify(fcmTokenService, never()).deleteTokenOnLogout(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("실패: 리프레시 토큰의 이메일이 다르면 아무것도 삭제하지 않는다")
+        void logout_emailMismatch_throws() {
+            // when & then
+            CustomException exception =
+                    assertThrows(
+                            CustomException.class,
+                            () -> authService.logout("other@example.com", REFRESH_TOKEN, "fcm"));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_MISMATCH);
+            verify(refreshTokenService, never()).deleteRefreshToken(anyString());
+            verify(fcmTokenService, never()).deleteTokenOnLogout(anyLong(), anyString());
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package kr.co.awesomelead.groupware_backend.domain.department;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.department.entity.DepartmentClosure;
+import kr.co.awesomelead.groupware_backend.domain.department.event.DepartmentClosureChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentClosureRepository;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+import kr.co.awesomelead.groupware_backend.domain.department.service.DepartmentClosureService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentClosureServiceTest {
+
+    @InjectMocks private DepartmentClosureService departmentClosureService;
+
+    @Mock private DepartmentRepository departmentRepository;
+
+    @Mock private DepartmentClosureRepository departmentClosureRepository;
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("closure 최초 계산 - 자기 자신(depth 0)과 모든 상위 부서 쌍을 생성한다")
+    void rebuild_CreatesAllAncestorPairs() {
+        // given: 1 - 5 - (10, 11)
+        given(departmentRepository.findAllParentLinks())
+                .willReturn(
+                        List.of(
+                                new Link(1L, null),
+                                new Link(5L, 1L),
+                                new Link(10L, 5L),
+                                new Link(11L, 5L)));
+        given(departmentClosureRepository.findAll()).willReturn(List.of());
+
+        // when
+        departmentClosureService.rebuild();
+
+        // then
+        List<DepartmentClosure> saved = captureSaved();
+        assertThat(saved)
+                .extracting(
+                        DepartmentClosure::getAncestorId,
+                        DepartmentClosure::getDescendantId,
+                        DepartmentClosure::getDepth)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 1L, 0),
+                        tuple(5L, 5L, 0),
+                        tuple(10L, 10L, 0),
+                        tuple(11L, 11L, 0),
+                        tuple(1L, 5L, 1),
+                        tuple(5L, 10L, 1),
+                        tuple(5L, 11L, 1),
+                        tuple(1L, 10L, 2),
+                        tuple(1L, 11L, 2));
+        verify(departmentClosureRepository, never()).deleteAllInBatch(anyList());
+        verify(eventPublisher)
+                .publishEvent(
+                        new DepartmentClosureChangedEvent(
+                                Set.of(1L, 5L, 10L, 11L), Set.of(1L, 5L, 10L, 11L)));
+    }
+
+    @Test
+    @DisplayName("closure 재계산 - 사라진 쌍은 삭제하고 깊이가 바뀐 쌍만 갱신한다")
+    void rebuild_AppliesOnlyDifferences() {
+        // given: 10 이 1 바로 아래로 이동했고, 99 는 삭제된 부서
+        given(departmentRepository.findAllParentLinks())
+                .willReturn(List.of(new Link(1L, null), new Link(10L, 1L)));
+        DepartmentClosure root = closure(1L, 1L, 0);
+        DepartmentClosure self = closure(10L, 10L, 0);
+        DepartmentClosure moved = closure(1L, 10L, 2);
+        DepartmentClosure removed = closure(1L, 99L, 1);
+        given(departmentClosureRepository.findAll())
+                .willReturn(List.of(root, self, moved, removed));
+
+        // when
+        departmentClosureService.rebuild();
+
+        // then
+        assertThat(moved.getDepth()).isEqualTo(1);
+        verify(departmentClosureRepository).deleteAllInBatch(List.of(removed));
+        assertThat(captureSaved()).isEmpty();
+        verify(eventPublisher)
+                .publishEvent(new DepartmentClosureChangedEvent(Set.of(99L), Set.of(1L)));
+    }
+
+    @Test
+    @DisplayName("closure 재계산 - 바뀐 쌍이 없으면 변경 이벤트를 발행하지 않는다")
+    void rebuild_NoChange_PublishesNothing() {
+        // given
+        given(departmentRepository.findAllParentLinks())
+                .willReturn(List.of(new Link(1L, null), new Link(10L, 1L)));
+        given(departmentClosureRepository.findAll())
+                .willReturn(
+                        List.of(closure(1L, 1L, 0), closure(10L, 10L, 0), closure(1L, 10L, 1)));
+
+        // when
+        departmentClosureService.rebuild();
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DepartmentClosure> captureSaved() {
+        ArgumentCaptor<List<DepartmentClosure>> captor = ArgumentCaptor.forClass(List.class);
+        verify(departmentClosureRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private DepartmentClosure closure(Long ancestorId, Long descendantId, int depth) {
+        return DepartmentClosure.builder()
+                .ancestorId(ancestorId)
+                .descendantId(descendantId)
+                .depth(depth)
+                .build();
+    }
+
+    private record Link(Long getId, Long getParentId)
+            implements DepartmentRepository.DepartmentParentLink {}
+}
@@ -0,0 +1,69 @@
+package kr.co.awesomelead.groupware_backend.domain.department;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.entity.DepartmentEntityListener;
+import kr.co.awesomelead.groupware_backend.domain.department.event.DepartmentHierarchyChangedEvent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentEntityListenerTest {
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks private DepartmentEntityListener departmentEntityListener;
+
+    @Test
+    @DisplayName("상위 부서가 바뀐 수정이면 계층 변경 이벤트를 발행한다")
+    void onUpdate_ParentChanged_Publishes() {
+        // given
+        Department department = Department.builder().id(10L).build();
+        department.setParent(Department.builder().id(1L).build());
+
+        // when
+        departmentEntityListener.onUpdate(department);
+
+        // then
+        verify(eventPublisher).publishEvent(new DepartmentHierarchyChangedEvent());
+    }
+
+    @Test
+    @DisplayName("상위 부서가 그대로인 수정이면 closure 를 다시 계산하지 않는다")
+    void onUpdate_SameParent_Skips() {
+        // given
+        Department parent = Department.builder().id(1L).build();
+        Department department = Department.builder().id(10L).parent(parent).build();
+        department.setParent(Department.builder().id(1L).build());
+
+        // when
+        departmentEntityListener.onUpdate(department);
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("한 번 반영한 상위 부서 변경은 다음 수정에서 다시 발행하지 않는다")
+    void onUpdate_ChangeConsumedOnce() {
+        // given
+        Department department = Department.builder().id(10L).build();
+        department.setParent(Department.builder().id(1L).build());
+        departmentEntityListener.onUpdate(department);
+
+        // when
+        departmentEntityListener.onUpdate(department);
+
+        // then
+        verify(eventPublisher).publishEvent(new DepartmentHierarchyChangedEvent());
+    }
+}
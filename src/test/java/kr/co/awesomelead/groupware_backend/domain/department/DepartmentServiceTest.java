@@ -17,6 +17,7 @@ import kr.co.awesomelead.groupware_backend.domain.department.dto.response.UserSu
 import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
 import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
 import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentClosureRepository;
 import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
 import kr.co.awesomelead.groupware_backend.domain.department.service.DepartmentService;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
@@ -45,6 +46,8 @@ public class DepartmentServiceTest {
 
     @Mock private DepartmentRepository departmentRepository;
 
+    @Mock private DepartmentClosureRepository departmentClosureRepository;
+
     @Mock private UserRepository userRepository;
 
     @Mock private UserMapper userMapper;
@@ -125,6 +128,7 @@ public class DepartmentServiceTest {
         given(departmentRepository.findById(targetId)).willReturn(Optional.of(awesomeProdDept));
 
         List<Long> expectedIds = List.of(5L, 10L, 11L);
+        given(departmentClosureRepository.findDescendantIds(targetId)).willReturn(expectedIds);
         given(
                         userRepository.findAllByDepartmentIdIn(
                                 argThat(list -> list.containsAll(expectedIds))))
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -37,6 +38,9 @@ import kr.co.awesomelead.groupware_backend.domain.education.repository.EduReport
 import kr.co.awesomelead.groupware_backend.domain.education.repository.EduReportRepository;
 import kr.co.awesomelead.groupware_backend.domain.education.repository.EducationCategoryRepository;
 import kr.co.awesomelead.groupware_backend.domain.education.service.EduReportService;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.NotificationAudience;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
 import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 import kr.co.awesomelead.groupware_backend.domain.user.enums.Authority;
@@ -191,9 +195,17 @@ public class EduReportServiceTest {
         assertThat(savedReport.getTitle()).isEqualTo("교육 보고서 제목");
         assertThat(savedReport.getContent()).isEqualTo("교육 보고서 내용");
 
+        // 안전교육은 수신자별 알림 대신 브로드캐스트 알림 한 건으로 저장된다
         verify(notificationService, times(1))
-                .sendEduReportAlertToTargets(
-                        anyString(), anyString(), anyLong(), any(), any(Map.class));
+                .sendBroadcastAlert(
+                        any(NotificationAudience.class),
+                        any(),
+                        eq(NotificationMessage.EDU_REPORT_CREATED),
+                        eq(NotificationDomainType.EDUCATION),
+                        anyLong(),
+                        any(Map.class),
+                        anyString(),
+                        anyString());
     }
 
     @Test
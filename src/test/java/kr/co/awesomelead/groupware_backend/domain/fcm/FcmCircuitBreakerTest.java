@@ -0,0 +1,59 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmCircuitBreaker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+class FcmCircuitBreakerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FcmCircuitBreaker fcmCircuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fcmCircuitBreaker = new FcmCircuitBreaker(meterRegistry);
+        ReflectionTestUtils.setField(fcmCircuitBreaker, "openDuration", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(fcmCircuitBreaker, "maxOpenDuration", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("QUOTA_EXCEEDED 를 받으면 발송을 차단한다")
+    void recordFailure_quotaExceeded_opens() {
+        fcmCircuitBreaker.recordFailure(MessagingErrorCode.QUOTA_EXCEEDED);
+
+        assertThat(fcmCircuitBreaker.isOpen()).isTrue();
+        assertThat(meterRegistry.get("fcm.circuit.open").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("fcm.circuit.trips").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("차단 대상이 아닌 오류는 무시한다")
+    void recordFailure_otherCodes_staysClosed() {
+        fcmCircuitBreaker.recordFailure(MessagingErrorCode.INTERNAL);
+        fcmCircuitBreaker.recordFailure(MessagingErrorCode.UNREGISTERED);
+        fcmCircuitBreaker.recordFailure(null);
+
+        assertThat(fcmCircuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("차단 중에 다시 들어온 오류는 차단 시간을 늘리지 않는다")
+    void recordFailure_whileOpen_countsOnce() {
+        fcmCircuitBreaker.recordFailure(MessagingErrorCode.UNAVAILABLE);
+        fcmCircuitBreaker.recordFailure(MessagingErrorCode.QUOTA_EXCEEDED);
+
+        assertThat(meterRegistry.find("fcm.circuit.trips").counters()).hasSize(1);
+    }
+}
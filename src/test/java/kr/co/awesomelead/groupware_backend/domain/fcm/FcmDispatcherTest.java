@@ -0,0 +1,174 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.entity.FcmToken;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGatewayException;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmCircuitBreaker;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmDispatcher;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmService;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+@ExtendWith(MockitoExtension.class)
+class FcmDispatcherTest {
+
+    @Mock private FcmTokenRepository fcmTokenRepository;
+    @Mock private FcmService fcmService;
+    @Mock private FcmCircuitBreaker fcmCircuitBreaker;
+
+    @InjectMocks private FcmDispatcher fcmDispatcher;
+
+    @Test
+    @DisplayName("같은 내용의 발송 요청은 토큰 조회 한 번, 멀티캐스트 한 번으로 묶인다")
+    void dispatch_groupsIdenticalPayloads() throws PushGatewayException {
+        Map<String, String> data = Map.of("domainType", "NOTICE");
+        Map<Long, FcmSendEvent> events = new LinkedHashMap<>();
+        events.put(10L, new FcmSendEvent(1L, "공지", "내용", data));
+        events.put(11L, new FcmSendEvent(2L, "공지", "내용", data));
+        events.put(12L, new FcmSendEvent(3L, "결재", "내용", Map.of()));
+        List<FcmToken> tokens =
+                List.of(token(1L, "token-1"), token(2L, "token-2"), token(3L, "token-3"));
+        when(fcmTokenRepository.findAllByUserIdIn(List.of(1L, 2L, 3L))).thenReturn(tokens);
+
+        Map<Long, String> failures = fcmDispatcher.dispatch(events);
+
+        assertThat(failures).isEmpty();
+        verify(fcmTokenRepository, times(1)).findAllByUserIdIn(any());
+        verify(fcmService).sendMulticast(List.of("token-1", "token-2"), "공지", "내용", data);
+        verify(fcmService).sendMulticast(List.of("token-3"), "결재", "내용", Map.of());
+    }
+
+    @Test
+    @DisplayName("토큰이 500개를 넘으면 500개씩 나눠 발송한다")
+    void dispatch_splitsIntoMulticastChunks() throws PushGatewayException {
+        Map<Long, FcmSendEvent> events = new LinkedHashMap<>();
+        List<FcmToken> tokens = new ArrayList<>();
+        LongStream.rangeClosed(1, 1100)
+                .forEach(
+                        userId -> {
+                            events.put(userId, new FcmSendEvent(userId, "공지", "내용", null));
+                            tokens.add(token(userId, "token-" + userId));
+                        });
+        when(fcmTokenRepository.findAllByUserIdIn(anyList()))
+                .thenReturn(tokens.subList(0, 1000), tokens.subList(1000, 1100));
+
+        fcmDispatcher.dispatch(events);
+
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fcmService, times(3))
+                .sendMulticast(captor.capture(), eq("공지"), eq("내용"), isNull());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(500, 500, 100);
+    }
+
+    @Test
+    @DisplayName("멀티캐스트가 실패하면 그 묶음에 담긴 요청만 실패로 돌려준다")
+    void dispatch_returnsFailuresOfFailedMulticastOnly() throws PushGatewayException {
+        Map<Long, FcmSendEvent> events = new LinkedHashMap<>();
+        events.put(10L, new FcmSendEvent(1L, "공지", "내용", null));
+        events.put(11L, new FcmSendEvent(2L, "결재", "내용", null));
+        events.put(12L, new FcmSendEvent(3L, "결재", "내용", null));
+        List<FcmToken> tokens = List.of(token(1L, "token-1"), token(2L, "token-2"));
+        when(fcmTokenRepository.findAllByUserIdIn(anyList())).thenReturn(tokens);
+        doThrow(new PushGatewayException(MessagingErrorCode.UNAVAILABLE, "UNAVAILABLE"))
+                .when(fcmService)
+                .sendMulticast(eq(List.of("token-2")), eq("결재"), eq("내용"), isNull());
+
+        Map<Long, String> failures = fcmDispatcher.dispatch(events);
+
+        // 토큰이 없는 유저(3L)는 보낼 대상이 없으므로 성공으로 본다.
+        assertThat(failures).containsOnlyKeys(11L);
+        assertThat(failures.get(11L)).isEqualTo("UNAVAILABLE");
+    }
+
+    @Test
+    @DisplayName("일시적인 오류로 실패한 토큰이 있는 요청만 실패로 돌려준다")
+    void dispatch_returnsFailuresOfRetryableTokens() throws PushGatewayException {
+        Map<Long, FcmSendEvent> events = new LinkedHashMap<>();
+        events.put(10L, new FcmSendEvent(1L, "공지", "내용", null));
+        events.put(11L, new FcmSendEvent(2L, "공지", "내용", null));
+        List<FcmToken> tokens =
+                List.of(token(1L, "token-1"), token(2L, "token-2a"), token(2L, "token-2b"));
+        when(fcmTokenRepository.findAllByUserIdIn(anyList())).thenReturn(tokens);
+        when(fcmService.sendMulticast(anyList(), eq("공지"), eq("내용"), isNull()))
+                .thenReturn(List.of("token-2b"));
+
+        Map<Long, String> failures = fcmDispatcher.dispatch(events);
+
+        assertThat(failures).containsOnlyKeys(11L);
+    }
+
+    @Test
+    @DisplayName("차단기가 열려 있으면 FCM 을 호출하지 않고 모두 실패로 돌려준다")
+    void dispatch_circuitOpen_failsWithoutSending() throws PushGatewayException {
+        Map<Long, FcmSendEvent> events = new LinkedHashMap<>();
+        events.put(10L, new FcmSendEvent(1L, "공지", "내용", null));
+        List<FcmToken> tokens = List.of(token(1L, "token-1"));
+        when(fcmTokenRepository.findAllByUserIdIn(anyList())).thenReturn(tokens);
+        when(fcmCircuitBreaker.isOpen()).thenReturn(true);
+
+        Map<Long, String> failures = fcmDispatcher.dispatch(events);
+
+        assertThat(failures).containsOnlyKeys(10L);
+        verify(fcmService, times(0)).sendMulticast(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("토픽 대상 요청은 토큰 조회 없이 토픽 메시지로 보낸다")
+    void dispatch_topicEvents_sendToTopicWithoutTokenLookup() throws PushGatewayException {
+        Map<Long, FcmSendEvent> events = new LinkedHashMap<>();
+        events.put(10L, FcmSendEvent.toTopic("company-AWESOME", "공지", "내용", null));
+        events.put(11L, FcmSendEvent.toTopic("department-3", "교육", "내용", null));
+        doThrow(new PushGatewayException(MessagingErrorCode.INTERNAL, "INTERNAL"))
+                .when(fcmService)
+                .sendTopicMessage("department-3", "교육", "내용", null);
+
+        Map<Long, String> failures = fcmDispatcher.dispatch(events);
+
+        assertThat(failures).containsOnlyKeys(11L);
+        verify(fcmService).sendTopicMessage("company-AWESOME", "공지", "내용", null);
+        verify(fcmTokenRepository, times(0)).findAllByUserIdIn(any());
+    }
+
+    @Test
+    @DisplayName("요청이 없으면 아무것도 하지 않는다")
+    void dispatch_emptyEvents_doesNothing() {
+        assertThat(fcmDispatcher.dispatch(Map.of())).isEmpty();
+        verify(fcmTokenRepository, times(0)).findAllByUserIdIn(any());
+    }
+
+    private FcmToken token(Long userId, String value) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(userId);
+        FcmToken token = mock(FcmToken.class);
+        when(token.getUser()).thenReturn(user);
+        when(token.getToken()).thenReturn(value);
+        return token;
+    }
+}
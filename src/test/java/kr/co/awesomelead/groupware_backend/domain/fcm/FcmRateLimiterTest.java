@@ -0,0 +1,75 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmRateLimiter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+class FcmRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FcmRateLimiter fcmRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fcmRateLimiter = new FcmRateLimiter(meterRegistry);
+        ReflectionTestUtils.setField(fcmRateLimiter, "messagesPerSecond", 100.0);
+    }
+
+    @Test
+    @DisplayName("시작 시점에는 1초 분량까지 기다리지 않고 꺼내 간다")
+    void acquire_withinBucket_doesNotWait() {
+        fcmRateLimiter.acquire(60);
+        fcmRateLimiter.acquire(40);
+
+        assertThat(waitTimer().count()).isEqualTo(2);
+        assertThat(waitTimer().max(TimeUnit.MILLISECONDS)).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷이 모자라면 모자란 만큼 설정 속도로 채워질 때까지 기다린다")
+    void acquire_beyondBucket_waitsForRefill() {
+        fcmRateLimiter.acquire(100);
+
+        long started = System.nanoTime();
+        fcmRateLimiter.acquire(20);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // 20개 / 초당 100개 = 약 200ms. 첫 호출 이후 흐른 시간만큼은 이미 채워져 있다.
+        assertThat(waitTimer().max(TimeUnit.MILLISECONDS)).isBetween(100.0, 200.0);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("한도보다 큰 요청도 빚을 지고 보내며 다음 호출이 그만큼 더 기다린다")
+    void acquire_largerThanBucket_borrows() {
+        fcmRateLimiter.acquire(150);
+
+        assertThat(waitTimer().max(TimeUnit.MILLISECONDS)).isBetween(400.0, 500.0);
+    }
+
+    @Test
+    @DisplayName("0 이하로 설정하면 제한하지 않는다")
+    void acquire_disabled_neverWaits() {
+        ReflectionTestUtils.setField(fcmRateLimiter, "messagesPerSecond", 0.0);
+
+        fcmRateLimiter.acquire(100_000);
+        fcmRateLimiter.acquire(100_000);
+
+        assertThat(waitTimer().max(TimeUnit.MILLISECONDS)).isZero();
+    }
+
+    private Timer waitTimer() {
+        return meterRegistry.get("fcm.rate_limit.wait").timer();
+    }
+}
@@ -1,5 +1,7 @@
 package kr.co.awesomelead.groupware_backend.domain.fcm;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -15,8 +17,16 @@ import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.SendResponse;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import kr.co.awesomelead.groupware_backend.domain.fcm.entity.FcmToken;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.FirebasePushGateway;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGateway;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGatewayException;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushResult;
 import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmCircuitBreaker;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmRateLimiter;
 import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmService;
 import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTokenService;
 
@@ -53,7 +63,13 @@ class FcmServiceTest {
         @Bean
         public FcmService fcmService(
                 FcmTokenRepository fcmTokenRepository, FcmTokenService fcmTokenService) {
-            return new FcmService(fcmTokenRepository, fcmTokenService);
+            return new FcmService(
+                    fcmTokenRepository,
+                    fcmTokenService,
+                    new FirebasePushGateway(),
+                    mock(FcmRateLimiter.class),
+                    mock(FcmCircuitBreaker.class),
+                    new SimpleMeterRegistry());
         }
     }
 
@@ -72,7 +88,7 @@ class FcmServiceTest {
 
     @Test
     @DisplayName("sendToTopic - 첫 번째 시도 성공 시 재시도 없음")
-    void sendToTopic_noRetry_whenSuccess() throws FirebaseMessagingException {
+    void sendToTopic_noRetry_whenSuccess() throws Exception {
         FirebaseMessaging mockMessaging = mock(FirebaseMessaging.class);
         when(mockMessaging.send(any())).thenReturn("msg-id-ok");
 
@@ -87,7 +103,7 @@ class FcmServiceTest {
 
     @Test
     @DisplayName("sendToTopic - FirebaseMessagingException 발생 시 최대 3회 재시도 후 @Recover 호출")
-    void sendToTopic_retriesThreeTimes_thenRecovers() throws FirebaseMessagingException {
+    void sendToTopic_retriesThreeTimes_thenRecovers() throws Exception {
         FirebaseMessaging mockMessaging = mock(FirebaseMessaging.class);
         FirebaseMessagingException mockException = mock(FirebaseMessagingException.class);
         when(mockMessaging.send(any())).thenThrow(mockException);
@@ -104,7 +120,7 @@ class FcmServiceTest {
 
     @Test
     @DisplayName("sendToTopic - 두 번째 시도에서 성공 시 1번만 재시도")
-    void sendToTopic_succeedsOnSecondAttempt() throws FirebaseMessagingException {
+    void sendToTopic_succeedsOnSecondAttempt() throws Exception {
         FirebaseMessaging mockMessaging = mock(FirebaseMessaging.class);
         FirebaseMessagingException mockException = mock(FirebaseMessagingException.class);
         when(mockMessaging.send(any())).thenThrow(mockException).thenReturn("msg-id-ok");
@@ -122,7 +138,7 @@ class FcmServiceTest {
 
     @Test
     @DisplayName("sendToUser - 등록된 FCM 토큰이 없으면 Firebase 호출 없음")
-    void sendToUser_skips_whenNoTokens() throws FirebaseMessagingException {
+    void sendToUser_skips_whenNoTokens() throws Exception {
         when(fcmTokenRepository.findAllByUserId(1L)).thenReturn(List.of());
 
         try (MockedStatic<FirebaseMessaging> staticMock = mockStatic(FirebaseMessaging.class)) {
@@ -134,7 +150,7 @@ class FcmServiceTest {
 
     @Test
     @DisplayName("sendToUser - FirebaseMessagingException 발생 시 최대 3회 재시도 후 @Recover 호출")
-    void sendToUser_retriesThreeTimes_thenRecovers() throws FirebaseMessagingException {
+    void sendToUser_retriesThreeTimes_thenRecovers() throws Exception {
         FcmToken mockToken = mock(FcmToken.class);
         when(mockToken.getToken()).thenReturn("device-token-abc");
         when(fcmTokenRepository.findAllByUserId(1L)).thenReturn(List.of(mockToken));
@@ -154,7 +170,7 @@ class FcmServiceTest {
 
     @Test
     @DisplayName("sendToUser - 발송 결과에 UNREGISTERED 토큰이 있으면 해당 토큰만 삭제")
-    void sendToUser_deletesToken_whenUnregistered() throws FirebaseMessagingException {
+    void sendToUser_deletesToken_whenUnregistered() throws Exception {
         String tokenValue = "device-token-abc";
         FcmToken mockToken = mock(FcmToken.class);
         when(mockToken.getToken()).thenReturn(tokenValue);
@@ -186,8 +202,7 @@ class FcmServiceTest {
 
     @Test
     @DisplayName("sendToUser - 발송 결과에 UNREGISTERED 외 에러가 있으면 토큰 삭제 안 함")
-    void sendToUser_doesNotDeleteToken_whenNonUnregisteredError()
-            throws FirebaseMessagingException {
+    void sendToUser_doesNotDeleteToken_whenNonUnregisteredError() throws Exception {
         String tokenValue = "device-token-abc";
         FcmToken mockToken = mock(FcmToken.class);
         when(mockToken.getToken()).thenReturn(tokenValue);
@@ -219,7 +234,7 @@ class FcmServiceTest {
 
     @Test
     @DisplayName("sendToUser - 첫 번째 시도 성공 시 재시도 없음")
-    void sendToUser_noRetry_whenSuccess() throws FirebaseMessagingException {
+    void sendToUser_noRetry_whenSuccess() throws Exception {
         FcmToken mockToken = mock(FcmToken.class);
         when(mockToken.getToken()).thenReturn("device-token-abc");
         when(fcmTokenRepository.findAllByUserId(1L)).thenReturn(List.of(mockToken));
@@ -238,4 +253,83 @@ class FcmServiceTest {
             verify(mockMessaging, times(1)).sendEachForMulticast(any());
         }
     }
+
+    // ─── sendMulticast ───────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("sendMulticast - 일시적인 오류로 실패한 토큰만 돌려주고 차단 대상 오류를 차단기에 알린다")
+    void sendMulticast_returnsRetryableTokens_andTripsBreaker() throws Exception {
+        List<String> tokens =
+                List.of("token-ok-000000", "token-quota-000", "token-inter-000", "token-bad-000");
+        PushGateway pushGateway = mock(PushGateway.class);
+        when(pushGateway.sendMulticast(tokens, "제목", "내용", null))
+                .thenReturn(
+                        List.of(
+                                PushResult.success(),
+                                PushResult.failure(MessagingErrorCode.QUOTA_EXCEEDED),
+                                PushResult.failure(MessagingErrorCode.INTERNAL),
+                                PushResult.failure(MessagingErrorCode.INVALID_ARGUMENT)));
+        FcmRateLimiter rateLimiter = mock(FcmRateLimiter.class);
+        FcmCircuitBreaker circuitBreaker = mock(FcmCircuitBreaker.class);
+
+        List<String> retryable =
+                multicastService(pushGateway, rateLimiter, circuitBreaker)
+                        .sendMulticast(tokens, "제목", "내용", null);
+
+        assertThat(retryable).containsExactly("token-quota-000", "token-inter-000");
+        verify(rateLimiter).acquire(4);
+        verify(circuitBreaker).recordFailure(MessagingErrorCode.QUOTA_EXCEEDED);
+        verify(circuitBreaker, never()).recordSuccess();
+        verify(fcmTokenService, never()).removeInvalidToken(any());
+    }
+
+    @Test
+    @DisplayName("sendMulticast - 차단 대상 오류가 없으면 차단기에 성공을 알린다")
+    void sendMulticast_withoutTripCodes_recordsSuccess() throws Exception {
+        List<String> tokens = List.of("token-ok-000000", "token-gone-000000");
+        PushGateway pushGateway = mock(PushGateway.class);
+        when(pushGateway.sendMulticast(tokens, "제목", "내용", null))
+                .thenReturn(
+                        List.of(
+                                PushResult.success(),
+                                PushResult.failure(MessagingErrorCode.UNREGISTERED)));
+        FcmCircuitBreaker circuitBreaker = mock(FcmCircuitBreaker.class);
+
+        List<String> retryable =
+                multicastService(pushGateway, mock(FcmRateLimiter.class), circuitBreaker)
+                        .sendMulticast(tokens, "제목", "내용", null);
+
+        assertThat(retryable).isEmpty();
+        verify(circuitBreaker).recordSuccess();
+        verify(circuitBreaker, never()).recordFailure(any());
+        verify(fcmTokenService).removeInvalidToken("token-gone-000000");
+    }
+
+    @Test
+    @DisplayName("sendMulticast - 호출 자체가 실패하면 오류 코드를 차단기에 알리고 예외를 던진다")
+    void sendMulticast_gatewayFailure_recordsFailure() throws Exception {
+        List<String> tokens = List.of("token-ok-000000");
+        PushGateway pushGateway = mock(PushGateway.class);
+        when(pushGateway.sendMulticast(tokens, "제목", "내용", null))
+                .thenThrow(new PushGatewayException(MessagingErrorCode.UNAVAILABLE, "unavailable"));
+        FcmCircuitBreaker circuitBreaker = mock(FcmCircuitBreaker.class);
+
+        FcmService service =
+                multicastService(pushGateway, mock(FcmRateLimiter.class), circuitBreaker);
+
+        assertThatThrownBy(() -> service.sendMulticast(tokens, "제목", "내용", null))
+                .isInstanceOf(PushGatewayException.class);
+        verify(circuitBreaker).recordFailure(MessagingErrorCode.UNAVAILABLE);
+    }
+
+    private FcmService multicastService(
+            PushGateway pushGateway, FcmRateLimiter rateLimiter, FcmCircuitBreaker circuitBreaker) {
+        return new FcmService(
+                fcmTokenRepository,
+                fcmTokenService,
+                pushGateway,
+                rateLimiter,
+                circuitBreaker,
+                new SimpleMeterRegistry());
+    }
 }
@@ -0,0 +1,120 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.entity.FcmToken;
+import kr.co.awesomelead.groupware_backend.domain.fcm.enums.DeviceType;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmTopicSyncEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmTopicUnsubscribeEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTokenService;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTopicService;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class FcmTokenServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock private FcmTokenRepository fcmTokenRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private FcmTopicService fcmTopicService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks private FcmTokenService fcmTokenService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(USER_ID).build();
+    }
+
+    @Test
+    @DisplayName("registerToken - 토큰 값이 바뀌면 이전 토큰의 구독을 해지하고 새 토큰 구독을 요청한다")
+    void registerToken_changedValue_releasesOldTopics() {
+        FcmToken existing = FcmToken.of(user, "old-token", DeviceType.ANDROID);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(fcmTokenRepository.findByUserIdAndDeviceType(USER_ID, DeviceType.ANDROID))
+                .thenReturn(Optional.of(existing));
+        when(fcmTopicService.releaseToken(existing)).thenReturn(List.of("all", "department-3"));
+
+        fcmTokenService.registerToken(USER_ID, "new-token", DeviceType.ANDROID);
+
+        assertThat(existing.getToken()).isEqualTo("new-token");
+        verify(eventPublisher)
+                .publishEvent(
+                        new FcmTopicUnsubscribeEvent("old-token", List.of("all", "department-3")));
+        verify(eventPublisher).publishEvent(new FcmTopicSyncEvent(USER_ID));
+    }
+
+    @Test
+    @DisplayName("registerToken - 같은 토큰을 다시 등록하면 구독을 해지하지 않는다")
+    void registerToken_sameValue_keepsTopics() {
+        FcmToken existing = FcmToken.of(user, "token", DeviceType.ANDROID);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(fcmTokenRepository.findByUserIdAndDeviceType(USER_ID, DeviceType.ANDROID))
+                .thenReturn(Optional.of(existing));
+
+        fcmTokenService.registerToken(USER_ID, "token", DeviceType.ANDROID);
+
+        verify(fcmTopicService, never()).releaseToken(any());
+        verify(eventPublisher, never()).publishEvent(any(FcmTopicUnsubscribeEvent.class));
+        verify(eventPublisher).publishEvent(new FcmTopicSyncEvent(USER_ID));
+    }
+
+    @Test
+    @DisplayName("deleteTokenOnLogout - 본인 토큰이면 구독을 해지하고 삭제한다")
+    void deleteTokenOnLogout_ownToken_deletes() {
+        FcmToken token = FcmToken.of(user, "token", DeviceType.IOS);
+        when(fcmTokenRepository.findByToken("token")).thenReturn(Optional.of(token));
+        when(fcmTopicService.releaseToken(token)).thenReturn(List.of("all"));
+
+        fcmTokenService.deleteTokenOnLogout(USER_ID, "token");
+
+        verify(fcmTokenRepository).delete(token);
+        verify(eventPublisher).publishEvent(new FcmTopicUnsubscribeEvent("token", List.of("all")));
+    }
+
+    @Test
+    @DisplayName("deleteTokenOnLogout - 다른 유저의 토큰이면 건드리지 않는다")
+    void deleteTokenOnLogout_otherUsersToken_ignored() {
+        User other = User.builder().id(2L).build();
+        FcmToken token = FcmToken.of(other, "token", DeviceType.IOS);
+        when(fcmTokenRepository.findByToken("token")).thenReturn(Optional.of(token));
+
+        fcmTokenService.deleteTokenOnLogout(USER_ID, "token");
+
+        verify(fcmTopicService, never()).releaseToken(any());
+        verify(fcmTokenRepository, never()).delete(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("deleteTokenOnLogout - 이미 지워진 토큰이면 아무것도 하지 않는다")
+    void deleteTokenOnLogout_missingToken_ignored() {
+        when(fcmTokenRepository.findByToken("token")).thenReturn(Optional.empty());
+
+        fcmTokenService.deleteTokenOnLogout(USER_ID, "token");
+
+        verify(fcmTokenRepository, never()).delete(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,91 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmCircuitBreaker;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTopicReconciler;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTopicService;
+import kr.co.awesomelead.groupware_backend.global.lock.DistributedLockExecutor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class FcmTopicReconcilerTest {
+
+    @Mock private FcmTokenRepository fcmTokenRepository;
+    @Mock private FcmTopicService fcmTopicService;
+    @Mock private FcmCircuitBreaker fcmCircuitBreaker;
+    @Mock private DistributedLockExecutor distributedLockExecutor;
+
+    @InjectMocks private FcmTopicReconciler fcmTopicReconciler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fcmTopicReconciler, "lockLease", Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("토큰을 가진 모든 유저의 구독을 맞추고, 한 유저가 실패해도 나머지는 계속한다")
+    void reconcile_syncsEveryTokenHolder() {
+        givenLockAcquired();
+        when(fcmTokenRepository.findDistinctUserIds()).thenReturn(List.of(1L, 2L, 3L));
+        doThrow(new IllegalStateException("boom")).when(fcmTopicService).syncUser(2L);
+
+        fcmTopicReconciler.reconcile();
+
+        verify(fcmTopicService).syncUser(1L);
+        verify(fcmTopicService).syncUser(2L);
+        verify(fcmTopicService).syncUser(3L);
+    }
+
+    @Test
+    @DisplayName("FCM 이 차단되면 남은 유저는 다음 실행으로 미룬다")
+    void reconcile_circuitOpen_stops() {
+        givenLockAcquired();
+        when(fcmTokenRepository.findDistinctUserIds()).thenReturn(List.of(1L, 2L));
+        when(fcmCircuitBreaker.isOpen()).thenReturn(false, true);
+
+        fcmTopicReconciler.reconcile();
+
+        verify(fcmTopicService).syncUser(1L);
+        verify(fcmTopicService, never()).syncUser(2L);
+    }
+
+    @Test
+    @DisplayName("락을 잡지 못하면 실행하지 않는다")
+    void reconcile_lockNotAcquired_skips() {
+        when(distributedLockExecutor.executeWithLock(any(), any(), any())).thenReturn(false);
+
+        fcmTopicReconciler.reconcile();
+
+        verify(fcmTokenRepository, never()).findDistinctUserIds();
+        verify(fcmTopicService, never()).syncUser(anyLong());
+    }
+
+    private void givenLockAcquired() {
+        when(distributedLockExecutor.executeWithLock(
+                        eq("fcm:topic-reconcile"), eq(Duration.ofMinutes(30)), any()))
+                .thenAnswer(
+                        inv -> {
+                            inv.<Runnable>getArgument(2).run();
+                            return true;
+                        });
+    }
+}
@@ -0,0 +1,214 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
+import kr.co.awesomelead.groupware_backend.domain.fcm.entity.FcmToken;
+import kr.co.awesomelead.groupware_backend.domain.fcm.entity.Topic;
+import kr.co.awesomelead.groupware_backend.domain.fcm.entity.TopicToken;
+import kr.co.awesomelead.groupware_backend.domain.fcm.enums.DeviceType;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGateway;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.PushGatewayException;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.FcmTokenRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.TopicRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.TopicTokenRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmCircuitBreaker;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmRateLimiter;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmTopicService;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Status;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class FcmTopicServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long TOKEN_ID = 10L;
+    private static final String TOKEN = "device-token";
+
+    @Mock private UserRepository userRepository;
+    @Mock private FcmTokenRepository fcmTokenRepository;
+    @Mock private TopicRepository topicRepository;
+    @Mock private TopicTokenRepository topicTokenRepository;
+    @Mock private PushGateway pushGateway;
+    @Mock private FcmRateLimiter fcmRateLimiter;
+    @Mock private FcmCircuitBreaker fcmCircuitBreaker;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private FcmTopicService fcmTopicService;
+    private User user;
+    private FcmToken fcmToken;
+
+    @BeforeEach
+    void setUp() {
+        fcmTopicService =
+                new FcmTopicService(
+                        userRepository,
+                        fcmTokenRepository,
+                        topicRepository,
+                        topicTokenRepository,
+                        pushGateway,
+                        fcmRateLimiter,
+                        fcmCircuitBreaker,
+                        transactionManager);
+        user =
+                User.builder()
+                        .id(USER_ID)
+                        .status(Status.AVAILABLE)
+                        .workLocation(Company.AWESOME)
+                        .department(Department.builder().id(3L).build())
+                        .build();
+        fcmToken = FcmToken.of(user, TOKEN, DeviceType.ANDROID);
+        ReflectionTestUtils.setField(fcmToken, "id", TOKEN_ID);
+    }
+
+    @Test
+    @DisplayName("syncUser - 빠진 토픽은 구독하고 더 이상 해당하지 않는 토픽은 해지한다")
+    void syncUser_subscribesMissingAndUnsubscribesStale() throws Exception {
+        givenToken(subscription(100L, "all"), subscription(101L, "department-2"));
+        when(fcmTokenRepository.findById(TOKEN_ID)).thenReturn(Optional.of(fcmToken));
+        Topic company = Topic.of("company-AWESOME");
+        when(topicRepository.findByName("company-AWESOME")).thenReturn(Optional.of(company));
+        when(topicRepository.findByName("department-3")).thenReturn(Optional.empty());
+        when(topicRepository.save(any(Topic.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        fcmTopicService.syncUser(USER_ID);
+
+        verify(pushGateway).subscribeToTopic(List.of(TOKEN), "company-AWESOME");
+        verify(pushGateway).subscribeToTopic(List.of(TOKEN), "department-3");
+        verify(pushGateway).unsubscribeFromTopic(List.of(TOKEN), "department-2");
+        verify(pushGateway, never()).subscribeToTopic(anyList(), eq("all"));
+        verify(fcmRateLimiter, times(3)).acquire(1);
+        verify(fcmCircuitBreaker, times(3)).recordSuccess();
+
+        verify(topicTokenRepository).deleteAllById(List.of(101L));
+        ArgumentCaptor<TopicToken> saved = ArgumentCaptor.forClass(TopicToken.class);
+        verify(topicTokenRepository, times(2)).save(saved.capture());
+        assertThat(saved.getAllValues())
+                .extracting(subscription -> subscription.getTopic().getName())
+                .containsExactly("company-AWESOME", "department-3");
+    }
+
+    @Test
+    @DisplayName("syncUser - FCM 호출이 실패한 토픽은 구독 기록을 바꾸지 않는다")
+    void syncUser_gatewayFailure_keepsRecords() throws Exception {
+        user.setDepartment(null);
+        givenToken(subscription(100L, "all"), subscription(101L, "department-2"));
+        doThrow(new PushGatewayException(MessagingErrorCode.QUOTA_EXCEEDED, "quota"))
+                .when(pushGateway)
+                .subscribeToTopic(anyList(), anyString());
+        doThrow(new PushGatewayException(MessagingErrorCode.INTERNAL, "internal"))
+                .when(pushGateway)
+                .unsubscribeFromTopic(anyList(), anyString());
+
+        fcmTopicService.syncUser(USER_ID);
+
+        verify(fcmCircuitBreaker).recordFailure(MessagingErrorCode.QUOTA_EXCEEDED);
+        verify(fcmCircuitBreaker).recordFailure(MessagingErrorCode.INTERNAL);
+        verify(topicTokenRepository, never()).deleteAllById(any());
+        verify(topicTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("syncUser - FCM 이 차단 중이면 호출하지 않고 기록도 바꾸지 않는다")
+    void syncUser_circuitOpen_skipsCalls() throws Exception {
+        givenToken();
+        when(fcmCircuitBreaker.isOpen()).thenReturn(true);
+
+        fcmTopicService.syncUser(USER_ID);
+
+        verify(pushGateway, never()).subscribeToTopic(anyList(), anyString());
+        verify(fcmRateLimiter, never()).acquire(1);
+        verify(topicTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("syncUser - 이미 맞게 구독 중이면 FCM 을 호출하지 않는다")
+    void syncUser_inSync_noCalls() throws Exception {
+        givenToken(
+                subscription(100L, "all"),
+                subscription(101L, "company-AWESOME"),
+                subscription(102L, "department-3"));
+
+        fcmTopicService.syncUser(USER_ID);
+
+        verify(pushGateway, never()).subscribeToTopic(anyList(), anyString());
+        verify(pushGateway, never()).unsubscribeFromTopic(anyList(), anyString());
+        verify(fcmRateLimiter, never()).acquire(1);
+    }
+
+    @Test
+    @DisplayName("syncUser - FCM 호출 사이 토큰이 교체되면 새 구독을 기록하지 않는다")
+    void syncUser_tokenReplacedDuringCall_skipsRecording() throws Exception {
+        user.setWorkLocation(Company.MARUI);
+        user.setDepartment(null);
+        givenToken(subscription(100L, "all"));
+        FcmToken replaced = FcmToken.of(user, "new-token", DeviceType.ANDROID);
+        when(fcmTokenRepository.findById(TOKEN_ID)).thenReturn(Optional.of(replaced));
+
+        fcmTopicService.syncUser(USER_ID);
+
+        verify(pushGateway).subscribeToTopic(List.of(TOKEN), "company-MARUI");
+        verify(topicTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("unsubscribe - 해지 요청도 발송 한도를 거친다")
+    void unsubscribe_goesThroughRateLimiter() throws Exception {
+        fcmTopicService.unsubscribe(TOKEN, List.of("all", "department-3"));
+
+        verify(fcmRateLimiter, times(2)).acquire(1);
+        verify(pushGateway).unsubscribeFromTopic(List.of(TOKEN), "all");
+        verify(pushGateway).unsubscribeFromTopic(List.of(TOKEN), "department-3");
+    }
+
+    @Test
+    @DisplayName("releaseToken - 구독 기록을 지우고 구독하던 토픽을 돌려준다")
+    void releaseToken_deletesRecordsAndReturnsTopics() {
+        List<TopicToken> subscriptions =
+                List.of(subscription(100L, "all"), subscription(101L, "department-3"));
+        when(topicTokenRepository.findAllByTokenId(TOKEN_ID)).thenReturn(subscriptions);
+
+        List<String> topics = fcmTopicService.releaseToken(fcmToken);
+
+        assertThat(topics).containsExactly("all", "department-3");
+        verify(topicTokenRepository).deleteAll(subscriptions);
+    }
+
+    private void givenToken(TopicToken... subscriptions) {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(fcmTokenRepository.findAllByUserId(USER_ID)).thenReturn(List.of(fcmToken));
+        when(topicTokenRepository.findAllByTokenId(TOKEN_ID)).thenReturn(List.of(subscriptions));
+    }
+
+    private TopicToken subscription(Long id, String topicName) {
+        TopicToken subscription = TopicToken.of(fcmToken, Topic.of(topicName));
+        ReflectionTestUtils.setField(subscription, "id", id);
+        return subscription;
+    }
+}
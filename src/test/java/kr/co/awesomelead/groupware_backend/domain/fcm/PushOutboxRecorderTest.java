@@ -0,0 +1,143 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.PushOutboxRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.PushOutboxRecorder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class PushOutboxRecorderTest {
+
+    private static final FcmSendEvent FIRST = new FcmSendEvent(1L, "제목", "내용 1", null);
+    private static final FcmSendEvent SECOND = new FcmSendEvent(2L, "제목", "내용 2", null);
+
+    @Mock private PushOutboxRepository pushOutboxRepository;
+
+    @InjectMocks private PushOutboxRecorder pushOutboxRecorder;
+
+    private final InMemoryTransactionManager transactionManager = new InMemoryTransactionManager();
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 들어온 요청은 바로 기록한다")
+    void record_withoutTransaction_insertsImmediately() {
+        pushOutboxRecorder.record(FIRST);
+
+        verify(pushOutboxRepository).insertAll(List.of(FIRST));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 요청은 모았다가 커밋 직전에 한 번의 batch 로 기록한다")
+    void record_commit_insertsOnceBeforeCommit() {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(
+                        status -> {
+                            pushOutboxRecorder.record(FIRST);
+                            pushOutboxRecorder.record(SECOND);
+                            verify(pushOutboxRepository, never()).insertAll(any());
+                        });
+
+        assertThat(capturedInserts()).containsExactly(List.of(FIRST, SECOND));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 기록하지 않는다")
+    void record_rollback_insertsNothing() {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(
+                        status -> {
+                            pushOutboxRecorder.record(FIRST);
+                            status.setRollbackOnly();
+                        });
+
+        verify(pushOutboxRepository, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("REQUIRES_NEW 로 중첩된 트랜잭션은 자기 요청만 따로 커밋하고 바깥 롤백에 휩쓸리지 않는다")
+    void record_nestedRequiresNew_keepsSeparateBuffer() {
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(
+                        status -> {
+                            pushOutboxRecorder.record(FIRST);
+                            inner.executeWithoutResult(
+                                    innerStatus -> pushOutboxRecorder.record(SECOND));
+                            status.setRollbackOnly();
+                        });
+
+        assertThat(capturedInserts()).containsExactly(List.of(SECOND));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Collection<FcmSendEvent>> capturedInserts() {
+        ArgumentCaptor<Collection<FcmSendEvent>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(pushOutboxRepository, atLeastOnce()).insertAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    /** 자원 없이 트랜잭션 경계와 동기화만 흉내 낸다. REQUIRES_NEW 는 바깥 트랜잭션을 보류했다가 되살린다. */
+    private static class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final Deque<Object> active = new ArrayDeque<>();
+
+        @Override
+        protected Object doGetTransaction() {
+            return active.isEmpty() ? new Object() : active.peek();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return active.contains(transaction);
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            active.push(new Object());
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            return active.pop();
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            active.push(suspendedResources);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {}
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {}
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            active.pop();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.enums.PushOutboxStatus;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.PushOutboxRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.PushOutboxRepository.PushOutboxRow;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmCircuitBreaker;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.FcmDispatcher;
+import kr.co.awesomelead.groupware_backend.domain.fcm.service.PushOutboxRelay;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class PushOutboxRelayTest {
+
+    @Mock private PushOutboxRepository pushOutboxRepository;
+    @Mock private FcmDispatcher fcmDispatcher;
+    @Mock private FcmCircuitBreaker fcmCircuitBreaker;
+
+    private PushOutboxRelay pushOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        pushOutboxRelay =
+                new PushOutboxRelay(
+                        pushOutboxRepository,
+                        fcmDispatcher,
+                        fcmCircuitBreaker,
+                        mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(pushOutboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(pushOutboxRelay, "lease", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(pushOutboxRelay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(pushOutboxRelay, "initialBackoff", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(pushOutboxRelay, "maxBackoff", Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("성공한 행은 삭제하고, 실패한 행은 백오프 후 재시도하도록 미룬다")
+    void relayOnce_deletesSentAndReschedulesFailed() {
+        PushOutboxRow sent = new PushOutboxRow(1L, event(10L), 1);
+        PushOutboxRow failed = new PushOutboxRow(2L, event(20L), 2);
+        when(pushOutboxRepository.claim(eq(100), any())).thenReturn(List.of(sent, failed));
+        when(fcmDispatcher.dispatch(Map.of(1L, sent.event(), 2L, failed.event())))
+                .thenReturn(Map.of(2L, "UNAVAILABLE"));
+
+        LocalDateTime before = LocalDateTime.now();
+        int claimed = pushOutboxRelay.relayOnce();
+
+        assertThat(claimed).isEqualTo(2);
+        verify(pushOutboxRepository).deleteAllByIdIn(List.of(1L));
+        verify(pushOutboxRepository)
+                .reschedule(
+                        eq(2L),
+                        eq(PushOutboxStatus.PENDING),
+                        argThat(next -> !next.isBefore(before.plusSeconds(20))),
+                        eq("UNAVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 행은 DEAD 로 남긴다")
+    void relayOnce_marksDeadAfterMaxAttempts() {
+        PushOutboxRow row = new PushOutboxRow(3L, event(30L), 3);
+        when(pushOutboxRepository.claim(anyInt(), any())).thenReturn(List.of(row));
+        when(fcmDispatcher.dispatch(Map.of(3L, row.event()))).thenReturn(Map.of(3L, "INTERNAL"));
+
+        pushOutboxRelay.relayOnce();
+
+        verify(pushOutboxRepository)
+                .reschedule(eq(3L), eq(PushOutboxStatus.DEAD), any(), eq("INTERNAL"));
+        verify(pushOutboxRepository).deleteAllByIdIn(List.of());
+    }
+
+    @Test
+    @DisplayName("차단돼 보내지 못한 행은 시도 횟수를 세지 않고 차단이 풀리는 시각으로 돌려놓는다")
+    void relayOnce_circuitOpen_releasesWithoutAttempt() {
+        PushOutboxRow sent = new PushOutboxRow(1L, event(10L), 1);
+        PushOutboxRow skipped = new PushOutboxRow(2L, event(20L), 3);
+        LocalDateTime openUntil = LocalDateTime.now().plusMinutes(1);
+        when(pushOutboxRepository.claim(anyInt(), any())).thenReturn(List.of(sent, skipped));
+        when(fcmDispatcher.dispatch(Map.of(1L, sent.event(), 2L, skipped.event())))
+                .thenReturn(Map.of(2L, FcmDispatcher.CIRCUIT_OPEN));
+        when(fcmCircuitBreaker.openUntil()).thenReturn(openUntil);
+
+        pushOutboxRelay.relayOnce();
+
+        verify(pushOutboxRepository).deleteAllByIdIn(List.of(1L));
+        verify(pushOutboxRepository).releaseAll(List.of(2L), openUntil);
+        verify(pushOutboxRepository, never()).reschedule(eq(2L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("가져갈 행이 없으면 발송하지 않는다")
+    void relayOnce_emptyOutbox_doesNothing() {
+        when(pushOutboxRepository.claim(anyInt(), any())).thenReturn(List.of());
+
+        assertThat(pushOutboxRelay.relayOnce()).isZero();
+        verify(fcmDispatcher, times(0)).dispatch(any());
+    }
+
+    private FcmSendEvent event(Long userId) {
+        return new FcmSendEvent(userId, "공지", "내용", null);
+    }
+}
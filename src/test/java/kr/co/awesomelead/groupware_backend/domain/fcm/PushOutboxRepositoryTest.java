@@ -0,0 +1,141 @@
+package kr.co.awesomelead.groupware_backend.domain.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import kr.co.awesomelead.groupware_backend.domain.fcm.enums.PushOutboxStatus;
+import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.PushOutboxRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.repository.PushOutboxRepository.PushOutboxRow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/** 대기열 SQL 을 H2 에서 실행해 본다. 테이블은 PushOutbox 엔티티 정의로 만들어진다. */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PushOutboxRepositoryTest {
+
+    @Autowired private PushOutboxRepository pushOutboxRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("넣은 요청을 가져가면 이번 시도를 센 횟수와 함께 돌려주고 점유 만료 시각까지 다시 가져가지 않는다")
+    void insertAndClaim_leasesRows() {
+        LocalDateTime leaseUntil = LocalDateTime.now().plusMinutes(5).withNano(0);
+        pushOutboxRepository.insertAll(
+                List.of(
+                        new FcmSendEvent(1L, "제목", "내용", Map.of("type", "NOTICE")),
+                        FcmSendEvent.toTopic("all", "공지", "전사 공지", null)));
+
+        List<PushOutboxRow> claimed = pushOutboxRepository.claim(10, leaseUntil);
+
+        assertThat(claimed).hasSize(2);
+        assertThat(claimed).extracting(PushOutboxRow::attempts).containsOnly(1);
+        assertThat(claimed.get(0).event())
+                .isEqualTo(new FcmSendEvent(1L, "제목", "내용", Map.of("type", "NOTICE")));
+        assertThat(claimed.get(1).event().topic()).isEqualTo("all");
+        assertThat(attempts(claimed.get(0).id())).isEqualTo(1);
+        assertThat(nextAttemptAt(claimed.get(0).id())).isEqualTo(leaseUntil);
+        assertThat(pushOutboxRepository.claim(10, leaseUntil)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 번에 limit 건까지만 가져간다")
+    void claim_respectsLimit() {
+        pushOutboxRepository.insertAll(
+                List.of(
+                        new FcmSendEvent(1L, "제목", "내용 1", null),
+                        new FcmSendEvent(2L, "제목", "내용 2", null),
+                        new FcmSendEvent(3L, "제목", "내용 3", null)));
+
+        assertThat(pushOutboxRepository.claim(2, LocalDateTime.now().plusMinutes(5))).hasSize(2);
+        assertThat(pushOutboxRepository.claim(2, LocalDateTime.now().plusMinutes(5))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("보낸 행은 지운다")
+    void deleteAllByIdIn_removesRows() {
+        pushOutboxRepository.insertAll(List.of(new FcmSendEvent(1L, "제목", "내용", null)));
+        PushOutboxRow row = pushOutboxRepository.claim(10, LocalDateTime.now()).get(0);
+
+        pushOutboxRepository.deleteAllByIdIn(List.of(row.id()));
+
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 시각으로 미룬 행은 그때 다시 가져가고, DEAD 로 돌린 행은 가져가지 않는다")
+    void reschedule_retryOrDead() {
+        pushOutboxRepository.insertAll(
+                List.of(
+                        new FcmSendEvent(1L, "제목", "재시도", null),
+                        new FcmSendEvent(2L, "제목", "포기", null)));
+        List<PushOutboxRow> claimed =
+                pushOutboxRepository.claim(10, LocalDateTime.now().plusMinutes(5));
+        LocalDateTime past = LocalDateTime.now().minusSeconds(1);
+
+        pushOutboxRepository.reschedule(
+                claimed.get(0).id(), PushOutboxStatus.PENDING, past, "UNAVAILABLE");
+        pushOutboxRepository.reschedule(
+                claimed.get(1).id(), PushOutboxStatus.DEAD, past, "x".repeat(600));
+
+        List<PushOutboxRow> retried =
+                pushOutboxRepository.claim(10, LocalDateTime.now().plusMinutes(5));
+        assertThat(retried).extracting(PushOutboxRow::id).containsExactly(claimed.get(0).id());
+        assertThat(retried.get(0).attempts()).isEqualTo(2);
+        assertThat(lastError(claimed.get(1).id())).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("돌려놓은 행은 시도 횟수를 늘리지 않고 지정한 시각부터 다시 가져간다")
+    void releaseAll_restoresAttemptsAndDelays() {
+        pushOutboxRepository.insertAll(List.of(new FcmSendEvent(1L, "제목", "내용", null)));
+        PushOutboxRow row =
+                pushOutboxRepository.claim(10, LocalDateTime.now().plusMinutes(5)).get(0);
+        LocalDateTime openUntil = LocalDateTime.now().plusSeconds(30).withNano(0);
+
+        pushOutboxRepository.releaseAll(List.of(row.id()), openUntil);
+
+        assertThat(attempts(row.id())).isZero();
+        assertThat(nextAttemptAt(row.id())).isEqualTo(openUntil);
+        assertThat(pushOutboxRepository.claim(10, LocalDateTime.now().plusMinutes(5))).isEmpty();
+
+        pushOutboxRepository.reschedule(
+                row.id(), PushOutboxStatus.PENDING, LocalDateTime.now().minusSeconds(1), null);
+        assertThat(pushOutboxRepository.claim(10, LocalDateTime.now().plusMinutes(5)))
+                .extracting(PushOutboxRow::attempts)
+                .containsExactly(1);
+    }
+
+    private int attempts(long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT attempts FROM push_outbox WHERE id = ?", Integer.class, id);
+    }
+
+    private LocalDateTime nextAttemptAt(long id) {
+        return jdbcTemplate
+                .queryForObject(
+                        "SELECT next_attempt_at FROM push_outbox WHERE id = ?", Timestamp.class, id)
+                .toLocalDateTime();
+    }
+
+    private String lastError(long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT last_error FROM push_outbox WHERE id = ?", String.class, id);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM push_outbox", Integer.class);
+    }
+}
@@ -0,0 +1,217 @@
+package kr.co.awesomelead.groupware_backend.domain.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+import kr.co.awesomelead.groupware_backend.domain.fcm.enums.DeviceType;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.StubPushGateway;
+import kr.co.awesomelead.groupware_backend.domain.fcm.gateway.StubPushGateway.Delivery;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
+import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
+import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+import kr.co.awesomelead.groupware_backend.support.BenchmarkFixture;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 알림 푸시 발송 경로 부하 측정용 하네스.
+ *
+ * <p>{@link StubPushGateway} 로 FCM 을 대신하고, {@link NotificationService} 로 N명 대상 알림을 보낸 뒤 발송 대기열이 빌
+ * 때까지 기다려 발송 처리량과 지연 분포(알림 요청 시점부터 stub 이 메시지를 받은 시점까지)를 출력한다. 기본 빌드에서는 제외되며
+ * {@code ./gradlew benchmarkTest} 로 실행한다.
+ *
+ * <pre>
+ * ./gradlew benchmarkTest --tests '*NotificationPushBenchmarkTest' -Dbenchmark.push-users=2000 \
+ *     -Dbenchmark.fcm-latency=PT0.08S -Dbenchmark.fcm-qps=5000 -Dbenchmark.unregistered-rate=0.01
+ * </pre>
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(
+        properties = {
+            "spring.jpa.show-sql=false",
+            "fcm.gateway=stub",
+            "fcm.outbox.relay-enabled=true",
+            "fcm.outbox.poll-interval-ms=20",
+            "fcm.rate-limit.messages-per-second=${benchmark.fcm-qps:5000}",
+            "fcm.stub.latency=${benchmark.fcm-latency:PT0.05S}",
+            "fcm.stub.unregistered-rate=${benchmark.unregistered-rate:0}",
+            "fcm.stub.unavailable-rate=${benchmark.unavailable-rate:0}",
+            "fcm.stub.quota-exceeded-rate=${benchmark.quota-exceeded-rate:0}"
+        })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NotificationPushBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("benchmark.push-users", 2_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.push-rounds", 5);
+    private static final long DRAIN_TIMEOUT_MILLIS =
+            Long.getLong("benchmark.push-timeout-ms", 120_000);
+
+    @Autowired private NotificationService notificationService;
+    @Autowired private StubPushGateway stubPushGateway;
+    @Autowired private DepartmentRepository departmentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private List<Long> userIds;
+
+    @BeforeAll
+    void seed() {
+        BenchmarkFixture fixture = new BenchmarkFixture(departmentRepository, userRepository);
+        List<User> users =
+                transactionTemplate.execute(
+                        status ->
+                                fixture.seedUsers("push-bench", USERS, fixture.seedDepartments(1)));
+        userIds = users.stream().map(User::getId).toList();
+        List<Object[]> tokenRows = new ArrayList<>(USERS);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Long userId : userIds) {
+            String token = String.format("bench-token-%08d", userId);
+            tokenRows.add(new Object[] {userId, token, DeviceType.ANDROID.name(), now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO fcm_tokens (user_id, token, device_type, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?)",
+                tokenRows);
+        log.info("[PushBenchmark] seeded users={}, tokens={}", USERS, USERS);
+    }
+
+    @Test
+    @DisplayName("N명 대상 알림의 푸시 처리량·지연 측정")
+    void measurePushFanOut() {
+        List<Result> results = new ArrayList<>();
+        for (int round = 1; round <= ROUNDS; round++) {
+            results.add(fanOut(round));
+        }
+
+        log.info("[PushBenchmark] users={}, rounds={}", USERS, ROUNDS);
+        log.info(
+                String.format(
+                        "%-6s %10s %10s %8s %12s %10s %10s %10s %10s",
+                        "round",
+                        "commit(ms)",
+                        "delivered",
+                        "calls",
+                        "msg/s",
+                        "p50(ms)",
+                        "p95(ms)",
+                        "p99(ms)",
+                        "max(ms)"));
+        for (Result result : results) {
+            log.info(
+                    String.format(
+                            "%-6d %10.1f %10d %8d %12.0f %10.1f %10.1f %10.1f %10.1f",
+                            result.round(),
+                            result.commitMillis(),
+                            result.delivered(),
+                            result.calls(),
+                            result.messagesPerSecond(),
+                            result.p50Millis(),
+                            result.p95Millis(),
+                            result.p99Millis(),
+                            result.maxMillis()));
+        }
+        assertThat(results).allSatisfy(result -> assertThat(result.delivered()).isPositive());
+    }
+
+    private Result fanOut(int round) {
+        stubPushGateway.reset();
+        long startedAt = System.nanoTime();
+        notificationService.sendAlertToUsers(
+                userIds,
+                NotificationMessage.NOTICE_CREATED,
+                NotificationDomainType.NOTICE,
+                (long) round,
+                null,
+                "벤치마크 공지 " + round);
+        long committedAt = System.nanoTime();
+        assertThat(awaitOutboxDrained())
+                .as("push_outbox 가 %d ms 안에 비어야 한다", DRAIN_TIMEOUT_MILLIS)
+                .isTrue();
+
+        List<Delivery> deliveries = new ArrayList<>(stubPushGateway.deliveries());
+        deliveries.sort(Comparator.comparingLong(Delivery::deliveredAtNanos));
+        long delivered = stubPushGateway.deliveredMessages();
+        long lastAt =
+                deliveries.isEmpty()
+                        ? committedAt
+                        : deliveries.get(deliveries.size() - 1).deliveredAtNanos();
+        return new Result(
+                round,
+                (committedAt - startedAt) / 1_000_000.0,
+                delivered,
+                stubPushGateway.calls(),
+                delivered / Math.max((lastAt - startedAt) / 1e9, 1e-9),
+                percentile(deliveries, delivered, 0.50, startedAt),
+                percentile(deliveries, delivered, 0.95, startedAt),
+                percentile(deliveries, delivered, 0.99, startedAt),
+                (lastAt - startedAt) / 1_000_000.0);
+    }
+
+    /** 발송 대기열이 빌 때까지 기다린다. 제한 시간 안에 비지 않으면 false 를 돌려준다. */
+    private boolean awaitOutboxDrained() {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            Long pending =
+                    jdbcTemplate.queryForObject(
+                            "SELECT COUNT(*) FROM push_outbox WHERE status = 'PENDING'",
+                            Long.class);
+            if (pending != null && pending == 0) {
+                return true;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /** 메시지 단위 지연 백분위 (ms). deliveries 는 시각 순으로 정렬되어 있어야 한다. */
+    private double percentile(
+            List<Delivery> deliveries, long total, double percentile, long startedAt) {
+        long target = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (Delivery delivery : deliveries) {
+            seen += delivery.messages();
+            if (seen >= target) {
+                return (delivery.deliveredAtNanos() - startedAt) / 1_000_000.0;
+            }
+        }
+        return 0;
+    }
+
+    private record Result(
+            int round,
+            double commitMillis,
+            long delivered,
+            long calls,
+            double messagesPerSecond,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis) {}
+}
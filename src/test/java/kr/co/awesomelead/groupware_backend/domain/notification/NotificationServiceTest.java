@@ -1,24 +1,43 @@
 package kr.co.awesomelead.groupware_backend.domain.notification;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
 import kr.co.awesomelead.groupware_backend.domain.fcm.event.FcmSendEvent;
+import kr.co.awesomelead.groupware_backend.domain.notification.dto.response.NotificationFeedResponseDto;
 import kr.co.awesomelead.groupware_backend.domain.notification.dto.response.NotificationResponseDto;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.BroadcastNotification;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.BroadcastNotificationReceipt;
 import kr.co.awesomelead.groupware_backend.domain.notification.entity.Notification;
+import kr.co.awesomelead.groupware_backend.domain.notification.entity.NotificationAudience;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationDomainType;
 import kr.co.awesomelead.groupware_backend.domain.notification.enums.NotificationMessage;
+import kr.co.awesomelead.groupware_backend.domain.notification.event.NotificationUnreadCountChangedEvent;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.BroadcastNotificationQueryRepository;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.BroadcastNotificationReceiptRepository;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.BroadcastNotificationRepository;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationBulkWriter;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationFeedCursor;
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationQueryRepository;
 import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationRepository;
 import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationService;
+import kr.co.awesomelead.groupware_backend.domain.notification.service.NotificationUnreadCounter;
 import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
 import kr.co.awesomelead.groupware_backend.domain.user.enums.Role;
 import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository.BroadcastAudienceView;
+import kr.co.awesomelead.groupware_backend.global.error.CustomException;
+import kr.co.awesomelead.groupware_backend.global.error.ErrorCode;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,23 +49,37 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongSupplier;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
 class NotificationServiceTest {
 
     @Mock private NotificationRepository notificationRepository;
+    @Mock private NotificationBulkWriter notificationBulkWriter;
+    @Mock private BroadcastNotificationRepository broadcastNotificationRepository;
+    @Mock private BroadcastNotificationReceiptRepository broadcastNotificationReceiptRepository;
+    @Mock private BroadcastNotificationQueryRepository broadcastNotificationQueryRepository;
+    @Mock private NotificationQueryRepository notificationQueryRepository;
+    @Mock private NotificationUnreadCounter notificationUnreadCounter;
     @Mock private ApplicationEventPublisher eventPublisher;
     @Mock private UserRepository userRepository;
+    @Mock private PlatformTransactionManager transactionManager;
 
     @InjectMocks private NotificationService notificationService;
 
@@ -100,6 +133,42 @@ class NotificationServiceTest {
         assertThat(fcmData.get("metadata")).contains("approvalTargetId");
     }
 
+    @Test
+    @DisplayName("getUnreadCount - 카운터가 비어 있으면 개인 알림과 브로드캐스트 미읽음 수를 합산한다")
+    void getUnreadCount_counterMiss_countsFromDatabase() {
+        givenRecipient(1L, Company.AWESOME);
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(3L);
+        when(broadcastNotificationQueryRepository.countUnread(any())).thenReturn(2L);
+        when(notificationUnreadCounter.get(eq(1L), any()))
+                .thenAnswer(inv -> inv.<LongSupplier>getArgument(1).getAsLong());
+
+        long count = notificationService.getUnreadCount(1L);
+
+        assertThat(count).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("markAllAsRead - 일괄 UPDATE 건수와 브로드캐스트 읽음 건수만큼 미읽음 카운터를 줄인다")
+    void markAllAsRead_updatesInBulkAndDecrementsCounter() {
+        givenRecipient(1L, null);
+        when(notificationRepository.markAllAsReadByUserId(1L)).thenReturn(4);
+        when(broadcastNotificationQueryRepository.findUnreadIds(
+                        any(), isNull(), isNull(), isNull()))
+                .thenReturn(List.of(7L, 8L));
+        BroadcastNotificationReceipt unreadReceipt = BroadcastNotificationReceipt.of(8L, 1L);
+        when(broadcastNotificationReceiptRepository.findAllByUserIdAndBroadcastIdIn(
+                        1L, List.of(7L, 8L)))
+                .thenReturn(List.of(unreadReceipt));
+
+        int count = notificationService.markAllAsRead(1L);
+
+        assertThat(count).isEqualTo(6);
+        verify(notificationBulkWriter).insertReadReceipts(1L, List.of(7L));
+        verify(broadcastNotificationReceiptRepository, times(0)).saveAll(any());
+        assertThat(unreadReceipt.isRead()).isTrue();
+        verify(eventPublisher).publishEvent(NotificationUnreadCountChangedEvent.decrement(1L, 6));
+    }
+
     // -------------------------------------------------------------------------
     // messageType 검증 테스트
     // -------------------------------------------------------------------------
@@ -121,9 +190,8 @@ class NotificationServiceTest {
                 "홍길동",
                 "2026-04-09 09:00");
 
-        ArgumentCaptor<Notification> captor = forClass(Notification.class);
-        verify(notificationRepository).save(captor.capture());
-        assertThat(captor.getValue().getMessageType())
+        List<Notification> saved = captureBulkNotifications();
+        assertThat(saved.get(0).getMessageType())
                 .isEqualTo(NotificationMessage.VISIT_CHECK_IN);
     }
 
@@ -148,9 +216,9 @@ class NotificationServiceTest {
     void sendNoticeAlertToTargets_messageType_isNoticeCreated() {
         notificationService.sendNoticeAlertToTargets("공지 제목", 5L, Set.of(1L));
 
-        ArgumentCaptor<Notification> captor = forClass(Notification.class);
-        verify(notificationRepository).save(captor.capture());
-        assertThat(captor.getValue().getMessageType())
+        assertThat(captureBulkNotifications())
+                .singleElement()
+                .extracting(Notification::getMessageType)
                 .isEqualTo(NotificationMessage.NOTICE_CREATED);
     }
 
@@ -160,9 +228,9 @@ class NotificationServiceTest {
     void sendEduReportAlertToTargets_messageType_isEduReportCreated() {
         notificationService.sendEduReportAlertToTargets("SAFETY", "교육 제목", 10L, List.of(1L));
 
-        ArgumentCaptor<Notification> captor = forClass(Notification.class);
-        verify(notificationRepository).save(captor.capture());
-        assertThat(captor.getValue().getMessageType())
+        assertThat(captureBulkNotifications())
+                .singleElement()
+                .extracting(Notification::getMessageType)
                 .isEqualTo(NotificationMessage.EDU_REPORT_CREATED);
     }
 
@@ -174,9 +242,9 @@ class NotificationServiceTest {
         notificationService.sendVisitAlertToDepartment(
                 NotificationMessage.VISIT_CHECK_IN, 99L, 3L, "홍길동", "2026-04-09 09:00");
 
-        ArgumentCaptor<Notification> captor = forClass(Notification.class);
-        verify(notificationRepository).save(captor.capture());
-        assertThat(captor.getValue().getMessageType())
+        assertThat(captureBulkNotifications())
+                .singleElement()
+                .extracting(Notification::getMessageType)
                 .isEqualTo(NotificationMessage.VISIT_CHECK_IN);
     }
 
@@ -282,12 +350,42 @@ class NotificationServiceTest {
         notificationService.sendSafetyTrainingSessionAlertToAttendees(
                 200L, "안전보건교육 세션", List.of(1L));
 
-        ArgumentCaptor<Notification> captor = forClass(Notification.class);
-        verify(notificationRepository).save(captor.capture());
-        assertThat(captor.getValue().getMessageType())
+        assertThat(captureBulkNotifications())
+                .singleElement()
+                .extracting(Notification::getMessageType)
                 .isEqualTo(NotificationMessage.SAFETY_TRAINING_SESSION_CREATED);
     }
 
+    @Test
+    @DisplayName("sendAlertToUsers - 수신자 전원의 알림을 bulk 저장하고 FCM 이벤트를 수신자 수만큼 발행한다")
+    void sendAlertToUsers_savesInBulkAndPublishesPerUser() {
+        when(notificationBulkWriter.insertAll(any()))
+                .thenAnswer(inv -> inv.<List<?>>getArgument(0).size());
+
+        int count =
+                notificationService.sendAlertToUsers(
+                        Set.of(1L, 2L, 3L),
+                        NotificationMessage.NOTICE_CREATED,
+                        NotificationDomainType.NOTICE,
+                        5L,
+                        null,
+                        "공지 제목");
+
+        assertThat(count).isEqualTo(3);
+        assertThat(captureBulkNotifications())
+                .extracting(Notification::getUserId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(notificationRepository, times(0)).save(any());
+        verify(eventPublisher, times(3)).publishEvent(any(FcmSendEvent.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Notification> captureBulkNotifications() {
+        ArgumentCaptor<List<Notification>> captor = forClass(List.class);
+        verify(notificationBulkWriter).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
     // -------------------------------------------------------------------------
     // getNotifications - responseDto messageType 검증 테스트
     // -------------------------------------------------------------------------
@@ -323,6 +421,322 @@ class NotificationServiceTest {
             NotificationResponseDto dto = result.getContent().get(0);
             assertThat(dto.getMessageType()).isEqualTo(NotificationMessage.VISIT_CHECK_IN);
         }
+
+        @Test
+        @DisplayName("수신 범위에 해당하는 브로드캐스트 알림이 개인 알림과 생성일시 내림차순으로 합쳐진다")
+        void getNotifications_withBroadcast_mergesByCreatedAt() {
+            // given
+            Long userId = 1L;
+            Pageable pageable = PageRequest.of(0, 10);
+            givenRecipient(userId, Company.AWESOME);
+
+            Notification personal =
+                    Notification.of(
+                            userId,
+                            NotificationMessage.VISIT_CHECK_IN.getTitle(),
+                            NotificationMessage.VISIT_CHECK_IN.formatContent(
+                                    "홍길동", "2026-05-13 09:00"),
+                            NotificationDomainType.VISIT,
+                            99L,
+                            NotificationMessage.VISIT_CHECK_IN);
+            ReflectionTestUtils.setField(
+                    personal, "createdAt", LocalDateTime.of(2026, 5, 13, 9, 0));
+            BroadcastNotification broadcast =
+                    BroadcastNotification.of(
+                            NotificationAudience.company(Company.AWESOME),
+                            NotificationMessage.NOTICE_CREATED.getTitle(),
+                            NotificationMessage.NOTICE_CREATED.formatContent("전사 공지"),
+                            NotificationDomainType.NOTICE,
+                            5L,
+                            null,
+                            NotificationMessage.NOTICE_CREATED);
+            ReflectionTestUtils.setField(broadcast, "id", 7L);
+            ReflectionTestUtils.setField(
+                    broadcast, "createdAt", LocalDateTime.of(2026, 5, 13, 10, 0));
+
+            when(broadcastNotificationQueryRepository.countVisible(any())).thenReturn(1L);
+            when(notificationRepository.countByUserId(userId)).thenReturn(1L);
+            when(notificationQueryRepository.findFeed(userId, false, null, 11))
+                    .thenReturn(List.of(personal));
+            when(broadcastNotificationQueryRepository.findVisible(any(), isNull(), eq(11)))
+                    .thenReturn(List.of(broadcast));
+
+            // when
+            Page<NotificationResponseDto> result =
+                    notificationService.getNotifications(userId, false, pageable);
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.getContent())
+                    .extracting(NotificationResponseDto::isBroadcast)
+                    .containsExactly(true, false);
+            assertThat(result.getContent().get(0).getBroadcastId()).isEqualTo(7L);
+            assertThat(result.getContent().get(0).getId()).isNull();
+            assertThat(result.getContent().get(0).getIsRead()).isFalse();
+        }
+
+        @Test
+        @DisplayName("뒤 페이지는 앞 페이지 마지막 알림 위치를 찾아 그 뒤부터 한 페이지만 병합한다")
+        void getNotifications_laterPage_mergesAfterPreviousPage() {
+            // given: 병합 순서 P0(10시) B0(9시) P1(8시) B1(7시) P2(6시), 두 번째 페이지는 P1, B1
+            Long userId = 1L;
+            Pageable pageable = PageRequest.of(1, 2);
+            givenRecipient(userId, null);
+
+            Notification p1 =
+                    personalNotification(userId, 12L, LocalDateTime.of(2026, 5, 13, 8, 0));
+            Notification p2 =
+                    personalNotification(userId, 11L, LocalDateTime.of(2026, 5, 13, 6, 0));
+            BroadcastNotification b1 =
+                    BroadcastNotification.of(
+                            NotificationAudience.all(),
+                            NotificationMessage.NOTICE_CREATED.getTitle(),
+                            NotificationMessage.NOTICE_CREATED.formatContent("전사 공지"),
+                            NotificationDomainType.NOTICE,
+                            5L,
+                            null,
+                            NotificationMessage.NOTICE_CREATED);
+            ReflectionTestUtils.setField(b1, "id", 7L);
+            ReflectionTestUtils.setField(b1, "createdAt", LocalDateTime.of(2026, 5, 13, 7, 0));
+
+            NotificationFeedCursor p0Key =
+                    new NotificationFeedCursor(LocalDateTime.of(2026, 5, 13, 10, 0), false, 13L);
+            NotificationFeedCursor p1Key =
+                    new NotificationFeedCursor(LocalDateTime.of(2026, 5, 13, 8, 0), false, 12L);
+            NotificationFeedCursor b0Key =
+                    new NotificationFeedCursor(LocalDateTime.of(2026, 5, 13, 9, 0), true, 8L);
+            NotificationFeedCursor b1Key =
+                    new NotificationFeedCursor(LocalDateTime.of(2026, 5, 13, 7, 0), true, 7L);
+
+            when(broadcastNotificationQueryRepository.countVisible(any())).thenReturn(2L);
+            when(notificationRepository.countByUserId(userId)).thenReturn(3L);
+            when(notificationQueryRepository.findKeyAt(userId, 0)).thenReturn(p0Key);
+            when(notificationQueryRepository.findKeyAt(userId, 1)).thenReturn(p1Key);
+            when(broadcastNotificationQueryRepository.findKeyAt(any(), eq(0L))).thenReturn(b0Key);
+            when(broadcastNotificationQueryRepository.findKeyAt(any(), eq(1L))).thenReturn(b1Key);
+            when(notificationQueryRepository.findFeed(userId, false, b0Key, 3))
+                    .thenReturn(List.of(p1, p2));
+            when(broadcastNotificationQueryRepository.findVisible(any(), eq(b0Key), eq(3)))
+                    .thenReturn(List.of(b1));
+
+            // when
+            Page<NotificationResponseDto> result =
+                    notificationService.getNotifications(userId, false, pageable);
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(5);
+            assertThat(result.getContent())
+                    .extracting(NotificationResponseDto::getId)
+                    .containsExactly(12L, null);
+            assertThat(result.getContent())
+                    .extracting(NotificationResponseDto::getBroadcastId)
+                    .containsExactly(null, 7L);
+        }
+
+        @Test
+        @DisplayName("피드 - 두 목록을 size 건까지 병합하고 마지막 알림 위치를 다음 커서로 내려준다")
+        void getNotificationFeed_mergesAndReturnsNextCursor() {
+            // given
+            Long userId = 1L;
+            givenRecipient(userId, null);
+
+            Notification newer =
+                    personalNotification(userId, 11L, LocalDateTime.of(2026, 5, 13, 9, 0));
+            Notification older =
+                    personalNotification(userId, 10L, LocalDateTime.of(2026, 5, 13, 8, 0));
+            BroadcastNotification broadcast =
+                    BroadcastNotification.of(
+                            NotificationAudience.all(),
+                            NotificationMessage.NOTICE_CREATED.getTitle(),
+                            NotificationMessage.NOTICE_CREATED.formatContent("전사 공지"),
+                            NotificationDomainType.NOTICE,
+                            5L,
+                            null,
+                            NotificationMessage.NOTICE_CREATED);
+            ReflectionTestUtils.setField(broadcast, "id", 7L);
+            ReflectionTestUtils.setField(
+                    broadcast, "createdAt", LocalDateTime.of(2026, 5, 13, 10, 0));
+
+            when(notificationQueryRepository.findFeed(userId, false, null, 3))
+                    .thenReturn(List.of(newer, older));
+            when(broadcastNotificationQueryRepository.findVisible(any(), isNull(), eq(3)))
+                    .thenReturn(List.of(broadcast));
+
+            // when
+            NotificationFeedResponseDto result =
+                    notificationService.getNotificationFeed(userId, false, null, 2);
+
+            // then
+            assertThat(result.getNotifications())
+                    .extracting(NotificationResponseDto::getId)
+                    .containsExactly(null, 11L);
+            assertThat(result.getNotifications())
+                    .extracting(NotificationResponseDto::getBroadcastId)
+                    .containsExactly(7L, null);
+            assertThat(result.getHasNext()).isTrue();
+            NotificationFeedCursor next = NotificationFeedCursor.decode(result.getNextCursor());
+            assertThat(next.broadcast()).isFalse();
+            assertThat(next.id()).isEqualTo(11L);
+            assertThat(next.createdAt()).isEqualTo(LocalDateTime.of(2026, 5, 13, 9, 0));
+        }
+
+        private Notification personalNotification(Long userId, Long id, LocalDateTime createdAt) {
+            Notification notification =
+                    Notification.of(
+                            userId,
+                            NotificationMessage.VISIT_CHECK_IN.getTitle(),
+                            NotificationMessage.VISIT_CHECK_IN.formatContent(
+                                    "홍길동", "2026-05-13 09:00"),
+                            NotificationDomainType.VISIT,
+                            99L,
+                            NotificationMessage.VISIT_CHECK_IN);
+            ReflectionTestUtils.setField(notification, "id", id);
+            ReflectionTestUtils.setField(notification, "createdAt", createdAt);
+            return notification;
+        }
+    }
+
+    @Test
+    @DisplayName("markBroadcastAsRead - 동시 요청이 읽음 기록을 먼저 만들었으면 그 기록을 다시 읽어 쓴다")
+    void markBroadcastAsRead_concurrentInsert_reusesExistingReceipt() {
+        BroadcastNotificationReceipt concurrent = BroadcastNotificationReceipt.of(7L, 1L);
+        givenAddressed(7L, 1L);
+        when(broadcastNotificationReceiptRepository.findByBroadcastIdAndUserId(7L, 1L))
+                .thenReturn(Optional.empty());
+        when(broadcastNotificationReceiptRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(broadcastNotificationReceiptRepository.findForUpdate(7L, 1L))
+                .thenReturn(Optional.of(concurrent));
+
+        notificationService.markBroadcastAsRead(7L, 1L);
+
+        assertThat(concurrent.isRead()).isTrue();
+        verify(eventPublisher).publishEvent(any(NotificationUnreadCountChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("markBroadcastAsRead - 이미 읽은 기록이면 새로 만들지 않고 미읽음 수도 줄이지 않는다")
+    void markBroadcastAsRead_alreadyRead_noInsert() {
+        BroadcastNotificationReceipt existing = BroadcastNotificationReceipt.of(7L, 1L);
+        existing.markAsRead();
+        givenAddressed(7L, 1L);
+        when(broadcastNotificationReceiptRepository.findByBroadcastIdAndUserId(7L, 1L))
+                .thenReturn(Optional.of(existing));
+        when(broadcastNotificationReceiptRepository.findForUpdate(7L, 1L))
+                .thenReturn(Optional.of(existing));
+
+        notificationService.markBroadcastAsRead(7L, 1L);
+
+        verify(broadcastNotificationReceiptRepository, times(0)).saveAndFlush(any());
+        verify(eventPublisher, times(0)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("markBroadcastAsRead - 수신 범위 밖의 알림이면 읽음 기록을 만들지 않고 NOTIFICATION_NOT_FOUND 를 던진다")
+    void markBroadcastAsRead_notAddressed_throwsNotFound() {
+        givenRecipient(1L, Company.AWESOME);
+        when(broadcastNotificationQueryRepository.isAddressedTo(eq(7L), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> notificationService.markBroadcastAsRead(7L, 1L))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOTIFICATION_NOT_FOUND);
+        verify(broadcastNotificationReceiptRepository, times(0)).saveAndFlush(any());
+        verify(eventPublisher, times(0)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("dismissBroadcast - 수신 범위 밖의 알림이면 숨김 기록을 만들지 않고 NOTIFICATION_NOT_FOUND 를 던진다")
+    void dismissBroadcast_notAddressed_throwsNotFound() {
+        givenRecipient(1L, null);
+        when(broadcastNotificationQueryRepository.isAddressedTo(eq(7L), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> notificationService.dismissBroadcast(7L, 1L))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOTIFICATION_NOT_FOUND);
+        verify(broadcastNotificationReceiptRepository, times(0)).saveAndFlush(any());
+    }
+
+    private void givenAddressed(Long broadcastId, Long userId) {
+        givenRecipient(userId, null);
+        when(broadcastNotificationQueryRepository.isAddressedTo(eq(broadcastId), any()))
+                .thenReturn(true);
+    }
+
+    private void givenRecipient(Long userId, Company company) {
+        BroadcastAudienceView audience =
+                new BroadcastAudienceView() {
+                    @Override
+                    public Long getId() {
+                        return userId;
+                    }
+
+                    @Override
+                    public Company getWorkLocation() {
+                        return company;
+                    }
+
+                    @Override
+                    public Long getDepartmentId() {
+                        return null;
+                    }
+
+                    @Override
+                    public LocalDate getHireDate() {
+                        return null;
+                    }
+                };
+        when(userRepository.findBroadcastAudienceById(userId)).thenReturn(Optional.of(audience));
+    }
+
+    @Test
+    @DisplayName("sendBroadcastAlert - 브로드캐스트 알림 한 건만 저장하고 FCM 이벤트는 대상 수만큼 발행한다")
+    void sendBroadcastAlert_savesOnceAndPublishesPerUser() {
+        when(broadcastNotificationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        notificationService.sendBroadcastAlert(
+                NotificationAudience.all(),
+                List.of(1L, 2L, 3L),
+                NotificationMessage.EDU_REPORT_CREATED,
+                NotificationDomainType.EDUCATION,
+                10L,
+                Map.of("educationType", "SAFETY"),
+                "안전 보건",
+                "교육 제목");
+
+        ArgumentCaptor<BroadcastNotification> captor = forClass(BroadcastNotification.class);
+        verify(broadcastNotificationRepository).save(captor.capture());
+        assertThat(captor.getValue().getMessageType())
+                .isEqualTo(NotificationMessage.EDU_REPORT_CREATED);
+        verify(notificationRepository, times(0)).save(any());
+        verify(notificationBulkWriter, times(0)).insertAll(any());
+        verify(eventPublisher, times(3)).publishEvent(any(FcmSendEvent.class));
+    }
+
+    @Test
+    @DisplayName("sendBroadcastAlert - 토픽 발송을 켜면 수신 범위 토픽으로 FCM 이벤트를 한 번만 발행한다")
+    void sendBroadcastAlert_topicEnabled_publishesSingleTopicEvent() {
+        ReflectionTestUtils.setField(notificationService, "topicPushEnabled", true);
+        when(broadcastNotificationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        notificationService.sendBroadcastAlert(
+                NotificationAudience.company(Company.AWESOME),
+                List.of(1L, 2L, 3L),
+                NotificationMessage.NOTICE_CREATED,
+                NotificationDomainType.NOTICE,
+                10L,
+                null,
+                "공지 제목");
+
+        ArgumentCaptor<Object> captor = forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues())
+                .hasExactlyElementsOfTypes(
+                        FcmSendEvent.class, NotificationUnreadCountChangedEvent.class);
+        FcmSendEvent event = (FcmSendEvent) captor.getAllValues().get(0);
+        assertThat(event.topic()).isEqualTo("company-AWESOME");
+        assertThat(event.userId()).isNull();
     }
 
     // -------------------------------------------------------------------------
@@ -344,9 +758,9 @@ class NotificationServiceTest {
                     "SAFETY", "안전교육 제목", 10L, List.of(1L, 2L));
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository, times(2)).save(captor.capture());
-            captor.getAllValues().forEach(n -> assertThat(n.getTitle()).isEqualTo(expectedTitle));
+            List<Notification> saved = captureBulkNotifications();
+            assertThat(saved).hasSize(2);
+            saved.forEach(n -> assertThat(n.getTitle()).isEqualTo(expectedTitle));
         }
 
         @Test
@@ -361,9 +775,8 @@ class NotificationServiceTest {
                     "SAFETY", "안전교육 제목", 10L, List.of(1L));
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository).save(captor.capture());
-            assertThat(captor.getValue().getContent()).isEqualTo(expectedContent);
+            List<Notification> saved = captureBulkNotifications();
+            assertThat(saved.get(0).getContent()).isEqualTo(expectedContent);
         }
 
         @Test
@@ -374,9 +787,8 @@ class NotificationServiceTest {
                     "SAFETY", "안전교육 제목", 10L, List.of(1L));
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository).save(captor.capture());
-            assertThat(captor.getValue().getDomainType())
+            List<Notification> saved = captureBulkNotifications();
+            assertThat(saved.get(0).getDomainType())
                     .isEqualTo(NotificationDomainType.EDUCATION);
         }
 
@@ -388,9 +800,8 @@ class NotificationServiceTest {
                     "SAFETY", "안전교육 제목", 10L, List.of(1L));
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository).save(captor.capture());
-            assertThat(captor.getValue().getMessageType())
+            List<Notification> saved = captureBulkNotifications();
+            assertThat(saved.get(0).getMessageType())
                     .isEqualTo(NotificationMessage.EDU_REPORT_CREATED);
         }
 
@@ -402,7 +813,7 @@ class NotificationServiceTest {
                     "SAFETY", "안전교육 제목", 10L, List.of());
 
             // then
-            verify(notificationRepository, times(0)).save(any());
+            verify(notificationBulkWriter, times(0)).insertAll(any());
             verify(eventPublisher, times(0)).publishEvent(any());
         }
 
@@ -429,9 +840,8 @@ class NotificationServiceTest {
                     "SAFETY", "안전교육 제목", 10L, List.of(1L), metadata);
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository).save(captor.capture());
-            assertThat(captor.getValue().getTitle()).isEqualTo(expectedTitle);
+            List<Notification> saved = captureBulkNotifications();
+            assertThat(saved.get(0).getTitle()).isEqualTo(expectedTitle);
         }
     }
 
@@ -455,9 +865,9 @@ class NotificationServiceTest {
                     200L, "안전보건교육 세션", List.of(1L, 2L));
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository, times(2)).save(captor.capture());
-            captor.getAllValues().forEach(n -> assertThat(n.getTitle()).isEqualTo(expectedTitle));
+            List<Notification> saved = captureBulkNotifications();
+            assertThat(saved).hasSize(2);
+            saved.forEach(n -> assertThat(n.getTitle()).isEqualTo(expectedTitle));
         }
 
         @Test
@@ -472,9 +882,8 @@ class NotificationServiceTest {
                     200L, "안전보건교육 세션", List.of(1L));
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository).save(captor.capture());
-            assertThat(captor.getValue().getContent()).isEqualTo(expectedContent);
+            List<Notification> saved = captureBulkNotifications();
+            assertThat(saved.get(0).getContent()).isEqualTo(expectedContent);
         }
 
         @Test
@@ -485,9 +894,8 @@ class NotificationServiceTest {
                     200L, "안전보건교육 세션", List.of(1L));
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository).save(captor.capture());
-            assertThat(captor.getValue().getDomainType())
+            List<Notification> saved = captureBulkNotifications();
+            assertThat(saved.get(0).getDomainType())
                     .isEqualTo(NotificationDomainType.SAFETY_TRAINING);
         }
 
@@ -500,9 +908,8 @@ class NotificationServiceTest {
                     200L, "안전보건교육 세션", List.of(1L));
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository).save(captor.capture());
-            Map<String, Object> metadata = captor.getValue().getMetadata();
+            List<Notification> saved = captureBulkNotifications();
+            Map<String, Object> metadata = saved.get(0).getMetadata();
             assertThat(metadata).containsEntry("educationType", "SAFETY");
             assertThat(metadata).containsEntry("detailType", "SESSION");
         }
@@ -515,7 +922,7 @@ class NotificationServiceTest {
                     200L, "안전보건교육 세션", List.of());
 
             // then
-            verify(notificationRepository, times(0)).save(any());
+            verify(notificationBulkWriter, times(0)).insertAll(any());
             verify(eventPublisher, times(0)).publishEvent(any());
         }
 
@@ -539,9 +946,8 @@ class NotificationServiceTest {
                     200L, "안전보건교육 세션", List.of(1L));
 
             // then
-            ArgumentCaptor<Notification> captor = forClass(Notification.class);
-            verify(notificationRepository).save(captor.capture());
-            assertThat(captor.getValue().getMessageType())
+            List<Notification> saved = captureBulkNotifications();
+            assertThat(saved.get(0).getMessageType())
                     .isEqualTo(NotificationMessage.SAFETY_TRAINING_SESSION_CREATED);
         }
     }
@@ -569,9 +975,65 @@ class NotificationServiceTest {
                 "홍길동",
                 "2026-04-09 09:00");
 
-        ArgumentCaptor<Notification> captor = forClass(Notification.class);
-        verify(notificationRepository, times(2)).save(captor.capture());
+        List<Notification> saved = captureBulkNotifications();
+        assertThat(saved).hasSize(2);
+
+        saved.forEach(n -> assertThat(n.getMetadata()).containsKey("visitId"));
+    }
+
+    // -------------------------------------------------------------------------
+    // sendAlerts 테스트
+    // -------------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("sendAlerts")
+    class SendAlerts {
 
-        captor.getAllValues().forEach(n -> assertThat(n.getMetadata()).containsKey("visitId"));
+        @Test
+        @DisplayName("정상 케이스 - 모든 알림이 batch INSERT 한 번으로 저장되고 FCM 이벤트가 알림 수만큼 발행된다")
+        void sendAlerts_success_savesOnceAndPublishesPerAlert() {
+            // given
+            List<NotificationService.AlertRequest> requests =
+                    List.of(
+                            new NotificationService.AlertRequest(
+                                    1L,
+                                    NotificationMessage.APPROVAL_CREATED_APPROVER,
+                                    NotificationDomainType.APPROVAL,
+                                    100L,
+                                    true,
+                                    "결재문서"),
+                            new NotificationService.AlertRequest(
+                                    2L,
+                                    NotificationMessage.APPROVAL_FINALLY_APPROVED,
+                                    NotificationDomainType.APPROVAL,
+                                    101L,
+                                    false,
+                                    "결재문서2"));
+
+            // when
+            notificationService.sendAlerts(requests);
+
+            // then
+            ArgumentCaptor<List<Notification>> captor = forClass(List.class);
+            verify(notificationBulkWriter).insertAll(captor.capture());
+            assertThat(captor.getValue()).hasSize(2);
+            assertThat(captor.getValue().get(0).isRequiresApproval()).isTrue();
+            assertThat(captor.getValue().get(1).getMessageType())
+                    .isEqualTo(NotificationMessage.APPROVAL_FINALLY_APPROVED);
+            verify(notificationRepository, times(0)).save(any());
+            verify(notificationRepository, times(0)).saveAll(any());
+            verify(eventPublisher, times(2)).publishEvent(any(FcmSendEvent.class));
+        }
+
+        @Test
+        @DisplayName("예외 케이스 - 요청 목록이 비어 있으면 저장과 FCM 이벤트 발행이 수행되지 않는다")
+        void sendAlerts_emptyRequests_nothingHappens() {
+            // when
+            notificationService.sendAlerts(List.of());
+
+            // then
+            verify(notificationBulkWriter, times(0)).insertAll(any());
+            verify(eventPublisher, times(0)).publishEvent(any());
+        }
     }
 }
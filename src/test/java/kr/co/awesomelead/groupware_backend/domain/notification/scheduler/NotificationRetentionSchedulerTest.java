@@ -0,0 +1,109 @@
+package kr.co.awesomelead.groupware_backend.domain.notification.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import kr.co.awesomelead.groupware_backend.domain.notification.repository.NotificationRetentionRepository;
+import kr.co.awesomelead.groupware_backend.global.lock.DistributedLockExecutor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionSchedulerTest {
+
+    @Mock private NotificationRetentionRepository notificationRetentionRepository;
+    @Mock private DistributedLockExecutor distributedLockExecutor;
+
+    @InjectMocks private NotificationRetentionScheduler notificationRetentionScheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(
+                notificationRetentionScheduler, "readMaxAge", Duration.ofDays(90));
+        ReflectionTestUtils.setField(notificationRetentionScheduler, "chunkSize", 100);
+        ReflectionTestUtils.setField(notificationRetentionScheduler, "pause", Duration.ZERO);
+        ReflectionTestUtils.setField(notificationRetentionScheduler, "maxChunksPerRun", 10);
+        ReflectionTestUtils.setField(
+                notificationRetentionScheduler, "lockLease", Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("다음 삭제 대상부터 PK 범위 단위로 삭제하고, 남은 대상이 없으면 멈춘다")
+    void purge_deletesFromNextDeletableIdUntilNoneLeft() {
+        // 1 ~ 4999 는 지우지 않는 안 읽은 알림이라 건너뛴다.
+        when(notificationRetentionRepository.findNextDeletableId(eq(0L), any())).thenReturn(5000L);
+        when(notificationRetentionRepository.findNextDeletableId(eq(5100L), any()))
+                .thenReturn(7000L);
+        when(notificationRetentionRepository.findNextDeletableId(eq(7100L), any()))
+                .thenReturn(null);
+        when(notificationRetentionRepository.deleteReadBefore(eq(5000L), eq(5100L), any()))
+                .thenReturn(80);
+        when(notificationRetentionRepository.deleteReadBefore(eq(7000L), eq(7100L), any()))
+                .thenReturn(20);
+
+        long deleted = notificationRetentionScheduler.purge();
+
+        assertThat(deleted).isEqualTo(100L);
+        verify(notificationRetentionRepository, times(2))
+                .deleteReadBefore(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 max-chunks-per-run 을 넘겨 삭제하지 않는다")
+    void purge_stopsAtMaxChunksPerRun() {
+        ReflectionTestUtils.setField(notificationRetentionScheduler, "maxChunksPerRun", 2);
+        when(notificationRetentionRepository.findNextDeletableId(anyLong(), any()))
+                .thenAnswer(inv -> inv.<Long>getArgument(0));
+        when(notificationRetentionRepository.deleteReadBefore(anyLong(), anyLong(), any()))
+                .thenReturn(100);
+
+        long deleted = notificationRetentionScheduler.purge();
+
+        assertThat(deleted).isEqualTo(200L);
+        verify(notificationRetentionRepository, times(2))
+                .deleteReadBefore(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 정리를 실행한다")
+    void purgeReadNotifications_runsUnderLock() {
+        when(distributedLockExecutor.executeWithLock(
+                        eq("notification:retention"), eq(Duration.ofHours(1)), any()))
+                .thenAnswer(
+                        inv -> {
+                            inv.<Runnable>getArgument(2).run();
+                            return true;
+                        });
+        when(notificationRetentionRepository.findNextDeletableId(anyLong(), any()))
+                .thenReturn(null);
+
+        notificationRetentionScheduler.purgeReadNotifications();
+
+        verify(notificationRetentionRepository).findNextDeletableId(eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("락을 잡지 못하면 정리를 실행하지 않는다")
+    void purgeReadNotifications_lockNotAcquired_skips() {
+        when(distributedLockExecutor.executeWithLock(any(), any(), any())).thenReturn(false);
+
+        notificationRetentionScheduler.purgeReadNotifications();
+
+        verify(notificationRetentionRepository, never()).findNextDeletableId(anyLong(), any());
+    }
+}
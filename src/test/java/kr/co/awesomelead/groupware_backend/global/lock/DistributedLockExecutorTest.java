@@ -0,0 +1,132 @@
+package kr.co.awesomelead.groupware_backend.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedLockExecutorTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks private DistributedLockExecutor distributedLockExecutor;
+
+    private final AtomicBoolean ran = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 작업을 실행하고, 자신이 잡은 토큰으로 락을 해제한다")
+    void executeWithLock_acquired_runsAndReleases() {
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        when(valueOperations.setIfAbsent(eq("lock:job"), token.capture(), eq(LEASE)))
+                .thenReturn(true);
+
+        boolean executed = distributedLockExecutor.executeWithLock("job", LEASE, this::run);
+
+        assertThat(executed).isTrue();
+        assertThat(ran).isTrue();
+        verify(redisTemplate)
+                .execute(
+                        ArgumentMatchers.<RedisScript<Long>>any(),
+                        eq(List.of("lock:job")),
+                        eq(token.getValue()));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 작업을 실행하지 않는다")
+    void executeWithLock_notAcquired_skips() {
+        when(valueOperations.setIfAbsent(eq("lock:job"), anyString(), eq(LEASE)))
+                .thenReturn(false);
+
+        boolean executed = distributedLockExecutor.executeWithLock("job", LEASE, this::run);
+
+        assertThat(executed).isFalse();
+        assertThat(ran).isFalse();
+        verify(redisTemplate, never())
+                .execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 에 접근할 수 없으면 작업을 실행하지 않는다")
+    void executeWithLock_redisDown_skips() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        boolean executed = distributedLockExecutor.executeWithLock("job", LEASE, this::run);
+
+        assertThat(executed).isFalse();
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 락은 해제하고 예외는 그대로 던진다")
+    void executeWithLock_taskFails_stillReleases() {
+        when(valueOperations.setIfAbsent(eq("lock:job"), anyString(), eq(LEASE)))
+                .thenReturn(true);
+
+        assertThatThrownBy(
+                        () ->
+                                distributedLockExecutor.executeWithLock(
+                                        "job",
+                                        LEASE,
+                                        () -> {
+                                            throw new IllegalStateException("boom");
+                                        }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate)
+                .execute(
+                        ArgumentMatchers.<RedisScript<Long>>any(),
+                        eq(List.of("lock:job")),
+                        anyString());
+    }
+
+    @Test
+    @DisplayName("락 해제에 실패해도 작업 결과는 실행됨으로 돌려준다")
+    void executeWithLock_releaseFails_returnsExecuted() {
+        when(valueOperations.setIfAbsent(eq("lock:job"), anyString(), eq(LEASE)))
+                .thenReturn(true);
+        when(redisTemplate.execute(
+                        ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        boolean executed = distributedLockExecutor.executeWithLock("job", LEASE, this::run);
+
+        assertThat(executed).isTrue();
+        assertThat(ran).isTrue();
+    }
+
+    private void run() {
+        ran.set(true);
+    }
+}
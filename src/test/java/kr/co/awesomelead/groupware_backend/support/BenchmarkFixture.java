@@ -0,0 +1,64 @@
+package kr.co.awesomelead.groupware_backend.support;
+
+import kr.co.awesomelead.groupware_backend.domain.department.entity.Department;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.Company;
+import kr.co.awesomelead.groupware_backend.domain.department.enums.DepartmentName;
+import kr.co.awesomelead.groupware_backend.domain.department.repository.DepartmentRepository;
+import kr.co.awesomelead.groupware_backend.domain.user.entity.User;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Position;
+import kr.co.awesomelead.groupware_backend.domain.user.enums.Status;
+import kr.co.awesomelead.groupware_backend.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 규모 측정 하네스가 함께 쓰는 조직 데이터 적재 도우미.
+ *
+ * <p>부서와 사용자를 지정한 수만큼 만든다. 호출하는 쪽의 트랜잭션 안에서 실행해야 한다.
+ */
+@RequiredArgsConstructor
+public class BenchmarkFixture {
+
+    private final DepartmentRepository departmentRepository;
+    private final UserRepository userRepository;
+
+    /** 부서를 count 개 만든다. 부서명은 {@link DepartmentName} 값을 차례로 돌려 쓴다. */
+    public List<Department> seedDepartments(int count) {
+        DepartmentName[] names = DepartmentName.values();
+        List<Department> departments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            departments.add(
+                    Department.builder()
+                            .name(names[i % names.length])
+                            .company(Company.AWESOME)
+                            .build());
+        }
+        return departmentRepository.saveAll(departments);
+    }
+
+    /**
+     * 사용자를 count 명 만들어 부서에 차례로 배정한다.
+     *
+     * @param emailPrefix 하네스끼리 겹치지 않도록 이메일 앞에 붙이는 값
+     */
+    public List<User> seedUsers(String emailPrefix, int count, List<Department> departments) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setEmail(emailPrefix + i + "@example.com");
+            user.setPassword("password");
+            user.setNameKor("사용자" + i);
+            user.setAddress1("충남 아산시");
+            user.setRegistrationNumber(String.format("900101-1%06d", i));
+            user.setPhoneNumber(String.format("010%08d", i));
+            user.setPosition(Position.STAFF);
+            user.setStatus(Status.AVAILABLE);
+            user.setDepartment(departments.get(i % departments.size()));
+            users.add(user);
+        }
+        return userRepository.saveAll(users);
+    }
+}